@@ -48,6 +48,7 @@ import net.minecraft.network.chat.Style;
 
 public class WynntilsCommand extends Command {
     private static final Pattern STATUS_HEADING = Pattern.compile("<h1 class='status-page__title'>(.*)</h1>");
+    private static final double NANOS_PER_MILLI = 1_000_000.0;
 
     public void registerWithCommands(
             Consumer<LiteralArgumentBuilder<CommandSourceStack>> consumer,
@@ -83,7 +84,8 @@ public class WynntilsCommand extends Command {
                         .then(Commands.literal("profile")
                                 .then(Commands.literal("reset").executes(this::profileReset))
                                 .then(Commands.literal("showAnnotations").executes(this::profileShowAnnotations))
-                                .then(Commands.literal("showOverlays").executes(this::profileShowOverlays))))
+                                .then(Commands.literal("showOverlays").executes(this::profileShowOverlays))
+                                .then(Commands.literal("showScheduler").executes(this::profileShowScheduler))))
                 .then(Commands.literal("discord").executes(this::discordLink))
                 .then(Commands.literal("donate").executes(this::donateLink))
                 .then(Commands.literal("downloads").executes(this::downloads))
@@ -107,6 +109,7 @@ public class WynntilsCommand extends Command {
     private int profileReset(CommandContext<CommandSourceStack> context) {
         Handlers.Item.resetProfiling();
         Managers.Overlay.resetProfiling();
+        Managers.TickScheduler.resetProfiling();
         context.getSource()
                 .sendSuccess(
                         () -> Component.translatable("command.wynntils.debug.profile.cleared")
@@ -117,16 +120,24 @@ public class WynntilsCommand extends Command {
     }
 
     private int profileShowAnnotations(CommandContext<CommandSourceStack> context) {
-        Map<Class<?>, Integer> profilingTimes = Handlers.Item.getProfilingTimes();
+        Map<Class<?>, Long> profilingTimes = Handlers.Item.getProfilingTimes();
         Map<Class<?>, Integer> profilingCounts = Handlers.Item.getProfilingCounts();
 
         showProfilingData(context, profilingTimes, profilingCounts);
 
+        long cacheHits = Handlers.Item.getAnnotationCacheHits();
+        long cacheMisses = Handlers.Item.getAnnotationCacheMisses();
+        context.getSource()
+                .sendSuccess(
+                        () -> Component.translatable("command.wynntils.debug.profile.cache", cacheHits, cacheMisses)
+                                .withStyle(ChatFormatting.AQUA),
+                        false);
+
         return 1;
     }
 
     private int profileShowOverlays(CommandContext<CommandSourceStack> context) {
-        Map<Class<?>, Integer> profilingTimes = Managers.Overlay.getProfilingTimes();
+        Map<Class<?>, Long> profilingTimes = Managers.Overlay.getProfilingTimes();
         Map<Class<?>, Integer> profilingCounts = Managers.Overlay.getProfilingCounts();
 
         showProfilingData(context, profilingTimes, profilingCounts);
@@ -134,19 +145,39 @@ public class WynntilsCommand extends Command {
         return 1;
     }
 
+    private int profileShowScheduler(CommandContext<CommandSourceStack> context) {
+        int pendingTasks = Managers.TickScheduler.getPendingTaskCount();
+        long taskCount = Managers.TickScheduler.getProfilingTaskCount();
+        String totalTime = "%.2f".formatted(Managers.TickScheduler.getProfilingTotalNanos() / NANOS_PER_MILLI);
+        String maxTickTime = "%.3f".formatted(Managers.TickScheduler.getProfilingMaxTickNanos() / NANOS_PER_MILLI);
+
+        context.getSource()
+                .sendSuccess(
+                        () -> Component.translatable(
+                                        "command.wynntils.debug.profile.scheduler",
+                                        pendingTasks,
+                                        taskCount,
+                                        totalTime,
+                                        maxTickTime)
+                                .withStyle(ChatFormatting.AQUA),
+                        false);
+
+        return 1;
+    }
+
     private void showProfilingData(
             CommandContext<CommandSourceStack> context,
-            Map<Class<?>, Integer> profilingTimes,
+            Map<Class<?>, Long> profilingTimes,
             Map<Class<?>, Integer> profilingCounts) {
         StringBuilder resList = new StringBuilder();
         profilingTimes.entrySet().stream()
-                .sorted(Map.Entry.<Class<?>, Integer>comparingByValue().reversed())
+                .sorted(Map.Entry.<Class<?>, Long>comparingByValue().reversed())
                 .limit(10)
                 .forEach(entry -> {
-                    int time = entry.getValue();
+                    double time = entry.getValue() / NANOS_PER_MILLI;
                     int count = profilingCounts.get(entry.getKey());
-                    double average = (double) time / count;
-                    resList.append("%7d ms, %7d c, avg: %7.2f ms/c  %s\n"
+                    double average = time / count;
+                    resList.append("%9.2f ms, %7d c, avg: %7.3f ms/c  %s\n"
                             .formatted(time, count, average, entry.getKey().getSimpleName()));
                 });
 
@@ -154,12 +185,14 @@ public class WynntilsCommand extends Command {
                 .sendSuccess(() -> Component.literal(resList.toString()).withStyle(ChatFormatting.AQUA), false);
 
         int totalCount = profilingCounts.values().stream().reduce(0, Integer::sum);
-        int totalTime = profilingTimes.values().stream().reduce(0, Integer::sum);
-        double average = (double) totalTime / totalCount;
+        double totalTime = profilingTimes.values().stream().reduce(0L, Long::sum) / NANOS_PER_MILLI;
+        double average = totalTime / totalCount;
+        String totalTimeString = "%.2f".formatted(totalTime);
 
         context.getSource()
                 .sendSuccess(
-                        () -> Component.translatable("command.wynntils.debug.profile.total", totalTime, totalCount)
+                        () -> Component.translatable(
+                                        "command.wynntils.debug.profile.total", totalTimeString, totalCount)
                                 .withStyle(ChatFormatting.AQUA),
                         false);
         context.getSource()
@@ -81,6 +81,10 @@ public final class WynntilsMod {
         eventBus.addListener(eventConsumer);
     }
 
+    public static <T extends Event> void registerListener(Class<T> eventClass, Consumer<T> eventConsumer) {
+        eventBus.addListener(eventClass, eventConsumer);
+    }
+
     public static <T extends Event> boolean postEvent(T event) {
         try {
             eventBus.post(event);
@@ -1,5 +1,5 @@
 /*
- * Copyright © Wynntils 2022-2025.
+ * Copyright © Wynntils 2022-2026.
  * This file is released under LGPLv3. See LICENSE for full license details.
  */
 package com.wynntils.core.consumers.functions;
@@ -32,6 +32,15 @@ public abstract class Function<T> implements Translatable {
         return FunctionArguments.OptionalArgumentBuilder.EMPTY;
     }
 
+    /**
+     * Declares what can invalidate the value of this function. By default, a function is assumed
+     * to be able to change on every tick. Override this if the value only changes in response to
+     * certain events, so compiled templates using it can skip recalculation.
+     */
+    public FunctionDependency getDependency() {
+        return FunctionDependency.TICK;
+    }
+
     public String getName() {
         return name;
     }
@@ -0,0 +1,67 @@
+/*
+ * Copyright © Wynntils 2026.
+ * This file is released under LGPLv3. See LICENSE for full license details.
+ */
+package com.wynntils.core.consumers.functions;
+
+import com.google.common.collect.ImmutableSet;
+import com.wynntils.models.character.event.CharacterUpdateEvent;
+import com.wynntils.models.worlds.event.WorldStateEvent;
+import java.util.Set;
+import net.neoforged.bus.api.Event;
+
+/**
+ * Describes what can cause the value of a {@link Function} to change.
+ *
+ * Compiled templates use this to skip recalculation when none of the inputs of a template
+ * could have changed since the last time it was calculated.
+ */
+public final class FunctionDependency {
+    /** The value can change at any time, and must be recalculated on every evaluation. */
+    public static final FunctionDependency TICK = new FunctionDependency(true, Set.of());
+
+    /** The value only depends on the arguments passed to the function. */
+    public static final FunctionDependency NONE = new FunctionDependency(false, Set.of());
+
+    /** The value only changes when the character or the world state changes. */
+    public static final FunctionDependency CHARACTER = onEvents(CharacterUpdateEvent.class, WorldStateEvent.class);
+
+    private final boolean tickDependent;
+    private final Set<Class<? extends Event>> events;
+
+    private FunctionDependency(boolean tickDependent, Set<Class<? extends Event>> events) {
+        this.tickDependent = tickDependent;
+        this.events = events;
+    }
+
+    @SafeVarargs
+    public static FunctionDependency onEvents(Class<? extends Event>... events) {
+        return new FunctionDependency(false, ImmutableSet.copyOf(events));
+    }
+
+    public FunctionDependency and(FunctionDependency other) {
+        if (tickDependent || other.tickDependent) return TICK;
+        if (other.events.isEmpty() || events.containsAll(other.events)) return this;
+        if (events.isEmpty()) return other;
+
+        return new FunctionDependency(
+                false,
+                ImmutableSet.<Class<? extends Event>>builder()
+                        .addAll(events)
+                        .addAll(other.events)
+                        .build());
+    }
+
+    public boolean isTickDependent() {
+        return tickDependent;
+    }
+
+    public Set<Class<? extends Event>> getEvents() {
+        return events;
+    }
+
+    @Override
+    public String toString() {
+        return "FunctionDependency{" + "tickDependent=" + tickDependent + ", events=" + events + '}';
+    }
+}
@@ -11,7 +11,7 @@ import com.wynntils.core.consumers.functions.arguments.FunctionArguments;
 import com.wynntils.core.consumers.functions.arguments.parser.ArgumentParser;
 import com.wynntils.core.consumers.functions.expressions.Expression;
 import com.wynntils.core.consumers.functions.expressions.parser.ExpressionParser;
-import com.wynntils.core.consumers.functions.templates.Template;
+import com.wynntils.core.consumers.functions.templates.CompiledTemplate;
 import com.wynntils.core.consumers.functions.templates.parser.TemplateParser;
 import com.wynntils.core.mod.type.CrashType;
 import com.wynntils.core.text.StyledText;
@@ -61,10 +61,13 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.regex.Pattern;
 import net.minecraft.ChatFormatting;
 import net.minecraft.network.chat.Component;
 import net.minecraft.network.chat.MutableComponent;
+import net.neoforged.bus.api.Event;
 
 /** Manage all built-in {@link Function}s */
 public final class FunctionManager extends Manager {
@@ -78,7 +81,14 @@ public final class FunctionManager extends Manager {
     private final Set<Function<?>> crashedFunctions = new HashSet<>();
 
     // We do not clear this cache, as it is not expected to grow too large
-    private final Map<String, Template> calculatedTemplateCache = new HashMap<>();
+    private final Map<String, CompiledTemplate> compiledTemplateCache = new HashMap<>();
+
+    // Every invalidation increments the counter, and records the new value as the stamp of what was invalidated.
+    // A compiled template is up to date if it was calculated after the latest stamp of all its dependencies.
+    private final AtomicLong invalidationCounter = new AtomicLong();
+    private final Map<Class<? extends Event>, Long> eventInvalidationStamps = new ConcurrentHashMap<>();
+    private final Set<Class<? extends Event>> watchedEvents = new HashSet<>();
+    private volatile long globalInvalidationStamp = 0;
 
     public FunctionManager() {
         super(List.of());
@@ -91,10 +101,12 @@ public final class FunctionManager extends Manager {
     public void enableFunction(Function<?> function) {
         // try to recover, worst case we disable it again
         crashedFunctions.remove(function);
+        invalidateAllTemplates();
     }
 
     private void crashFunction(Function<?> function) {
         crashedFunctions.add(function);
+        invalidateAllTemplates();
     }
 
     public boolean isCrashed(Function<?> function) {
@@ -273,12 +285,27 @@ public final class FunctionManager extends Manager {
 
     // region Template formatting
 
-    private StyledText doFormat(String templateString) {
-        calculatedTemplateCache.computeIfAbsent(templateString, TemplateParser::getTemplateFromString);
-        return calculatedTemplateCache.get(templateString).getStyledText();
+    /**
+     * Calculates the given template, split into lines.
+     *
+     * The template is compiled once, and the result is only recalculated if any of the functions
+     * used by the template could have changed since the last calculation, according to their
+     * {@link Function#getDependency()}. The returned array is shared, and must not be modified.
+     */
+    public StyledText[] doFormatLines(String templateString) {
+        CompiledTemplate compiledTemplate = compiledTemplateCache.computeIfAbsent(templateString, this::compileTemplate);
+
+        long invalidationStamp = getInvalidationStamp(compiledTemplate.getDependency());
+        if (!compiledTemplate.isUpToDate(invalidationStamp)) {
+            // Read the counter before calculating, so invalidations during the calculation are not lost
+            long calculationStamp = invalidationCounter.get();
+            compiledTemplate.setLines(calculateLines(compiledTemplate), calculationStamp);
+        }
+
+        return compiledTemplate.getLines();
     }
 
-    public StyledText[] doFormatLines(String templateString) {
+    private CompiledTemplate compileTemplate(String templateString) {
         StringBuilder resultBuilder = new StringBuilder();
 
         // Iterate though the string and escape characters
@@ -303,16 +330,49 @@ public final class FunctionManager extends Manager {
         // Parse color codes before calculating the templates
         String escapedTemplate = parseColorCodes(resultBuilder.toString());
 
-        StyledText calculatedText = doFormat(escapedTemplate);
+        CompiledTemplate compiledTemplate = new CompiledTemplate(TemplateParser.getTemplateFromString(escapedTemplate));
+        compiledTemplate.getDependency().getEvents().forEach(this::watchEvent);
+
+        return compiledTemplate;
+    }
+
+    private StyledText[] calculateLines(CompiledTemplate compiledTemplate) {
+        String codedString = compiledTemplate.getTemplate().getCodedString();
+        StyledText calculatedText = StyledText.fromString(codedString);
 
         // Turn escaped {}& (`\[\`, `\]\` `\&\`) back into real {}&
-        calculatedText = calculatedText.replaceAll(ESCAPED_OPEN_BRACE_PATTERN, "{");
-        calculatedText = calculatedText.replaceAll(ESCAPED_CLOSE_BRACE_PATTERN, "}");
-        calculatedText = calculatedText.replaceAll(ESCAPED_AMPERSAND_PATTERN, "&");
+        // All of these contain a backslash, so the replacements can be skipped if there is none
+        if (codedString.indexOf('\\') != -1) {
+            calculatedText = calculatedText.replaceAll(ESCAPED_OPEN_BRACE_PATTERN, "{");
+            calculatedText = calculatedText.replaceAll(ESCAPED_CLOSE_BRACE_PATTERN, "}");
+            calculatedText = calculatedText.replaceAll(ESCAPED_AMPERSAND_PATTERN, "&");
+        }
 
         return calculatedText.split("\n");
     }
 
+    private long getInvalidationStamp(FunctionDependency dependency) {
+        long stamp = globalInvalidationStamp;
+        for (Class<? extends Event> event : dependency.getEvents()) {
+            stamp = Math.max(stamp, eventInvalidationStamps.getOrDefault(event, 0L));
+        }
+        return stamp;
+    }
+
+    private void watchEvent(Class<? extends Event> eventClass) {
+        if (!watchedEvents.add(eventClass)) return;
+
+        WynntilsMod.registerListener(
+                eventClass, event -> eventInvalidationStamps.put(eventClass, invalidationCounter.incrementAndGet()));
+    }
+
+    /**
+     * Makes every compiled template recalculate its lines the next time it is formatted.
+     */
+    public void invalidateAllTemplates() {
+        globalInvalidationStamp = invalidationCounter.incrementAndGet();
+    }
+
     private String parseColorCodes(String toProcess) {
         // Replace &<code> with §<code> if not escaped (e.g., &a → §a, but \&\a stays unchanged)
         // doEscapeFormat preprocesses the string and replaces \& with \&\ so that it doesn't get replaced
@@ -1,10 +1,11 @@
 /*
- * Copyright © Wynntils 2023.
+ * Copyright © Wynntils 2023-2026.
  * This file is released under LGPLv3. See LICENSE for full license details.
  */
 package com.wynntils.core.consumers.functions;
 
 import com.wynntils.core.consumers.functions.arguments.FunctionArguments;
+import com.wynntils.utils.type.Time;
 
 /**
  * Generic functions are functions that calculate a value, based on their arguments.
@@ -20,6 +21,18 @@ public abstract class GenericFunction<T> extends Function<T> {
         return getRequiredArgumentsBuilder();
     }
 
+    @Override
+    public FunctionDependency getDependency() {
+        // Generic functions only depend on their arguments, except when they can return a time,
+        // as times are displayed relative to the current time
+        String returnTypeName = getReturnTypeName();
+        if (returnTypeName.equals(Time.class.getSimpleName()) || returnTypeName.equals(Object.class.getSimpleName())) {
+            return FunctionDependency.TICK;
+        }
+
+        return FunctionDependency.NONE;
+    }
+
     @Override
     public String getTranslationKeyName() {
         return "generic." + super.getTranslationKeyName();
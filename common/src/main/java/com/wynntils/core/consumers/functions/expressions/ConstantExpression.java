@@ -5,6 +5,7 @@
 package com.wynntils.core.consumers.functions.expressions;
 
 import com.google.common.collect.ImmutableMap;
+import com.wynntils.core.consumers.functions.FunctionDependency;
 import com.wynntils.core.text.StyledText;
 import com.wynntils.utils.type.ErrorOr;
 import java.util.Map;
@@ -36,6 +37,11 @@ public final class ConstantExpression extends Expression {
         return ErrorOr.of(StyledText.fromString(value.toString()));
     }
 
+    @Override
+    public FunctionDependency getDependency() {
+        return FunctionDependency.NONE;
+    }
+
     public static ErrorOr<Optional<Expression>> tryParse(String rawExpression) {
         for (Function<String, Optional<Object>> value : CONSTANT_EXPRESSION_PARSERS.values()) {
             Optional<Object> parsedValue = value.apply(rawExpression);
@@ -4,6 +4,7 @@
  */
 package com.wynntils.core.consumers.functions.expressions;
 
+import com.wynntils.core.consumers.functions.FunctionDependency;
 import com.wynntils.core.text.StyledText;
 import com.wynntils.utils.type.ErrorOr;
 
@@ -17,4 +18,6 @@ public abstract class Expression {
     public abstract ErrorOr<Object> calculate();
 
     public abstract ErrorOr<StyledText> calculateFormattedStyledText();
+
+    public abstract FunctionDependency getDependency();
 }
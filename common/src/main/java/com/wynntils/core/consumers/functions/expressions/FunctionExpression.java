@@ -6,10 +6,12 @@ package com.wynntils.core.consumers.functions.expressions;
 
 import com.wynntils.core.components.Managers;
 import com.wynntils.core.consumers.functions.Function;
+import com.wynntils.core.consumers.functions.FunctionDependency;
 import com.wynntils.core.consumers.functions.arguments.FunctionArguments;
 import com.wynntils.core.consumers.functions.arguments.parser.ArgumentParser;
 import com.wynntils.core.text.StyledText;
 import com.wynntils.utils.type.ErrorOr;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 import java.util.regex.Matcher;
@@ -68,19 +70,36 @@ public final class FunctionExpression extends Expression {
                 Managers.Function.getStyledTextFunctionValue(function, arguments.getValue(), formatted, decimals));
     }
 
+    @Override
+    public FunctionDependency getDependency() {
+        FunctionDependency dependency = function.getDependency();
+        for (Expression argumentExpression : argumentExpressions) {
+            dependency = dependency.and(argumentExpression.getDependency());
+        }
+        return dependency;
+    }
+
     private ErrorOr<FunctionArguments> getArguments() {
-        List<ErrorOr<Object>> calculatedExpressions =
-                argumentExpressions.stream().map(Expression::calculate).toList();
+        // Avoid streams here, this is called for every function in every template on every evaluation
+        List<Object> calculatedValues = new ArrayList<>(argumentExpressions.size());
+        String firstError = null;
+        for (Expression argumentExpression : argumentExpressions) {
+            ErrorOr<Object> calculatedExpression = argumentExpression.calculate();
+            if (calculatedExpression.hasError()) {
+                if (firstError == null) {
+                    firstError = calculatedExpression.getError();
+                }
+                continue;
+            }
+
+            calculatedValues.add(calculatedExpression.getValue());
+        }
 
-        Optional<ErrorOr<Object>> firstError =
-                calculatedExpressions.stream().filter(ErrorOr::hasError).findFirst();
-        if (firstError.isPresent()) {
-            return ErrorOr.error(firstError.get().getError());
+        if (firstError != null) {
+            return ErrorOr.error(firstError);
         }
 
-        return function.getArgumentsBuilder()
-                .buildWithValues(
-                        calculatedExpressions.stream().map(ErrorOr::getValue).toList());
+        return function.getArgumentsBuilder().buildWithValues(calculatedValues);
     }
 
     // This method attempts to parse a function expression in the following ways:
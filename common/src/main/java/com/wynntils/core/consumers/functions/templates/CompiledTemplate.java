@@ -0,0 +1,56 @@
+/*
+ * Copyright © Wynntils 2026.
+ * This file is released under LGPLv3. See LICENSE for full license details.
+ */
+package com.wynntils.core.consumers.functions.templates;
+
+import com.wynntils.core.consumers.functions.FunctionDependency;
+import com.wynntils.core.text.StyledText;
+
+/**
+ * A template that has been escaped and parsed once, together with the last calculated result.
+ *
+ * The result is only recalculated when something the template depends on has been invalidated
+ * since the last calculation, as decided by the stamp passed to {@link #isUpToDate(long)}.
+ */
+public final class CompiledTemplate {
+    private static final long NEVER_CALCULATED = -1;
+
+    private final Template template;
+    private final FunctionDependency dependency;
+
+    private StyledText[] lines;
+    private long calculatedStamp = NEVER_CALCULATED;
+
+    public CompiledTemplate(Template template) {
+        this.template = template;
+        this.dependency = template.getDependency();
+    }
+
+    public Template getTemplate() {
+        return template;
+    }
+
+    public FunctionDependency getDependency() {
+        return dependency;
+    }
+
+    public boolean isUpToDate(long invalidationStamp) {
+        if (calculatedStamp == NEVER_CALCULATED) return false;
+        if (dependency.isTickDependent()) return false;
+
+        return calculatedStamp >= invalidationStamp;
+    }
+
+    /**
+     * Returns the last calculated lines. The returned array is shared, and must not be modified.
+     */
+    public StyledText[] getLines() {
+        return lines;
+    }
+
+    public void setLines(StyledText[] lines, long invalidationStamp) {
+        this.lines = lines;
+        this.calculatedStamp = invalidationStamp;
+    }
+}
@@ -4,6 +4,7 @@
  */
 package com.wynntils.core.consumers.functions.templates;
 
+import com.wynntils.core.consumers.functions.FunctionDependency;
 import com.wynntils.core.consumers.functions.expressions.Expression;
 import com.wynntils.core.consumers.functions.expressions.parser.ExpressionParser;
 import com.wynntils.core.text.StyledText;
@@ -37,6 +38,16 @@ public class ExpressionTemplatePart extends TemplatePart {
         return calculatedValue.getValue();
     }
 
+    @Override
+    public FunctionDependency getDependency() {
+        // A parse error is always rendered the same way
+        if (expression.hasError()) {
+            return FunctionDependency.NONE;
+        }
+
+        return expression.getValue().getDependency();
+    }
+
     @Override
     public String toString() {
         return "ExpressionTemplatePart{" + "expressionString='" + expression + "'}";
@@ -4,6 +4,7 @@
  */
 package com.wynntils.core.consumers.functions.templates;
 
+import com.wynntils.core.consumers.functions.FunctionDependency;
 import com.wynntils.core.text.StyledText;
 
 public class LiteralTemplatePart extends TemplatePart {
@@ -16,6 +17,11 @@ public class LiteralTemplatePart extends TemplatePart {
         return StyledText.fromString(part);
     }
 
+    @Override
+    public FunctionDependency getDependency() {
+        return FunctionDependency.NONE;
+    }
+
     @Override
     public String getCodedValue() {
         return part;
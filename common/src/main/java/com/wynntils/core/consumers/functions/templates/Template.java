@@ -4,9 +4,9 @@
  */
 package com.wynntils.core.consumers.functions.templates;
 
+import com.wynntils.core.consumers.functions.FunctionDependency;
 import com.wynntils.core.text.StyledText;
 import java.util.List;
-import java.util.stream.Collectors;
 
 public class Template {
     private final List<TemplatePart> parts;
@@ -16,8 +16,22 @@ public class Template {
     }
 
     public StyledText getStyledText() {
-        String codedString = parts.stream().map(TemplatePart::getCodedValue).collect(Collectors.joining());
+        return StyledText.fromString(getCodedString());
+    }
+
+    public String getCodedString() {
+        StringBuilder builder = new StringBuilder();
+        for (TemplatePart part : parts) {
+            builder.append(part.getCodedValue());
+        }
+        return builder.toString();
+    }
 
-        return StyledText.fromString(codedString);
+    public FunctionDependency getDependency() {
+        FunctionDependency dependency = FunctionDependency.NONE;
+        for (TemplatePart part : parts) {
+            dependency = dependency.and(part.getDependency());
+        }
+        return dependency;
     }
 }
@@ -4,6 +4,7 @@
  */
 package com.wynntils.core.consumers.functions.templates;
 
+import com.wynntils.core.consumers.functions.FunctionDependency;
 import com.wynntils.core.text.StyledText;
 import com.wynntils.core.text.type.StyleType;
 
@@ -20,6 +21,8 @@ public abstract class TemplatePart {
 
     public abstract StyledText getValue();
 
+    public abstract FunctionDependency getDependency();
+
     public String getCodedValue() {
         return getValue().getString(StyleType.INCLUDE_SPECIALS);
     }
@@ -50,7 +50,7 @@ public final class OverlayManager extends Manager {
     private Map<RenderElementType, List<Overlay>> renderMap = new HashMap<>();
 
     private final List<SectionCoordinates> sections = new ArrayList<>(9);
-    private final Map<Class<?>, Integer> profilingTimes = new HashMap<>();
+    private final Map<Class<?>, Long> profilingTimes = new HashMap<>();
     private final Map<Class<?>, Integer> profilingCounts = new HashMap<>();
 
     public OverlayManager(CrashReportManager crashReportManager) {
@@ -371,7 +371,7 @@ public final class OverlayManager extends Manager {
 
                     overlay.renderPreview(event.getGuiGraphics(), event.getDeltaTracker(), event.getWindow());
                 } else if (shouldRender && overlay.isRendered()) {
-                    long startTime = System.currentTimeMillis();
+                    long startTime = System.nanoTime();
                     overlay.renderOrErrorMessage(event.getGuiGraphics(), event.getDeltaTracker(), event.getWindow());
                     logProfilingData(startTime, overlay);
                 }
@@ -402,16 +402,19 @@ public final class OverlayManager extends Manager {
     // region Profiling
 
     private void logProfilingData(long startTime, Overlay overlay) {
-        long endTime = System.currentTimeMillis();
-        int timeSpent = (int) (endTime - startTime);
-        int allTime = profilingTimes.getOrDefault(overlay.getClass(), 0);
+        long endTime = System.nanoTime();
+        long timeSpent = endTime - startTime;
+        long allTime = profilingTimes.getOrDefault(overlay.getClass(), 0L);
         profilingTimes.put(overlay.getClass(), allTime + timeSpent);
 
         int allCount = profilingCounts.getOrDefault(overlay.getClass(), 0);
         profilingCounts.put(overlay.getClass(), allCount + 1);
     }
 
-    public Map<Class<?>, Integer> getProfilingTimes() {
+    /**
+     * @return the time spent rendering overlays, in nanoseconds
+     */
+    public Map<Class<?>, Long> getProfilingTimes() {
         return profilingTimes;
     }
 
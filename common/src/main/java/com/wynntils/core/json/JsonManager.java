@@ -1,5 +1,5 @@
 /*
- * Copyright © Wynntils 2023-2025.
+ * Copyright © Wynntils 2023-2026.
  * This file is released under LGPLv3. See LICENSE for full license details.
  */
 package com.wynntils.core.json;
@@ -63,8 +63,10 @@ public final class JsonManager extends Manager {
     /**
      * Write a json object to a file, taking care to preserve the file against corruption since
      * it contains precious data.
+     *
+     * @return true if the file was replaced with the new content
      */
-    public void savePreciousJson(File jsonFile, JsonObject jsonObject) {
+    public boolean savePreciousJson(File jsonFile, JsonObject jsonObject) {
         FileUtils.mkdir(jsonFile.getParentFile());
 
         File tempFile = new File(jsonFile.getPath() + ".tmp");
@@ -89,11 +91,11 @@ public final class JsonManager extends Manager {
 
             if (!parsed.isJsonObject()) {
                 WynntilsMod.error("Temporary json file " + tempFile + " did not contain a JsonObject");
-                return;
+                return false;
             }
         } catch (Exception e) {
             WynntilsMod.error("Temporary json file " + tempFile + " is invalid", e);
-            return;
+            return false;
         }
 
         // Backup the old file, and replace it with the temp file
@@ -108,7 +110,11 @@ public final class JsonManager extends Manager {
             FileUtils.moveFile(tempFile, jsonFile);
         } catch (Exception e) {
             WynntilsMod.error("Failed to replace temp file " + jsonFile, e);
+            return false;
         }
+
+        // The temp file is only gone if it was moved into place
+        return !tempFile.exists();
     }
 
     /**
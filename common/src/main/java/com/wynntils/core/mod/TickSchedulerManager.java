@@ -1,28 +1,57 @@
 /*
- * Copyright © Wynntils 2022-2025.
+ * Copyright © Wynntils 2022-2026.
  * This file is released under LGPLv3. See LICENSE for full license details.
  */
 package com.wynntils.core.mod;
 
+import com.wynntils.core.WynntilsMod;
 import com.wynntils.core.components.Manager;
 import com.wynntils.mc.event.TickAlwaysEvent;
-import java.util.Iterator;
 import java.util.List;
-import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import net.neoforged.bus.api.EventPriority;
 import net.neoforged.bus.api.SubscribeEvent;
 
+/**
+ * Runs tasks on the main thread after a given number of ticks.
+ *
+ * Tasks are kept in a hierarchical timing wheel. The first level has one slot per tick, and every
+ * following level has slots covering a whole revolution of the level below it. When a lower level
+ * wraps around, the next slot of the level above it is cascaded down. This makes scheduling and
+ * cancelling constant time, and the work per tick only depends on the tasks that are due.
+ *
+ * Tasks can be scheduled from any thread; they are handed to the main thread through a queue,
+ * and put into the wheel at the start of the next tick.
+ */
 public final class TickSchedulerManager extends Manager {
-    private final Map<ScheduledTask, Integer> tasks = new ConcurrentHashMap<>();
+    private static final int SLOT_BITS = 6;
+    private static final int SLOTS = 1 << SLOT_BITS;
+    private static final int SLOT_MASK = SLOTS - 1;
+    private static final int LEVELS = 4;
+    // Tasks further in the future are put as far ahead as the wheel reaches, and cascaded again until they are due
+    private static final long MAX_WHEEL_DELAY = (1L << (SLOT_BITS * LEVELS)) - 1;
+
+    private final Queue<ScheduledTask> incomingTasks = new ConcurrentLinkedQueue<>();
+    private final ScheduledTask[][] wheel = new ScheduledTask[LEVELS][SLOTS];
+    private final AtomicInteger pendingTaskCount = new AtomicInteger();
+
+    private long currentTick = 0;
+
+    private long profilingTaskCount = 0;
+    private long profilingTotalNanos = 0;
+    private long profilingMaxTickNanos = 0;
 
     public TickSchedulerManager() {
         super(List.of());
     }
 
     public ScheduledTask scheduleLater(Runnable runnable, int ticksDelay) {
-        ScheduledTask task = new ScheduledTask(runnable);
-        tasks.put(task, ticksDelay);
+        ScheduledTask task = new ScheduledTask(runnable, Math.max(ticksDelay, 0));
+        pendingTaskCount.incrementAndGet();
+        incomingTasks.add(task);
         return task;
     }
 
@@ -31,7 +60,32 @@ public final class TickSchedulerManager extends Manager {
     }
 
     public void cancel(ScheduledTask task) {
-        tasks.remove(task);
+        // The task is only marked as done here, and is dropped from the wheel when its slot is reached
+        if (task.done.compareAndSet(false, true)) {
+            pendingTaskCount.decrementAndGet();
+        }
+    }
+
+    public int getPendingTaskCount() {
+        return pendingTaskCount.get();
+    }
+
+    public long getProfilingTaskCount() {
+        return profilingTaskCount;
+    }
+
+    public long getProfilingTotalNanos() {
+        return profilingTotalNanos;
+    }
+
+    public long getProfilingMaxTickNanos() {
+        return profilingMaxTickNanos;
+    }
+
+    public void resetProfiling() {
+        profilingTaskCount = 0;
+        profilingTotalNanos = 0;
+        profilingMaxTickNanos = 0;
     }
 
     // The priority is set to HIGHEST to ensure that the tasks are run
@@ -39,20 +93,112 @@ public final class TickSchedulerManager extends Manager {
     // making it run in the same tick
     @SubscribeEvent(priority = EventPriority.HIGHEST)
     public void onTick(TickAlwaysEvent e) {
-        Iterator<Map.Entry<ScheduledTask, Integer>> it = tasks.entrySet().iterator();
-        while (it.hasNext()) {
-            Map.Entry<ScheduledTask, Integer> entry = it.next();
-            int ticksLeft = entry.getValue();
-            if (ticksLeft == 0) {
-                // Run the task
-                entry.getKey().task.run();
-                // Remove it from the map
-                it.remove();
-            } else {
-                entry.setValue(ticksLeft - 1);
+        long startTime = System.nanoTime();
+
+        currentTick++;
+
+        if ((currentTick & SLOT_MASK) == 0) {
+            cascade(1);
+        }
+
+        // Tasks scheduled during this tick will only be added at the start of the next tick,
+        // so a task scheduled for the next tick by a running task does not run in this tick
+        ScheduledTask incomingTask;
+        while ((incomingTask = incomingTasks.poll()) != null) {
+            if (incomingTask.done.get()) continue;
+
+            incomingTask.deadline = currentTick + incomingTask.ticksDelay;
+            insert(incomingTask);
+        }
+
+        int slot = (int) (currentTick & SLOT_MASK);
+        ScheduledTask task = wheel[0][slot];
+        wheel[0][slot] = null;
+
+        int taskCount = 0;
+        while (task != null) {
+            ScheduledTask next = task.next;
+            task.next = null;
+
+            // Claim the task, so it can no longer be cancelled from another thread while it runs
+            if (task.done.compareAndSet(false, true)) {
+                pendingTaskCount.decrementAndGet();
+                taskCount++;
+
+                // The rest of the slot has already been taken from the wheel, so it must still run
+                try {
+                    task.task.run();
+                } catch (Throwable t) {
+                    WynntilsMod.error("Exception in scheduled task", t);
+                }
             }
+
+            task = next;
+        }
+
+        long tickNanos = System.nanoTime() - startTime;
+        profilingTaskCount += taskCount;
+        profilingTotalNanos += tickNanos;
+        profilingMaxTickNanos = Math.max(profilingMaxTickNanos, tickNanos);
+    }
+
+    private void cascade(int level) {
+        int slot = (int) ((currentTick >> (SLOT_BITS * level)) & SLOT_MASK);
+
+        // If this level wrapped around too, the level above must be cascaded first,
+        // as some of its tasks can belong in the slot we are about to cascade
+        if (slot == 0 && level + 1 < LEVELS) {
+            cascade(level + 1);
+        }
+
+        ScheduledTask task = wheel[level][slot];
+        wheel[level][slot] = null;
+
+        while (task != null) {
+            ScheduledTask next = task.next;
+            task.next = null;
+
+            if (!task.done.get()) {
+                insert(task);
+            }
+
+            task = next;
         }
     }
 
-    public record ScheduledTask(Runnable task) {}
+    private void insert(ScheduledTask task) {
+        long delay = task.deadline - currentTick;
+        long slotTick = delay > MAX_WHEEL_DELAY ? currentTick + MAX_WHEEL_DELAY : task.deadline;
+        long slotDelay = slotTick - currentTick;
+
+        int level = 0;
+        while (level < LEVELS - 1 && slotDelay >= 1L << (SLOT_BITS * (level + 1))) {
+            level++;
+        }
+
+        int slot = (int) ((slotTick >> (SLOT_BITS * level)) & SLOT_MASK);
+        task.next = wheel[level][slot];
+        wheel[level][slot] = task;
+    }
+
+    public static final class ScheduledTask {
+        private final Runnable task;
+        private final int ticksDelay;
+
+        // Only accessed from the main thread, once the task has been taken from the incoming queue
+        private long deadline;
+        private ScheduledTask next;
+
+        // Set when the task has either run or been cancelled
+        private final AtomicBoolean done = new AtomicBoolean();
+
+        private ScheduledTask(Runnable task, int ticksDelay) {
+            this.task = task;
+            this.ticksDelay = ticksDelay;
+        }
+
+        public Runnable task() {
+            return task;
+        }
+    }
 }
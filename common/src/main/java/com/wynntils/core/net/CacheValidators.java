@@ -0,0 +1,92 @@
+/*
+ * Copyright © Wynntils 2026.
+ * This file is released under LGPLv3. See LICENSE for full license details.
+ */
+package com.wynntils.core.net;
+
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParseException;
+import com.google.gson.JsonParser;
+import com.wynntils.core.WynntilsMod;
+import com.wynntils.utils.JsonUtils;
+import java.io.File;
+import java.io.IOException;
+import java.io.Reader;
+import java.net.http.HttpHeaders;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import org.apache.commons.io.FileUtils;
+
+/**
+ * The HTTP cache validators of a cached download, stored in a file beside the cached file.
+ *
+ * When they are present, the next download of the file is made as a conditional request,
+ * so the server can reply that the cached file is still up to date instead of sending it again.
+ */
+record CacheValidators(String eTag, String lastModified) {
+    private static final String FILE_SUFFIX = ".validators";
+
+    static Optional<CacheValidators> read(File localFile) {
+        File validatorsFile = getValidatorsFile(localFile);
+        if (!localFile.exists() || !validatorsFile.exists()) return Optional.empty();
+
+        try (Reader reader = Files.newBufferedReader(validatorsFile.toPath(), StandardCharsets.UTF_8)) {
+            JsonObject json = JsonParser.parseReader(reader).getAsJsonObject();
+            CacheValidators validators = new CacheValidators(
+                    JsonUtils.getNullableJsonString(json, "eTag"),
+                    JsonUtils.getNullableJsonString(json, "lastModified"));
+            if (validators.eTag() == null && validators.lastModified() == null) return Optional.empty();
+
+            return Optional.of(validators);
+        } catch (IOException | JsonParseException | IllegalStateException e) {
+            WynntilsMod.warn("Could not read cache validators for " + localFile, e);
+            delete(localFile);
+            return Optional.empty();
+        }
+    }
+
+    static void write(File localFile, HttpHeaders headers) {
+        String eTag = headers.firstValue("ETag").orElse(null);
+        String lastModified = headers.firstValue("Last-Modified").orElse(null);
+        if (eTag == null && lastModified == null) {
+            delete(localFile);
+            return;
+        }
+
+        JsonObject json = new JsonObject();
+        if (eTag != null) {
+            json.addProperty("eTag", eTag);
+        }
+        if (lastModified != null) {
+            json.addProperty("lastModified", lastModified);
+        }
+
+        try {
+            Files.writeString(getValidatorsFile(localFile).toPath(), json.toString(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            WynntilsMod.warn("Could not write cache validators for " + localFile, e);
+        }
+    }
+
+    static void delete(File localFile) {
+        FileUtils.deleteQuietly(getValidatorsFile(localFile));
+    }
+
+    Map<String, String> toRequestHeaders() {
+        Map<String, String> headers = new HashMap<>();
+        if (eTag != null) {
+            headers.put("If-None-Match", eTag);
+        }
+        if (lastModified != null) {
+            headers.put("If-Modified-Since", lastModified);
+        }
+        return headers;
+    }
+
+    private static File getValidatorsFile(File localFile) {
+        return new File(localFile.getParentFile(), localFile.getName() + FILE_SUFFIX);
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright © Wynntils 2022-2023.
+ * Copyright © Wynntils 2022-2026.
  * This file is released under LGPLv3. See LICENSE for full license details.
  */
 package com.wynntils.core.net;
@@ -23,6 +23,9 @@ import java.util.concurrent.ExecutionException;
 import org.apache.commons.io.FileUtils;
 
 public class Download extends NetResult {
+    private static final int HTTP_OK = 200;
+    private static final int HTTP_NOT_MODIFIED = 304;
+
     private final File localFile;
 
     // Saved since we might need to get timestamps from the HttpResponse
@@ -61,6 +64,7 @@ public class Download extends NetResult {
         // try to re-download the file next time
         WynntilsMod.warn("Deleting cached file due to handling error: " + localFile);
         FileUtils.deleteQuietly(localFile);
+        CacheValidators.delete(localFile);
     }
 
     @Override
@@ -70,19 +74,37 @@ public class Download extends NetResult {
             return CompletableFuture.supplyAsync(this::getFileInputStreamFromCache);
         } else {
             prepareForDownload();
-            return getDownloadInputStreamFuture().thenApply(response -> getFileInputStreamFromCache());
+            return getDownloadInputStreamFuture().thenApply(response -> {
+                if (response.statusCode() == HTTP_OK) {
+                    CacheValidators.write(localFile, response.headers());
+                } else if (response.statusCode() != HTTP_NOT_MODIFIED) {
+                    CacheValidators.delete(localFile);
+                }
+                return getFileInputStreamFromCache();
+            });
         }
     }
 
     private CompletableFuture<HttpResponse<Path>> getDownloadInputStreamFuture() {
         CompletableFuture<HttpResponse<Path>> future =
-                Managers.Net.HTTP_CLIENT.sendAsync(request, HttpResponse.BodyHandlers.ofFile(localFile.toPath()));
+                Managers.Net.HTTP_CLIENT.sendAsync(request, this::createBodySubscriber);
 
         // We must save the response so we can get the timestamp
         this.httpResponse = future;
         return future;
     }
 
+    private HttpResponse.BodySubscriber<Path> createBodySubscriber(HttpResponse.ResponseInfo responseInfo) {
+        if (responseInfo.statusCode() == HTTP_NOT_MODIFIED) {
+            // Our conditional request told us the cached file is still up to date, so keep using it
+            return HttpResponse.BodySubscribers.replacing(localFile.toPath());
+        }
+
+        // Only remove the old file once we know the server is actually sending a new one
+        FileUtils.deleteQuietly(localFile);
+        return HttpResponse.BodySubscribers.ofFile(localFile.toPath());
+    }
+
     private InputStream getFileInputStreamFromCache() {
         try {
             return new FileInputStream(localFile);
@@ -94,7 +116,6 @@ public class Download extends NetResult {
     }
 
     private void prepareForDownload() {
-        FileUtils.deleteQuietly(localFile);
         try {
             FileUtils.forceMkdirParent(localFile);
         } catch (IOException e) {
@@ -1,5 +1,5 @@
 /*
- * Copyright © Wynntils 2024-2025.
+ * Copyright © Wynntils 2024-2026.
  * This file is released under LGPLv3. See LICENSE for full license details.
  */
 package com.wynntils.core.net;
@@ -46,16 +46,21 @@ public final class DownloadDependencyGraph {
         // 1. Check for circular dependencies
         checkCircularDependencies(nodes);
 
+        // Now that we know the graph is acyclic, calculate the scheduling priorities
+        nodes.forEach(Node::calculateCriticalPathLength);
+
         return new DownloadDependencyGraph(nodes);
     }
 
     // region Processing
 
     public synchronized QueuedDownload nextDownload() {
+        // Start the download with the longest chain of downloads waiting on it first,
+        // so the dependency chains that take the longest to finish are not delayed by independent downloads
         Node nextNode = nodeMap.entrySet().stream()
                 .filter(entry -> entry.getValue() == NodeState.QUEUED)
                 .map(Map.Entry::getKey)
-                .findAny()
+                .max(Comparator.comparingInt(node -> node.criticalPathLength))
                 .orElse(null);
 
         if (nextNode == null) return null;
@@ -306,6 +311,9 @@ public final class DownloadDependencyGraph {
         private List<Node> dependencies = List.of();
         private List<Node> dependents = List.of();
 
+        // The number of downloads in the longest chain of dependents, including this one
+        private int criticalPathLength = 0;
+
         private Node(QueuedDownload download) {
             this.download = download;
         }
@@ -326,6 +334,18 @@ public final class DownloadDependencyGraph {
             this.dependents = List.copyOf(dependents);
         }
 
+        private int calculateCriticalPathLength() {
+            if (criticalPathLength == 0) {
+                int longestDependentPath = dependents.stream()
+                        .mapToInt(Node::calculateCriticalPathLength)
+                        .max()
+                        .orElse(0);
+                criticalPathLength = longestDependentPath + 1;
+            }
+
+            return criticalPathLength;
+        }
+
         @Override
         public boolean equals(Object o) {
             if (this == o) return true;
@@ -1,11 +1,12 @@
 /*
- * Copyright © Wynntils 2024-2025.
+ * Copyright © Wynntils 2024-2026.
  * This file is released under LGPLv3. See LICENSE for full license details.
  */
 package com.wynntils.core.net;
 
 import com.google.gson.JsonArray;
 import com.google.gson.JsonObject;
+import com.google.gson.stream.JsonReader;
 import com.wynntils.core.WynntilsMod;
 import com.wynntils.core.components.CoreComponent;
 import com.wynntils.core.components.Manager;
@@ -187,6 +188,13 @@ public class DownloadManager extends Manager {
             return download;
         }
 
+        Consumer<JsonReader> jsonReaderHandler = queuedDownload.onCompletionJsonReader();
+        if (jsonReaderHandler != null) {
+            download.handleJsonReader(
+                    wrapDownloadHandler(jsonReaderHandler, queuedDownload), wrapDownloadFailure(queuedDownload));
+            return download;
+        }
+
         throw new IllegalStateException("Queued download has no handler set: " + queuedDownload);
     }
 
@@ -95,7 +95,11 @@ public final class NetManager extends Manager {
     }
 
     private Download download(URI uri, File localFile, NetResultProcessedEvent processedEvent) {
-        return new Download(localFile.getName(), localFile, createGetRequest(uri, Map.of()), processedEvent);
+        // If we have a cached copy, only ask the server to send the file if it has changed since
+        Map<String, String> headers = CacheValidators.read(localFile)
+                .map(CacheValidators::toRequestHeaders)
+                .orElse(Map.of());
+        return new Download(localFile.getName(), localFile, createGetRequest(uri, headers), processedEvent);
     }
 
     private Download download(URI uri, File localFile, String expectedHash, NetResultProcessedEvent processedEvent) {
@@ -108,6 +112,8 @@ public final class NetManager extends Manager {
             return new Download(localFile.getName(), localFile, processedEvent);
         }
 
+        // The cached file is known to be outdated, so don't let the server tell us it is still valid
+        CacheValidators.delete(localFile);
         return download(uri, localFile, processedEvent);
     }
 
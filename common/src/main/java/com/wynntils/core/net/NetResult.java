@@ -1,5 +1,5 @@
 /*
- * Copyright © Wynntils 2022-2024.
+ * Copyright © Wynntils 2022-2026.
  * This file is released under LGPLv3. See LICENSE for full license details.
  */
 package com.wynntils.core.net;
@@ -7,6 +7,7 @@ package com.wynntils.core.net;
 import com.google.gson.JsonArray;
 import com.google.gson.JsonObject;
 import com.google.gson.JsonParser;
+import com.google.gson.stream.JsonReader;
 import com.wynntils.core.WynntilsMod;
 import com.wynntils.core.net.event.NetResultProcessedEvent;
 import java.io.IOException;
@@ -85,6 +86,27 @@ public abstract class NetResult {
         handleJsonArray(handler, DEFAULT_ERROR_HANDLER);
     }
 
+    /**
+     * Hands the response to the handler as a {@link JsonReader}, without parsing it into a tree first.
+     * This keeps peak memory usage low for large files, as the handler can process one entry at a time.
+     */
+    public void handleJsonReader(Consumer<JsonReader> handler, Consumer<Throwable> onError) {
+        handleReader(
+                reader -> {
+                    try {
+                        handler.accept(new JsonReader(reader));
+                    } catch (Throwable t) {
+                        WynntilsMod.warn("Failure in net manager [handleJsonReader], processing " + desc, t);
+                        onError.accept(t);
+                    }
+                },
+                onError);
+    }
+
+    public void handleJsonReader(Consumer<JsonReader> handler) {
+        handleJsonReader(handler, DEFAULT_ERROR_HANDLER);
+    }
+
     private void doHandle(Consumer<InputStream> onCompletion, Consumer<Throwable> onError) {
         // The wrappingHandler will make sure we close the input stream
         CompletableFuture<Void> future = getInputStreamFuture()
@@ -1,11 +1,12 @@
 /*
- * Copyright © Wynntils 2024.
+ * Copyright © Wynntils 2024-2026.
  * This file is released under LGPLv3. See LICENSE for full license details.
  */
 package com.wynntils.core.net;
 
 import com.google.gson.JsonArray;
 import com.google.gson.JsonObject;
+import com.google.gson.stream.JsonReader;
 import com.wynntils.core.WynntilsMod;
 import com.wynntils.core.components.CoreComponent;
 import java.io.Reader;
@@ -25,6 +26,7 @@ public class QueuedDownload {
     private Consumer<Reader> onCompletionReader;
     private Consumer<JsonObject> onCompletionJsonObject;
     private Consumer<JsonArray> onCompletionJsonArray;
+    private Consumer<JsonReader> onCompletionJsonReader;
 
     QueuedDownload(CoreComponent callerComponent, UrlId urlId, Dependency dependency) {
         this.callerComponent = callerComponent;
@@ -36,18 +38,28 @@ public class QueuedDownload {
         this.onCompletionReader = readerConsume;
         this.onCompletionJsonObject = null;
         this.onCompletionJsonArray = null;
+        this.onCompletionJsonReader = null;
     }
 
     public void handleJsonObject(Consumer<JsonObject> jsonObjectConsume) {
         this.onCompletionJsonObject = jsonObjectConsume;
         this.onCompletionReader = null;
         this.onCompletionJsonArray = null;
+        this.onCompletionJsonReader = null;
     }
 
     public void handleJsonArray(Consumer<JsonArray> jsonArrayConsume) {
         this.onCompletionJsonArray = jsonArrayConsume;
         this.onCompletionReader = null;
         this.onCompletionJsonObject = null;
+        this.onCompletionJsonReader = null;
+    }
+
+    public void handleJsonReader(Consumer<JsonReader> jsonReaderConsume) {
+        this.onCompletionJsonReader = jsonReaderConsume;
+        this.onCompletionReader = null;
+        this.onCompletionJsonObject = null;
+        this.onCompletionJsonArray = null;
     }
 
     public CoreComponent callerComponent() {
@@ -74,6 +86,10 @@ public class QueuedDownload {
         return onCompletionJsonArray;
     }
 
+    public Consumer<JsonReader> onCompletionJsonReader() {
+        return onCompletionJsonReader;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
@@ -0,0 +1,288 @@
+/*
+ * Copyright © Wynntils 2026.
+ * This file is released under LGPLv3. See LICENSE for full license details.
+ */
+package com.wynntils.core.persisted;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParseException;
+import com.google.gson.JsonParser;
+import com.wynntils.core.WynntilsMod;
+import com.wynntils.core.components.Managers;
+import com.wynntils.utils.FileUtils;
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.RandomAccessFile;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+
+/**
+ * An append-only journal of changes to a precious json file.
+ *
+ * Instead of rewriting the whole file for every change, the changed values are appended to a
+ * journal file beside it, one json object per line. A change either replaces a whole member of the
+ * file, or only the value at a path of object members inside it. When loading, the journal is replayed
+ * on top of the main file. The journal is compacted into the main file once it grows too large.
+ *
+ * If the game is killed while appending, only the last, incomplete line of the journal is lost; it is cut
+ * off when loading, so the next append starts on a new line. The main file is only ever replaced as a whole.
+ */
+public final class PersistedJournal {
+    private static final String FILE_SUFFIX = ".journal";
+    private static final long COMPACTION_THRESHOLD_BYTES = 256 * 1024;
+
+    private static final String KEY_MEMBER = "key";
+    private static final String PATH_MEMBER = "path";
+    private static final String VALUE_MEMBER = "value";
+
+    private final File mainFile;
+    private final File journalFile;
+
+    // The main file with all journaled changes applied
+    private JsonObject image = new JsonObject();
+    private long journalSize = 0;
+
+    public PersistedJournal(File mainFile) {
+        this.mainFile = mainFile;
+        this.journalFile = getJournalFile(mainFile);
+    }
+
+    /**
+     * Returns the journal file of the main file, which only exists while it has changes not compacted yet.
+     */
+    public static File getJournalFile(File mainFile) {
+        return new File(mainFile.getPath() + FILE_SUFFIX);
+    }
+
+    /**
+     * Loads the main file, with all changes from the journal applied. If there were journaled changes,
+     * they are compacted into the main file right away.
+     *
+     * The returned object is kept as the current image, so changes to it are included in the next compaction.
+     */
+    public synchronized JsonObject load() {
+        image = Managers.Json.loadPreciousJson(mainFile);
+
+        int replayedChanges = replay();
+        if (replayedChanges > 0) {
+            WynntilsMod.info("Recovered " + replayedChanges + " journaled changes for " + mainFile.getName());
+            compact(key -> true);
+        }
+
+        return image;
+    }
+
+    /**
+     * Appends the changes to the journal. A null value removes the key.
+     */
+    public synchronized void append(Map<String, JsonElement> changes) {
+        List<Change> changeList = new ArrayList<>();
+        changes.forEach((key, value) -> changeList.add(new Change(key, List.of(), value)));
+        append(changeList);
+    }
+
+    /**
+     * Appends the changes to the journal, in order.
+     */
+    public synchronized void append(List<Change> changes) {
+        if (changes.isEmpty()) return;
+
+        StringBuilder lines = new StringBuilder();
+        for (Change change : changes) {
+            JsonObject entry = new JsonObject();
+            entry.addProperty(KEY_MEMBER, change.key());
+            if (!change.path().isEmpty()) {
+                JsonArray path = new JsonArray();
+                change.path().forEach(path::add);
+                entry.add(PATH_MEMBER, path);
+            }
+            if (change.value() != null) {
+                entry.add(VALUE_MEMBER, change.value());
+            }
+            lines.append(entry).append('\n');
+
+            apply(change.key(), change.path(), change.value());
+        }
+
+        FileUtils.mkdir(journalFile.getParentFile());
+        try (Writer writer = new OutputStreamWriter(new FileOutputStream(journalFile, true), StandardCharsets.UTF_8)) {
+            writer.write(lines.toString());
+        } catch (IOException e) {
+            // The changes are still part of the image, so try to save them with a full write instead
+            WynntilsMod.error("Failed to append to journal " + journalFile + ", compacting instead", e);
+            compact(key -> true);
+            return;
+        }
+
+        journalSize = journalFile.length();
+    }
+
+    /**
+     * Appends the differences between the current image and the new content to the journal.
+     */
+    public synchronized void update(JsonObject content) {
+        Map<String, JsonElement> changes = new LinkedHashMap<>();
+
+        for (String key : image.keySet()) {
+            if (!content.has(key)) {
+                changes.put(key, null);
+            }
+        }
+
+        for (Map.Entry<String, JsonElement> entry : content.entrySet()) {
+            if (!entry.getValue().equals(image.get(entry.getKey()))) {
+                changes.put(entry.getKey(), entry.getValue());
+            }
+        }
+
+        append(changes);
+    }
+
+    public synchronized boolean needsCompaction() {
+        return journalSize > COMPACTION_THRESHOLD_BYTES;
+    }
+
+    /**
+     * Writes the current image to the main file, and clears the journal.
+     *
+     * @param keepKey which keys of the image should be kept in the main file
+     */
+    public synchronized void compact(Predicate<String> keepKey) {
+        image.keySet().removeIf(keepKey.negate());
+
+        // Only clear the journal if the main file now has all its changes
+        if (!Managers.Json.savePreciousJson(mainFile, image)) return;
+
+        FileUtils.deleteFile(journalFile);
+        journalSize = 0;
+    }
+
+    /**
+     * Writes the snapshot over the current image to the main file, and clears the journal.
+     *
+     * This also catches values that were changed without being appended to the journal.
+     *
+     * @param snapshot the current values, replacing the ones in the image
+     * @param keepKey which keys of the image should be kept in the main file
+     */
+    public synchronized void compact(Map<String, JsonElement> snapshot, Predicate<String> keepKey) {
+        snapshot.forEach((key, value) -> apply(key, List.of(), value));
+        compact(keepKey);
+    }
+
+    /**
+     * Replaces the whole content of the main file, discarding the journal.
+     */
+    public synchronized void replace(JsonObject json) {
+        image = json;
+        compact(key -> true);
+    }
+
+    private int replay() {
+        if (!journalFile.exists()) return 0;
+
+        truncateIncompleteLine();
+
+        int replayedChanges = 0;
+        try (BufferedReader reader = Files.newBufferedReader(journalFile.toPath(), StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isBlank()) continue;
+
+                String key;
+                List<String> path = new ArrayList<>();
+                JsonElement value;
+                try {
+                    JsonObject entry = JsonParser.parseString(line).getAsJsonObject();
+                    key = entry.get(KEY_MEMBER).getAsString();
+                    if (entry.has(PATH_MEMBER)) {
+                        entry.getAsJsonArray(PATH_MEMBER).forEach(element -> path.add(element.getAsString()));
+                    }
+                    value = entry.get(VALUE_MEMBER);
+                } catch (JsonParseException
+                        | IllegalStateException
+                        | UnsupportedOperationException
+                        | NullPointerException e) {
+                    // Only complete lines are left after truncating, so this line was corrupted some other way
+                    WynntilsMod.warn("Ignoring invalid entry in journal " + journalFile);
+                    continue;
+                }
+
+                apply(key, path, value);
+                replayedChanges++;
+            }
+        } catch (IOException e) {
+            WynntilsMod.error("Failed to read journal " + journalFile, e);
+        }
+
+        journalSize = journalFile.length();
+        return replayedChanges;
+    }
+
+    /**
+     * Cuts off the last line if it has no newline, as the game was killed while appending it. Otherwise, the next
+     * append would continue that line, and make its first entry unreadable as well.
+     */
+    private void truncateIncompleteLine() {
+        try (RandomAccessFile file = new RandomAccessFile(journalFile, "rw")) {
+            long length = file.length();
+            long completeLength = length;
+            while (completeLength > 0) {
+                file.seek(completeLength - 1);
+                if (file.read() == '\n') break;
+
+                completeLength--;
+            }
+
+            if (completeLength < length) {
+                WynntilsMod.warn("Removing incomplete entry at the end of journal " + journalFile);
+                file.setLength(completeLength);
+            }
+        } catch (IOException e) {
+            WynntilsMod.error("Failed to check journal " + journalFile + " for an incomplete entry", e);
+        }
+    }
+
+    private void apply(String key, List<String> path, JsonElement value) {
+        // Find the object holding the changed member, creating the objects leading to it
+        JsonObject parent = image;
+        String member = key;
+        for (String pathMember : path) {
+            JsonElement child = parent.get(member);
+            if (child == null || !child.isJsonObject()) {
+                if (value == null) return;
+
+                child = new JsonObject();
+                parent.add(member, child);
+            }
+
+            parent = child.getAsJsonObject();
+            member = pathMember;
+        }
+
+        if (value == null) {
+            parent.remove(member);
+        } else {
+            parent.add(member, value);
+        }
+    }
+
+    /**
+     * A change to the value at the path of object members inside the member with the key.
+     *
+     * @param path the members leading to the changed value, or an empty list if the whole member changed
+     * @param value the new value, or null if it was removed
+     */
+    public record Change(String key, List<String> path, JsonElement value) {}
+}
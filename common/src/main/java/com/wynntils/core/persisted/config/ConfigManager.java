@@ -1,5 +1,5 @@
 /*
- * Copyright © Wynntils 2022-2025.
+ * Copyright © Wynntils 2022-2026.
  * This file is released under LGPLv3. See LICENSE for full license details.
  */
 package com.wynntils.core.persisted.config;
@@ -19,6 +19,7 @@ import com.wynntils.core.consumers.overlays.DynamicOverlay;
 import com.wynntils.core.consumers.overlays.Overlay;
 import com.wynntils.core.json.JsonTypeWrapper;
 import com.wynntils.core.persisted.Persisted;
+import com.wynntils.core.persisted.PersistedJournal;
 import com.wynntils.core.persisted.PersistedOwner;
 import com.wynntils.core.persisted.PersistedValue;
 import com.wynntils.core.persisted.storage.Storage;
@@ -28,6 +29,7 @@ import com.wynntils.models.character.actionbar.segments.CharacterCreationSegment
 import com.wynntils.models.worlds.event.WorldStateEvent;
 import com.wynntils.screens.settings.ConfigProfileScreen;
 import com.wynntils.utils.JsonUtils;
+import com.wynntils.utils.TaskUtils;
 import com.wynntils.utils.mc.McUtils;
 import java.io.File;
 import java.lang.reflect.Constructor;
@@ -66,17 +68,20 @@ public final class ConfigManager extends Manager {
     public final Storage<Boolean> showWelcomeScreen = new Storage<>(true);
 
     private final File userConfigFile;
+    // Only the changed options are appended to the journal, instead of rewriting the whole config file every save
+    private final PersistedJournal journal;
     private JsonObject configObject;
 
     public ConfigManager() {
         super(List.of());
 
         userConfigFile = new File(CONFIG_DIR, UndashedUuid.toString(McUtils.getUserProfileUUID()) + FILE_SUFFIX);
+        journal = new PersistedJournal(userConfigFile);
     }
 
     public void init() {
         // First, we load the config file
-        configObject = Managers.Json.loadPreciousJson(userConfigFile);
+        configObject = journal.load();
 
         // Register all features and overlays
         Managers.Feature.getFeatures().forEach(this::registerFeature);
@@ -85,7 +90,7 @@ public final class ConfigManager extends Manager {
         // FIXME: Solve generics type issue
         Set<PersistedValue<?>> workaround = new HashSet<>(CONFIGS);
         if (Managers.Upfixer.runUpfixers(configObject, workaround, UpfixerType.CONFIG)) {
-            Managers.Json.savePreciousJson(userConfigFile, configObject);
+            journal.replace(configObject);
         }
 
         // Finish off the config init process
@@ -135,7 +140,7 @@ public final class ConfigManager extends Manager {
     }
 
     public void reloadConfiguration(boolean initOverlayGroups) {
-        configObject = Managers.Json.loadPreciousJson(userConfigFile);
+        configObject = journal.load();
         loadConfigOptions(true, initOverlayGroups);
     }
 
@@ -263,13 +268,23 @@ public final class ConfigManager extends Manager {
 
         configJson.add(OVERLAY_GROUPS_JSON_KEY, overlayGroups);
 
-        Managers.Json.savePreciousJson(userConfigFile, configJson);
+        journal.update(configJson);
+        if (journal.needsCompaction()) {
+            TaskUtils.runAsync(() -> journal.compact(jsonName -> true));
+        }
     }
 
     public File getUserConfigFile() {
         return userConfigFile;
     }
 
+    /**
+     * Writes the journaled changes into the user config file, so the file alone has the whole config.
+     */
+    public void compactUserConfigFile() {
+        journal.compact(jsonName -> true);
+    }
+
     private void saveDefaultConfig() {
         // create json object, with entry for each option of each container
         JsonObject configJson = new JsonObject();
@@ -1,11 +1,12 @@
 /*
- * Copyright © Wynntils 2023.
+ * Copyright © Wynntils 2023-2026.
  * This file is released under LGPLv3. See LICENSE for full license details.
  */
 package com.wynntils.core.persisted.storage;
 
 import com.wynntils.core.components.Managers;
 import com.wynntils.core.persisted.PersistedValue;
+import java.util.List;
 
 public class Storage<T> extends PersistedValue<T> {
     public Storage(T value) {
@@ -14,6 +15,14 @@ public class Storage<T> extends PersistedValue<T> {
 
     @Override
     public void touched() {
-        Managers.Storage.persist();
+        Managers.Storage.persist(this);
+    }
+
+    /**
+     * Marks only the value at the path of map keys inside this storage as changed, so only that value is written,
+     * instead of the whole storage. If the value was removed from its map, the removal is written.
+     */
+    public void touched(String... path) {
+        Managers.Storage.persist(this, List.of(path));
     }
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright © Wynntils 2023-2025.
+ * Copyright © Wynntils 2023-2026.
  * This file is released under LGPLv3. See LICENSE for full license details.
  */
 package com.wynntils.core.persisted.storage;
@@ -12,18 +12,23 @@ import com.wynntils.core.components.Manager;
 import com.wynntils.core.components.Managers;
 import com.wynntils.core.mod.event.WynncraftConnectionEvent;
 import com.wynntils.core.persisted.Persisted;
+import com.wynntils.core.persisted.PersistedJournal;
 import com.wynntils.core.persisted.PersistedValue;
 import com.wynntils.core.persisted.upfixers.UpfixerType;
 import com.wynntils.utils.mc.McUtils;
 import java.io.File;
 import java.lang.reflect.Field;
 import java.lang.reflect.Type;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
@@ -36,13 +41,17 @@ public final class StorageManager extends Manager {
     private static final File STORAGE_DIR = WynntilsMod.getModStorageDir("storage");
     private static final String FILE_SUFFIX = ".data.json";
     private final File userStorageFile;
+    // Changed storages are appended to the journal, instead of rewriting the whole storage file every time
+    private final PersistedJournal journal;
 
     private final ScheduledExecutorService executor = Executors.newScheduledThreadPool(1);
     private final Map<String, Storage<?>> storages = new TreeMap<>();
+    private final Map<Storage<?>, String> storageNames = new HashMap<>();
     private final Map<Storage<?>, Type> storageTypes = new HashMap<>();
     private final Map<Storage<?>, Storageable> storageOwner = new HashMap<>();
-
-    private JsonObject storageObject;
+    private final Set<Storage<?>> dirtyStorages = ConcurrentHashMap.newKeySet();
+    // Storages of which only some values changed, with the paths of map keys to those values
+    private final Map<Storage<?>, Set<List<String>>> dirtyEntries = new ConcurrentHashMap<>();
 
     private long lastPersisted;
     private boolean scheduledPersist;
@@ -53,6 +62,7 @@ public final class StorageManager extends Manager {
         super(List.of());
 
         userStorageFile = new File(STORAGE_DIR, UndashedUuid.toString(McUtils.getUserProfileUUID()) + FILE_SUFFIX);
+        journal = new PersistedJournal(userStorageFile);
 
         addShutdownHook();
     }
@@ -72,7 +82,7 @@ public final class StorageManager extends Manager {
         storageInitialized = true;
 
         // We might have missed a persist call in between feature init and storage manager init
-        persist();
+        schedulePersist();
     }
 
     public void registerStorageable(Storageable owner) {
@@ -85,12 +95,20 @@ public final class StorageManager extends Manager {
         return userStorageFile;
     }
 
+    /**
+     * Writes all storages into the user storage file, so the file alone has all of them.
+     */
+    public void compactUserStorageFile() {
+        compact();
+    }
+
     private void processStorage(Storageable owner, Field field, Persisted annotation) {
         try {
             String baseName = owner.getStorageJsonName();
             Storage<?> storage = (Storage<?>) FieldUtils.readField(field, owner, true);
             String jsonName = baseName + "." + field.getName();
             storages.put(jsonName, storage);
+            storageNames.put(storage, jsonName);
 
             Type valueType = Managers.Json.getJsonValueType(field);
             storageTypes.put(storage, valueType);
@@ -101,16 +119,32 @@ public final class StorageManager extends Manager {
     }
 
     private void addShutdownHook() {
-        Runtime.getRuntime().addShutdownHook(new Thread(this::writeToJson));
+        // Write a full snapshot, so values changed without being marked as touched are not lost
+        Runtime.getRuntime().addShutdownHook(new Thread(this::compact));
     }
 
     @SubscribeEvent
     public void onWynncraftDisconnect(WynncraftConnectionEvent.Disconnected event) {
-        // Always save when disconnecting
-        writeToJson();
+        // Always save when disconnecting, and take the chance to compact the journal
+        executor.execute(this::compact);
+    }
+
+    void persist(Storage<?> storage) {
+        dirtyStorages.add(storage);
+        schedulePersist();
     }
 
-    void persist() {
+    void persist(Storage<?> storage, List<String> path) {
+        if (path.isEmpty()) {
+            persist(storage);
+            return;
+        }
+
+        dirtyEntries.computeIfAbsent(storage, key -> ConcurrentHashMap.newKeySet()).add(path);
+        schedulePersist();
+    }
+
+    private void schedulePersist() {
         // We cannot persist before the storage is initialized, or we will overwrite our storage
         if (!storageInitialized || scheduledPersist) return;
 
@@ -121,7 +155,11 @@ public final class StorageManager extends Manager {
                 () -> {
                     scheduledPersist = false;
                     lastPersisted = System.currentTimeMillis();
-                    writeToJson();
+                    if (journal.needsCompaction()) {
+                        compact();
+                    } else {
+                        writeChanges();
+                    }
                 },
                 delay,
                 TimeUnit.MILLISECONDS);
@@ -129,20 +167,20 @@ public final class StorageManager extends Manager {
     }
 
     private void runUpfixers() {
-        storageObject = Managers.Json.loadPreciousJson(userStorageFile);
+        JsonObject storageObject = journal.load();
 
         // Now, we have to apply upfixers, before any storage loading happens
         // FIXME: Solve generics type issue
         Set<PersistedValue<?>> workaround = new HashSet<>(storages.values());
         if (Managers.Upfixer.runUpfixers(storageObject, workaround, UpfixerType.STORAGE)) {
-            Managers.Json.savePreciousJson(userStorageFile, storageObject);
+            journal.replace(storageObject);
 
             // No need to re-read the storage file after upfixing, as we're about to read it anyway
         }
     }
 
     private void readFromJson() {
-        storageObject = Managers.Json.loadPreciousJson(userStorageFile);
+        JsonObject storageObject = journal.load();
         storages.forEach((jsonName, storage) -> {
             if (!storageObject.has(jsonName)) {
                 // Even though the storage is not present in the file,
@@ -165,22 +203,94 @@ public final class StorageManager extends Manager {
         });
     }
 
-    private synchronized void writeToJson() {
-        JsonObject storageJson = new JsonObject();
+    private synchronized void writeChanges() {
+        // We cannot persist before the storage is initialized, or we will overwrite our storage
+        if (!storageInitialized) return;
+
+        Map<String, JsonElement> changes = new LinkedHashMap<>();
 
-        // Save upfixers
-        String upfixerJsonMemberName = Managers.Upfixer.UPFIXER_JSON_MEMBER_NAME;
-        storageJson.add(upfixerJsonMemberName, storageObject.get(upfixerJsonMemberName));
+        Iterator<Storage<?>> iterator = dirtyStorages.iterator();
+        while (iterator.hasNext()) {
+            Storage<?> storage = iterator.next();
+            // Remove it before serializing, so a change made while we are serializing is not lost
+            iterator.remove();
+            // The whole storage is written, which includes its changed values
+            dirtyEntries.remove(storage);
 
-        storages.forEach((jsonName, storage) -> {
-            try {
-                JsonElement jsonElem = Managers.Json.GSON.toJsonTree(storage.get(), storageTypes.get(storage));
-                storageJson.add(jsonName, jsonElem);
-            } catch (Throwable t) {
-                WynntilsMod.error("Failed to save storage " + jsonName, t);
+            String jsonName = storageNames.get(storage);
+            if (jsonName == null) continue;
+
+            serializeStorage(jsonName, storage, changes);
+        }
+
+        List<PersistedJournal.Change> journalChanges = new ArrayList<>();
+        changes.forEach(
+                (jsonName, value) -> journalChanges.add(new PersistedJournal.Change(jsonName, List.of(), value)));
+
+        Iterator<Map.Entry<Storage<?>, Set<List<String>>>> entryIterator = dirtyEntries.entrySet().iterator();
+        while (entryIterator.hasNext()) {
+            Map.Entry<Storage<?>, Set<List<String>>> entry = entryIterator.next();
+            entryIterator.remove();
+
+            String jsonName = storageNames.get(entry.getKey());
+            if (jsonName == null) continue;
+
+            for (List<String> path : entry.getValue()) {
+                serializeStorageEntry(jsonName, entry.getKey(), path, journalChanges);
             }
-        });
+        }
 
-        Managers.Json.savePreciousJson(userStorageFile, storageJson);
+        journal.append(journalChanges);
+    }
+
+    private synchronized void compact() {
+        if (!storageInitialized) return;
+
+        // Every storage is written, so the pending changes are part of the snapshot
+        dirtyStorages.clear();
+        dirtyEntries.clear();
+
+        Map<String, JsonElement> snapshot = new LinkedHashMap<>();
+        storages.forEach((jsonName, storage) -> serializeStorage(jsonName, storage, snapshot));
+
+        journal.compact(snapshot, this::shouldKeepJsonName);
+    }
+
+    private boolean shouldKeepJsonName(String jsonName) {
+        // Drop storages that no longer exist, but keep the upfixer data
+        return storages.containsKey(jsonName) || jsonName.equals(Managers.Upfixer.UPFIXER_JSON_MEMBER_NAME);
+    }
+
+    private void serializeStorage(String jsonName, Storage<?> storage, Map<String, JsonElement> values) {
+        try {
+            values.put(jsonName, Managers.Json.GSON.toJsonTree(storage.get(), storageTypes.get(storage)));
+        } catch (Throwable t) {
+            WynntilsMod.error("Failed to save storage " + jsonName, t);
+        }
+    }
+
+    private void serializeStorageEntry(
+            String jsonName, Storage<?> storage, List<String> path, List<PersistedJournal.Change> changes) {
+        // Follow the map keys the same way they are written as json member names
+        Object value = storage.get();
+        for (String key : path) {
+            if (!(value instanceof Map<?, ?> map)) {
+                value = null;
+                break;
+            }
+
+            value = map.entrySet().stream()
+                    .filter(entry -> String.valueOf(entry.getKey()).equals(key))
+                    .map(Map.Entry::getValue)
+                    .findFirst()
+                    .orElse(null);
+        }
+
+        try {
+            JsonElement json = value == null ? null : Managers.Json.GSON.toJsonTree(value);
+            changes.add(new PersistedJournal.Change(jsonName, path, json));
+        } catch (Throwable t) {
+            WynntilsMod.error("Failed to save storage " + jsonName + " at " + path, t);
+        }
     }
 }
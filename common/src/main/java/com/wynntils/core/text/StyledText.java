@@ -1,9 +1,11 @@
 /*
- * Copyright © Wynntils 2023-2025.
+ * Copyright © Wynntils 2023-2026.
  * This file is released under LGPLv3. See LICENSE for full license details.
  */
 package com.wynntils.core.text;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import com.google.common.collect.Iterables;
 import com.google.gson.JsonArray;
 import com.google.gson.JsonDeserializationContext;
@@ -15,14 +17,12 @@ import com.google.gson.JsonSerializer;
 import com.wynntils.core.text.type.StyleType;
 import com.wynntils.utils.MathUtils;
 import com.wynntils.utils.type.IterationDecision;
-import com.wynntils.utils.type.Pair;
 import java.lang.reflect.Type;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
-import java.util.Deque;
 import java.util.Iterator;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Objects;
 import java.util.function.BiFunction;
@@ -36,6 +36,7 @@ import net.minecraft.network.chat.Component;
 import net.minecraft.network.chat.HoverEvent;
 import net.minecraft.network.chat.MutableComponent;
 import net.minecraft.network.chat.Style;
+import net.minecraft.network.chat.contents.PlainTextContents;
 
 public final class StyledText implements Iterable<StyledTextPart> {
     // High surrogate characters for the positive and negative space characters
@@ -45,62 +46,79 @@ public final class StyledText implements Iterable<StyledTextPart> {
 
     public static final StyledText EMPTY = new StyledText(List.of(), List.of(), List.of());
 
+    // Interned texts are only weakly referenced, so they are collected as soon as nothing else uses them
+    private static final Cache<Component, StyledText> INTERNED_COMPONENTS =
+            CacheBuilder.newBuilder().weakValues().maximumSize(8192).build();
+
     private final List<StyledTextPart> parts;
 
     private final List<ClickEvent> clickEvents;
     private final List<HoverEvent> hoverEvents;
 
+    private String defaultString;
+    private String unformattedString;
+    private int hash;
+
     /**
      * Note: All callers of this constructor should ensure that the event lists are collected from the parts.
      * Additionally, they should ensure that the events are distinct.
      */
     private StyledText(List<StyledTextPart> parts, List<ClickEvent> clickEvents, List<HoverEvent> hoverEvents) {
-        this.parts = parts.stream()
-                .filter(styledTextPart -> !styledTextPart.isEmpty())
-                .map(styledTextPart -> new StyledTextPart(styledTextPart, this))
-                .collect(Collectors.toList());
+        List<StyledTextPart> ownParts = new ArrayList<>(parts.size());
+        for (StyledTextPart part : parts) {
+            if (part.isEmpty()) continue;
+
+            ownParts.add(new StyledTextPart(part, this));
+        }
+
+        this.parts = ownParts;
         this.clickEvents = Collections.unmodifiableList(clickEvents);
         this.hoverEvents = Collections.unmodifiableList(hoverEvents);
     }
 
-    public static StyledText fromComponent(Component component) {
-        List<StyledTextPart> parts = new ArrayList<>();
-
-        // Walk the component tree using DFS
-        // Component#visit behaves weirdly, so we do it manually
-        // Save the style of the parent component so we can inherit it
-        Deque<Pair<Component, Style>> deque = new LinkedList<>();
-
-        deque.add(new Pair<>(component, Style.EMPTY));
-
-        while (!deque.isEmpty()) {
-            Pair<Component, Style> currentPair = deque.pop();
-            Component current = currentPair.key();
-            Style parentStyle = currentPair.value();
-
-            // We use getContents here to get this and only this component's string.
-            String componentString =
-                    MutableComponent.create(current.getContents()).getString();
+    private StyledText(Builder builder) {
+        // The parts are created directly with this text as their parent, so they never need to be copied
+        StyledTextPart[] ownParts = new StyledTextPart[builder.size];
+        for (int i = 0; i < builder.size; i++) {
+            ownParts[i] = new StyledTextPart(builder.texts[i], builder.styles[i], this, builder.parentStyles[i]);
+        }
+        this.parts = Arrays.asList(ownParts);
 
-            List<StyledTextPart> styledTextParts =
-                    StyledTextPart.fromCodedString(componentString, current.getStyle(), null, parentStyle);
+        if (builder.clickEvents != null) {
+            this.clickEvents = Collections.unmodifiableList(builder.clickEvents);
+            this.hoverEvents = Collections.unmodifiableList(builder.hoverEvents);
+            return;
+        }
 
-            // Only actual styles are inherited, string formatting codes are not
-            Style styleToFollowForChildren = current.getStyle().applyTo(parentStyle);
+        // Collect the events, like fromParts does
+        List<ClickEvent> clickEvents = new ArrayList<>();
+        List<HoverEvent> hoverEvents = new ArrayList<>();
+        collectEvents(this.parts, clickEvents, hoverEvents);
+        this.clickEvents = clickEvents.isEmpty() ? List.of() : Collections.unmodifiableList(clickEvents);
+        this.hoverEvents = hoverEvents.isEmpty() ? List.of() : Collections.unmodifiableList(hoverEvents);
+    }
 
-            List<Pair<Component, Style>> siblingPairs = current.getSiblings().stream()
-                    .map(sibling -> new Pair<>(sibling, styleToFollowForChildren))
-                    .collect(Collectors.toList());
+    public static Builder builder() {
+        return new Builder();
+    }
 
-            Collections.reverse(siblingPairs);
-            siblingPairs.forEach(deque::addFirst);
+    public static StyledText fromComponent(Component component) {
+        return builder().appendComponent(component).build();
+    }
 
-            // Disallow empty parts
-            parts.addAll(
-                    styledTextParts.stream().filter(part -> !part.isEmpty()).toList());
-        }
+    /**
+     * Like {@link #fromComponent(Component)}, but reuses the {@link StyledText} of an equal component
+     * if it is still in use somewhere. This is useful for components that are re-sent with identical contents,
+     * like item names and lore.
+     * <p>Note that the component must not be modified after being passed to this method.
+     */
+    public static StyledText fromComponentInterned(Component component) {
+        StyledText interned = INTERNED_COMPONENTS.getIfPresent(component);
+        if (interned != null) return interned;
 
-        return fromParts(parts);
+        StyledText styledText = fromComponent(component);
+        INTERNED_COMPONENTS.put(component, styledText);
+        return styledText;
     }
 
     public static StyledText fromJson(JsonArray jsonArray) {
@@ -108,18 +126,14 @@ public final class StyledText implements Iterable<StyledTextPart> {
     }
 
     public static StyledText fromString(String codedString) {
-        return new StyledText(
-                StyledTextPart.fromCodedString(codedString, Style.EMPTY, null, Style.EMPTY), List.of(), List.of());
+        return builder().appendCodedString(codedString).build();
     }
 
     public static StyledText fromModifiedString(String codedString, StyledText styledText) {
-        List<HoverEvent> hoverEvents = List.copyOf(styledText.hoverEvents);
-        List<ClickEvent> clickEvents = List.copyOf(styledText.clickEvents);
-
-        return new StyledText(
-                StyledTextPart.fromCodedString(codedString, Style.EMPTY, styledText, Style.EMPTY),
-                clickEvents,
-                hoverEvents);
+        return builder()
+                .withEventsOf(styledText)
+                .appendCodedString(codedString, styledText)
+                .build();
     }
 
     public static StyledText fromUnformattedString(String unformattedString) {
@@ -136,6 +150,13 @@ public final class StyledText implements Iterable<StyledTextPart> {
         List<ClickEvent> clickEvents = new ArrayList<>();
         List<HoverEvent> hoverEvents = new ArrayList<>();
 
+        collectEvents(parts, clickEvents, hoverEvents);
+
+        return new StyledText(parts, clickEvents, hoverEvents);
+    }
+
+    private static void collectEvents(
+            List<StyledTextPart> parts, List<ClickEvent> clickEvents, List<HoverEvent> hoverEvents) {
         for (StyledTextPart part : parts) {
             ClickEvent clickEvent = part.getPartStyle().getClickEvent();
             if (clickEvent != null && !clickEvents.contains(clickEvent)) {
@@ -147,13 +168,34 @@ public final class StyledText implements Iterable<StyledTextPart> {
                 hoverEvents.add(hoverEvent);
             }
         }
-
-        return new StyledText(parts, clickEvents, hoverEvents);
     }
 
     // We don't want to expose the actual string to the outside world
     // If you need to do an operation with this string, implement it as a method
     public String getString(StyleType type) {
+        // The default and unformatted strings are used for most pattern matching, so they are cached
+        // As StyledText is immutable, a race here can at worst build the same string twice
+        if (type.equals(StyleType.DEFAULT)) {
+            String string = defaultString;
+            if (string == null) {
+                string = buildString(type);
+                defaultString = string;
+            }
+            return string;
+        }
+        if (type.equals(StyleType.NONE)) {
+            String string = unformattedString;
+            if (string == null) {
+                string = buildString(type);
+                unformattedString = string;
+            }
+            return string;
+        }
+
+        return buildString(type);
+    }
+
+    private String buildString(StyleType type) {
         StringBuilder builder = new StringBuilder();
 
         PartStyle previousStyle = null;
@@ -835,7 +877,105 @@ public final class StyledText implements Iterable<StyledTextPart> {
 
     @Override
     public int hashCode() {
-        return Objects.hash(parts, clickEvents, hoverEvents);
+        // StyledText is immutable, and is often used as a key, so only calculate the hash once
+        int h = hash;
+        if (h == 0) {
+            h = Objects.hash(parts, clickEvents, hoverEvents);
+            hash = h;
+        }
+        return h;
+    }
+
+    /**
+     * Builds a {@link StyledText} from components and coded strings. The text and style of each part
+     * is kept in arrays until {@link #build()}, so every part is only created once, directly owned by the result.
+     */
+    public static final class Builder {
+        private static final int INITIAL_CAPACITY = 8;
+
+        private String[] texts = new String[INITIAL_CAPACITY];
+        private Style[] styles = new Style[INITIAL_CAPACITY];
+        private Style[] parentStyles = new Style[INITIAL_CAPACITY];
+        private int size = 0;
+
+        // If set, these are used instead of collecting the events from the parts
+        private List<ClickEvent> clickEvents;
+        private List<HoverEvent> hoverEvents;
+
+        private final StyledTextPart.PartConsumer partConsumer = this::appendPart;
+        private final ArrayDeque<Component> componentStack = new ArrayDeque<>();
+        private final ArrayDeque<Style> parentStyleStack = new ArrayDeque<>();
+
+        private Builder() {}
+
+        public Builder appendComponent(Component component) {
+            // Walk the component tree using DFS
+            // Component#visit behaves weirdly, so we do it manually
+            // Save the style of the parent component so we can inherit it
+            componentStack.push(component);
+            parentStyleStack.push(Style.EMPTY);
+
+            while (!componentStack.isEmpty()) {
+                Component current = componentStack.pop();
+                Style parentStyle = parentStyleStack.pop();
+
+                // We only want this and only this component's string, not the siblings'
+                String componentString = current.getContents() instanceof PlainTextContents plainTextContents
+                        ? plainTextContents.text()
+                        : MutableComponent.create(current.getContents()).getString();
+
+                StyledTextPart.parseCodedString(componentString, current.getStyle(), null, parentStyle, partConsumer);
+
+                // Only actual styles are inherited, string formatting codes are not
+                Style styleToFollowForChildren = current.getStyle().applyTo(parentStyle);
+
+                // Push the siblings in reverse order, so they are visited in order
+                List<Component> siblings = current.getSiblings();
+                for (int i = siblings.size() - 1; i >= 0; i--) {
+                    componentStack.push(siblings.get(i));
+                    parentStyleStack.push(styleToFollowForChildren);
+                }
+            }
+
+            return this;
+        }
+
+        public Builder appendCodedString(String codedString) {
+            StyledTextPart.parseCodedString(codedString, Style.EMPTY, null, Style.EMPTY, partConsumer);
+            return this;
+        }
+
+        Builder appendCodedString(String codedString, StyledText eventSource) {
+            StyledTextPart.parseCodedString(codedString, Style.EMPTY, eventSource, Style.EMPTY, partConsumer);
+            return this;
+        }
+
+        Builder withEventsOf(StyledText styledText) {
+            this.clickEvents = List.copyOf(styledText.clickEvents);
+            this.hoverEvents = List.copyOf(styledText.hoverEvents);
+            return this;
+        }
+
+        public StyledText build() {
+            return new StyledText(this);
+        }
+
+        private void appendPart(String text, Style style, Style parentStyle) {
+            // Disallow empty parts
+            if (text.isEmpty()) return;
+
+            if (size == texts.length) {
+                int newCapacity = size * 2;
+                texts = Arrays.copyOf(texts, newCapacity);
+                styles = Arrays.copyOf(styles, newCapacity);
+                parentStyles = Arrays.copyOf(parentStyles, newCapacity);
+            }
+
+            texts[size] = text;
+            styles[size] = style;
+            parentStyles[size] = parentStyle;
+            size++;
+        }
     }
 
     public static class StyledTextSerializer implements JsonSerializer<StyledText>, JsonDeserializer<StyledText> {
@@ -58,11 +58,32 @@ public final class StyledTextPart {
     // It is separate from the constructor because this only needs to be applied in cases there the text could have
     // formatting codes
     static List<StyledTextPart> fromCodedString(String codedString, Style style, StyledText parent, Style parentStyle) {
+        List<StyledTextPart> parts = new ArrayList<>();
+        parseCodedString(
+                codedString,
+                style,
+                parent,
+                parentStyle,
+                (text, partStyle, partParentStyle) ->
+                        parts.add(new StyledTextPart(text, partStyle, null, partParentStyle)));
+        return parts;
+    }
+
+    // Parses the coded string, and passes the text and style of each part to the consumer,
+    // without creating any intermediate StyledTextParts
+    static void parseCodedString(
+            String codedString, Style style, StyledText parent, Style parentStyle, PartConsumer consumer) {
+        // Fast path: without any formatting codes, the whole string is a single part with the given style
+        if (codedString.indexOf(ChatFormatting.PREFIX_CODE) == -1) {
+            if (!codedString.isEmpty()) {
+                consumer.accept(codedString, style, parentStyle);
+            }
+            return;
+        }
+
         // When we have a style, but the text has formatting codes,
         // we need to apply the formatting codes to the style
         // This means that the actual style applies first; then the formatting codes
-        List<StyledTextPart> parts = new ArrayList<>();
-
         Style currentStyle = style;
         StringBuilder currentString = new StringBuilder();
 
@@ -124,7 +145,7 @@ public final class StyledTextPart {
                     }
                     // But if the style is empty, we might have parsed events from the string itself
 
-                    parts.add(new StyledTextPart(currentString.toString(), currentStyle, null, parentStyle));
+                    consumer.accept(currentString.toString(), currentStyle, parentStyle);
 
                     // reset string
                     // style is not reset, because we want to keep the formatting
@@ -163,7 +184,7 @@ public final class StyledTextPart {
                             }
                             // But if the style is empty, we might have parsed events from the string itself
 
-                            parts.add(new StyledTextPart(currentString.toString(), currentStyle, null, parentStyle));
+                            consumer.accept(currentString.toString(), currentStyle, parentStyle);
 
                             // reset string
                             // style is not reset, because we want to keep the formatting
@@ -216,7 +237,7 @@ public final class StyledTextPart {
                             }
                             // But if the style is empty, we might have parsed events from the string itself
 
-                            parts.add(new StyledTextPart(currentString.toString(), currentStyle, null, parentStyle));
+                            consumer.accept(currentString.toString(), currentStyle, parentStyle);
 
                             // reset string
                             // style is not reset, because we want to keep the formatting
@@ -279,7 +300,7 @@ public final class StyledTextPart {
                         }
                         // But if the style is empty, we might have parsed events from the string itself
 
-                        parts.add(new StyledTextPart(currentString.toString(), oldStyle, null, parentStyle));
+                        consumer.accept(currentString.toString(), oldStyle, parentStyle);
 
                         // reset string
                         // style is not reset, because we want to keep the formatting
@@ -324,7 +345,7 @@ public final class StyledTextPart {
                         }
                         // But if the style is empty, we might have parsed events from the string itself
 
-                        parts.add(new StyledTextPart(currentString.toString(), currentStyle, null, parentStyle));
+                        consumer.accept(currentString.toString(), currentStyle, parentStyle);
 
                         // reset string
                         // style is not reset, because we want to keep the formatting
@@ -353,10 +374,8 @@ public final class StyledTextPart {
                 currentStyle =
                         currentStyle.withClickEvent(style.getClickEvent()).withHoverEvent(style.getHoverEvent());
             }
-            parts.add(new StyledTextPart(currentString.toString(), currentStyle, null, parentStyle));
+            consumer.accept(currentString.toString(), currentStyle, parentStyle);
         }
-
-        return parts;
     }
 
     // This will convert our JSON format that we use for parsed HTML from the API
@@ -462,6 +481,11 @@ public final class StyledTextPart {
         return text.length();
     }
 
+    @FunctionalInterface
+    interface PartConsumer {
+        void accept(String text, Style style, Style parentStyle);
+    }
+
     @Override
     public String toString() {
         return "StyledTextPart[" + "text=" + text + ", " + "style=" + style + ']';
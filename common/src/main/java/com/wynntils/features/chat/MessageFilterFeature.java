@@ -10,12 +10,12 @@ import com.wynntils.core.persisted.Persisted;
 import com.wynntils.core.persisted.config.Category;
 import com.wynntils.core.persisted.config.Config;
 import com.wynntils.core.persisted.config.ConfigCategory;
-import com.wynntils.core.text.StyledText;
 import com.wynntils.handlers.chat.event.ChatMessageEvent;
+import com.wynntils.handlers.chat.type.ChatPattern;
 import com.wynntils.handlers.chat.type.MessageType;
-import com.wynntils.utils.mc.StyledTextUtils;
 import com.wynntils.utils.type.Pair;
 import java.util.List;
+import java.util.function.Function;
 import java.util.regex.Pattern;
 import net.neoforged.bus.api.SubscribeEvent;
 
@@ -27,7 +27,7 @@ public class MessageFilterFeature extends Feature {
     // By policy, we should never filter out any promotional messages from Wynncraft.
     // We do not want to harm their ability to make money and sustain the site.
 
-    private static final List<Pair<Pattern, Pattern>> WELCOME = List.of(
+    private static final List<Pair<ChatPattern, ChatPattern>> WELCOME = toChatPatterns(ChatPattern::of, List.of(
             Pair.of(Pattern.compile("^§7Loading Resource Pack\\.\\.\\.$"), null),
             Pair.of(Pattern.compile("^§6Thank you for using the WynnPack\\. Enjoy the game!$"), null),
             Pair.of(
@@ -35,7 +35,7 @@ public class MessageFilterFeature extends Feature {
                             "^§cSelect a character! Each character is saved individually across all servers, you can come back at any time with /class and select another character!$"),
                     null),
             Pair.of(Pattern.compile("^ +§6§lWelcome to Wynncraft!$"), null),
-            Pair.of(Pattern.compile("^ +§fplay\\.wynncraft\\.com §7-/-§f wynncraft\\.com$"), null));
+            Pair.of(Pattern.compile("^ +§fplay\\.wynncraft\\.com §7-/-§f wynncraft\\.com$"), null)));
 
     // Test in MessageFilterFeature_SYSTEM_INFO_FG
     private static final Pattern SYSTEM_INFO_FG =
@@ -43,15 +43,16 @@ public class MessageFilterFeature extends Feature {
     // Test in MessageFilterFeature_SYSTEM_INFO_BG
     private static final Pattern SYSTEM_INFO_BG =
             Pattern.compile("^§#c0c0c0ff(\uE01B\uE002|\uE001) .+$", Pattern.DOTALL);
-    private static final List<Pair<Pattern, Pattern>> SYSTEM_INFO = List.of(Pair.of(SYSTEM_INFO_FG, SYSTEM_INFO_BG));
+    private static final List<Pair<ChatPattern, ChatPattern>> SYSTEM_INFO =
+            toChatPatterns(ChatPattern::ofUnwrapped, List.of(Pair.of(SYSTEM_INFO_FG, SYSTEM_INFO_BG)));
 
-    private static final List<Pair<Pattern, Pattern>> LEVEL_UP = List.of(
+    private static final List<Pair<ChatPattern, ChatPattern>> LEVEL_UP = toChatPatterns(ChatPattern::of, List.of(
             Pair.of(
                     Pattern.compile("^§6.* is now (?:combat )?level .*(?: in §.*)?$"),
                     Pattern.compile("^(?:§8)?.* is now (?:combat )?level .*(?: in §.*)?$")),
             Pair.of(
                     Pattern.compile("^§8\\[§7!§8\\] §7Congratulations to (§r)?.* for reaching (combat )?§flevel .*!$"),
-                    Pattern.compile("^(§8)?\\[!\\] Congratulations to (§r)?.* for reaching (combat )?§7level .*!$")));
+                    Pattern.compile("^(§8)?\\[!\\] Congratulations to (§r)?.* for reaching (combat )?§7level .*!$"))));
 
     // Test in MessageFilterFeature_PARTY_FINDER_FG
     private static final Pattern PARTY_FINDER_FG = Pattern.compile(
@@ -59,7 +60,8 @@ public class MessageFilterFeature extends Feature {
     // Test in MessageFilterFeature_PARTY_FINDER_BG
     private static final Pattern PARTY_FINDER_BG = Pattern.compile(
             "^§8(\uE00A\uE002|\uE001) Party Finder: Hey (§o)?[\\w ]{1,20}(§r§8)?, over here! Join the [a-zA-Z' ]+ queue and match up with \\d{1,2} other players?!$");
-    private static final List<Pair<Pattern, Pattern>> PARTY_FINDER = List.of(Pair.of(PARTY_FINDER_FG, PARTY_FINDER_BG));
+    private static final List<Pair<ChatPattern, ChatPattern>> PARTY_FINDER =
+            toChatPatterns(ChatPattern::ofUnwrapped, List.of(Pair.of(PARTY_FINDER_FG, PARTY_FINDER_BG)));
 
     @Persisted
     private final Config<Boolean> hideWelcome = new Config<>(false);
@@ -79,39 +81,34 @@ public class MessageFilterFeature extends Feature {
 
     @SubscribeEvent
     public void onMessage(ChatMessageEvent.Match e) {
-        StyledText msg = e.getMessage();
-        MessageType messageType = e.getMessageType();
-
-        if (hideWelcome.get() && processFilter(msg, messageType, WELCOME)) {
+        if (hideWelcome.get() && processFilter(e, WELCOME)) {
             e.cancelChat();
             return;
         }
 
-        if (hideLevelUp.get() && processFilter(msg, messageType, LEVEL_UP)) {
+        if (hideLevelUp.get() && processFilter(e, LEVEL_UP)) {
             e.cancelChat();
             return;
         }
 
-        StyledText unwrapped = StyledTextUtils.unwrap(msg).stripAlignment();
-
-        if (hideSystemInfo.get() && processFilter(unwrapped, messageType, SYSTEM_INFO)) {
+        if (hideSystemInfo.get() && processFilter(e, SYSTEM_INFO)) {
             e.cancelChat();
             return;
         }
 
-        if (hidePartyFinder.get() && processFilter(unwrapped, messageType, PARTY_FINDER)) {
+        if (hidePartyFinder.get() && processFilter(e, PARTY_FINDER)) {
             e.cancelChat();
             return;
         }
     }
 
-    private boolean processFilter(StyledText msg, MessageType messageType, List<Pair<Pattern, Pattern>> patternMap) {
-        for (Pair<Pattern, Pattern> pair : patternMap) {
-            Pattern pattern = getPattern(pair, messageType);
+    private boolean processFilter(ChatMessageEvent.Match e, List<Pair<ChatPattern, ChatPattern>> patternMap) {
+        for (Pair<ChatPattern, ChatPattern> pair : patternMap) {
+            ChatPattern pattern = getPattern(pair, e.getMessageType());
             if (pattern == null) {
                 continue;
             }
-            if (msg.getMatcher(pattern).find()) {
+            if (e.matches(pattern)) {
                 return true;
             }
         }
@@ -122,10 +119,20 @@ public class MessageFilterFeature extends Feature {
      * Returns the pattern by the given messageType. If that pattern does not exist (null), returns the pattern for the
      * other messageType instead.
      */
-    private Pattern getPattern(Pair<Pattern, Pattern> p, MessageType messageType) {
+    private ChatPattern getPattern(Pair<ChatPattern, ChatPattern> p, MessageType messageType) {
         return switch (messageType) {
             case FOREGROUND -> p.a();
             case BACKGROUND -> p.b();
         };
     }
+
+    // All filters are anchored on both ends, so matching the whole message is the same as finding them in it
+    private static List<Pair<ChatPattern, ChatPattern>> toChatPatterns(
+            Function<Pattern, ChatPattern> factory, List<Pair<Pattern, Pattern>> patterns) {
+        return patterns.stream()
+                .map(pair -> Pair.of(
+                        pair.a() == null ? null : factory.apply(pair.a()),
+                        pair.b() == null ? null : factory.apply(pair.b())))
+                .toList();
+    }
 }
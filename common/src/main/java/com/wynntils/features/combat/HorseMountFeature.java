@@ -17,12 +17,15 @@ import com.wynntils.core.persisted.config.Config;
 import com.wynntils.core.persisted.config.ConfigCategory;
 import com.wynntils.core.persisted.config.ConfigProfile;
 import com.wynntils.handlers.chat.event.ChatMessageEvent;
+import com.wynntils.handlers.chat.type.ChatPattern;
 import com.wynntils.mc.event.UseItemEvent;
 import com.wynntils.models.items.items.game.HorseItem;
 import com.wynntils.utils.mc.McUtils;
 import com.wynntils.utils.mc.MouseUtils;
 import java.util.List;
 import java.util.Optional;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
 import net.minecraft.ChatFormatting;
 import net.minecraft.client.player.LocalPlayer;
 import net.minecraft.network.chat.Component;
@@ -44,14 +47,17 @@ public class HorseMountFeature extends Feature {
     private static final int SEARCH_RADIUS = 6; // Furthest blocks away from which we can interact with a horse
     private static final int SUMMON_DELAY_TICKS = 6;
 
-    private static final List<String> HORSE_ERROR_MESSAGES = List.of(
-            "There is no room for a horse.",
-            "Your horse is scared to come out right now, too many mobs are nearby.",
-            "You cannot interact with your horse at the moment.",
-            "You cannot use your horse here!",
-            "Your horse spawn was disabled (in vanish)!",
-            "You can not use a horse while in war.",
-            "You cannot use your vehicle here!");
+    // One pattern per message, so each can be prefiltered by the text it contains
+    private static final List<ChatPattern> HORSE_ERROR_MESSAGES = Stream.of(
+                    "There is no room for a horse\\.",
+                    "Your horse is scared to come out right now, too many mobs are nearby\\.",
+                    "You cannot interact with your horse at the moment\\.",
+                    "You cannot use your horse here!",
+                    "Your horse spawn was disabled \\(in vanish\\)!",
+                    "You can not use a horse while in war\\.",
+                    "You cannot use your vehicle here!")
+            .map(message -> ChatPattern.of(Pattern.compile(".*" + message + ".*", Pattern.DOTALL)))
+            .toList();
 
     private int prevItem = -1;
     private boolean alreadySetPrevItem = false;
@@ -90,8 +96,7 @@ public class HorseMountFeature extends Feature {
 
     @SubscribeEvent
     public void onChatReceived(ChatMessageEvent.Match e) {
-        cancelMountingHorse = HORSE_ERROR_MESSAGES.stream()
-                .anyMatch(msg -> e.getMessage().getString().contains(msg));
+        cancelMountingHorse = HORSE_ERROR_MESSAGES.stream().anyMatch(e::matches);
     }
 
     private void mountHorse() {
@@ -1,9 +1,10 @@
 /*
- * Copyright © Wynntils 2025.
+ * Copyright © Wynntils 2025-2026.
  * This file is released under LGPLv3. See LICENSE for full license details.
  */
 package com.wynntils.features.embellishments;
 
+import com.wynntils.core.components.Handlers;
 import com.wynntils.core.components.Models;
 import com.wynntils.core.consumers.features.Feature;
 import com.wynntils.core.consumers.features.ProfileDefault;
@@ -31,6 +32,21 @@ public class RemoveShinyGlintFeature extends Feature {
         super(ProfileDefault.DISABLED);
     }
 
+    @Override
+    public void onEnable() {
+        Handlers.Item.invalidateComponentOverrides();
+    }
+
+    @Override
+    public void onDisable() {
+        Handlers.Item.invalidateComponentOverrides();
+    }
+
+    @Override
+    protected void onConfigUpdate(Config<?> config) {
+        Handlers.Item.invalidateComponentOverrides();
+    }
+
     // Weapons use potion color
     @SubscribeEvent
     public void onGetPotionContents(DataComponentGetEvent.PotionContents event) {
@@ -10,10 +10,11 @@ import com.wynntils.core.persisted.Persisted;
 import com.wynntils.core.persisted.config.Category;
 import com.wynntils.core.persisted.config.Config;
 import com.wynntils.core.persisted.config.ConfigCategory;
-import com.wynntils.core.text.StyledText;
 import com.wynntils.handlers.chat.event.ChatMessageEvent;
+import com.wynntils.handlers.chat.type.ChatPattern;
 import com.wynntils.handlers.chat.type.RecipientType;
 import com.wynntils.utils.mc.McUtils;
+import java.util.regex.Pattern;
 import net.minecraft.resources.Identifier;
 import net.minecraft.sounds.SoundEvent;
 import net.neoforged.bus.api.SubscribeEvent;
@@ -26,6 +27,9 @@ public class WybelSoundFeature extends Feature {
     private static final Identifier WYBEL_PURR_ID = Identifier.fromNamespaceAndPath("wynntils", "wybel.purr");
     private static final SoundEvent WYBEL_PURR_SOUND = SoundEvent.createVariableRangeEvent(WYBEL_PURR_ID);
 
+    private static final ChatPattern SQUEAK = ChatPattern.of(Pattern.compile(".*squeak.*", Pattern.DOTALL));
+    private static final ChatPattern PURR = ChatPattern.of(Pattern.compile(".*purr.*", Pattern.DOTALL));
+
     @Persisted
     private final Config<Boolean> hideText = new Config<>(false);
 
@@ -37,14 +41,13 @@ public class WybelSoundFeature extends Feature {
     public void onChat(ChatMessageEvent.Match event) {
         if (event.getRecipientType() != RecipientType.PETS) return;
 
-        StyledText message = event.getMessage();
-        if (message.contains("squeak")) {
+        if (event.matches(SQUEAK)) {
             McUtils.playSoundAmbient(WYBEL_SQUEAK_SOUND);
             if (hideText.get()) {
                 event.cancelChat();
             }
         }
-        if (message.contains("purr")) {
+        if (event.matches(PURR)) {
             McUtils.playSoundAmbient(WYBEL_PURR_SOUND);
             if (hideText.get()) {
                 event.cancelChat();
@@ -39,6 +39,8 @@ import com.wynntils.models.containers.containers.personal.IslandBlockBankContain
 import com.wynntils.models.containers.containers.personal.MiscBucketContainer;
 import com.wynntils.models.containers.containers.personal.PersonalBlockBankContainer;
 import com.wynntils.models.containers.containers.personal.PersonalStorageContainer;
+import com.wynntils.models.containers.type.BankItemLocation;
+import com.wynntils.models.containers.type.PersonalStorageType;
 import com.wynntils.models.containers.type.SearchableContainerProperty;
 import com.wynntils.models.items.WynnItem;
 import com.wynntils.models.items.WynnItemData;
@@ -53,13 +55,22 @@ import com.wynntils.utils.mc.KeyboardUtils;
 import com.wynntils.utils.mc.McUtils;
 import com.wynntils.utils.render.RenderUtils;
 import com.wynntils.utils.wynn.ContainerUtils;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Locale;
 import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
 import java.util.function.Supplier;
 import java.util.regex.Pattern;
+import net.minecraft.ChatFormatting;
 import net.minecraft.client.gui.screens.Screen;
 import net.minecraft.client.gui.screens.inventory.AbstractContainerScreen;
+import net.minecraft.network.chat.Component;
+import net.minecraft.network.chat.MutableComponent;
 import net.minecraft.world.Container;
 import net.minecraft.world.inventory.ChestMenu;
 import net.minecraft.world.item.ItemStack;
@@ -108,6 +119,9 @@ public class ContainerSearchFeature extends Feature {
     @Persisted
     private final Config<Boolean> filterInJukebox = new Config<>(true);
 
+    @Persisted
+    private final Config<Boolean> searchViewedBankPages = new Config<>(true);
+
     @Persisted
     private final Config<CustomColor> highlightColor = new Config<>(CommonColors.MAGENTA);
 
@@ -134,6 +148,8 @@ public class ContainerSearchFeature extends Feature {
     // some items are updated and some are not. We will assume that after SEARCH_DELAY_MS milliseconds, the inventory
     // is fully updated.
     private static final int GUILD_BANK_SEARCH_DELAY = 500;
+    // The number of pages listed when reporting the matches on viewed pages
+    private static final int MAX_REPORTED_PAGES = 8;
     private long guildBankLastSearch = 0;
 
     private SearchWidget lastSearchWidget;
@@ -142,6 +158,9 @@ public class ContainerSearchFeature extends Feature {
     private boolean matchedItems = false;
     private int direction = 0;
     private ItemSearchQuery lastSearchQuery;
+    // The pages of the current storage with matches when they were last viewed
+    private NavigableSet<Integer> viewedMatchingPages = new TreeSet<>();
+    private int viewedPageJumpTarget = -1;
 
     public ContainerSearchFeature() {
         super(new ProfileDefault.Builder()
@@ -149,6 +168,23 @@ public class ContainerSearchFeature extends Feature {
                 .build());
     }
 
+    @Override
+    public void onEnable() {
+        Models.Bank.setPageSnapshotsEnabled(searchViewedBankPages.get());
+    }
+
+    @Override
+    public void onDisable() {
+        Models.Bank.setPageSnapshotsEnabled(false);
+    }
+
+    @Override
+    protected void onConfigUpdate(Config<?> config) {
+        if (config.getFieldName().equals("searchViewedBankPages")) {
+            Models.Bank.setPageSnapshotsEnabled(isEnabled() && searchViewedBankPages.get());
+        }
+    }
+
     @SubscribeEvent
     public void onScreenInit(ScreenInitEvent.Pre event) {
         if (!(event.getScreen() instanceof AbstractContainerScreen<?> screen)) return;
@@ -216,6 +252,8 @@ public class ContainerSearchFeature extends Feature {
         matchedItems = false;
         direction = 0;
         guildBankLastSearch = 0;
+        viewedMatchingPages = new TreeSet<>();
+        viewedPageJumpTarget = -1;
     }
 
     @SubscribeEvent
@@ -254,6 +292,8 @@ public class ContainerSearchFeature extends Feature {
             }
 
             autoSearching = true;
+            viewedPageJumpTarget = -1;
+            viewedMatchingPages = findViewedMatchingPages();
 
             if (KeyboardUtils.isShiftDown() && currentContainer instanceof PersonalStorageContainer) {
                 ContainerUtils.pressKeyOnSlot(
@@ -280,6 +320,8 @@ public class ContainerSearchFeature extends Feature {
             guildBankLastSearch = System.currentTimeMillis();
         }
 
+        if (tryJumpToViewedMatchingPage()) return;
+
         int slot = direction == 1 ? currentContainer.getNextItemSlot() : currentContainer.getPreviousItemSlot();
 
         StyledText name = StyledText.fromComponent(
@@ -300,6 +342,136 @@ public class ContainerSearchFeature extends Feature {
                 abstractContainerScreen.getMenu().getItems());
     }
 
+    /**
+     * Jumps past the pages in the search direction which had no matching items when they were last viewed, instead
+     * of going through them. Pages which were not viewed yet are never skipped.
+     *
+     * @return true if a jump is in progress, or no remaining page has matching items
+     */
+    private boolean tryJumpToViewedMatchingPage() {
+        if (!(currentContainer instanceof PersonalStorageContainer personalStorageContainer)) return false;
+        if (!searchViewedBankPages.get() || lastSearchQuery == null || lastSearchQuery.isEmpty()) return false;
+
+        PersonalStorageUtilitiesFeature storageUtilities =
+                Managers.Feature.getFeatureInstance(PersonalStorageUtilitiesFeature.class);
+        if (!storageUtilities.isEnabled()) return false;
+
+        int currentPage = Models.Bank.getCurrentPage();
+
+        // Let the jump finish, the pages in between are still searched as they are shown
+        if (viewedPageJumpTarget != -1 && viewedPageJumpTarget != currentPage) return true;
+        viewedPageJumpTarget = -1;
+
+        // Only a page with a snapshot without matches can be skipped, any other page has to be searched
+        Set<Integer> viewedPages = Models.Bank.getSnapshotPages(personalStorageContainer.getPersonalStorageType());
+        int finalPage = Models.Bank.getFinalPage();
+        int targetPage = currentPage + direction;
+        while (targetPage >= 1
+                && targetPage <= finalPage
+                && viewedPages.contains(targetPage)
+                && !viewedMatchingPages.contains(targetPage)) {
+            targetPage += direction;
+        }
+
+        if (targetPage < 1 || targetPage > finalPage) {
+            // None of the remaining pages had matching items
+            autoSearching = false;
+            return true;
+        }
+
+        // Nothing is skipped, so step to the next page as usual
+        if (targetPage == currentPage + direction) return false;
+
+        viewedPageJumpTarget = targetPage;
+        storageUtilities.jumpToDestination(targetPage);
+        return true;
+    }
+
+    /**
+     * Searches the snapshots of all viewed bank pages, tells the user where matching items are, and returns the
+     * matching pages of the current storage.
+     */
+    private NavigableSet<Integer> findViewedMatchingPages() {
+        NavigableSet<Integer> currentStoragePages = new TreeSet<>();
+
+        if (!searchViewedBankPages.get()) return currentStoragePages;
+        if (lastSearchQuery == null || lastSearchQuery.isEmpty()) return currentStoragePages;
+        if (!(currentContainer instanceof PersonalStorageContainer personalStorageContainer)) {
+            return currentStoragePages;
+        }
+
+        String characterId = Models.Character.getId();
+
+        // The matching item count of each page, in the order the storages and pages were indexed
+        Map<ViewedPage, Integer> matchCounts = new LinkedHashMap<>();
+        for (BankItemLocation location : Models.Bank.getSnapshotItems()) {
+            if (!Services.ItemFilter.matches(lastSearchQuery, location.wynnItem(), location.name())) continue;
+
+            boolean currentStorage = location.storageType() == personalStorageContainer.getPersonalStorageType()
+                    && (location.characterId() == null || Objects.equals(location.characterId(), characterId));
+            if (currentStorage) {
+                currentStoragePages.add(location.page());
+            }
+
+            ViewedPage viewedPage = new ViewedPage(location.storageType(), location.characterId(), location.page());
+            matchCounts.merge(viewedPage, 1, Integer::sum);
+        }
+
+        if (matchCounts.isEmpty()) {
+            McUtils.sendMessageToClient(Component.translatable("feature.wynntils.containerSearch.viewedPages.none")
+                    .withStyle(ChatFormatting.GRAY));
+            return currentStoragePages;
+        }
+
+        MutableComponent locations = Component.empty();
+        Map<String, Integer> otherCharacterNumbers = new HashMap<>();
+        int reportedPages = 0;
+        for (Map.Entry<ViewedPage, Integer> entry : matchCounts.entrySet()) {
+            if (reportedPages == MAX_REPORTED_PAGES) {
+                locations.append(Component.literal(", ..."));
+                break;
+            }
+
+            if (reportedPages > 0) {
+                locations.append(Component.literal(", "));
+            }
+            locations.append(Component.translatable(
+                    "feature.wynntils.containerSearch.viewedPages.location",
+                    getStorageName(entry.getKey(), characterId, otherCharacterNumbers),
+                    entry.getKey().page(),
+                    entry.getValue()));
+            reportedPages++;
+        }
+
+        McUtils.sendMessageToClient(Component.translatable(
+                        "feature.wynntils.containerSearch.viewedPages.matches", locations)
+                .withStyle(ChatFormatting.GRAY));
+
+        return currentStoragePages;
+    }
+
+    private static Component getStorageName(
+            ViewedPage viewedPage, String characterId, Map<String, Integer> otherCharacterNumbers) {
+        if (viewedPage.storageType() == PersonalStorageType.CHARACTER_BANK
+                && !Objects.equals(characterId, viewedPage.characterId())) {
+            // Character ids can not be shown, so the other characters are numbered in the order they are reported
+            int characterNumber = otherCharacterNumbers.computeIfAbsent(
+                    viewedPage.characterId(), id -> otherCharacterNumbers.size() + 1);
+            return Component.translatable(
+                    "feature.wynntils.containerSearch.viewedPages.otherCharacterBank", characterNumber);
+        }
+
+        String storageName =
+                switch (viewedPage.storageType()) {
+                    case ACCOUNT_BANK -> "accountBank";
+                    case BLOCK_BANK -> "blockBank";
+                    case BOOKSHELF -> "bookshelf";
+                    case CHARACTER_BANK -> "characterBank";
+                    case MISC_BUCKET -> "miscBucket";
+                };
+        return Component.translatable("feature.wynntils.containerSearch.viewedPages." + storageName);
+    }
+
     private SearchableContainerProperty getCurrentSearchableContainer() {
         if (Models.Container.getCurrentContainer() instanceof SearchableContainerProperty searchableContainer) {
             for (Map.Entry<Class<? extends SearchableContainerProperty>, Supplier<Boolean>> entry :
@@ -424,4 +596,7 @@ public class ContainerSearchFeature extends Feature {
             }
         }
     }
+
+    // A page of a storage, with the character owning it for character banks
+    private record ViewedPage(PersonalStorageType storageType, String characterId, int page) {}
 }
@@ -4,6 +4,7 @@
  */
 package com.wynntils.features.inventory;
 
+import com.wynntils.core.components.Handlers;
 import com.wynntils.core.components.Models;
 import com.wynntils.core.consumers.features.Feature;
 import com.wynntils.core.consumers.features.ProfileDefault;
@@ -163,6 +164,16 @@ public class ItemHighlightFeature extends Feature {
                 .build());
     }
 
+    @Override
+    public void onEnable() {
+        Handlers.Item.invalidateComponentOverrides();
+    }
+
+    @Override
+    public void onDisable() {
+        Handlers.Item.invalidateComponentOverrides();
+    }
+
     @SubscribeEvent(priority = EventPriority.HIGH)
     public void onRenderSlot(SlotRenderEvent.Pre e) {
         if (!inventoryHighlightEnabled.get()) return;
@@ -46,6 +46,10 @@ import net.neoforged.bus.api.SubscribeEvent;
 
 @ConfigCategory(Category.MAP)
 public class MainMapFeature extends Feature {
+    // In megabytes, the map needs a few tiles at once to be usable, and the textures must fit into video memory
+    public static final int MIN_MAP_TEXTURE_MEMORY_BUDGET = 16;
+    public static final int MAX_MAP_TEXTURE_MEMORY_BUDGET = 1024;
+
     @Persisted
     public final HiddenConfig<List<CustomPoi>> customPois = new HiddenConfig<>(new ArrayList<>());
 
@@ -118,6 +122,9 @@ public class MainMapFeature extends Feature {
     @Persisted
     public final Config<Boolean> holdGuildMapOpen = new Config<>(true);
 
+    @Persisted
+    public final Config<Integer> mapTextureMemoryBudget = new Config<>(64);
+
     private BlockPos lastChestPos;
 
     @RegisterKeyBind
@@ -211,6 +218,12 @@ public class MainMapFeature extends Feature {
     protected void onConfigUpdate(Config<?> config) {
         if (config == customPois) {
             updateWaypoints();
+        } else if (config == mapTextureMemoryBudget) {
+            int memoryBudget = mapTextureMemoryBudget.get();
+            int clampedBudget = Math.clamp(memoryBudget, MIN_MAP_TEXTURE_MEMORY_BUDGET, MAX_MAP_TEXTURE_MEMORY_BUDGET);
+            if (clampedBudget != memoryBudget) {
+                mapTextureMemoryBudget.setValue(clampedBudget);
+            }
         }
     }
 
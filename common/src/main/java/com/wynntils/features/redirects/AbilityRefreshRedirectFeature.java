@@ -10,14 +10,15 @@ import com.wynntils.core.consumers.features.ProfileDefault;
 import com.wynntils.core.persisted.config.Category;
 import com.wynntils.core.persisted.config.ConfigCategory;
 import com.wynntils.core.persisted.config.ConfigProfile;
-import com.wynntils.core.text.type.StyleType;
 import com.wynntils.handlers.chat.event.ChatMessageEvent;
+import com.wynntils.handlers.chat.type.ChatPattern;
 import java.util.regex.Pattern;
 import net.neoforged.bus.api.SubscribeEvent;
 
 @ConfigCategory(Category.REDIRECTS)
 public class AbilityRefreshRedirectFeature extends Feature {
-    private static final Pattern REFRESH_PATTERN = Pattern.compile("\\[⬤\\] (.+) has been refreshed!");
+    private static final ChatPattern REFRESH =
+            ChatPattern.ofUnformatted(Pattern.compile("\\[⬤\\] (.+) has been refreshed!"));
 
     public AbilityRefreshRedirectFeature() {
         super(new ProfileDefault.Builder()
@@ -27,7 +28,7 @@ public class AbilityRefreshRedirectFeature extends Feature {
 
     @SubscribeEvent
     public void onChat(ChatMessageEvent.Match event) {
-        if (event.getMessage().matches(REFRESH_PATTERN, StyleType.NONE)) {
+        if (event.matches(REFRESH)) {
             event.cancelChat();
             Managers.Notification.queueMessage(event.getMessage());
         }
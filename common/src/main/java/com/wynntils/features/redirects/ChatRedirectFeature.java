@@ -14,14 +14,18 @@ import com.wynntils.core.persisted.config.ConfigCategory;
 import com.wynntils.core.persisted.config.ConfigProfile;
 import com.wynntils.core.text.StyledText;
 import com.wynntils.handlers.chat.event.ChatMessageEvent;
+import com.wynntils.handlers.chat.type.ChatPattern;
 import com.wynntils.handlers.chat.type.MessageType;
 import com.wynntils.models.players.type.PlayerRank;
 import com.wynntils.utils.StringUtils;
-import com.wynntils.utils.mc.StyledTextUtils;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.HashMap;
 import java.util.List;
-import java.util.regex.Matcher;
+import java.util.Map;
+import java.util.Optional;
+import java.util.regex.MatchResult;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 import net.minecraft.ChatFormatting;
@@ -100,6 +104,7 @@ public class ChatRedirectFeature extends Feature {
     private final Config<RedirectAction> itemDropped = new Config<>(RedirectAction.REDIRECT);
 
     private final List<Redirector> redirectors = new ArrayList<>();
+    private final Map<Redirector, Map<MessageType, ChatPattern>> redirectorPatterns = new HashMap<>();
 
     public ChatRedirectFeature() {
         super(new ProfileDefault.Builder()
@@ -145,27 +150,48 @@ public class ChatRedirectFeature extends Feature {
 
     private void register(Redirector redirector) {
         redirectors.add(redirector);
+
+        Map<MessageType, ChatPattern> patterns = new EnumMap<>(MessageType.class);
+        for (MessageType messageType : MessageType.values()) {
+            Pattern pattern = redirector.getPattern(messageType);
+            if (pattern == null) continue;
+
+            patterns.put(messageType, ChatPattern.ofUnwrapped(toWholeMessagePattern(pattern)));
+        }
+        redirectorPatterns.put(redirector, patterns);
+    }
+
+    // Redirector patterns are found anywhere in the message, but chat patterns have to match all of it
+    private static Pattern toWholeMessagePattern(Pattern pattern) {
+        String regex = pattern.pattern();
+        if (!regex.startsWith("^")) {
+            regex = ".*?" + regex;
+        }
+        if (!regex.endsWith("$") || regex.endsWith("\\$")) {
+            regex = regex + ".*";
+        }
+
+        return Pattern.compile(regex, pattern.flags() | Pattern.DOTALL);
     }
 
     @SubscribeEvent
     public void onChatMessage(ChatMessageEvent.Match e) {
-        StyledText message = StyledTextUtils.unwrap(e.getMessage()).stripAlignment();
         MessageType messageType = e.getMessageType();
 
         for (Redirector redirector : redirectors) {
             RedirectAction action = redirector.getAction();
             if (action == RedirectAction.KEEP) continue;
 
-            Pattern pattern = redirector.getPattern(messageType);
+            ChatPattern pattern = redirectorPatterns.get(redirector).get(messageType);
             if (pattern == null) continue;
 
-            Matcher matcher = message.getMatcher(pattern);
+            Optional<MatchResult> match = e.getMatch(pattern);
 
-            if (matcher.find()) {
+            if (match.isPresent()) {
                 e.cancelChat();
                 if (redirector.getAction() == RedirectAction.HIDE) continue;
 
-                for (StyledText notification : redirector.getNotifications(matcher)) {
+                for (StyledText notification : redirector.getNotifications(match.get())) {
                     Managers.Notification.queueMessage(notification);
                 }
             }
@@ -183,7 +209,7 @@ public class ChatRedirectFeature extends Feature {
 
         ChatRedirectFeature.RedirectAction getAction();
 
-        List<StyledText> getNotifications(Matcher matcher);
+        List<StyledText> getNotifications(MatchResult matcher);
     }
 
     public abstract static class SimpleRedirector implements Redirector {
@@ -204,11 +230,11 @@ public class ChatRedirectFeature extends Feature {
         }
 
         @Override
-        public List<StyledText> getNotifications(Matcher matcher) {
+        public List<StyledText> getNotifications(MatchResult matcher) {
             return List.of(getNotification(matcher));
         }
 
-        protected abstract StyledText getNotification(Matcher matcher);
+        protected abstract StyledText getNotification(MatchResult matcher);
     }
 
     private class BlacksmithRedirector extends SimpleRedirector {
@@ -226,7 +252,7 @@ public class ChatRedirectFeature extends Feature {
         }
 
         @Override
-        protected StyledText getNotification(Matcher matcher) {
+        protected StyledText getNotification(MatchResult matcher) {
             return StyledText.fromString(
                     ChatFormatting.LIGHT_PURPLE + StringUtils.capitalizeFirst(matcher.group(2)) + " "
                             + matcher.group(3)
@@ -249,7 +275,7 @@ public class ChatRedirectFeature extends Feature {
         }
 
         @Override
-        protected StyledText getNotification(Matcher matcher) {
+        protected StyledText getNotification(MatchResult matcher) {
             return StyledText.fromComponent(
                     Component.translatable("feature.wynntils.chatRedirect.bloodPactHealth.notification")
                             .withStyle(ChatFormatting.DARK_RED));
@@ -271,7 +297,7 @@ public class ChatRedirectFeature extends Feature {
         }
 
         @Override
-        protected StyledText getNotification(Matcher matcher) {
+        protected StyledText getNotification(MatchResult matcher) {
             return StyledText.fromComponent(
                     Component.translatable("feature.wynntils.chatRedirect.craftedDurability.notification")
                             .withStyle(ChatFormatting.DARK_RED));
@@ -298,7 +324,7 @@ public class ChatRedirectFeature extends Feature {
         }
 
         @Override
-        protected StyledText getNotification(Matcher matcher) {
+        protected StyledText getNotification(MatchResult matcher) {
             return StyledText.fromComponent(
                     Component.translatable("feature.wynntils.chatRedirect.emptyManaBank.notification")
                             .withStyle(ChatFormatting.DARK_RED));
@@ -327,7 +353,7 @@ public class ChatRedirectFeature extends Feature {
         }
 
         @Override
-        protected StyledText getNotification(Matcher matcher) {
+        protected StyledText getNotification(MatchResult matcher) {
             String playerName = matcher.group("name");
             String server = matcher.group("server");
             String playerClass = matcher.group("class");
@@ -359,7 +385,7 @@ public class ChatRedirectFeature extends Feature {
         }
 
         @Override
-        protected StyledText getNotification(Matcher matcher) {
+        protected StyledText getNotification(MatchResult matcher) {
             String playerName = matcher.group("name");
 
             return StyledText.fromString(ChatFormatting.RED + "← " + ChatFormatting.DARK_GREEN + playerName);
@@ -380,7 +406,7 @@ public class ChatRedirectFeature extends Feature {
         }
 
         @Override
-        protected StyledText getNotification(Matcher matcher) {
+        protected StyledText getNotification(MatchResult matcher) {
             String amount = matcher.group(1);
 
             return StyledText.fromString(ChatFormatting.DARK_RED + "[+" + amount + " ❤]");
@@ -407,7 +433,7 @@ public class ChatRedirectFeature extends Feature {
         }
 
         @Override
-        protected StyledText getNotification(Matcher matcher) {
+        protected StyledText getNotification(MatchResult matcher) {
             String amount = matcher.group(1);
 
             return StyledText.fromString(ChatFormatting.DARK_RED + "[+" + amount + " ❤]");
@@ -429,7 +455,7 @@ public class ChatRedirectFeature extends Feature {
         }
 
         @Override
-        protected StyledText getNotification(Matcher matcher) {
+        protected StyledText getNotification(MatchResult matcher) {
             return StyledText.fromComponent(
                     Component.translatable("feature.wynntils.chatRedirect.horse.notificationDespawned")
                             .withStyle(ChatFormatting.DARK_PURPLE));
@@ -451,7 +477,7 @@ public class ChatRedirectFeature extends Feature {
         }
 
         @Override
-        protected StyledText getNotification(Matcher matcher) {
+        protected StyledText getNotification(MatchResult matcher) {
             return StyledText.fromComponent(
                     Component.translatable("feature.wynntils.chatRedirect.horse.notificationScared")
                             .withStyle(ChatFormatting.DARK_RED));
@@ -473,7 +499,7 @@ public class ChatRedirectFeature extends Feature {
         }
 
         @Override
-        protected StyledText getNotification(Matcher matcher) {
+        protected StyledText getNotification(MatchResult matcher) {
             return StyledText.fromComponent(
                     Component.translatable("feature.wynntils.chatRedirect.horse.notificationNoRoom")
                             .withStyle(ChatFormatting.DARK_RED));
@@ -495,7 +521,7 @@ public class ChatRedirectFeature extends Feature {
         }
 
         @Override
-        protected StyledText getNotification(Matcher matcher) {
+        protected StyledText getNotification(MatchResult matcher) {
             return StyledText.fromComponent(
                     Component.translatable("feature.wynntils.chatRedirect.housingTeleport.notificationJoined")
                             .withStyle(ChatFormatting.GRAY));
@@ -517,7 +543,7 @@ public class ChatRedirectFeature extends Feature {
         }
 
         @Override
-        protected StyledText getNotification(Matcher matcher) {
+        protected StyledText getNotification(MatchResult matcher) {
             return StyledText.fromComponent(Component.translatable("feature.wynntils.chatRedirect.housingMaster.added")
                     .withStyle(ChatFormatting.GRAY));
         }
@@ -538,7 +564,7 @@ public class ChatRedirectFeature extends Feature {
         }
 
         @Override
-        protected StyledText getNotification(Matcher matcher) {
+        protected StyledText getNotification(MatchResult matcher) {
             return StyledText.fromComponent(
                     Component.translatable("feature.wynntils.chatRedirect.housingTeleport.notificationCooldown")
                             .withStyle(ChatFormatting.DARK_RED));
@@ -560,7 +586,7 @@ public class ChatRedirectFeature extends Feature {
         }
 
         @Override
-        protected StyledText getNotification(Matcher matcher) {
+        protected StyledText getNotification(MatchResult matcher) {
             return StyledText.fromComponent(
                     Component.translatable("feature.wynntils.chatRedirect.housingTeleport.notificationLeft")
                             .withStyle(ChatFormatting.GRAY));
@@ -582,7 +608,7 @@ public class ChatRedirectFeature extends Feature {
         }
 
         @Override
-        protected StyledText getNotification(Matcher matcher) {
+        protected StyledText getNotification(MatchResult matcher) {
             return StyledText.fromComponent(
                     Component.translatable("feature.wynntils.chatRedirect.housingTeleport.notificationCooldown")
                             .withStyle(ChatFormatting.DARK_RED));
@@ -604,7 +630,7 @@ public class ChatRedirectFeature extends Feature {
         }
 
         @Override
-        protected StyledText getNotification(Matcher matcher) {
+        protected StyledText getNotification(MatchResult matcher) {
             int ingredientCount = Integer.parseInt(matcher.group(1));
             Component formattedPlural = Component.literal(ingredientCount + " ")
                     .withStyle(ChatFormatting.GRAY)
@@ -649,7 +675,7 @@ public class ChatRedirectFeature extends Feature {
         }
 
         @Override
-        protected StyledText getNotification(Matcher matcher) {
+        protected StyledText getNotification(MatchResult matcher) {
             String rankString = matcher.group("rank");
             String playerName = matcher.group("name");
             PlayerRank rank = PlayerRank.fromString(rankString);
@@ -674,7 +700,7 @@ public class ChatRedirectFeature extends Feature {
         }
 
         @Override
-        protected StyledText getNotification(Matcher matcher) {
+        protected StyledText getNotification(MatchResult matcher) {
             return StyledText.fromComponent(
                     Component.translatable("feature.wynntils.chatRedirect.mageTeleport.notification")
                             .withStyle(ChatFormatting.DARK_RED));
@@ -696,7 +722,7 @@ public class ChatRedirectFeature extends Feature {
         }
 
         @Override
-        protected StyledText getNotification(Matcher matcher) {
+        protected StyledText getNotification(MatchResult matcher) {
             return StyledText.fromComponent(
                     Component.translatable("feature.wynntils.chatRedirect.notEnoughMana.notification")
                             .withStyle(ChatFormatting.DARK_RED));
@@ -718,7 +744,7 @@ public class ChatRedirectFeature extends Feature {
         }
 
         @Override
-        protected StyledText getNotification(Matcher matcher) {
+        protected StyledText getNotification(MatchResult matcher) {
             return StyledText.fromComponent(Component.translatable("feature.wynntils.chatRedirect.shaman.notification")
                     .withStyle(ChatFormatting.DARK_RED));
         }
@@ -739,7 +765,7 @@ public class ChatRedirectFeature extends Feature {
         }
 
         @Override
-        protected StyledText getNotification(Matcher matcher) {
+        protected StyledText getNotification(MatchResult matcher) {
             return StyledText.fromComponent(
                     Component.translatable("feature.wynntils.chatRedirect.potion.notificationAlreadyActive")
                             .withStyle(ChatFormatting.DARK_RED));
@@ -761,7 +787,7 @@ public class ChatRedirectFeature extends Feature {
         }
 
         @Override
-        protected StyledText getNotification(Matcher matcher) {
+        protected StyledText getNotification(MatchResult matcher) {
             return StyledText.fromComponent(
                     Component.translatable("feature.wynntils.chatRedirect.potion.notificationChargeLimit")
                             .withStyle(ChatFormatting.DARK_RED));
@@ -783,7 +809,7 @@ public class ChatRedirectFeature extends Feature {
         }
 
         @Override
-        protected StyledText getNotification(Matcher matcher) {
+        protected StyledText getNotification(MatchResult matcher) {
             return StyledText.fromComponent(
                     Component.translatable("feature.wynntils.chatRedirect.potion.notificationMoved")
                             .withStyle(ChatFormatting.GRAY));
@@ -805,7 +831,7 @@ public class ChatRedirectFeature extends Feature {
         }
 
         @Override
-        protected StyledText getNotification(Matcher matcher) {
+        protected StyledText getNotification(MatchResult matcher) {
             return StyledText.fromComponent(
                     Component.translatable("feature.wynntils.chatRedirect.potion.notificationReplaced")
                             .withStyle(ChatFormatting.GRAY));
@@ -827,7 +853,7 @@ public class ChatRedirectFeature extends Feature {
         }
 
         @Override
-        protected StyledText getNotification(Matcher matcher) {
+        protected StyledText getNotification(MatchResult matcher) {
             return StyledText.fromComponent(
                     Component.translatable("feature.wynntils.chatRedirect.scrollTeleport.notificationHousing")
                             .withStyle(ChatFormatting.DARK_RED));
@@ -848,7 +874,7 @@ public class ChatRedirectFeature extends Feature {
         }
 
         @Override
-        protected StyledText getNotification(Matcher matcher) {
+        protected StyledText getNotification(MatchResult matcher) {
             String minutes = matcher.group(1);
             return StyledText.fromComponent(
                     Component.translatable("feature.wynntils.chatRedirect.speed.notificationFirst", minutes)
@@ -873,7 +899,7 @@ public class ChatRedirectFeature extends Feature {
         }
 
         @Override
-        protected StyledText getNotification(Matcher matcher) {
+        protected StyledText getNotification(MatchResult matcher) {
             return StyledText.fromComponent(
                     Component.translatable("feature.wynntils.chatRedirect.toolDurability.notification")
                             .withStyle(ChatFormatting.DARK_RED));
@@ -895,7 +921,7 @@ public class ChatRedirectFeature extends Feature {
         }
 
         @Override
-        protected StyledText getNotification(Matcher matcher) {
+        protected StyledText getNotification(MatchResult matcher) {
             String unusedAbilityPoints = matcher.group(1);
 
             return getUnusedAbilityPointsMessage(unusedAbilityPoints);
@@ -929,7 +955,7 @@ public class ChatRedirectFeature extends Feature {
         }
 
         @Override
-        public List<StyledText> getNotifications(Matcher matcher) {
+        public List<StyledText> getNotifications(MatchResult matcher) {
             String unusedSkillPoints = matcher.group(1);
             String unusedAbilityPoints = matcher.group(2);
 
@@ -954,7 +980,7 @@ public class ChatRedirectFeature extends Feature {
         }
 
         @Override
-        protected StyledText getNotification(Matcher matcher) {
+        protected StyledText getNotification(MatchResult matcher) {
             String unusedSkillPoints = matcher.group(1);
 
             return getUnusedSkillPointsMessage(unusedSkillPoints);
@@ -986,7 +1012,7 @@ public class ChatRedirectFeature extends Feature {
         }
 
         @Override
-        protected StyledText getNotification(Matcher matcher) {
+        protected StyledText getNotification(MatchResult matcher) {
             String player = matcher.group("player");
             String transactionType = matcher.group("transactiontype");
             String count = matcher.group("count");
@@ -1016,7 +1042,7 @@ public class ChatRedirectFeature extends Feature {
         }
 
         @Override
-        protected StyledText getNotification(Matcher matcher) {
+        protected StyledText getNotification(MatchResult matcher) {
             String sender = matcher.group("sender");
             String reward = matcher.group("reward");
             String recipient = matcher.group("recipient");
@@ -1036,7 +1062,7 @@ public class ChatRedirectFeature extends Feature {
         }
 
         @Override
-        protected StyledText getNotification(Matcher matcher) {
+        protected StyledText getNotification(MatchResult matcher) {
             return StyledText.fromComponent(Component.translatable(
                             "feature.wynntils.chatRedirect.merchant.notification", matcher.group("merchant"))
                     .withStyle(ChatFormatting.LIGHT_PURPLE));
@@ -1058,7 +1084,7 @@ public class ChatRedirectFeature extends Feature {
         }
 
         @Override
-        protected StyledText getNotification(Matcher matcher) {
+        protected StyledText getNotification(MatchResult matcher) {
             return StyledText.fromComponent(
                     Component.translatable("feature.wynntils.chatRedirect.itemDropped.notification")
                             .withStyle(ChatFormatting.GRAY));
@@ -12,6 +12,7 @@ import com.wynntils.core.persisted.config.ConfigCategory;
 import com.wynntils.core.persisted.config.ConfigProfile;
 import com.wynntils.core.text.StyledText;
 import com.wynntils.handlers.chat.event.ChatMessageEvent;
+import com.wynntils.handlers.chat.type.ChatPattern;
 import com.wynntils.mc.event.SubtitleSetTextEvent;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -21,6 +22,7 @@ import org.apache.commons.lang3.StringUtils;
 @ConfigCategory(Category.REDIRECTS)
 public class TerritoryMessageRedirectFeature extends Feature {
     private static final Pattern TERRITORY_MESSAGE_PATTERN = Pattern.compile("§7\\[You are now (\\S+) (.+)\\]");
+    private static final ChatPattern TERRITORY_MESSAGE = ChatPattern.of(TERRITORY_MESSAGE_PATTERN);
 
     public TerritoryMessageRedirectFeature() {
         super(new ProfileDefault.Builder()
@@ -61,7 +63,7 @@ public class TerritoryMessageRedirectFeature extends Feature {
     // text event.
     @SubscribeEvent
     public void onChat(ChatMessageEvent.Match event) {
-        if (event.getMessage().getMatcher(TERRITORY_MESSAGE_PATTERN).matches()) {
+        if (event.matches(TERRITORY_MESSAGE)) {
             event.cancelChat();
         }
     }
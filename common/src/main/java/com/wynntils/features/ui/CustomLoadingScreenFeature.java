@@ -12,6 +12,7 @@ import com.wynntils.core.mod.TickSchedulerManager;
 import com.wynntils.core.persisted.config.Category;
 import com.wynntils.core.persisted.config.ConfigCategory;
 import com.wynntils.handlers.chat.event.ChatMessageEvent;
+import com.wynntils.handlers.chat.type.ChatPattern;
 import com.wynntils.mc.event.LoadingProgressEvent;
 import com.wynntils.mc.event.ScreenClosedEvent;
 import com.wynntils.mc.event.ScreenOpenedEvent;
@@ -36,8 +37,8 @@ import net.neoforged.bus.api.SubscribeEvent;
 @ConfigCategory(Category.UI)
 public class CustomLoadingScreenFeature extends Feature {
     private static final String IGNORED_TITLE = "\uE000\uE001\uE000";
-    private static final Pattern SERVER_SWITCH_PATTERN =
-            Pattern.compile("§7Saving your player data before switching to §f(.*)§7...");
+    private static final ChatPattern SERVER_SWITCH =
+            ChatPattern.of(Pattern.compile("§7Saving your player data before switching to §f(.*)§7..."));
 
     private LoadingScreen loadingScreen;
     private Screen replacedScreen;
@@ -58,7 +59,7 @@ public class CustomLoadingScreenFeature extends Feature {
 
     @SubscribeEvent
     public void onChatMessageReceived(ChatMessageEvent.Match e) {
-        if (e.getMessage().matches(SERVER_SWITCH_PATTERN)) {
+        if (e.matches(SERVER_SWITCH)) {
             createCustomScreen();
             loadingScreen.setMessage(I18n.get("feature.wynntils.customLoadingScreen.switchingServer"));
         }
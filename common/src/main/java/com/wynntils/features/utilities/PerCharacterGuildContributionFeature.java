@@ -14,13 +14,13 @@ import com.wynntils.core.persisted.config.Config;
 import com.wynntils.core.persisted.config.ConfigCategory;
 import com.wynntils.core.persisted.config.ConfigProfile;
 import com.wynntils.core.persisted.config.HiddenConfig;
-import com.wynntils.core.text.StyledText;
 import com.wynntils.handlers.chat.event.ChatMessageEvent;
+import com.wynntils.handlers.chat.type.ChatPattern;
 import com.wynntils.models.character.event.CharacterUpdateEvent;
 import com.wynntils.utils.mc.McUtils;
 import java.util.Map;
 import java.util.TreeMap;
-import java.util.regex.Matcher;
+import java.util.regex.MatchResult;
 import java.util.regex.Pattern;
 import net.minecraft.ChatFormatting;
 import net.minecraft.network.chat.ClickEvent;
@@ -30,8 +30,8 @@ import net.neoforged.bus.api.SubscribeEvent;
 
 @ConfigCategory(Category.UTILITIES)
 public class PerCharacterGuildContributionFeature extends Feature {
-    private static final Pattern CONTRIBUTION_PATTERN =
-            Pattern.compile("§3You will now contribute §b(\\d+)%§3 of your XP to §b.*§3.");
+    private static final ChatPattern CONTRIBUTION =
+            ChatPattern.of(Pattern.compile("§3You will now contribute §b(\\d+)%§3 of your XP to §b.*§3."));
 
     @Persisted
     private final HiddenConfig<Map<String, Integer>> characterContributions = new HiddenConfig<>(new TreeMap<>());
@@ -64,11 +64,9 @@ public class PerCharacterGuildContributionFeature extends Feature {
         if (Models.Guild.getGuildName().isEmpty()) return;
         if (!Models.Character.hasCharacter()) return;
 
-        StyledText message = event.getMessage();
+        MatchResult contributionMatcher = event.getMatch(CONTRIBUTION).orElse(null);
 
-        Matcher contributionMatcher = message.getMatcher(CONTRIBUTION_PATTERN);
-
-        if (contributionMatcher.matches()) {
+        if (contributionMatcher != null) {
             event.cancelChat();
 
             if (waitingForCommandResponse) {
@@ -9,6 +9,7 @@ import com.wynntils.core.components.Managers;
 import com.wynntils.core.consumers.features.Feature;
 import com.wynntils.core.consumers.features.ProfileDefault;
 import com.wynntils.core.persisted.Persisted;
+import com.wynntils.core.persisted.PersistedJournal;
 import com.wynntils.core.persisted.config.Category;
 import com.wynntils.core.persisted.config.ConfigCategory;
 import com.wynntils.core.persisted.storage.Storage;
@@ -16,6 +17,7 @@ import com.wynntils.mc.event.TitleScreenInitEvent;
 import com.wynntils.utils.FileUtils;
 import com.wynntils.utils.StringUtils;
 import java.io.File;
+import java.io.IOException;
 import java.util.concurrent.TimeUnit;
 import net.neoforged.bus.api.SubscribeEvent;
 
@@ -50,10 +52,14 @@ public class WeeklyConfigBackupFeature extends Feature {
                 return;
             }
 
+            // Changes are journaled beside the file, so write them into the file before copying it
+            Managers.Config.compactUserConfigFile();
+
             File configBackupFile = new File(newBackupDir, userConfigFile.getName());
 
             try {
                 FileUtils.copyFile(userConfigFile, configBackupFile);
+                copyJournal(userConfigFile, newBackupDir);
             } catch (Exception e) {
                 WynntilsMod.warn("Failed to create backup of user config file: " + e.getMessage());
                 return;
@@ -68,10 +74,13 @@ public class WeeklyConfigBackupFeature extends Feature {
                 return;
             }
 
+            Managers.Storage.compactUserStorageFile();
+
             File storageBackupFile = new File(newBackupDir, userStorageFile.getName());
 
             try {
                 FileUtils.copyFile(userStorageFile, storageBackupFile);
+                copyJournal(userStorageFile, newBackupDir);
             } catch (Exception e) {
                 WynntilsMod.warn("Failed to create backup of user storage file: " + e.getMessage());
                 return;
@@ -83,4 +92,12 @@ public class WeeklyConfigBackupFeature extends Feature {
             lastBackup.store(currentTime);
         }
     }
+
+    private static void copyJournal(File file, File backupDir) throws IOException {
+        // The journal is only left if compacting failed, and the file is incomplete without it
+        File journalFile = PersistedJournal.getJournalFile(file);
+        if (!journalFile.exists()) return;
+
+        FileUtils.copyFile(journalFile, new File(backupDir, journalFile.getName()));
+    }
 }
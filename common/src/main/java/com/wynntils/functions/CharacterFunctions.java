@@ -1,11 +1,12 @@
 /*
- * Copyright © Wynntils 2022-2025.
+ * Copyright © Wynntils 2022-2026.
  * This file is released under LGPLv3. See LICENSE for full license details.
  */
 package com.wynntils.functions;
 
 import com.wynntils.core.components.Models;
 import com.wynntils.core.consumers.functions.Function;
+import com.wynntils.core.consumers.functions.FunctionDependency;
 import com.wynntils.core.consumers.functions.arguments.Argument;
 import com.wynntils.core.consumers.functions.arguments.FunctionArguments;
 import com.wynntils.models.character.type.VehicleType;
@@ -134,6 +135,11 @@ public class CharacterFunctions {
         public String getValue(FunctionArguments arguments) {
             return Models.Character.getId();
         }
+
+        @Override
+        public FunctionDependency getDependency() {
+            return FunctionDependency.CHARACTER;
+        }
     }
 
     public static class CappedAwakenedProgressFunction extends Function<CappedValue> {
@@ -1,5 +1,5 @@
 /*
- * Copyright © Wynntils 2023-2025.
+ * Copyright © Wynntils 2023-2026.
  * This file is released under LGPLv3. See LICENSE for full license details.
  */
 package com.wynntils.functions;
@@ -33,9 +33,7 @@ public class CombatXpFunctions {
     public static class XpPerMinuteRawFunction extends Function<Integer> {
         @Override
         public Integer getValue(FunctionArguments arguments) {
-            return (int) (Models.CombatXp.getRawXpGainInLastMinute().stream()
-                    .mapToDouble(Float::doubleValue)
-                    .sum());
+            return (int) Models.CombatXp.getRawXpGainInLastMinute();
         }
 
         @Override
@@ -47,9 +45,7 @@ public class CombatXpFunctions {
     public static class XpPerMinuteFunction extends Function<String> {
         @Override
         public String getValue(FunctionArguments arguments) {
-            return StringUtils.integerToShortString((int) (Models.CombatXp.getRawXpGainInLastMinute().stream()
-                    .mapToDouble(Float::doubleValue)
-                    .sum()));
+            return StringUtils.integerToShortString((int) Models.CombatXp.getRawXpGainInLastMinute());
         }
 
         @Override
@@ -61,9 +57,7 @@ public class CombatXpFunctions {
     public static class XpPercentagePerMinuteFunction extends Function<Double> {
         @Override
         public Double getValue(FunctionArguments arguments) {
-            return Models.CombatXp.getPercentageXpGainInLastMinute().stream()
-                    .mapToDouble(Float::doubleValue)
-                    .sum();
+            return Models.CombatXp.getPercentageXpGainInLastMinute();
         }
 
         @Override
@@ -7,12 +7,14 @@ package com.wynntils.functions;
 import com.wynntils.core.components.Models;
 import com.wynntils.core.components.Services;
 import com.wynntils.core.consumers.functions.Function;
+import com.wynntils.core.consumers.functions.FunctionDependency;
 import com.wynntils.core.consumers.functions.arguments.Argument;
 import com.wynntils.core.consumers.functions.arguments.FunctionArguments;
 import com.wynntils.models.bonustotems.BonusTotem;
 import com.wynntils.models.bonustotems.type.BonusTotemType;
 import com.wynntils.models.territories.profile.TerritoryProfile;
 import com.wynntils.models.token.type.TokenGatekeeper;
+import com.wynntils.models.worlds.event.WorldStateEvent;
 import com.wynntils.models.worlds.profile.ServerProfile;
 import com.wynntils.utils.mc.McUtils;
 import com.wynntils.utils.mc.type.Location;
@@ -35,6 +37,11 @@ public class WorldFunctions {
             return currentWorldName.isEmpty() ? NO_DATA : currentWorldName;
         }
 
+        @Override
+        public FunctionDependency getDependency() {
+            return FunctionDependency.onEvents(WorldStateEvent.class);
+        }
+
         @Override
         protected List<String> getAliases() {
             return List.of("world");
@@ -1,9 +1,10 @@
 /*
- * Copyright © Wynntils 2023-2025.
+ * Copyright © Wynntils 2023-2026.
  * This file is released under LGPLv3. See LICENSE for full license details.
  */
 package com.wynntils.functions.generic;
 
+import com.wynntils.core.consumers.functions.FunctionDependency;
 import com.wynntils.core.consumers.functions.GenericFunction;
 import com.wynntils.core.consumers.functions.arguments.Argument;
 import com.wynntils.core.consumers.functions.arguments.FunctionArguments;
@@ -217,6 +218,11 @@ public final class MathFunctions {
             return (Math.random() * (max - min)) + min;
         }
 
+        @Override
+        public FunctionDependency getDependency() {
+            return FunctionDependency.TICK;
+        }
+
         @Override
         public FunctionArguments.RequiredArgumentBuilder getRequiredArgumentsBuilder() {
             return new FunctionArguments.RequiredArgumentBuilder(
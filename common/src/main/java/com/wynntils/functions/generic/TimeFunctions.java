@@ -1,9 +1,10 @@
 /*
- * Copyright © Wynntils 2025.
+ * Copyright © Wynntils 2025-2026.
  * This file is released under LGPLv3. See LICENSE for full license details.
  */
 package com.wynntils.functions.generic;
 
+import com.wynntils.core.consumers.functions.FunctionDependency;
 import com.wynntils.core.consumers.functions.GenericFunction;
 import com.wynntils.core.consumers.functions.arguments.Argument;
 import com.wynntils.core.consumers.functions.arguments.FunctionArguments;
@@ -43,6 +44,12 @@ public final class TimeFunctions {
             return arguments.getArgument("time").getTime().toString();
         }
 
+        @Override
+        public FunctionDependency getDependency() {
+            // Relative time strings change as time passes
+            return FunctionDependency.TICK;
+        }
+
         @Override
         public FunctionArguments.RequiredArgumentBuilder getRequiredArgumentsBuilder() {
             return new FunctionArguments.RequiredArgumentBuilder(List.of(new Argument<>("time", Time.class, null)));
@@ -91,6 +98,11 @@ public final class TimeFunctions {
             return time.getOffset(Time.now());
         }
 
+        @Override
+        public FunctionDependency getDependency() {
+            return FunctionDependency.TICK;
+        }
+
         @Override
         public FunctionArguments.RequiredArgumentBuilder getRequiredArgumentsBuilder() {
             return new FunctionArguments.RequiredArgumentBuilder(List.of(new Argument<>("time", Time.class, null)));
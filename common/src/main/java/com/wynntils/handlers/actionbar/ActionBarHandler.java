@@ -7,15 +7,13 @@ package com.wynntils.handlers.actionbar;
 import com.wynntils.core.WynntilsMod;
 import com.wynntils.core.components.Handler;
 import com.wynntils.core.text.StyledText;
+import com.wynntils.core.text.StyledTextPart;
 import com.wynntils.handlers.actionbar.event.ActionBarRenderEvent;
 import com.wynntils.handlers.actionbar.event.ActionBarUpdatedEvent;
 import com.wynntils.mc.event.SystemMessageEvent;
 import com.wynntils.models.worlds.event.WorldStateEvent;
-import com.wynntils.utils.type.IterationDecision;
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.List;
-import java.util.regex.Pattern;
 import net.minecraft.network.chat.FontDescription;
 import net.minecraft.resources.Identifier;
 import net.neoforged.bus.api.SubscribeEvent;
@@ -25,11 +23,11 @@ public final class ActionBarHandler extends Handler {
             new FontDescription.Resource(Identifier.withDefaultNamespace("hud/gameplay/default/top_right"));
 
     private static final FallBackSegmentMatcher FALLBACK_SEGMENT_MATCHER = new FallBackSegmentMatcher();
-    private static final Pattern PERCENT_PATTERN = Pattern.compile("%");
 
     private final List<ActionBarSegmentMatcher> segmentMatchers = new ArrayList<>();
 
     private StyledText lastParsedActionBarText = StyledText.EMPTY;
+    private TokenizedActionBar lastTokenizedActionBar;
     private List<ActionBarSegment> lastMatchedSegments = new ArrayList<>();
 
     public void registerSegment(ActionBarSegmentMatcher segmentMatcher) {
@@ -40,43 +38,38 @@ public final class ActionBarHandler extends Handler {
     public void onActionBarUpdate(SystemMessageEvent.GameInfoReceivedEvent event) {
         StyledText packetText = StyledText.fromComponent(event.getMessage());
 
-        // Separate the action bar text from the coordinates
-        StyledText actionBarText = packetText.iterate((part, changes) -> {
-            if (part.getPartStyle().getFont().equals(COORDINATES_FONT)) {
-                changes.remove(part);
-                return IterationDecision.BREAK;
+        // Separate the action bar text from the coordinates, in one pass over the parts
+        List<StyledTextPart> actionBarParts = new ArrayList<>();
+        List<StyledTextPart> coordinatesParts = new ArrayList<>();
+        boolean removedCoordinates = false;
+        for (StyledTextPart part : packetText) {
+            if (COORDINATES_FONT.equals(part.getPartStyle().getFont())) {
+                coordinatesParts.add(part);
+
+                if (!removedCoordinates) {
+                    removedCoordinates = true;
+                    continue;
+                }
             }
 
-            return IterationDecision.CONTINUE;
-        });
+            actionBarParts.add(part);
+        }
 
-        if (actionBarText.isEmpty()) {
+        if (actionBarParts.isEmpty()) {
             WynntilsMod.warn("Failed to find action bar text in packet: " + packetText.getString());
             return;
         }
 
-        List<ActionBarSegment> matchedSegments = matchSegments(actionBarText, packetText);
-        ActionBarRenderEvent actionBarRenderEvent = new ActionBarRenderEvent(matchedSegments);
+        TokenizedActionBar actionBar = matchSegments(actionBarParts, packetText);
+        ActionBarRenderEvent actionBarRenderEvent = new ActionBarRenderEvent(lastMatchedSegments);
         WynntilsMod.postEvent(actionBarRenderEvent);
 
         // Remove disabled segments from the action bar text
-        for (ActionBarSegment disabledSegment : actionBarRenderEvent.getDisabledSegments()) {
-            actionBarText = actionBarText.replaceFirst(disabledSegment.getSegmentText(), "");
-        }
-
-        StyledText renderedText = actionBarText;
+        StyledText renderedText = actionBar.render(actionBarRenderEvent.getDisabledSegments());
 
         // Append coordinates if needed
         if (actionBarRenderEvent.shouldRenderCoordinates()) {
-            StyledText coordinatesText = packetText.iterate((part, changes) -> {
-                if (!COORDINATES_FONT.equals(part.getPartStyle().getFont())) {
-                    changes.remove(part);
-                }
-
-                return IterationDecision.CONTINUE;
-            });
-
-            renderedText = renderedText.append(coordinatesText);
+            renderedText = renderedText.append(StyledText.fromParts(coordinatesParts));
         }
 
         if (packetText.equals(renderedText)) return;
@@ -84,51 +77,54 @@ public final class ActionBarHandler extends Handler {
         event.setMessage(renderedText.getComponent());
     }
 
-    private List<ActionBarSegment> matchSegments(StyledText actionBarText, StyledText packetText) {
-        List<ActionBarSegment> matchedSegments;
-
+    private TokenizedActionBar matchSegments(List<StyledTextPart> actionBarParts, StyledText packetText) {
         // Skip parsing if the action bar text is the same as the last parsed one
-        if (lastParsedActionBarText.equals(packetText)) {
-            matchedSegments = lastMatchedSegments;
-        } else {
-            matchedSegments = parseActionBarSegments(actionBarText);
+        if (lastParsedActionBarText.equals(packetText)) return lastTokenizedActionBar;
 
-            lastParsedActionBarText = packetText;
-            lastMatchedSegments = matchedSegments;
+        TokenizedActionBar actionBar = new TokenizedActionBar(actionBarParts);
+        List<ActionBarSegment> matchedSegments = parseActionBarSegments(actionBar);
 
-            if (WynntilsMod.isDevelopmentBuild() || WynntilsMod.isDevelopmentEnvironment()) {
-                debugChecks(matchedSegments, actionBarText);
-            }
+        lastParsedActionBarText = packetText;
+        lastTokenizedActionBar = actionBar;
+        lastMatchedSegments = matchedSegments;
 
-            WynntilsMod.postEvent(new ActionBarUpdatedEvent(matchedSegments));
+        if (WynntilsMod.isDevelopmentBuild() || WynntilsMod.isDevelopmentEnvironment()) {
+            debugChecks(matchedSegments, StyledText.fromParts(actionBarParts));
         }
 
-        return matchedSegments;
+        WynntilsMod.postEvent(new ActionBarUpdatedEvent(matchedSegments));
+
+        return actionBar;
     }
 
     @SubscribeEvent
     public void onWorldStateChange(WorldStateEvent event) {
         lastParsedActionBarText = StyledText.EMPTY;
+        lastTokenizedActionBar = null;
         lastMatchedSegments = new ArrayList<>();
     }
 
-    private List<ActionBarSegment> parseActionBarSegments(StyledText actionBarText) {
+    private List<ActionBarSegment> parseActionBarSegments(TokenizedActionBar actionBar) {
         List<ActionBarSegment> matchedSegments = new ArrayList<>();
 
+        // Each matcher only sees the text which no earlier matcher has matched
+        String unmatchedString = actionBar.getUnmatchedString();
         for (ActionBarSegmentMatcher segmentMatcher : segmentMatchers) {
-            ActionBarSegment parsedSegment = segmentMatcher.parse(
-                    PERCENT_PATTERN.matcher(actionBarText.getString()).replaceAll(""));
+            if (!unmatchedString.contains(segmentMatcher.getSignature())) continue;
+
+            ActionBarSegment parsedSegment = segmentMatcher.parse(unmatchedString);
             if (parsedSegment == null) continue;
 
             matchedSegments.add(parsedSegment);
-            actionBarText = actionBarText.replaceFirst(parsedSegment.getSegmentText(), "%");
+            actionBar.markSegment(parsedSegment);
+            unmatchedString = actionBar.getUnmatchedString();
         }
 
         // Check if there is any leftover text, add them as separate fallback segments
         // (as we could be missing a segment matcher in separate, not continuous parts of the action bar text)
-        Arrays.stream(actionBarText.split("%"))
-                .filter(text -> !text.isEmpty())
-                .forEach(part -> matchedSegments.add(FALLBACK_SEGMENT_MATCHER.parse(part.getString())));
+        for (String unmatchedRun : actionBar.getUnmatchedRuns()) {
+            matchedSegments.add(FALLBACK_SEGMENT_MATCHER.parse(unmatchedRun));
+        }
 
         return matchedSegments;
     }
@@ -1,5 +1,5 @@
 /*
- * Copyright © Wynntils 2024.
+ * Copyright © Wynntils 2024-2026.
  * This file is released under LGPLv3. See LICENSE for full license details.
  */
 package com.wynntils.handlers.actionbar;
@@ -12,4 +12,13 @@ public interface ActionBarSegmentMatcher {
      * @return The parsed segment, or null if the string does not match the segment
      */
     ActionBarSegment parse(String actionBar);
+
+    /**
+     * A string which is part of every action bar this matcher can parse. The matcher is only tried on action bars
+     * which contain it, so it must never reject an action bar that {@link #parse} would accept.
+     * @return The signature of this matcher, or an empty string to always try it
+     */
+    default String getSignature() {
+        return "";
+    }
 }
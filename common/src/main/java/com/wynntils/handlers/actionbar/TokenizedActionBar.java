@@ -0,0 +1,162 @@
+/*
+ * Copyright © Wynntils 2026.
+ * This file is released under LGPLv3. See LICENSE for full license details.
+ */
+package com.wynntils.handlers.actionbar;
+
+import com.wynntils.core.text.PartStyle;
+import com.wynntils.core.text.StyledText;
+import com.wynntils.core.text.StyledTextPart;
+import com.wynntils.core.text.type.StyleType;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import net.minecraft.network.chat.Style;
+
+/**
+ * The action bar text, split into the parts of the packet, which are split further into the matched segments and
+ * the text between them.
+ *
+ * Segments are found and removed with plain string searches, so no patterns are compiled for a packet.
+ */
+final class TokenizedActionBar {
+    private final List<StyledTextPart> parts;
+    // The tokens of each part, in order, which together make up the text of the part
+    private final List<List<Token>> partTokens = new ArrayList<>();
+
+    TokenizedActionBar(List<StyledTextPart> parts) {
+        this.parts = List.copyOf(parts);
+
+        for (StyledTextPart part : parts) {
+            List<Token> tokens = new ArrayList<>();
+            tokens.add(new Token(part.getString(null, StyleType.NONE), null));
+            partTokens.add(tokens);
+        }
+    }
+
+    /**
+     * @return the formatted string of the action bar text which is not part of a matched segment
+     */
+    String getUnmatchedString() {
+        StringBuilder builder = new StringBuilder();
+
+        PartStyle previousStyle = null;
+        for (int i = 0; i < parts.size(); i++) {
+            PartStyle partStyle = parts.get(i).getPartStyle();
+            builder.append(partStyle.asString(previousStyle, StyleType.DEFAULT));
+            previousStyle = partStyle;
+
+            for (Token token : partTokens.get(i)) {
+                if (token.segment() == null) {
+                    builder.append(token.text());
+                }
+            }
+        }
+
+        return builder.toString();
+    }
+
+    /**
+     * Marks the first occurrence of the segment text in the unmatched text of a part as the segment.
+     * Segments which span multiple parts are not marked, and their text stays unmatched.
+     */
+    void markSegment(ActionBarSegment segment) {
+        String segmentText = segment.getSegmentText();
+        if (segmentText.isEmpty()) return;
+
+        for (List<Token> tokens : partTokens) {
+            for (int i = 0; i < tokens.size(); i++) {
+                Token token = tokens.get(i);
+                if (token.segment() != null) continue;
+
+                int index = token.text().indexOf(segmentText);
+                if (index == -1) continue;
+
+                List<Token> splitTokens = new ArrayList<>(3);
+                if (index > 0) {
+                    splitTokens.add(new Token(token.text().substring(0, index), null));
+                }
+                splitTokens.add(new Token(segmentText, segment));
+                if (index + segmentText.length() < token.text().length()) {
+                    splitTokens.add(new Token(token.text().substring(index + segmentText.length()), null));
+                }
+
+                tokens.remove(i);
+                tokens.addAll(i, splitTokens);
+                return;
+            }
+        }
+    }
+
+    /**
+     * @return the formatted strings of each continuous run of text between the matched segments
+     */
+    List<String> getUnmatchedRuns() {
+        List<String> runs = new ArrayList<>();
+        StringBuilder run = new StringBuilder();
+        boolean runHasText = false;
+
+        PartStyle previousStyle = null;
+        for (int i = 0; i < parts.size(); i++) {
+            PartStyle partStyle = parts.get(i).getPartStyle();
+
+            for (Token token : partTokens.get(i)) {
+                if (token.segment() != null) {
+                    if (runHasText) {
+                        runs.add(run.toString());
+                    }
+                    run.setLength(0);
+                    runHasText = false;
+                    // The formatting of a run is relative to its start
+                    previousStyle = null;
+                    continue;
+                }
+
+                if (token.text().isEmpty()) continue;
+
+                if (previousStyle != partStyle) {
+                    run.append(partStyle.asString(previousStyle, StyleType.DEFAULT));
+                    previousStyle = partStyle;
+                }
+                run.append(token.text());
+                runHasText = true;
+            }
+        }
+
+        if (runHasText) {
+            runs.add(run.toString());
+        }
+
+        return runs;
+    }
+
+    /**
+     * @return the action bar text without the text of the given segments
+     */
+    StyledText render(Set<ActionBarSegment> hiddenSegments) {
+        List<StyledTextPart> renderedParts = new ArrayList<>(parts.size());
+
+        for (int i = 0; i < parts.size(); i++) {
+            StyledTextPart part = parts.get(i);
+            List<Token> tokens = partTokens.get(i);
+
+            if (tokens.stream().noneMatch(token -> hiddenSegments.contains(token.segment()))) {
+                renderedParts.add(part);
+                continue;
+            }
+
+            StringBuilder text = new StringBuilder();
+            for (Token token : tokens) {
+                if (!hiddenSegments.contains(token.segment())) {
+                    text.append(token.text());
+                }
+            }
+
+            renderedParts.add(new StyledTextPart(text.toString(), part.getPartStyle().getStyle(), null, Style.EMPTY));
+        }
+
+        return StyledText.fromParts(renderedParts);
+    }
+
+    private record Token(String text, ActionBarSegment segment) {}
+}
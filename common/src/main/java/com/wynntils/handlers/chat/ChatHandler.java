@@ -1,5 +1,5 @@
 /*
- * Copyright © Wynntils 2022-2025.
+ * Copyright © Wynntils 2022-2026.
  * This file is released under LGPLv3. See LICENSE for full license details.
  */
 package com.wynntils.handlers.chat;
@@ -11,6 +11,7 @@ import com.wynntils.core.mod.event.WynncraftConnectionEvent;
 import com.wynntils.core.text.StyledText;
 import com.wynntils.core.text.type.StyleType;
 import com.wynntils.handlers.chat.event.ChatMessageEvent;
+import com.wynntils.handlers.chat.type.ChatPatternMatches;
 import com.wynntils.handlers.chat.type.MessageType;
 import com.wynntils.handlers.chat.type.RecipientType;
 import com.wynntils.mc.event.MobEffectEvent;
@@ -62,10 +63,15 @@ import net.neoforged.bus.api.SubscribeEvent;
  * no way to distinguish these from chat sent by a build member named "WAR", or
  * "INFO", or..., so if these need to be separated, it has to happen in a later
  * stage).
+ *
+ * Finally, the message is matched once against all registered ChatPatterns, and the
+ * result is passed along with the ChatMessageEvent.Match event, so listeners do not
+ * need to run their own regexps on every message.
  */
 public final class ChatHandler extends Handler {
     private final ChatPageDetector pageDetector = new ChatPageDetector();
     private final ChatPageProcessor pageProcessor = new ChatPageProcessor();
+    private final ChatPatternIndex patternIndex = new ChatPatternIndex();
     private boolean isLocal;
 
     @SubscribeEvent
@@ -161,7 +167,11 @@ public final class ChatHandler extends Handler {
         WynntilsMod.info("[CHAT/" + recipientType + (messageType == MessageType.BACKGROUND ? "/bg" : "") + "] "
                 + message.getString(StyleType.COMPLETE).replace("§", "&"));
 
-        ChatMessageEvent.Match receivedEvent = new ChatMessageEvent.Match(message, messageType, recipientType);
+        // Match all registered chat patterns once, instead of letting every listener do it
+        ChatPatternMatches patternMatches = patternIndex.match(message);
+
+        ChatMessageEvent.Match receivedEvent =
+                new ChatMessageEvent.Match(message, messageType, recipientType, patternMatches);
         WynntilsMod.postEvent(receivedEvent);
         if (receivedEvent.isChatCanceled()) return null;
 
@@ -0,0 +1,120 @@
+/*
+ * Copyright © Wynntils 2026.
+ * This file is released under LGPLv3. See LICENSE for full license details.
+ */
+package com.wynntils.handlers.chat;
+
+import com.wynntils.core.text.StyledText;
+import com.wynntils.handlers.chat.type.ChatPattern;
+import com.wynntils.handlers.chat.type.ChatPatternMatches;
+import com.wynntils.handlers.chat.type.ChatPatternSource;
+import com.wynntils.utils.mc.StyledTextUtils;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.MatchResult;
+import java.util.regex.Matcher;
+
+/**
+ * Matches all registered {@link ChatPattern}s against a chat message in a single pass.
+ *
+ * Patterns are indexed by the first characters of their literal prefix, so for a given message
+ * only the patterns sharing its first characters are considered. Patterns without a usable prefix
+ * are only run if the message contains their literal keyword. Only the remaining patterns,
+ * which have neither, are always run.
+ */
+final class ChatPatternIndex {
+    private static final int PREFIX_KEY_LENGTH = 2;
+
+    private final Map<ChatPatternSource, SourceIndex> sourceIndexes = new EnumMap<>(ChatPatternSource.class);
+    private int indexedPatternCount = -1;
+
+    ChatPatternMatches match(StyledText message) {
+        rebuildIfNeeded();
+
+        if (indexedPatternCount == 0) return ChatPatternMatches.NONE;
+
+        MatchResult[] results = new MatchResult[indexedPatternCount];
+
+        // Only unwrap the message once, and only if any pattern needs it
+        StyledText unwrapped = null;
+        for (Map.Entry<ChatPatternSource, SourceIndex> entry : sourceIndexes.entrySet()) {
+            ChatPatternSource source = entry.getKey();
+            StyledText text = message;
+            if (source.isUnwrapped()) {
+                if (unwrapped == null) {
+                    unwrapped = StyledTextUtils.unwrap(message).stripAlignment();
+                }
+                text = unwrapped;
+            }
+
+            entry.getValue().match(source.getString(text), results);
+        }
+
+        return new ChatPatternMatches(results);
+    }
+
+    private void rebuildIfNeeded() {
+        // Patterns are registered when the classes declaring them are loaded, so we might need to catch up
+        int registeredPatternCount = ChatPattern.getRegisteredPatternCount();
+        if (registeredPatternCount == indexedPatternCount) return;
+
+        sourceIndexes.clear();
+        List<ChatPattern> patterns = ChatPattern.getRegisteredPatterns();
+        for (ChatPattern pattern : patterns) {
+            sourceIndexes.computeIfAbsent(pattern.getSource(), k -> new SourceIndex()).add(pattern);
+        }
+
+        indexedPatternCount = patterns.size();
+    }
+
+    private static final class SourceIndex {
+        private final Map<String, List<ChatPattern>> byPrefix = new HashMap<>();
+        private final List<ChatPattern> byKeyword = new ArrayList<>();
+        private final List<ChatPattern> unfiltered = new ArrayList<>();
+
+        private void add(ChatPattern pattern) {
+            String prefix = pattern.getLiteralPrefix();
+            if (prefix.length() >= PREFIX_KEY_LENGTH) {
+                byPrefix.computeIfAbsent(prefix.substring(0, PREFIX_KEY_LENGTH), k -> new ArrayList<>())
+                        .add(pattern);
+            } else if (!pattern.getKeyword().isEmpty()) {
+                byKeyword.add(pattern);
+            } else {
+                unfiltered.add(pattern);
+            }
+        }
+
+        private void match(String codedString, MatchResult[] results) {
+            if (codedString.length() >= PREFIX_KEY_LENGTH) {
+                List<ChatPattern> candidates = byPrefix.get(codedString.substring(0, PREFIX_KEY_LENGTH));
+                if (candidates != null) {
+                    for (ChatPattern candidate : candidates) {
+                        if (codedString.startsWith(candidate.getLiteralPrefix())) {
+                            tryMatch(candidate, codedString, results);
+                        }
+                    }
+                }
+            }
+
+            for (ChatPattern candidate : byKeyword) {
+                if (codedString.contains(candidate.getKeyword())) {
+                    tryMatch(candidate, codedString, results);
+                }
+            }
+
+            for (ChatPattern candidate : unfiltered) {
+                tryMatch(candidate, codedString, results);
+            }
+        }
+
+        private static void tryMatch(ChatPattern pattern, String codedString, MatchResult[] results) {
+            Matcher matcher = pattern.getPattern().matcher(codedString);
+            if (matcher.matches()) {
+                results[pattern.getId()] = matcher.toMatchResult();
+            }
+        }
+    }
+}
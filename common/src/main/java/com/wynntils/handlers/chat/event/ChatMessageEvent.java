@@ -1,12 +1,17 @@
 /*
- * Copyright © Wynntils 2022-2025.
+ * Copyright © Wynntils 2022-2026.
  * This file is released under LGPLv3. See LICENSE for full license details.
  */
 package com.wynntils.handlers.chat.event;
 
 import com.wynntils.core.text.StyledText;
+import com.wynntils.handlers.chat.type.ChatPattern;
+import com.wynntils.handlers.chat.type.ChatPatternMatches;
 import com.wynntils.handlers.chat.type.MessageType;
 import com.wynntils.handlers.chat.type.RecipientType;
+import java.util.Optional;
+import java.util.regex.MatchResult;
+import java.util.regex.Matcher;
 import net.neoforged.bus.api.Event;
 
 public abstract class ChatMessageEvent extends Event {
@@ -36,12 +41,46 @@ public abstract class ChatMessageEvent extends Event {
      * This event is what models and features should use to listen to chat messages.
      * Any listener can request to cancel the chat, but it will still be sent to all
      * other listeners for matching, even if it is going to be canceled.
+     *
+     * Listeners should register their patterns as {@link ChatPattern}s and use {@link #getMatch(ChatPattern)},
+     * so each message is only matched once against all patterns.
      */
     public static class Match extends ChatMessageEvent {
+        private final ChatPatternMatches patternMatches;
         private boolean chatCanceled = false;
 
         public Match(StyledText message, MessageType messageType, RecipientType recipientType) {
+            this(message, messageType, recipientType, ChatPatternMatches.NONE);
+        }
+
+        public Match(
+                StyledText message,
+                MessageType messageType,
+                RecipientType recipientType,
+                ChatPatternMatches patternMatches) {
             super(message, messageType, recipientType);
+            this.patternMatches = patternMatches;
+        }
+
+        /**
+         * @return the result of matching the given pattern against this message, if it matched
+         */
+        public Optional<MatchResult> getMatch(ChatPattern pattern) {
+            if (patternMatches.covers(pattern)) {
+                return patternMatches.get(pattern);
+            }
+
+            // The pattern was registered after the message was matched, so match it directly
+            Matcher matcher = pattern.getPattern().matcher(pattern.getSource().getStringFromMessage(message));
+            return matcher.matches() ? Optional.of(matcher.toMatchResult()) : Optional.empty();
+        }
+
+        public boolean matches(ChatPattern pattern) {
+            if (patternMatches.covers(pattern)) {
+                return patternMatches.matches(pattern);
+            }
+
+            return getMatch(pattern).isPresent();
         }
 
         public boolean isChatCanceled() {
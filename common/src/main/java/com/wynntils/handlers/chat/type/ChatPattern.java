@@ -0,0 +1,326 @@
+/*
+ * Copyright © Wynntils 2026.
+ * This file is released under LGPLv3. See LICENSE for full license details.
+ */
+package com.wynntils.handlers.chat.type;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.IntPredicate;
+import java.util.regex.Pattern;
+
+/**
+ * A chat pattern that is matched centrally by the chat handler, once per incoming chat message.
+ * Listeners of {@link com.wynntils.handlers.chat.event.ChatMessageEvent.Match} get the result using
+ * {@link com.wynntils.handlers.chat.event.ChatMessageEvent.Match#getMatch(ChatPattern)}, instead of matching
+ * the pattern against the message themselves.
+ *
+ * The pattern must match the whole message (as in {@link java.util.regex.Matcher#matches()}).
+ * This allows the handler to use the literal prefix of the pattern, or a literal keyword in it,
+ * to only run the patterns that can possibly match a given message.
+ */
+public final class ChatPattern {
+    private static final int MIN_KEYWORD_LENGTH = 3;
+    private static final String METACHARACTERS = "\\[](){}.*+?|^$";
+    private static final String OPTIONAL_QUANTIFIERS = "?*{";
+    private static final Pattern INLINE_FLAGS_PATTERN = Pattern.compile("\\(\\?[a-zA-Z]");
+    private static final String QUOTE_START = "\\Q";
+
+    private static final List<ChatPattern> REGISTERED_PATTERNS = new ArrayList<>();
+
+    private final int id;
+    private final Pattern pattern;
+    private final ChatPatternSource source;
+    private final String literalPrefix;
+    private final String keyword;
+
+    private ChatPattern(int id, Pattern pattern, ChatPatternSource source) {
+        this.id = id;
+        this.pattern = pattern;
+        this.source = source;
+
+        // Literals in these patterns can match other text, or are not written as plain characters
+        int unsupportedFlags = Pattern.CASE_INSENSITIVE | Pattern.COMMENTS | Pattern.LITERAL | Pattern.CANON_EQ;
+        boolean canPrefilter = (pattern.flags() & unsupportedFlags) == 0
+                && !INLINE_FLAGS_PATTERN.matcher(pattern.pattern()).find()
+                && !pattern.pattern().contains(QUOTE_START);
+        this.literalPrefix = canPrefilter ? findLiteralPrefix(pattern.pattern()) : "";
+        this.keyword = canPrefilter ? findKeyword(pattern.pattern()) : "";
+    }
+
+    /**
+     * Registers a pattern that is matched against the message as received.
+     */
+    public static ChatPattern of(Pattern pattern) {
+        return register(pattern, ChatPatternSource.RAW);
+    }
+
+    /**
+     * Registers a pattern that is matched against the message as received, without formatting codes.
+     */
+    public static ChatPattern ofUnformatted(Pattern pattern) {
+        return register(pattern, ChatPatternSource.RAW_UNFORMATTED);
+    }
+
+    /**
+     * Registers a pattern that is matched against the message after it has been unwrapped,
+     * and had its alignment stripped.
+     */
+    public static ChatPattern ofUnwrapped(Pattern pattern) {
+        return register(pattern, ChatPatternSource.UNWRAPPED);
+    }
+
+    /**
+     * Registers a pattern that is matched against the unwrapped message, without formatting codes.
+     */
+    public static ChatPattern ofUnwrappedUnformatted(Pattern pattern) {
+        return register(pattern, ChatPatternSource.UNWRAPPED_UNFORMATTED);
+    }
+
+    private static synchronized ChatPattern register(Pattern pattern, ChatPatternSource source) {
+        ChatPattern chatPattern = new ChatPattern(REGISTERED_PATTERNS.size(), pattern, source);
+        REGISTERED_PATTERNS.add(chatPattern);
+        return chatPattern;
+    }
+
+    public static synchronized List<ChatPattern> getRegisteredPatterns() {
+        return Collections.unmodifiableList(new ArrayList<>(REGISTERED_PATTERNS));
+    }
+
+    public static synchronized int getRegisteredPatternCount() {
+        return REGISTERED_PATTERNS.size();
+    }
+
+    public int getId() {
+        return id;
+    }
+
+    public Pattern getPattern() {
+        return pattern;
+    }
+
+    public ChatPatternSource getSource() {
+        return source;
+    }
+
+    /**
+     * @return the literal text every matching message must start with, or an empty string if there is none
+     */
+    public String getLiteralPrefix() {
+        return literalPrefix;
+    }
+
+    /**
+     * @return a literal text every matching message must contain, or an empty string if there is none
+     */
+    public String getKeyword() {
+        return keyword;
+    }
+
+    static String findLiteralPrefix(String regex) {
+        // A top-level alternation means there is no common prefix
+        if (hasTopLevelAlternation(regex)) return "";
+
+        StringBuilder prefix = new StringBuilder();
+        int i = regex.startsWith("^") ? 1 : 0;
+
+        while (i < regex.length()) {
+            int literalLength = getLiteralLength(regex, i);
+            if (literalLength == 0) break;
+
+            int next = i + literalLength;
+            char quantifier = next < regex.length() ? regex.charAt(next) : 0;
+
+            // A character with an optional quantifier is not required to be present
+            if (OPTIONAL_QUANTIFIERS.indexOf(quantifier) != -1) {
+                removeDanglingHighSurrogate(prefix);
+                break;
+            }
+
+            prefix.append(regex.charAt(next - 1));
+
+            // A repeated character is required, but we do not know what follows it
+            if (quantifier == '+') break;
+
+            i = next;
+        }
+
+        return prefix.toString();
+    }
+
+    private static String findKeyword(String regex) {
+        if (hasTopLevelAlternation(regex)) return "";
+
+        String longest = "";
+        StringBuilder current = new StringBuilder();
+        int depth = 0;
+        // Character classes can be nested, e.g. [a-z&&[^e]]
+        int characterClassDepth = 0;
+
+        int i = 0;
+        while (i < regex.length()) {
+            char c = regex.charAt(i);
+
+            if (characterClassDepth > 0) {
+                if (c == '\\') {
+                    i += getEscapeLength(regex, i);
+                    continue;
+                }
+
+                if (c == '[') characterClassDepth++;
+                else if (c == ']') characterClassDepth--;
+                i++;
+                continue;
+            }
+
+            int literalLength = depth == 0 ? getLiteralLength(regex, i) : 0;
+            if (literalLength > 0) {
+                int next = i + literalLength;
+                char quantifier = next < regex.length() ? regex.charAt(next) : 0;
+
+                if (OPTIONAL_QUANTIFIERS.indexOf(quantifier) != -1) {
+                    // The quantified character is optional, and ends the current run
+                    removeDanglingHighSurrogate(current);
+                    longest = longer(longest, current);
+                    current.setLength(0);
+                } else {
+                    current.append(regex.charAt(next - 1));
+
+                    if (quantifier == '+') {
+                        // The repeated character is required, but ends the current run
+                        longest = longer(longest, current);
+                        current.setLength(0);
+                    }
+                }
+                i = next;
+                continue;
+            }
+
+            // Anything that is not a plain literal ends the current run
+            longest = longer(longest, current);
+            current.setLength(0);
+
+            if (c == '\\') {
+                i += getEscapeLength(regex, i);
+                continue;
+            }
+            if (c == '{') {
+                // Skip the bounds of the quantifier, they are not literals
+                int end = regex.indexOf('}', i);
+                i = end == -1 ? regex.length() : end + 1;
+                continue;
+            }
+            if (c == '[') characterClassDepth++;
+            else if (c == '(') depth++;
+            else if (c == ')') depth--;
+            i++;
+        }
+
+        longest = longer(longest, current);
+        return longest.length() >= MIN_KEYWORD_LENGTH ? longest : "";
+    }
+
+    // A quantifier after a surrogate pair applies to the whole pair
+    private static void removeDanglingHighSurrogate(StringBuilder builder) {
+        if (!builder.isEmpty() && Character.isHighSurrogate(builder.charAt(builder.length() - 1))) {
+            builder.setLength(builder.length() - 1);
+        }
+    }
+
+    private static String longer(String longest, StringBuilder current) {
+        return current.length() > longest.length() ? current.toString() : longest;
+    }
+
+    // Returns the number of regex characters used by the literal character at the given index,
+    // or 0 if the regex does not have a literal character there
+    private static int getLiteralLength(String regex, int index) {
+        char c = regex.charAt(index);
+        if (c == '\\') {
+            if (index + 1 >= regex.length()) return 0;
+
+            // Escaped punctuation is literal, but escaped letters and digits are character classes or references
+            char escaped = regex.charAt(index + 1);
+            return Character.isLetterOrDigit(escaped) ? 0 : 2;
+        }
+
+        return METACHARACTERS.indexOf(c) == -1 ? 1 : 0;
+    }
+
+    // Returns the number of regex characters used by the escape sequence at the given index,
+    // including the arguments of escapes like \x41, \p{Lu} or \k<name>
+    private static int getEscapeLength(String regex, int index) {
+        if (index + 1 >= regex.length()) return 1;
+
+        return Math.min(getEscapeEnd(regex, index + 1), regex.length()) - index;
+    }
+
+    private static int getEscapeEnd(String regex, int escaped) {
+        return switch (regex.charAt(escaped)) {
+            case '0' -> skipWhile(regex, escaped + 1, 3, ChatPattern::isOctalDigit);
+            case 'c' -> escaped + 2;
+            case 'u' -> escaped + 5;
+            case 'x' -> regex.startsWith("{", escaped + 1) ? skipPast(regex, escaped + 1, '}') : escaped + 3;
+            case 'p', 'P' -> regex.startsWith("{", escaped + 1) ? skipPast(regex, escaped + 1, '}') : escaped + 2;
+            case 'N' -> skipPast(regex, escaped + 1, '}');
+            case 'k' -> skipPast(regex, escaped + 1, '>');
+            // A back reference can have several digits
+            case '1', '2', '3', '4', '5', '6', '7', '8', '9' ->
+                skipWhile(regex, escaped + 1, Integer.MAX_VALUE, Character::isDigit);
+            default -> escaped + 1;
+        };
+    }
+
+    private static int skipWhile(String regex, int index, int maxLength, IntPredicate predicate) {
+        int end = index;
+        while (end < regex.length() && end - index < maxLength && predicate.test(regex.charAt(end))) {
+            end++;
+        }
+        return end;
+    }
+
+    private static int skipPast(String regex, int index, char terminator) {
+        int end = regex.indexOf(terminator, index);
+        return end == -1 ? regex.length() : end + 1;
+    }
+
+    private static boolean isOctalDigit(int c) {
+        return c >= '0' && c <= '7';
+    }
+
+    private static boolean hasTopLevelAlternation(String regex) {
+        int depth = 0;
+        int characterClassDepth = 0;
+
+        int i = 0;
+        while (i < regex.length()) {
+            char c = regex.charAt(i);
+            if (c == '\\') {
+                i += getEscapeLength(regex, i);
+                continue;
+            }
+
+            if (characterClassDepth > 0) {
+                if (c == '[') characterClassDepth++;
+                else if (c == ']') characterClassDepth--;
+            } else if (c == '[') {
+                characterClassDepth++;
+            } else if (c == '(') {
+                depth++;
+            } else if (c == ')') {
+                depth--;
+            } else if (c == '|' && depth == 0) {
+                return true;
+            }
+            i++;
+        }
+
+        return false;
+    }
+
+    @Override
+    public String toString() {
+        return "ChatPattern{" + "pattern=" + pattern + ", source=" + source + ", literalPrefix='" + literalPrefix
+                + "', keyword='" + keyword + "'}";
+    }
+}
@@ -0,0 +1,40 @@
+/*
+ * Copyright © Wynntils 2026.
+ * This file is released under LGPLv3. See LICENSE for full license details.
+ */
+package com.wynntils.handlers.chat.type;
+
+import java.util.Optional;
+import java.util.regex.MatchResult;
+
+/**
+ * The result of matching all registered {@link ChatPattern}s against a single chat message.
+ */
+public final class ChatPatternMatches {
+    public static final ChatPatternMatches NONE = new ChatPatternMatches(new MatchResult[0]);
+
+    // Indexed by ChatPattern#getId(), null if the pattern did not match
+    // These are immutable, as they are shared between all listeners of the message
+    private final MatchResult[] results;
+
+    public ChatPatternMatches(MatchResult[] results) {
+        this.results = results;
+    }
+
+    public Optional<MatchResult> get(ChatPattern pattern) {
+        int id = pattern.getId();
+        return id < results.length ? Optional.ofNullable(results[id]) : Optional.empty();
+    }
+
+    /**
+     * @return true if the pattern was registered when these matches were calculated
+     */
+    public boolean covers(ChatPattern pattern) {
+        return pattern.getId() < results.length;
+    }
+
+    public boolean matches(ChatPattern pattern) {
+        int id = pattern.getId();
+        return id < results.length && results[id] != null;
+    }
+}
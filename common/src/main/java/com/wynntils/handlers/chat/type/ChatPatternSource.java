@@ -0,0 +1,45 @@
+/*
+ * Copyright © Wynntils 2026.
+ * This file is released under LGPLv3. See LICENSE for full license details.
+ */
+package com.wynntils.handlers.chat.type;
+
+import com.wynntils.core.text.StyledText;
+import com.wynntils.utils.mc.StyledTextUtils;
+
+public enum ChatPatternSource {
+    // The message as received
+    RAW(false, false),
+    // The message as received, without formatting codes
+    RAW_UNFORMATTED(false, true),
+    // The message after StyledTextUtils#unwrap and StyledText#stripAlignment
+    UNWRAPPED(true, false),
+    // The unwrapped message, without formatting codes
+    UNWRAPPED_UNFORMATTED(true, true);
+
+    private final boolean unwrapped;
+    private final boolean unformatted;
+
+    ChatPatternSource(boolean unwrapped, boolean unformatted) {
+        this.unwrapped = unwrapped;
+        this.unformatted = unformatted;
+    }
+
+    public boolean isUnwrapped() {
+        return unwrapped;
+    }
+
+    /**
+     * @param text the message as received, or the unwrapped message if this source is unwrapped
+     */
+    public String getString(StyledText text) {
+        return unformatted ? text.getStringWithoutFormatting() : text.getString();
+    }
+
+    /**
+     * @return the string the patterns of this source are matched against
+     */
+    public String getStringFromMessage(StyledText message) {
+        return getString(unwrapped ? StyledTextUtils.unwrap(message).stripAlignment() : message);
+    }
+}
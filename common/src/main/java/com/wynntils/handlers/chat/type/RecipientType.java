@@ -1,5 +1,5 @@
 /*
- * Copyright © Wynntils 2022-2025.
+ * Copyright © Wynntils 2022-2026.
  * This file is released under LGPLv3. See LICENSE for full license details.
  */
 package com.wynntils.handlers.chat.type;
@@ -47,6 +47,9 @@ public enum RecipientType {
 
     private final Pattern foregroundPattern;
     private final Pattern backgroundPattern;
+    // The literal text a matching message must start with, to skip the regex for most messages
+    private final String foregroundPrefix;
+    private final String backgroundPrefix;
     private final String name;
 
     RecipientType(String foregroundPattern, String backgroundPattern, String name) {
@@ -54,6 +57,8 @@ public enum RecipientType {
                 (foregroundPattern == null ? null : Pattern.compile(foregroundPattern, Pattern.DOTALL));
         this.backgroundPattern =
                 (backgroundPattern == null ? null : Pattern.compile(backgroundPattern, Pattern.DOTALL));
+        this.foregroundPrefix = (foregroundPattern == null ? "" : ChatPattern.findLiteralPrefix(foregroundPattern));
+        this.backgroundPrefix = (backgroundPattern == null ? "" : ChatPattern.findLiteralPrefix(backgroundPattern));
 
         this.name = name;
     }
@@ -61,7 +66,12 @@ public enum RecipientType {
     public boolean matchPattern(StyledText msg, MessageType messageType) {
         Pattern pattern = (messageType == MessageType.FOREGROUND ? foregroundPattern : backgroundPattern);
         if (pattern == null) return false;
-        return msg.getMatcher(pattern).matches();
+
+        String prefix = (messageType == MessageType.FOREGROUND ? foregroundPrefix : backgroundPrefix);
+        String codedString = msg.getString();
+        if (!codedString.startsWith(prefix)) return false;
+
+        return pattern.matcher(codedString).matches();
     }
 
     public static RecipientType fromName(String string) {
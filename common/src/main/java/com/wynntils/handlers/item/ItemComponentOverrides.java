@@ -0,0 +1,45 @@
+/*
+ * Copyright © Wynntils 2026.
+ * This file is released under LGPLv3. See LICENSE for full license details.
+ */
+package com.wynntils.handlers.item;
+
+import java.util.IdentityHashMap;
+import java.util.Map;
+import net.minecraft.core.component.DataComponentType;
+
+/**
+ * The data components of an item stack, as overridden by the {@link com.wynntils.mc.event.DataComponentGetEvent}
+ * listeners. The overrides are only valid for the annotation they were calculated with, and only until they are
+ * invalidated by {@link ItemHandler#invalidateComponentOverrides()}.
+ */
+public final class ItemComponentOverrides {
+    private final ItemAnnotation annotation;
+    private final int version;
+    private final Map<DataComponentType<?>, ComponentOverride> overrides = new IdentityHashMap<>(4);
+
+    ItemComponentOverrides(ItemAnnotation annotation, int version) {
+        this.annotation = annotation;
+        this.version = version;
+    }
+
+    boolean isValidFor(ItemAnnotation annotation, int version) {
+        return this.annotation == annotation && this.version == version;
+    }
+
+    /**
+     * @return the override of the component, or null if it was not calculated for this original value
+     */
+    ComponentOverride get(DataComponentType<?> type, Object original) {
+        ComponentOverride override = overrides.get(type);
+        if (override == null || override.original() != original) return null;
+
+        return override;
+    }
+
+    void put(DataComponentType<?> type, Object original, Object value) {
+        overrides.put(type, new ComponentOverride(original, value));
+    }
+
+    record ComponentOverride(Object original, Object value) {}
+}
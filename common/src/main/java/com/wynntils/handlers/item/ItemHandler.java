@@ -1,5 +1,5 @@
 /*
- * Copyright © Wynntils 2022-2025.
+ * Copyright © Wynntils 2022-2026.
  * This file is released under LGPLv3. See LICENSE for full license details.
  */
 package com.wynntils.handlers.item;
@@ -12,16 +12,21 @@ import com.wynntils.core.text.type.StyleType;
 import com.wynntils.handlers.item.event.ItemRenamedEvent;
 import com.wynntils.mc.event.ContainerSetContentEvent;
 import com.wynntils.mc.event.ContainerSetSlotEvent;
+import com.wynntils.mc.event.DataComponentGetEvent;
 import com.wynntils.mc.event.SetEntityDataEvent;
 import com.wynntils.mc.event.SetSlotEvent;
 import com.wynntils.mc.extension.ItemStackExtension;
 import com.wynntils.models.items.WynnItem;
 import com.wynntils.models.items.WynnItemData;
+import com.wynntils.models.items.properties.DurableItemProperty;
+import com.wynntils.models.items.properties.ShinyItemProperty;
+import com.wynntils.models.items.properties.UsesItemProperty;
 import com.wynntils.utils.mc.LoreUtils;
 import com.wynntils.utils.mc.McUtils;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -29,6 +34,7 @@ import java.util.Optional;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import net.minecraft.core.NonNullList;
+import net.minecraft.core.component.DataComponentType;
 import net.minecraft.core.component.DataComponents;
 import net.minecraft.network.syncher.SynchedEntityData;
 import net.minecraft.world.entity.Display;
@@ -37,19 +43,37 @@ import net.minecraft.world.entity.item.ItemEntity;
 import net.minecraft.world.item.Item;
 import net.minecraft.world.item.ItemStack;
 import net.minecraft.world.item.Items;
+import net.minecraft.world.item.alchemy.PotionContents;
+import net.minecraft.world.item.component.CustomModelData;
+import net.minecraft.world.item.component.DyedItemColor;
 import net.neoforged.bus.api.EventPriority;
 import net.neoforged.bus.api.SubscribeEvent;
 
 public final class ItemHandler extends Handler {
     private static final List<Item> WILDCARD_ITEMS = List.of(Items.DIAMOND_SHOVEL, Items.DIAMOND_PICKAXE);
+    private static final int ANNOTATION_CACHE_SIZE = 2048;
 
     private final List<ItemAnnotator> annotators = new ArrayList<>();
-    private final Map<Class<?>, Integer> profilingTimes = new HashMap<>();
+    private final Map<Class<?>, Long> profilingTimes = new HashMap<>();
     private final Map<Class<?>, Integer> profilingCounts = new HashMap<>();
+    private long annotationCacheHits = 0;
+    private long annotationCacheMisses = 0;
+
+    // Bank pages, trade market pages and the content book keep re-sending identical stacks,
+    // so keep the most recently calculated annotations around, keyed by the item content
+    private final Map<AnnotationCacheKey, ItemAnnotation> annotationCache =
+            new LinkedHashMap<>(ANNOTATION_CACHE_SIZE, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<AnnotationCacheKey, ItemAnnotation> eldest) {
+                    return size() > ANNOTATION_CACHE_SIZE;
+                }
+            };
     // Keep this as a field just of performance reasons to skip a new allocation in annotate()
     private final List<ItemAnnotator> crashedAnnotators = new ArrayList<>();
     private final List<Pattern> knownMarkerNames = new ArrayList<>();
     private final List<Pattern> simplifiablePatterns = new ArrayList<>();
+    // Incremented to invalidate the component overrides stored on all stacks
+    private int componentOverridesVersion = 0;
 
     public void registerKnownMarkerNames(List<Pattern> markerPatterns) {
         knownMarkerNames.addAll(markerPatterns);
@@ -68,6 +92,41 @@ public final class ItemHandler extends Handler {
 
     public void registerAnnotator(ItemAnnotator annotator) {
         annotators.add(annotator);
+        annotationCache.clear();
+    }
+
+    /**
+     * Returns the value of a data component of the stack, as overridden by the {@link DataComponentGetEvent} listeners.
+     * The listeners are only asked once for every stack, annotation and original value, since components are read
+     * many times per frame while rendering items.
+     */
+    public Object getOverriddenComponent(ItemStack itemStack, DataComponentType<?> type, Object original) {
+        ItemStackExtension itemStackExtension = (ItemStackExtension) itemStack;
+        ItemAnnotation annotation = itemStackExtension.getAnnotation();
+
+        ItemComponentOverrides overrides = itemStackExtension.getComponentOverrides();
+        if (overrides == null || !overrides.isValidFor(annotation, componentOverridesVersion)) {
+            overrides = new ItemComponentOverrides(annotation, componentOverridesVersion);
+            itemStackExtension.setComponentOverrides(overrides);
+        }
+
+        ItemComponentOverrides.ComponentOverride override = overrides.get(type, original);
+        if (override != null) return override.value();
+
+        DataComponentGetEvent<?> event = createComponentGetEvent(itemStack, type, original);
+        if (event == null) return original;
+
+        WynntilsMod.postEvent(event);
+        overrides.put(type, original, event.getValue());
+        return event.getValue();
+    }
+
+    /**
+     * Features overriding components with {@link DataComponentGetEvent} must call this when their overrides change,
+     * e.g. when they are enabled or disabled, or when their configs are updated.
+     */
+    public void invalidateComponentOverrides() {
+        componentOverridesVersion++;
     }
 
     public void updateItem(ItemStack itemStack, ItemAnnotation annotation, StyledText name) {
@@ -175,9 +234,8 @@ public final class ItemHandler extends Handler {
 
         // We need to check if the name has changed, and/or the lore has changed
         StyledText originalName = ((ItemStackExtension) existingItem).getOriginalName();
-        StyledText existingName =
-                StyledText.fromComponent(existingItem.getHoverName()).getNormalized();
-        StyledText newName = StyledText.fromComponent(newItem.getHoverName()).getNormalized();
+        StyledText existingName = StyledText.fromComponentInterned(existingItem.getHoverName()).getNormalized();
+        StyledText newName = StyledText.fromComponentInterned(newItem.getHoverName()).getNormalized();
 
         if (newName.equals(existingName)) {
             // The name is identical to the existing stack; now check the lore
@@ -197,7 +255,7 @@ public final class ItemHandler extends Handler {
             if (!loreMatch) {
                 // We need to reparse the lore since it has changed
                 // Make sure to use the original name instead of the marker name
-                annotation = calculateAnnotation(newItem, originalName);
+                annotation = getOrCalculateAnnotation(newItem, originalName);
             }
             // Make sure to use the original name instead of the marker name
             updateItem(newItem, annotation, originalName);
@@ -279,8 +337,55 @@ public final class ItemHandler extends Handler {
         return true;
     }
 
+    private ItemAnnotation getOrCalculateAnnotation(ItemStack itemStack, StyledText name) {
+        // Read the components the annotators use directly, as ItemStack#get returns them with our overrides applied
+        AnnotationCacheKey key = new AnnotationCacheKey(
+                itemStack.getItem(),
+                itemStack.count,
+                itemStack.getDamageValue(),
+                name,
+                LoreUtils.getLore(itemStack),
+                itemStack.getComponents().get(DataComponents.CUSTOM_MODEL_DATA),
+                itemStack.getComponents().get(DataComponents.POTION_CONTENTS));
+
+        ItemAnnotation annotation = annotationCache.get(key);
+        if (annotation != null) {
+            annotationCacheHits++;
+            return copyForStack(annotation);
+        }
+
+        annotationCacheMisses++;
+        annotation = calculateAnnotation(itemStack, name);
+        if (annotation != null && isShareable(annotation)) {
+            annotationCache.put(key, annotation);
+            return copyForStack(annotation);
+        }
+
+        return annotation;
+    }
+
+    /**
+     * Only the parsed item is shared, every stack gets its own copy, so the data stored on it
+     * (e.g. the stack itself, or search results) and its state (e.g. pending territories) are per stack.
+     * The cached annotation itself is never handed out.
+     */
+    private ItemAnnotation copyForStack(ItemAnnotation annotation) {
+        return annotation instanceof WynnItem wynnItem ? wynnItem.copy() : annotation;
+    }
+
+    /**
+     * Annotations are shared between identical stacks, so annotations with state that is not fully
+     * described by the cache key (e.g. durability or shiny counters) need to be calculated for every stack.
+     */
+    private boolean isShareable(ItemAnnotation annotation) {
+        if (annotation instanceof DurableItemProperty || annotation instanceof UsesItemProperty) return false;
+        if (annotation instanceof ShinyItemProperty shinyItem && shinyItem.getShinyStat().isPresent()) return false;
+
+        return true;
+    }
+
     private ItemAnnotation calculateAnnotation(ItemStack itemStack, StyledText name) {
-        long startTime = System.currentTimeMillis();
+        long startTime = System.nanoTime();
 
         StyledText simplified = simplifyName(name);
 
@@ -309,10 +414,15 @@ public final class ItemHandler extends Handler {
         }
 
         // Hopefully we have none :)
-        for (ItemAnnotator annotator : crashedAnnotators) {
-            annotators.remove(annotator);
+        if (!crashedAnnotators.isEmpty()) {
+            for (ItemAnnotator annotator : crashedAnnotators) {
+                annotators.remove(annotator);
+            }
+            crashedAnnotators.clear();
+
+            // The cached annotations might depend on the order of the annotators
+            annotationCache.clear();
         }
-        crashedAnnotators.clear();
 
         if (annotation == null) return null;
 
@@ -344,25 +454,45 @@ public final class ItemHandler extends Handler {
         return name;
     }
 
+    private DataComponentGetEvent<?> createComponentGetEvent(
+            ItemStack itemStack, DataComponentType<?> type, Object original) {
+        if (type == DataComponents.CUSTOM_MODEL_DATA && original instanceof CustomModelData cmd) {
+            return new DataComponentGetEvent.CustomModelData(itemStack, cmd);
+        } else if (type == DataComponents.DYED_COLOR && original instanceof DyedItemColor dye) {
+            return new DataComponentGetEvent.DyedItemColor(itemStack, dye);
+        } else if (type == DataComponents.ENCHANTMENT_GLINT_OVERRIDE) {
+            // Original will always be null for items that do not have an override
+            return new DataComponentGetEvent.EnchantmentGlintOverride(
+                    itemStack, original == null ? null : (Boolean) original);
+        } else if (type == DataComponents.POTION_CONTENTS && original instanceof PotionContents pc) {
+            return new DataComponentGetEvent.PotionContents(itemStack, pc);
+        }
+
+        return null;
+    }
+
     private void annotate(ItemStack itemStack) {
-        StyledText name = StyledText.fromComponent(itemStack.getHoverName()).getNormalized();
-        ItemAnnotation annotation = calculateAnnotation(itemStack, name);
+        StyledText name = StyledText.fromComponentInterned(itemStack.getHoverName()).getNormalized();
+        ItemAnnotation annotation = getOrCalculateAnnotation(itemStack, name);
         if (annotation == null) return;
 
         updateItem(itemStack, annotation, name);
     }
 
     private void logProfilingData(long startTime, ItemAnnotation annotation) {
-        long endTime = System.currentTimeMillis();
-        int timeSpent = (int) (endTime - startTime);
-        int allTime = profilingTimes.getOrDefault(annotation.getClass(), 0);
+        long endTime = System.nanoTime();
+        long timeSpent = endTime - startTime;
+        long allTime = profilingTimes.getOrDefault(annotation.getClass(), 0L);
         profilingTimes.put(annotation.getClass(), allTime + timeSpent);
 
         int allCount = profilingCounts.getOrDefault(annotation.getClass(), 0);
         profilingCounts.put(annotation.getClass(), allCount + 1);
     }
 
-    public Map<Class<?>, Integer> getProfilingTimes() {
+    /**
+     * @return the time spent calculating annotations, in nanoseconds
+     */
+    public Map<Class<?>, Long> getProfilingTimes() {
         return profilingTimes;
     }
 
@@ -370,12 +500,31 @@ public final class ItemHandler extends Handler {
         return profilingCounts;
     }
 
+    public long getAnnotationCacheHits() {
+        return annotationCacheHits;
+    }
+
+    public long getAnnotationCacheMisses() {
+        return annotationCacheMisses;
+    }
+
     public void resetProfiling() {
         profilingTimes.clear();
         profilingCounts.clear();
+        annotationCacheHits = 0;
+        annotationCacheMisses = 0;
     }
 
     public List<ItemAnnotator> getAnnotators() {
         return Collections.unmodifiableList(annotators);
     }
+
+    private record AnnotationCacheKey(
+            Item item,
+            int count,
+            int damage,
+            StyledText name,
+            List<StyledText> lore,
+            CustomModelData customModelData,
+            PotionContents potionContents) {}
 }
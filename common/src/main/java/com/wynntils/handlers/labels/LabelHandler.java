@@ -1,5 +1,5 @@
 /*
- * Copyright © Wynntils 2023-2025.
+ * Copyright © Wynntils 2023-2026.
  * This file is released under LGPLv3. See LICENSE for full license details.
  */
 package com.wynntils.handlers.labels;
@@ -13,15 +13,16 @@ import com.wynntils.handlers.labels.event.LabelsRemovedEvent;
 import com.wynntils.handlers.labels.event.TextDisplayChangedEvent;
 import com.wynntils.handlers.labels.type.LabelInfo;
 import com.wynntils.handlers.labels.type.LabelParser;
+import com.wynntils.handlers.labels.type.LabelPrefilter;
 import com.wynntils.mc.event.RemoveEntitiesEvent;
 import com.wynntils.mc.event.SetEntityDataEvent;
 import com.wynntils.models.worlds.event.WorldStateEvent;
 import com.wynntils.utils.mc.McUtils;
 import com.wynntils.utils.mc.type.Location;
+import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
+import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
 import java.util.Optional;
 import net.minecraft.network.chat.Component;
 import net.minecraft.network.syncher.EntityDataSerializer;
@@ -32,27 +33,30 @@ import net.neoforged.bus.api.EventPriority;
 import net.neoforged.bus.api.SubscribeEvent;
 
 public final class LabelHandler extends Handler {
-    private final List<LabelParser> parsers = new ArrayList<>();
+    private final List<RegisteredParser> parsers = new ArrayList<>();
 
-    private final Map<Integer, LabelInfo> liveLabels = new HashMap<>();
+    private final Int2ObjectMap<LabelInfo> liveLabels = new Int2ObjectOpenHashMap<>();
 
     @SubscribeEvent(priority = EventPriority.HIGHEST)
     public void onEntitySetData(SetEntityDataEvent event) {
+        Entity entity = McUtils.mc().level.getEntity(event.getId());
+        if (entity == null) return;
+
         // Handle the events regarding the Wynncraft 2.1 TextDisplays
-        handleTextDisplayEvents(event);
+        if (entity instanceof Display.TextDisplay textDisplay) {
+            handleTextDisplayEvents(event, textDisplay);
+        }
 
         // Handle the events regarding the entity labels, which are old (usually armor stands)
-        handleEntityLabelEvents(event);
+        handleEntityLabelEvents(event, entity);
     }
 
-    private void handleTextDisplayEvents(SetEntityDataEvent event) {
-        Entity entity = McUtils.mc().level.getEntity(event.getId());
-        if (!(entity instanceof Display.TextDisplay textDisplay)) return;
-
+    private void handleTextDisplayEvents(SetEntityDataEvent event, Display.TextDisplay textDisplay) {
         for (SynchedEntityData.DataValue<?> packedItem : event.getPackedItems()) {
             if (packedItem.id() == Display.TextDisplay.DATA_TEXT_ID.id()) {
                 Component oldComponent = textDisplay.getText();
                 Component newComponent = (Component) packedItem.value();
+                if (newComponent.equals(oldComponent)) continue;
 
                 StyledText oldText = StyledText.fromComponent(oldComponent);
                 StyledText newText = StyledText.fromComponent(newComponent);
@@ -60,9 +64,9 @@ public final class LabelHandler extends Handler {
                 // Sometimes there is no actual change; ignore it then
                 if (oldText.equals(newText)) continue;
 
-                LabelInfo labelInfo = tryIdentifyLabel(newText, entity);
+                LabelInfo labelInfo = tryIdentifyLabel(newText, textDisplay);
                 if (labelInfo != null) {
-                    liveLabels.put(entity.getId(), labelInfo);
+                    liveLabels.put(textDisplay.getId(), labelInfo);
                 }
 
                 TextDisplayChangedEvent.Text textChangedEvent =
@@ -88,10 +92,7 @@ public final class LabelHandler extends Handler {
         }
     }
 
-    private void handleEntityLabelEvents(SetEntityDataEvent event) {
-        Entity entity = McUtils.mc().level.getEntity(event.getId());
-        if (entity == null) return;
-
+    private void handleEntityLabelEvents(SetEntityDataEvent event, Entity entity) {
         for (SynchedEntityData.DataValue<?> packedItem : event.getPackedItems()) {
             if (packedItem.id() == Entity.DATA_CUSTOM_NAME_VISIBLE.id()) {
                 WynntilsMod.postEvent(new EntityLabelEvent.Visibility(entity, (Boolean) packedItem.value()));
@@ -118,11 +119,14 @@ public final class LabelHandler extends Handler {
 
     @SubscribeEvent(priority = EventPriority.HIGHEST)
     public void onEntitiesRemoved(RemoveEntitiesEvent event) {
-        List<LabelInfo> removedLabels = liveLabels.values().stream()
-                .filter(label -> event.getEntityIds().contains(label.getEntity().getId()))
-                .toList();
+        List<LabelInfo> removedLabels = new ArrayList<>();
+        for (int entityId : event.getEntityIds()) {
+            LabelInfo label = liveLabels.remove(entityId);
+            if (label != null) {
+                removedLabels.add(label);
+            }
+        }
 
-        removedLabels.forEach(label -> liveLabels.remove(label.getEntity().getId()));
         WynntilsMod.postEvent(new LabelsRemovedEvent(removedLabels));
     }
 
@@ -134,12 +138,21 @@ public final class LabelHandler extends Handler {
     }
 
     public void registerParser(LabelParser labelParser) {
-        parsers.add(labelParser);
+        parsers.add(new RegisteredParser(labelParser, labelParser.getPrefilter()));
     }
 
     private LabelInfo tryIdentifyLabel(StyledText name, Entity entity) {
-        for (LabelParser parser : parsers) {
-            LabelInfo info = parser.getInfo(name, Location.containing(entity.position()), entity);
+        String label = name.getString();
+        Location location = null;
+
+        for (RegisteredParser registeredParser : parsers) {
+            if (!registeredParser.prefilter().test(label)) continue;
+
+            if (location == null) {
+                location = Location.containing(entity.position());
+            }
+
+            LabelInfo info = registeredParser.parser().getInfo(name, location, entity);
 
             if (info == null) continue;
 
@@ -149,4 +162,6 @@ public final class LabelHandler extends Handler {
 
         return null;
     }
+
+    private record RegisteredParser(LabelParser<?> parser, LabelPrefilter prefilter) {}
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright © Wynntils 2023-2024.
+ * Copyright © Wynntils 2023-2026.
  * This file is released under LGPLv3. See LICENSE for full license details.
  */
 package com.wynntils.handlers.labels.type;
@@ -15,4 +15,12 @@ public interface LabelParser<T extends LabelInfo> {
      * @return The label info, or null if the label is not valid for this parser.
      */
     T getInfo(StyledText label, Location location, Entity entity);
+
+    /**
+     * A cheap check of the formatted label, which must pass for this parser to be tried.
+     * This must never reject a label that {@link #getInfo} would accept.
+     */
+    default LabelPrefilter getPrefilter() {
+        return LabelPrefilter.NONE;
+    }
 }
@@ -0,0 +1,46 @@
+/*
+ * Copyright © Wynntils 2026.
+ * This file is released under LGPLv3. See LICENSE for full license details.
+ */
+package com.wynntils.handlers.labels.type;
+
+import java.util.List;
+
+/**
+ * A cheap check of a formatted label, which decides if a {@link LabelParser} should be tried on it at all.
+ * A label passes if it starts with any of the prefixes, and contains any of the keywords. An empty list
+ * of prefixes or keywords lets any label pass that part of the check.
+ */
+public record LabelPrefilter(List<String> prefixes, List<String> keywords) {
+    public static final LabelPrefilter NONE = new LabelPrefilter(List.of(), List.of());
+
+    public static LabelPrefilter startingWith(String... prefixes) {
+        return new LabelPrefilter(List.of(prefixes), List.of());
+    }
+
+    public static LabelPrefilter containing(String... keywords) {
+        return new LabelPrefilter(List.of(), List.of(keywords));
+    }
+
+    public LabelPrefilter andContaining(String... keywords) {
+        return new LabelPrefilter(prefixes, List.of(keywords));
+    }
+
+    public boolean test(String label) {
+        return (prefixes.isEmpty() || startsWithAny(label)) && (keywords.isEmpty() || containsAny(label));
+    }
+
+    private boolean startsWithAny(String label) {
+        for (String prefix : prefixes) {
+            if (label.startsWith(prefix)) return true;
+        }
+        return false;
+    }
+
+    private boolean containsAny(String label) {
+        for (String keyword : keywords) {
+            if (label.contains(keyword)) return true;
+        }
+        return false;
+    }
+}
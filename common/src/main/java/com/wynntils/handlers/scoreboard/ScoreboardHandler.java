@@ -23,7 +23,12 @@ import com.wynntils.utils.mc.McUtils;
 import com.wynntils.utils.type.Pair;
 import java.util.ArrayList;
 import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.regex.Pattern;
 import net.minecraft.ChatFormatting;
@@ -32,6 +37,7 @@ import net.minecraft.network.chat.MutableComponent;
 import net.minecraft.network.chat.numbers.BlankFormat;
 import net.minecraft.world.scores.DisplaySlot;
 import net.minecraft.world.scores.Objective;
+import net.minecraft.world.scores.Score;
 import net.minecraft.world.scores.ScoreHolder;
 import net.minecraft.world.scores.Scoreboard;
 import net.minecraft.world.scores.criteria.ObjectiveCriteria;
@@ -47,17 +53,31 @@ public final class ScoreboardHandler extends Handler {
             .withStyle(ChatFormatting.GOLD);
     private static final int MAX_SCOREBOARD_LINE = 16;
     private static final ScoreboardPart FALLBACK_SCOREBOARD_PART = new FallbackScoreboardPart();
+    // Header lookups are cached, this bounds the cache if the lines keep changing
+    private static final int MAX_CACHED_HEADERS = 256;
 
     private String currentScoreboardName = "";
     private List<Pair<ScoreboardPart, ScoreboardSegment>> scoreboardSegments = new ArrayList<>();
 
     private final List<ScoreboardPart> scoreboardParts = new ArrayList<>();
+    private final Map<StyledText, ScoreboardPart> headerParts = new HashMap<>();
+
+    // The scores of the lines of the current objective, which are patched with the score updates
+    private final Map<StyledText, Integer> lineScores = new HashMap<>();
+    // The line changes since the last update, a null score means the line was removed
+    private final Map<StyledText, Integer> pendingLineChanges = new HashMap<>();
+    private boolean lineScoresOutdated = true;
+    private List<ScoreboardLine> lastScoreboardLines = List.of();
+
+    // The scores of the lines of our own objective, by their holder name
+    private final Map<String, Integer> displayedLines = new HashMap<>();
 
     private boolean scoreboardOutdated = false;
     private long lastScoreboardUpdateTick = -1;
 
     public void addPart(ScoreboardPart scoreboardPart) {
         scoreboardParts.add(scoreboardPart);
+        headerParts.clear();
     }
 
     private boolean isValidScoreboardName(String scoreboardName) {
@@ -72,11 +92,16 @@ public final class ScoreboardHandler extends Handler {
     public void onSetScore(ScoreboardEvent.Set event) {
         if (!currentScoreboardName.equals(event.getObjectiveName())) return;
 
+        pendingLineChanges.put(event.getOwner(), event.getScore());
         updateNextTick();
     }
 
     @SubscribeEvent(priority = EventPriority.HIGHEST)
     public void onSetScore(ScoreboardEvent.Reset event) {
+        // A reset without an objective resets the owner in all objectives
+        if (event.getObjectiveName() != null && !currentScoreboardName.equals(event.getObjectiveName())) return;
+
+        pendingLineChanges.put(event.getOwner(), null);
         updateNextTick();
     }
 
@@ -84,6 +109,7 @@ public final class ScoreboardHandler extends Handler {
     public void onSetObjective(ScoreboardSetObjectiveEvent event) {
         if (!currentScoreboardName.equals(event.getObjectiveName())) return;
 
+        lineScoresOutdated = true;
         updateNextTick();
     }
 
@@ -92,6 +118,7 @@ public final class ScoreboardHandler extends Handler {
         if (!isValidScoreboardName(event.getObjectiveName())) return;
 
         currentScoreboardName = event.getObjectiveName();
+        lineScoresOutdated = true;
         updateNextTick();
 
         event.setCanceled(true);
@@ -120,6 +147,12 @@ public final class ScoreboardHandler extends Handler {
         scoreboardSegments = new ArrayList<>();
         currentScoreboardName = "";
 
+        lineScores.clear();
+        pendingLineChanges.clear();
+        lineScoresOutdated = true;
+        lastScoreboardLines = List.of();
+        headerParts.clear();
+
         scoreboardOutdated = false;
         lastScoreboardUpdateTick = -1;
     }
@@ -130,9 +163,13 @@ public final class ScoreboardHandler extends Handler {
     }
 
     private void handleUpdate() {
-        // 1. Get a reconstructed scoreboard from the current scoreboard state
+        // 1. Get a reconstructed scoreboard by applying the changed lines to the previous state
         List<ScoreboardLine> reconstructedScoreboard = getCurrentScoreboardState(currentScoreboardName);
 
+        // If the updates did not change any line (e.g. a score was set to the same value), there is nothing to do
+        if (reconstructedScoreboard.equals(lastScoreboardLines)) return;
+        lastScoreboardLines = reconstructedScoreboard;
+
         // 2. Verify that the scoreboard is in a semi-valid state
         // (in a state where we can make sense of it, even if the actual data is still being updated)
         List<ScoreboardPart> validParts = getValidScoreboardParts(reconstructedScoreboard);
@@ -145,21 +182,45 @@ public final class ScoreboardHandler extends Handler {
     }
 
     private List<ScoreboardLine> getCurrentScoreboardState(String currentScoreboardName) {
+        if (lineScoresOutdated) {
+            // The objective changed, so the lines are read from the scoreboard instead of being patched
+            lineScoresOutdated = false;
+            pendingLineChanges.clear();
+            readLineScores(currentScoreboardName);
+        } else {
+            pendingLineChanges.forEach((line, score) -> {
+                if (score == null) {
+                    lineScores.remove(line);
+                } else {
+                    lineScores.put(line, score);
+                }
+            });
+            pendingLineChanges.clear();
+        }
+
+        return lineScores.entrySet().stream()
+                .map(entry -> new ScoreboardLine(entry.getKey(), entry.getValue()))
+                .sorted(Comparator.comparing(ScoreboardLine::score).reversed())
+                .toList();
+    }
+
+    private void readLineScores(String currentScoreboardName) {
+        lineScores.clear();
+
         Scoreboard scoreboard = McUtils.mc().level.getScoreboard();
         Objective currentObjective = scoreboard.getObjective(currentScoreboardName);
 
         if (currentObjective == null) {
             WynntilsMod.warn("Could not find the current scoreboard objective: " + currentScoreboardName);
-            return List.of();
+            return;
         }
 
-        return scoreboard.playerScores.entrySet().stream()
-                .map(entry -> Pair.of(entry.getKey(), entry.getValue().get(currentObjective)))
-                .filter(pair -> pair.value() != null)
-                .map(entry -> new ScoreboardLine(
-                        StyledText.fromString(entry.key()), entry.value().value()))
-                .sorted(Comparator.comparing(ScoreboardLine::score).reversed())
-                .toList();
+        scoreboard.playerScores.forEach((owner, scores) -> {
+            Score score = scores.get(currentObjective);
+            if (score != null) {
+                lineScores.put(StyledText.fromString(owner), score.value());
+            }
+        });
     }
 
     private List<ScoreboardPart> getValidScoreboardParts(List<ScoreboardLine> reconstructedScoreboard) {
@@ -356,33 +417,39 @@ public final class ScoreboardHandler extends Handler {
     private void createScoreboardFromSegments() {
         Scoreboard scoreboard = McUtils.player().level().getScoreboard();
 
-        Objective oldObjective = scoreboard.getObjective(SCOREBOARD_KEY);
-        if (oldObjective != null) {
-            scoreboard.removeObjective(oldObjective);
-        }
-
-        Objective wynntilsObjective = scoreboard.addObjective(
-                SCOREBOARD_KEY,
-                ObjectiveCriteria.DUMMY,
-                SCOREBOARD_TITLE_COMPONENT,
-                ObjectiveCriteria.RenderType.INTEGER,
-                true,
-                BlankFormat.INSTANCE);
+        Objective wynntilsObjective = scoreboard.getObjective(SCOREBOARD_KEY);
 
         if (scoreboardSegments.stream().map(Pair::value).noneMatch(ScoreboardSegment::isVisible)) {
+            // Only display the scoreboard if there is at least one visible segment
+            if (wynntilsObjective != null) {
+                scoreboard.removeObjective(wynntilsObjective);
+            }
+            displayedLines.clear();
+
             WynntilsMod.postEvent(new ScoreboardUpdatedEvent(new ArrayList<>()));
             return;
         }
 
-        // Only display the scoreboard if there is at least one visible segment
-        scoreboard.setDisplayObjective(DisplaySlot.SIDEBAR, wynntilsObjective);
+        if (wynntilsObjective == null) {
+            wynntilsObjective = scoreboard.addObjective(
+                    SCOREBOARD_KEY,
+                    ObjectiveCriteria.DUMMY,
+                    SCOREBOARD_TITLE_COMPONENT,
+                    ObjectiveCriteria.RenderType.INTEGER,
+                    true,
+                    BlankFormat.INSTANCE);
+            displayedLines.clear();
+        }
+
+        if (scoreboard.getDisplayObjective(DisplaySlot.SIDEBAR) != wynntilsObjective) {
+            scoreboard.setDisplayObjective(DisplaySlot.SIDEBAR, wynntilsObjective);
+        }
 
+        Map<String, Integer> lines = new LinkedHashMap<>();
         int currentScoreboardLine = MAX_SCOREBOARD_LINE;
 
         // Insert the first line at the top
-        scoreboard
-                .getOrCreatePlayerScore(ScoreHolder.forNameOnly("À"), wynntilsObjective)
-                .set(currentScoreboardLine);
+        lines.put("À", currentScoreboardLine);
         currentScoreboardLine--;
 
         int separatorCount = 2;
@@ -394,35 +461,57 @@ public final class ScoreboardHandler extends Handler {
             ScoreboardSegment scoreboardSegment = segments.get(i);
             if (!scoreboardSegment.isVisible()) continue;
 
-            scoreboard
-                    .getOrCreatePlayerScore(
-                            ScoreHolder.forNameOnly(
-                                    scoreboardSegment.getHeader().getString()),
-                            wynntilsObjective)
-                    .set(currentScoreboardLine);
+            lines.put(scoreboardSegment.getHeader().getString(), currentScoreboardLine);
             currentScoreboardLine--;
 
             for (StyledText line : scoreboardSegment.getContent()) {
-                scoreboard
-                        .getOrCreatePlayerScore(ScoreHolder.forNameOnly(line.getString()), wynntilsObjective)
-                        .set(currentScoreboardLine);
+                lines.put(line.getString(), currentScoreboardLine);
                 currentScoreboardLine--;
             }
 
             if (i != segments.size() - 1) {
-                scoreboard
-                        .getOrCreatePlayerScore(
-                                ScoreHolder.forNameOnly(StringUtils.repeat('À', separatorCount)), wynntilsObjective)
-                        .set(currentScoreboardLine);
+                lines.put(StringUtils.repeat('À', separatorCount), currentScoreboardLine);
                 currentScoreboardLine--;
                 separatorCount++;
             }
         }
 
+        // Patch our objective, so only the changed lines are sent to the scoreboard
+        Iterator<String> iterator = displayedLines.keySet().iterator();
+        while (iterator.hasNext()) {
+            String holderName = iterator.next();
+            if (lines.containsKey(holderName)) continue;
+
+            scoreboard.resetSinglePlayerScore(ScoreHolder.forNameOnly(holderName), wynntilsObjective);
+            iterator.remove();
+        }
+
+        for (Map.Entry<String, Integer> line : lines.entrySet()) {
+            Integer displayedScore = displayedLines.put(line.getKey(), line.getValue());
+            if (Objects.equals(displayedScore, line.getValue())) continue;
+
+            scoreboard
+                    .getOrCreatePlayerScore(ScoreHolder.forNameOnly(line.getKey()), wynntilsObjective)
+                    .set(line.getValue());
+        }
+
         WynntilsMod.postEvent(new ScoreboardUpdatedEvent(scoreboardSegments));
     }
 
     private ScoreboardPart getScoreboardPartForHeader(ScoreboardLine scoreboardLine) {
+        ScoreboardPart cachedPart = headerParts.get(scoreboardLine.line());
+        if (cachedPart != null) return cachedPart;
+
+        if (headerParts.size() >= MAX_CACHED_HEADERS) {
+            headerParts.clear();
+        }
+
+        ScoreboardPart part = findScoreboardPartForHeader(scoreboardLine);
+        headerParts.put(scoreboardLine.line(), part);
+        return part;
+    }
+
+    private ScoreboardPart findScoreboardPartForHeader(ScoreboardLine scoreboardLine) {
         String unformattedLine = scoreboardLine.line().getString(StyleType.NONE);
 
         for (ScoreboardPart part : scoreboardParts) {
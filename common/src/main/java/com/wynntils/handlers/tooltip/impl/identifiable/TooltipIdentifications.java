@@ -1,5 +1,5 @@
 /*
- * Copyright © Wynntils 2023-2025.
+ * Copyright © Wynntils 2023-2026.
  * This file is released under LGPLv3. See LICENSE for full license details.
  */
 package com.wynntils.handlers.tooltip.impl.identifiable;
@@ -11,6 +11,7 @@ import com.wynntils.handlers.tooltip.type.TooltipStyle;
 import com.wynntils.models.character.type.ClassType;
 import com.wynntils.models.items.properties.IdentifiableItemProperty;
 import com.wynntils.models.stats.StatCalculator;
+import com.wynntils.models.stats.StatPossibleValuesLookup;
 import com.wynntils.models.stats.type.StatActualValue;
 import com.wynntils.models.stats.type.StatListDelimiter;
 import com.wynntils.models.stats.type.StatPossibleValues;
@@ -47,6 +48,7 @@ public final class TooltipIdentifications {
         if (allStats.isEmpty()) return identifications;
 
         boolean useDelimiters = style.useDelimiters();
+        StatPossibleValuesLookup possibleValuesLookup = new StatPossibleValuesLookup(itemInfo.getPossibleValues());
 
         boolean delimiterNeeded = false;
         // We need to iterate over all possible stats in order, to be able
@@ -61,7 +63,8 @@ public final class TooltipIdentifications {
             // Most stat types are probably not valid for this gear
             if (!allStats.contains(statType)) continue;
 
-            MutableComponent line = getStatLine(statType, itemInfo, currentClass, decorator, style);
+            MutableComponent line =
+                    getStatLine(statType, itemInfo, possibleValuesLookup, currentClass, decorator, style);
             if (line == null) continue;
 
             identifications.add(line);
@@ -79,6 +82,7 @@ public final class TooltipIdentifications {
     private static MutableComponent getStatLine(
             StatType statType,
             IdentifiableItemProperty<?, ?> itemInfo,
+            StatPossibleValuesLookup possibleValuesLookup,
             ClassType currentClass,
             TooltipIdentificationDecorator decorator,
             TooltipStyle style) {
@@ -95,10 +99,7 @@ public final class TooltipIdentifications {
 
             MutableComponent line = buildIdentifiedLine(itemInfo, style, statActualValue, currentClass);
 
-            StatPossibleValues possibleValues = itemInfo.getPossibleValues().stream()
-                    .filter(stat -> stat.statType() == statType)
-                    .findFirst()
-                    .orElse(null);
+            StatPossibleValues possibleValues = possibleValuesLookup.get(statType);
             // Normally this should not happen, but if our API data does not match the
             // actual gear, it might, so handle it gracefully
             if (possibleValues == null) {
@@ -115,10 +116,7 @@ public final class TooltipIdentifications {
             return line;
         } else {
             // Can only show range of possible values
-            StatPossibleValues possibleValues = itemInfo.getPossibleValues().stream()
-                    .filter(stat -> stat.statType() == statType)
-                    .findFirst()
-                    .orElse(null);
+            StatPossibleValues possibleValues = possibleValuesLookup.get(statType);
             if (possibleValues == null) {
                 WynntilsMod.warn("Missing possible values for stat type in item " + itemInfo.getName() + " for stat: "
                         + statType);
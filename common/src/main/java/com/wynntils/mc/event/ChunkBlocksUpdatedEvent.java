@@ -0,0 +1,28 @@
+/*
+ * Copyright © Wynntils 2026.
+ * This file is released under LGPLv3. See LICENSE for full license details.
+ */
+package com.wynntils.mc.event;
+
+import net.neoforged.bus.api.Event;
+
+/**
+ * Fires after the server changed blocks in a loaded chunk, without sending the whole chunk again.
+ */
+public class ChunkBlocksUpdatedEvent extends Event {
+    private final int chunkX;
+    private final int chunkZ;
+
+    public ChunkBlocksUpdatedEvent(int chunkX, int chunkZ) {
+        this.chunkX = chunkX;
+        this.chunkZ = chunkZ;
+    }
+
+    public int getChunkX() {
+        return chunkX;
+    }
+
+    public int getChunkZ() {
+        return chunkZ;
+    }
+}
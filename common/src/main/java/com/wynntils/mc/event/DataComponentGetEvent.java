@@ -1,5 +1,5 @@
 /*
- * Copyright © Wynntils 2025.
+ * Copyright © Wynntils 2025-2026.
  * This file is released under LGPLv3. See LICENSE for full license details.
  */
 package com.wynntils.mc.event;
@@ -9,6 +9,11 @@ import net.minecraft.core.component.DataComponents;
 import net.minecraft.world.item.ItemStack;
 import net.neoforged.bus.api.Event;
 
+/**
+ * Fired to override a data component of an item stack. The result is stored on the stack, so listeners are only
+ * asked again when the stack or its annotation changes, or when {@link
+ * com.wynntils.handlers.item.ItemHandler#invalidateComponentOverrides()} is called.
+ */
 public abstract class DataComponentGetEvent<T> extends Event {
     private final ItemStack itemStack;
     private final DataComponentType<T> dataComponentType;
@@ -1,11 +1,12 @@
 /*
- * Copyright © Wynntils 2022-2023.
+ * Copyright © Wynntils 2022-2026.
  * This file is released under LGPLv3. See LICENSE for full license details.
  */
 package com.wynntils.mc.extension;
 
 import com.wynntils.core.text.StyledText;
 import com.wynntils.handlers.item.ItemAnnotation;
+import com.wynntils.handlers.item.ItemComponentOverrides;
 
 public interface ItemStackExtension {
     ItemAnnotation getAnnotation();
@@ -15,4 +16,8 @@ public interface ItemStackExtension {
     StyledText getOriginalName();
 
     void setOriginalName(StyledText name);
+
+    ItemComponentOverrides getComponentOverrides();
+
+    void setComponentOverrides(ItemComponentOverrides overrides);
 }
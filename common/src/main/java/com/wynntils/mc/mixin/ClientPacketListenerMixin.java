@@ -13,6 +13,7 @@ import com.wynntils.core.text.StyledText;
 import com.wynntils.mc.event.AddEntityEvent;
 import com.wynntils.mc.event.AdvancementUpdateEvent;
 import com.wynntils.mc.event.ChatSentEvent;
+import com.wynntils.mc.event.ChunkBlocksUpdatedEvent;
 import com.wynntils.mc.event.ChunkReceivedEvent;
 import com.wynntils.mc.event.CommandSentEvent;
 import com.wynntils.mc.event.CommandsAddedEvent;
@@ -43,6 +44,9 @@ import com.wynntils.mc.event.TitleSetTextEvent;
 import com.wynntils.mc.mixin.accessors.ClientboundPlayerInfoUpdatePacketAccessor;
 import com.wynntils.mc.mixin.accessors.ClientboundSetPlayerTeamPacketAccessor;
 import com.wynntils.utils.mc.McUtils;
+import it.unimi.dsi.fastutil.longs.LongIterator;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import it.unimi.dsi.fastutil.longs.LongSet;
 import java.util.List;
 import java.util.UUID;
 import net.minecraft.client.Minecraft;
@@ -53,9 +57,11 @@ import net.minecraft.client.multiplayer.ClientPacketListener;
 import net.minecraft.client.multiplayer.CommonListenerCookie;
 import net.minecraft.commands.CommandBuildContext;
 import net.minecraft.commands.SharedSuggestionProvider;
+import net.minecraft.core.BlockPos;
 import net.minecraft.core.RegistryAccess;
 import net.minecraft.network.Connection;
 import net.minecraft.network.protocol.game.ClientboundAddEntityPacket;
+import net.minecraft.network.protocol.game.ClientboundBlockUpdatePacket;
 import net.minecraft.network.protocol.game.ClientboundCommandsPacket;
 import net.minecraft.network.protocol.game.ClientboundContainerClosePacket;
 import net.minecraft.network.protocol.game.ClientboundContainerSetContentPacket;
@@ -72,6 +78,7 @@ import net.minecraft.network.protocol.game.ClientboundPlayerPositionPacket;
 import net.minecraft.network.protocol.game.ClientboundRemoveEntitiesPacket;
 import net.minecraft.network.protocol.game.ClientboundRemoveMobEffectPacket;
 import net.minecraft.network.protocol.game.ClientboundResetScorePacket;
+import net.minecraft.network.protocol.game.ClientboundSectionBlocksUpdatePacket;
 import net.minecraft.network.protocol.game.ClientboundSetDefaultSpawnPositionPacket;
 import net.minecraft.network.protocol.game.ClientboundSetDisplayObjectivePacket;
 import net.minecraft.network.protocol.game.ClientboundSetEntityDataPacket;
@@ -88,6 +95,7 @@ import net.minecraft.network.protocol.game.ClientboundUpdateMobEffectPacket;
 import net.minecraft.network.protocol.ping.ClientboundPongResponsePacket;
 import net.minecraft.network.syncher.SynchedEntityData;
 import net.minecraft.world.entity.Entity;
+import net.minecraft.world.level.ChunkPos;
 import net.minecraft.world.flag.FeatureFlagSet;
 import net.minecraft.world.phys.Vec3;
 import org.spongepowered.asm.mixin.Final;
@@ -603,6 +611,34 @@ public abstract class ClientPacketListenerMixin extends ClientCommonPacketListen
                 new ChunkReceivedEvent(packet.getX(), packet.getZ(), packet.getChunkData(), packet.getLightData()));
     }
 
+    @Inject(
+            method = "handleBlockUpdate(Lnet/minecraft/network/protocol/game/ClientboundBlockUpdatePacket;)V",
+            at = @At("RETURN"))
+    private void handleBlockUpdatePost(ClientboundBlockUpdatePacket packet, CallbackInfo ci) {
+        if (!isRenderThread()) return;
+
+        BlockPos pos = packet.getPos();
+        MixinHelper.post(new ChunkBlocksUpdatedEvent(pos.getX() >> 4, pos.getZ() >> 4));
+    }
+
+    @Inject(
+            method =
+                    "handleChunkBlocksUpdate(Lnet/minecraft/network/protocol/game/ClientboundSectionBlocksUpdatePacket;)V",
+            at = @At("RETURN"))
+    private void handleChunkBlocksUpdatePost(ClientboundSectionBlocksUpdatePacket packet, CallbackInfo ci) {
+        if (!isRenderThread()) return;
+
+        // The updates of the packet are all in one chunk section
+        LongSet chunks = new LongOpenHashSet();
+        packet.runUpdates((pos, state) -> chunks.add(ChunkPos.asLong(pos.getX() >> 4, pos.getZ() >> 4)));
+
+        LongIterator iterator = chunks.iterator();
+        while (iterator.hasNext()) {
+            long chunk = iterator.nextLong();
+            MixinHelper.post(new ChunkBlocksUpdatedEvent(ChunkPos.getX(chunk), ChunkPos.getZ(chunk)));
+        }
+    }
+
     @Inject(method = "handleLogin(Lnet/minecraft/network/protocol/game/ClientboundLoginPacket;)V", at = @At("RETURN"))
     private void handleLoginPost(ClientboundLoginPacket packet, CallbackInfo ci) {
         if (!isRenderThread()) return;
@@ -1,18 +1,16 @@
 /*
- * Copyright © Wynntils 2025.
+ * Copyright © Wynntils 2025-2026.
  * This file is released under LGPLv3. See LICENSE for full license details.
  */
 package com.wynntils.mc.mixin;
 
+import com.wynntils.core.components.Handlers;
 import com.wynntils.core.events.MixinHelper;
-import com.wynntils.mc.event.DataComponentGetEvent;
+import com.wynntils.utils.mc.McUtils;
 import net.minecraft.core.component.DataComponentHolder;
 import net.minecraft.core.component.DataComponentType;
 import net.minecraft.core.component.DataComponents;
 import net.minecraft.world.item.ItemStack;
-import net.minecraft.world.item.alchemy.PotionContents;
-import net.minecraft.world.item.component.CustomModelData;
-import net.minecraft.world.item.component.DyedItemColor;
 import org.spongepowered.asm.mixin.Mixin;
 import org.spongepowered.asm.mixin.injection.At;
 import org.spongepowered.asm.mixin.injection.Inject;
@@ -28,25 +26,15 @@ public interface DataComponentHolderMixin {
         // We are only interested in ItemStacks
         if (!(((Object) this) instanceof ItemStack stack)) return;
 
-        Object original = cir.getReturnValue();
+        if (type != DataComponents.CUSTOM_MODEL_DATA
+                && type != DataComponents.DYED_COLOR
+                && type != DataComponents.ENCHANTMENT_GLINT_OVERRIDE
+                && type != DataComponents.POTION_CONTENTS) return;
 
-        DataComponentGetEvent<?> event = null;
+        // Same conditions as for posting events, as the overrides are calculated by event listeners
+        if (!MixinHelper.onWynncraft() || !MixinHelper.isCompatibleVersion() || McUtils.player() == null) return;
 
-        if (type == DataComponents.CUSTOM_MODEL_DATA && original instanceof CustomModelData cmd) {
-            event = new DataComponentGetEvent.CustomModelData(stack, cmd);
-        } else if (type == DataComponents.DYED_COLOR && original instanceof DyedItemColor dye) {
-            event = new DataComponentGetEvent.DyedItemColor(stack, dye);
-        } else if (type == DataComponents.ENCHANTMENT_GLINT_OVERRIDE) {
-            // Original will always be null for items that do not have an override
-            event = new DataComponentGetEvent.EnchantmentGlintOverride(
-                    stack, original == null ? null : (Boolean) original);
-        } else if (type == DataComponents.POTION_CONTENTS && original instanceof PotionContents pc) {
-            event = new DataComponentGetEvent.PotionContents(stack, pc);
-        }
-
-        if (event == null) return;
-
-        MixinHelper.post(event);
-        cir.setReturnValue(event.getValue());
+        // The overrides are stored on the stack, so this is a lookup unless the stack or its annotation changed
+        cir.setReturnValue(Handlers.Item.getOverriddenComponent(stack, type, cir.getReturnValue()));
     }
 }
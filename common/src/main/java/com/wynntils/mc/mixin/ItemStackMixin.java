@@ -1,5 +1,5 @@
 /*
- * Copyright © Wynntils 2022-2025.
+ * Copyright © Wynntils 2022-2026.
  * This file is released under LGPLv3. See LICENSE for full license details.
  */
 package com.wynntils.mc.mixin;
@@ -7,6 +7,7 @@ package com.wynntils.mc.mixin;
 import com.wynntils.core.events.MixinHelper;
 import com.wynntils.core.text.StyledText;
 import com.wynntils.handlers.item.ItemAnnotation;
+import com.wynntils.handlers.item.ItemComponentOverrides;
 import com.wynntils.mc.event.ItemTooltipFlagsEvent;
 import com.wynntils.mc.extension.ItemStackExtension;
 import net.minecraft.world.item.ItemStack;
@@ -24,6 +25,9 @@ public abstract class ItemStackMixin implements ItemStackExtension {
     @Unique
     private StyledText wynntilsOriginalName;
 
+    @Unique
+    private ItemComponentOverrides wynntilsComponentOverrides;
+
     @ModifyVariable(
             method =
                     "getTooltipLines(Lnet/minecraft/world/item/Item$TooltipContext;Lnet/minecraft/world/entity/player/Player;Lnet/minecraft/world/item/TooltipFlag;)Ljava/util/List;",
@@ -61,4 +65,16 @@ public abstract class ItemStackMixin implements ItemStackExtension {
     public void setOriginalName(StyledText name) {
         this.wynntilsOriginalName = name;
     }
+
+    @Override
+    @Unique
+    public ItemComponentOverrides getComponentOverrides() {
+        return this.wynntilsComponentOverrides;
+    }
+
+    @Override
+    @Unique
+    public void setComponentOverrides(ItemComponentOverrides overrides) {
+        this.wynntilsComponentOverrides = overrides;
+    }
 }
@@ -1,14 +1,14 @@
 /*
- * Copyright © Wynntils 2022-2025.
+ * Copyright © Wynntils 2022-2026.
  * This file is released under LGPLv3. See LICENSE for full license details.
  */
 package com.wynntils.models.abilities;
 
 import com.wynntils.core.components.Handlers;
 import com.wynntils.core.components.Model;
-import com.wynntils.core.text.StyledText;
 import com.wynntils.handlers.bossbar.TrackedBar;
 import com.wynntils.handlers.chat.event.ChatMessageEvent;
+import com.wynntils.handlers.chat.type.ChatPattern;
 import com.wynntils.models.abilities.bossbars.AwakenedBar;
 import com.wynntils.models.abilities.bossbars.BloodPoolBar;
 import com.wynntils.models.abilities.bossbars.CommanderBar;
@@ -18,7 +18,6 @@ import com.wynntils.models.abilities.bossbars.HolyPowerBar;
 import com.wynntils.models.abilities.bossbars.ManaBankBar;
 import com.wynntils.models.abilities.bossbars.MomentumBar;
 import com.wynntils.models.abilities.bossbars.OphanimBar;
-import com.wynntils.utils.mc.StyledTextUtils;
 import java.util.Arrays;
 import java.util.List;
 import java.util.regex.Pattern;
@@ -29,6 +28,8 @@ public final class AbilityModel extends Model {
             Pattern.compile("§e((\uE008\uE002)|\uE001) You sent your hummingbirds to attack!$");
     private static final Pattern HUMMINGBIRD_RETURN_PATTERN =
             Pattern.compile("§e((\uE008\uE002)|\uE001) Your hummingbirds have returned to you!$");
+    private static final ChatPattern HUMMINGBIRD_SENT = ChatPattern.ofUnwrapped(HUMMINGBIRD_SENT_PATTERN);
+    private static final ChatPattern HUMMINGBIRD_RETURN = ChatPattern.ofUnwrapped(HUMMINGBIRD_RETURN_PATTERN);
     public static final TrackedBar manaBankBar = new ManaBankBar();
 
     public static final TrackedBar bloodPoolBar = new BloodPoolBar();
@@ -68,10 +69,9 @@ public final class AbilityModel extends Model {
 
     @SubscribeEvent
     public void onChatMessage(ChatMessageEvent.Match event) {
-        StyledText message = StyledTextUtils.unwrap(event.getMessage().stripAlignment());
-        if (message.matches(HUMMINGBIRD_RETURN_PATTERN)) {
+        if (event.matches(HUMMINGBIRD_RETURN)) {
             hummingBirdsState = false;
-        } else if (message.matches(HUMMINGBIRD_SENT_PATTERN)) {
+        } else if (event.matches(HUMMINGBIRD_SENT)) {
             hummingBirdsState = true;
         }
     }
@@ -10,8 +10,8 @@ import com.wynntils.core.components.Models;
 import com.wynntils.core.mod.event.WynncraftConnectionEvent;
 import com.wynntils.core.persisted.Persisted;
 import com.wynntils.core.persisted.storage.Storage;
-import com.wynntils.core.text.StyledText;
 import com.wynntils.handlers.chat.event.ChatMessageEvent;
+import com.wynntils.handlers.chat.type.ChatPattern;
 import com.wynntils.handlers.container.scriptedquery.QueryBuilder;
 import com.wynntils.handlers.container.scriptedquery.QueryStep;
 import com.wynntils.handlers.container.scriptedquery.ScriptedContainerQuery;
@@ -39,9 +39,12 @@ import net.neoforged.bus.api.SubscribeEvent;
 
 public final class AccountModel extends Model {
     private static final Pattern SILVERBULL_JOIN_PATTERN =
-            Pattern.compile("§3Welcome to the §b✮ Silverbull Trading Company§3!");
-    private static final Pattern SILVERBULL_UPDATE_PATTERN = Pattern.compile("§7Your subscription has been extended.");
+            Pattern.compile("\\s*§3Welcome to the §b✮ Silverbull Trading Company§3!\\s*");
+    private static final Pattern SILVERBULL_UPDATE_PATTERN =
+            Pattern.compile("\\s*§7Your subscription has been extended.\\s*");
     private static final Pattern SILVERBULL_PATTERN = Pattern.compile("§8Become a Silverbull Member to");
+    private static final ChatPattern SILVERBULL_JOIN = ChatPattern.of(SILVERBULL_JOIN_PATTERN);
+    private static final ChatPattern SILVERBULL_UPDATE = ChatPattern.of(SILVERBULL_UPDATE_PATTERN);
     // Test in AccountModel_SILVERBULL_DURATION_PATTERN
     private static final Pattern SILVERBULL_DURATION_PATTERN = Pattern.compile(
             "§#00a2e8ff- §7Expiration: §f(?:(?<weeks>\\d+) weeks?)? ?(?:(?<days>\\d+) days?)? ?(?:(?<hours>\\d+) hours?)? ?(?:(?<minutes>\\d+) minutes?)? ?(?:(?<seconds>\\d+) seconds?)?");
@@ -66,9 +69,7 @@ public final class AccountModel extends Model {
 
     @SubscribeEvent
     public void onChatReceived(ChatMessageEvent.Match e) {
-        StyledText message = e.getMessage().trim();
-
-        if (message.matches(SILVERBULL_JOIN_PATTERN) || message.matches(SILVERBULL_UPDATE_PATTERN)) {
+        if (e.matches(SILVERBULL_JOIN) || e.matches(SILVERBULL_UPDATE)) {
             silverbullSubscriber.store(OptionalBoolean.TRUE);
         }
     }
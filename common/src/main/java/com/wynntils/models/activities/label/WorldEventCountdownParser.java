@@ -1,5 +1,5 @@
 /*
- * Copyright © Wynntils 2025.
+ * Copyright © Wynntils 2025-2026.
  * This file is released under LGPLv3. See LICENSE for full license details.
  */
 package com.wynntils.models.activities.label;
@@ -7,6 +7,7 @@ package com.wynntils.models.activities.label;
 import com.wynntils.core.components.Models;
 import com.wynntils.core.text.StyledText;
 import com.wynntils.handlers.labels.type.LabelParser;
+import com.wynntils.handlers.labels.type.LabelPrefilter;
 import com.wynntils.utils.mc.type.Location;
 import com.wynntils.utils.type.Time;
 import java.util.regex.Matcher;
@@ -26,4 +27,9 @@ public class WorldEventCountdownParser implements LabelParser<WorldEventCountdow
 
         return new WorldEventCountdownInfo(label, location, entity, startTime);
     }
+
+    @Override
+    public LabelPrefilter getPrefilter() {
+        return LabelPrefilter.startingWith("§#aeb8bfffStarts in");
+    }
 }
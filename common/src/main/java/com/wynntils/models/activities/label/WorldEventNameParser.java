@@ -1,11 +1,12 @@
 /*
- * Copyright © Wynntils 2025.
+ * Copyright © Wynntils 2025-2026.
  * This file is released under LGPLv3. See LICENSE for full license details.
  */
 package com.wynntils.models.activities.label;
 
 import com.wynntils.core.text.StyledText;
 import com.wynntils.handlers.labels.type.LabelParser;
+import com.wynntils.handlers.labels.type.LabelPrefilter;
 import com.wynntils.utils.mc.type.Location;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -20,4 +21,9 @@ public class WorldEventNameParser implements LabelParser<WorldEventNameInfo> {
 
         return new WorldEventNameInfo(label, location, entity, matcher.group(1));
     }
+
+    @Override
+    public LabelPrefilter getPrefilter() {
+        return LabelPrefilter.startingWith("§#ebf7ffff");
+    }
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright © Wynntils 2024-2025.
+ * Copyright © Wynntils 2024-2026.
  * This file is released under LGPLv3. See LICENSE for full license details.
  */
 package com.wynntils.models.activities.worldevents;
@@ -12,6 +12,7 @@ import com.wynntils.core.persisted.Persisted;
 import com.wynntils.core.persisted.storage.Storage;
 import com.wynntils.core.text.StyledText;
 import com.wynntils.handlers.chat.event.ChatMessageEvent;
+import com.wynntils.handlers.chat.type.ChatPattern;
 import com.wynntils.handlers.labels.event.LabelIdentifiedEvent;
 import com.wynntils.handlers.labels.event.LabelsRemovedEvent;
 import com.wynntils.handlers.labels.type.LabelInfo;
@@ -36,13 +37,12 @@ import com.wynntils.models.items.items.game.CorruptedCacheItem;
 import com.wynntils.models.worlds.event.WorldStateEvent;
 import com.wynntils.utils.VectorUtils;
 import com.wynntils.utils.mc.McUtils;
-import com.wynntils.utils.mc.StyledTextUtils;
 import com.wynntils.utils.type.Time;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
-import java.util.regex.Matcher;
+import java.util.regex.MatchResult;
 import java.util.regex.Pattern;
 import net.minecraft.core.Position;
 import net.minecraft.world.item.ItemStack;
@@ -77,6 +77,14 @@ public final class WorldEventModel extends Model {
     private static final Pattern WORLD_EVENT_COMPLETE_PATTERN = Pattern.compile("§#00bdbfff\uE001 §fEvent Completed");
     private static final Pattern WORLD_EVENT_FAIL_PATTERN = Pattern.compile("§#00bdbfff\uE001 §fEvent Failed");
 
+    private static final ChatPattern IN_RADIUS = ChatPattern.ofUnwrapped(IN_RADIUS_PATTERN);
+    private static final ChatPattern OUT_OF_RADIUS = ChatPattern.ofUnwrapped(OUT_OF_RADIUS_PATTERN);
+    private static final ChatPattern DID_NOT_ENTER = ChatPattern.ofUnwrapped(DID_NOT_ENTER_PATTERN);
+    private static final ChatPattern ANNIHILATION_TIMER = ChatPattern.ofUnwrapped(ANNIHILATION_TIMER_PATTERN);
+    private static final ChatPattern WORLD_EVENT = ChatPattern.ofUnwrapped(WORLD_EVENT_PATTERN);
+    private static final ChatPattern WORLD_EVENT_COMPLETE = ChatPattern.ofUnwrapped(WORLD_EVENT_COMPLETE_PATTERN);
+    private static final ChatPattern WORLD_EVENT_FAIL = ChatPattern.ofUnwrapped(WORLD_EVENT_FAIL_PATTERN);
+
     private final Map<String, WorldEvent> activeWorldEvents = new HashMap<>();
 
     private boolean inWorldEventRadius = false;
@@ -143,9 +151,7 @@ public final class WorldEventModel extends Model {
 
     @SubscribeEvent
     public void onChatMessage(ChatMessageEvent.Match event) {
-        StyledText styledText = StyledTextUtils.unwrap(event.getMessage()).stripAlignment();
-
-        if (styledText.matches(IN_RADIUS_PATTERN)) {
+        if (event.matches(IN_RADIUS)) {
             inWorldEventRadius = true;
 
             if (nearestWorldEvent == null) {
@@ -165,18 +171,18 @@ public final class WorldEventModel extends Model {
 
             currentWorldEvent = nearestWorldEvent;
             return;
-        } else if (styledText.matches(OUT_OF_RADIUS_PATTERN)) {
+        } else if (event.matches(OUT_OF_RADIUS)) {
             inWorldEventRadius = false;
 
             nearestWorldEvent = currentWorldEvent;
             exitWorldEvent();
             return;
-        } else if (styledText.matches(DID_NOT_ENTER_PATTERN) && nearestWorldEvent != null) {
+        } else if (event.matches(DID_NOT_ENTER) && nearestWorldEvent != null) {
             activeWorldEvents.remove(nearestWorldEvent.getName());
             nearestWorldEvent = null;
             nearestWorldEventStartTime = Time.NONE;
             return;
-        } else if (styledText.matches(WORLD_EVENT_COMPLETE_PATTERN)) {
+        } else if (event.matches(WORLD_EVENT_COMPLETE)) {
             if (currentWorldEvent == null) {
                 WynntilsMod.warn("Completed a world event but current world event was unknown");
                 return;
@@ -190,7 +196,7 @@ public final class WorldEventModel extends Model {
             currentWorldEvent = null;
 
             return;
-        } else if (styledText.matches(WORLD_EVENT_FAIL_PATTERN)) {
+        } else if (event.matches(WORLD_EVENT_FAIL)) {
             currentWorldEvent = null;
 
             if (currentWorldEvent.getName().equals(ANNIHILATION_WORLD_EVENT_NAME)) {
@@ -199,9 +205,8 @@ public final class WorldEventModel extends Model {
             return;
         }
 
-        Matcher matcher = styledText.getMatcher(ANNIHILATION_TIMER_PATTERN);
-
-        if (!activeWorldEvents.containsKey(ANNIHILATION_WORLD_EVENT_NAME) && matcher.matches()) {
+        MatchResult matcher = event.getMatch(ANNIHILATION_TIMER).orElse(null);
+        if (!activeWorldEvents.containsKey(ANNIHILATION_WORLD_EVENT_NAME) && matcher != null) {
             Time anniStartTime =
                     parseWorldEventStartTime(matcher.group("hour"), matcher.group("minute"), matcher.group("second"));
 
@@ -210,9 +215,8 @@ public final class WorldEventModel extends Model {
             return;
         }
 
-        matcher = styledText.getMatcher(WORLD_EVENT_PATTERN);
-
-        if (matcher.matches()) {
+        matcher = event.getMatch(WORLD_EVENT).orElse(null);
+        if (matcher != null) {
             String worldEventName = matcher.group("worldEventName");
             Time startTime =
                     parseWorldEventStartTime(matcher.group("hour"), matcher.group("minute"), matcher.group("second"));
@@ -1,5 +1,5 @@
 /*
- * Copyright © Wynntils 2025.
+ * Copyright © Wynntils 2025-2026.
  * This file is released under LGPLv3. See LICENSE for full license details.
  */
 package com.wynntils.models.bonustotems.label;
@@ -7,6 +7,7 @@ package com.wynntils.models.bonustotems.label;
 import com.wynntils.core.WynntilsMod;
 import com.wynntils.core.text.StyledText;
 import com.wynntils.handlers.labels.type.LabelParser;
+import com.wynntils.handlers.labels.type.LabelPrefilter;
 import com.wynntils.models.bonustotems.type.BonusTotemType;
 import com.wynntils.utils.mc.type.Location;
 import java.util.Locale;
@@ -38,4 +39,9 @@ public class BonusTotemLabelParser implements LabelParser<BonusTotemLabelInfo> {
 
         return new BonusTotemLabelInfo(label, location, entity, type, user, timerString);
     }
+
+    @Override
+    public LabelPrefilter getPrefilter() {
+        return LabelPrefilter.startingWith("§#ffd750ff").andContaining(" Totem\n");
+    }
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright © Wynntils 2023-2025.
+ * Copyright © Wynntils 2023-2026.
  * This file is released under LGPLv3. See LICENSE for full license details.
  */
 package com.wynntils.models.characterstats;
@@ -15,7 +15,7 @@ import com.wynntils.models.characterstats.event.CombatXpGainEvent;
 import com.wynntils.models.worlds.event.WorldStateEvent;
 import com.wynntils.models.worlds.type.WorldState;
 import com.wynntils.utils.type.CappedValue;
-import com.wynntils.utils.type.TimedSet;
+import com.wynntils.utils.type.TimeWindow;
 import java.util.List;
 import java.util.concurrent.TimeUnit;
 import net.neoforged.bus.api.SubscribeEvent;
@@ -43,8 +43,8 @@ public final class CombatXpModel extends Model {
 
     private boolean firstJoinHappened = false;
 
-    private final TimedSet<Float> rawXpGainInLastMinute = new TimedSet<>(1, TimeUnit.MINUTES, true);
-    private final TimedSet<Float> percentageXpGainInLastMinute = new TimedSet<>(1, TimeUnit.MINUTES, true);
+    private final TimeWindow rawXpGainWindow = new TimeWindow(1, TimeUnit.MINUTES, 1, TimeUnit.SECONDS);
+    private final TimeWindow percentageXpGainWindow = new TimeWindow(1, TimeUnit.MINUTES, 1, TimeUnit.SECONDS);
 
     public CombatXpModel() {
         super(List.of());
@@ -60,8 +60,8 @@ public final class CombatXpModel extends Model {
 
     @SubscribeEvent
     public void onXpGain(CombatXpGainEvent event) {
-        rawXpGainInLastMinute.put(event.getGainedXpRaw());
-        percentageXpGainInLastMinute.put(event.getGainedXpPercentage());
+        rawXpGainWindow.add(event.getGainedXpRaw());
+        percentageXpGainWindow.add(event.getGainedXpPercentage());
     }
 
     @SubscribeEvent
@@ -94,16 +94,16 @@ public final class CombatXpModel extends Model {
         return LEVEL_UP_XP_REQUIREMENTS[levelIndex];
     }
 
-    public TimedSet<Float> getRawXpGainInLastMinute() {
-        return rawXpGainInLastMinute;
+    public double getRawXpGainInLastMinute() {
+        return rawXpGainWindow.getSum(1, TimeUnit.MINUTES);
     }
 
-    public TimedSet<Float> getPercentageXpGainInLastMinute() {
-        return percentageXpGainInLastMinute;
+    public double getPercentageXpGainInLastMinute() {
+        return percentageXpGainWindow.getSum(1, TimeUnit.MINUTES);
     }
 
     public long getLastXpGainTimestamp() {
-        return rawXpGainInLastMinute.getLastAddedTimestamp();
+        return rawXpGainWindow.getLastAddedTimestamp();
     }
 
     private void updateCombatExperience(CombatExperienceSegment combatExperienceSegment) {
@@ -1,5 +1,5 @@
 /*
- * Copyright © Wynntils 2024-2025.
+ * Copyright © Wynntils 2024-2026.
  * This file is released under LGPLv3. See LICENSE for full license details.
  */
 package com.wynntils.models.characterstats.actionbar.matchers;
@@ -37,6 +37,11 @@ public abstract class AbstractMeterSegmentMatcher implements ActionBarSegmentMat
 
     protected abstract ActionBarSegment createSegment(String segmentText, String segmentValue);
 
+    @Override
+    public String getSignature() {
+        return SEGMENT_START;
+    }
+
     @Override
     public ActionBarSegment parse(String actionBar) {
         Matcher matcher = this.segmentMatcher.matcher(actionBar);
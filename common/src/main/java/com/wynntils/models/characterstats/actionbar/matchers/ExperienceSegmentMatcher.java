@@ -1,5 +1,5 @@
 /*
- * Copyright © Wynntils 2025.
+ * Copyright © Wynntils 2025-2026.
  * This file is released under LGPLv3. See LICENSE for full license details.
  */
 package com.wynntils.models.characterstats.actionbar.matchers;
@@ -20,6 +20,11 @@ public abstract class ExperienceSegmentMatcher implements ActionBarSegmentMatche
     private final Pattern experienceBarPattern = Pattern.compile(
             SEGMENT_START + "([" + getExperienceCharStart() + "-" + getExperienceCharEnd() + "])" + SEGMENT_END);
 
+    @Override
+    public String getSignature() {
+        return SEGMENT_START;
+    }
+
     @Override
     public ActionBarSegment parse(String actionBar) {
         Matcher matcher = experienceBarPattern.matcher(actionBar);
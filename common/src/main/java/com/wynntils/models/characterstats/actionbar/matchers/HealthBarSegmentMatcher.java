@@ -1,5 +1,5 @@
 /*
- * Copyright © Wynntils 2024-2025.
+ * Copyright © Wynntils 2024-2026.
  * This file is released under LGPLv3. See LICENSE for full license details.
  */
 package com.wynntils.models.characterstats.actionbar.matchers;
@@ -36,6 +36,11 @@ public class HealthBarSegmentMatcher implements ActionBarSegmentMatcher {
     private static final Pattern HEALTH_BAR_PATTERN =
             Pattern.compile("(.[" + String.join("", HEALTH_BAR_CHARS) + "]){10}");
 
+    @Override
+    public String getSignature() {
+        return HEALTH_BACKGROUND_SPACER;
+    }
+
     @Override
     public ActionBarSegment parse(String actionBar) {
         Matcher matcher = BACKGROUND_PATTERN.matcher(actionBar);
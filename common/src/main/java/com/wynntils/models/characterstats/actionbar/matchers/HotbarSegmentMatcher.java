@@ -1,5 +1,5 @@
 /*
- * Copyright © Wynntils 2024.
+ * Copyright © Wynntils 2024-2026.
  * This file is released under LGPLv3. See LICENSE for full license details.
  */
 package com.wynntils.models.characterstats.actionbar.matchers;
@@ -12,6 +12,11 @@ public class HotbarSegmentMatcher implements ActionBarSegmentMatcher {
     // This is the expected string for the hotbar, which should be "static" and not change
     private static final String HOTBAR_STRING = "\uDAFF\uDF98\uE00A\uDAFF\uDFFF\uDAFF\uDF98";
 
+    @Override
+    public String getSignature() {
+        return HOTBAR_STRING;
+    }
+
     @Override
     public ActionBarSegment parse(String actionBar) {
         if (!actionBar.contains(HOTBAR_STRING)) return null;
@@ -1,5 +1,5 @@
 /*
- * Copyright © Wynntils 2024.
+ * Copyright © Wynntils 2024-2026.
  * This file is released under LGPLv3. See LICENSE for full license details.
  */
 package com.wynntils.models.characterstats.actionbar.matchers;
@@ -23,6 +23,11 @@ public class ManaBarSegmentMatcher implements ActionBarSegmentMatcher {
     // The mana bar should have 10 spacer+bar pairs
     private static final Pattern MANA_BAR_PATTERN = Pattern.compile("(.[" + MANA_BAR_CHARS + "]){10}");
 
+    @Override
+    public String getSignature() {
+        return BACKGROUND_STRING;
+    }
+
     @Override
     public ActionBarSegment parse(String actionBar) {
         if (!actionBar.contains(BACKGROUND_STRING)) {
@@ -28,7 +28,7 @@ import com.wynntils.models.stats.type.DamageType;
 import com.wynntils.models.worlds.event.WorldStateEvent;
 import com.wynntils.utils.mc.McUtils;
 import com.wynntils.utils.type.CappedValue;
-import com.wynntils.utils.type.TimedSet;
+import com.wynntils.utils.type.TimeWindow;
 import com.wynntils.utils.wynn.RaycastUtils;
 import java.util.EnumMap;
 import java.util.HashMap;
@@ -48,10 +48,11 @@ public final class CombatModel extends Model {
 
     private final DamageBar damageBar = new DamageBar();
 
-    private final TimedSet<Long> areaDamageSet = new TimedSet<>(60, TimeUnit.SECONDS, true);
+    private final TimeWindow areaDamageWindow = new TimeWindow(60, TimeUnit.SECONDS, 100, TimeUnit.MILLISECONDS);
     private final Map<Integer, Map<DamageType, Long>> liveDamageInfo = new HashMap<>();
 
-    private final TimedSet<KillCreditType> killSet = new TimedSet<>(60, TimeUnit.SECONDS, true);
+    private final TimeWindow killWindow = new TimeWindow(60, TimeUnit.SECONDS, 1, TimeUnit.SECONDS);
+    private final TimeWindow selfKillWindow = new TimeWindow(60, TimeUnit.SECONDS, 1, TimeUnit.SECONDS);
 
     private final Map<Integer, DebuffLabelEntry> debuffTextDisplays = new HashMap<>();
 
@@ -102,15 +103,16 @@ public final class CombatModel extends Model {
             }
 
             long damageSum = damages.values().stream().mapToLong(d -> d).sum();
-            areaDamageSet.put(damageSum);
+            areaDamageWindow.add(damageSum);
 
             WynntilsMod.postEvent(new DamageDealtEvent(damages));
 
             lastDamageDealtTimestamp = System.currentTimeMillis();
         } else if (event.getLabelInfo() instanceof KillLabelInfo killLabelInfo) {
-            killSet.put(killLabelInfo.getKillCredit());
+            killWindow.add(1);
 
             if (killLabelInfo.getKillCredit() == KillCreditType.SELF) {
+                selfKillWindow.add(1);
                 lastSelfKillTimestamp = System.currentTimeMillis();
             } else if (killLabelInfo.getKillCredit() == KillCreditType.SHARED) {
                 lastSharedKillTimestamp = System.currentTimeMillis();
@@ -149,7 +151,7 @@ public final class CombatModel extends Model {
 
     @SubscribeEvent
     public void onWorldStateChange(WorldStateEvent event) {
-        areaDamageSet.clear();
+        areaDamageWindow.clear();
         focusedMobName = "";
         focusedMobHealth = 0;
         focusedMobElementals = MobElementals.EMPTY;
@@ -259,34 +261,20 @@ public final class CombatModel extends Model {
     }
 
     public long getAreaDamagePerSecond() {
-        return areaDamageSet.getEntries().stream()
-                .filter(timedEntry -> (System.currentTimeMillis() - timedEntry.getCreation()) <= 1000L)
-                .mapToLong(TimedSet.TimedEntry::getEntry)
-                .sum();
+        return (long) areaDamageWindow.getSum(1, TimeUnit.SECONDS);
     }
 
     public double getAverageAreaDamagePerSecond(int seconds) {
-        return areaDamageSet.getEntries().stream()
-                        .filter(timedEntry ->
-                                (System.currentTimeMillis() - timedEntry.getCreation()) <= seconds * 1000L)
-                        .mapToLong(TimedSet.TimedEntry::getEntry)
-                        .sum()
-                / (double) seconds;
+        return areaDamageWindow.getRatePerSecond(seconds, TimeUnit.SECONDS);
     }
 
     public double getTotalAreaDamageOverSeconds(int seconds) {
-        return areaDamageSet.getEntries().stream()
-                .filter(timedEntry -> (System.currentTimeMillis() - timedEntry.getCreation()) <= seconds * 1000L)
-                .mapToLong(TimedSet.TimedEntry::getEntry)
-                .sum();
+        return areaDamageWindow.getSum(seconds, TimeUnit.SECONDS);
     }
 
     public int getKillsPerMinute(boolean includeShared) {
-        return killSet.getEntries().stream()
-                .filter(creditType -> includeShared || creditType.getEntry() == KillCreditType.SELF)
-                .filter(timedEntry -> (System.currentTimeMillis() - timedEntry.getCreation()) <= 60000L)
-                .toList()
-                .size();
+        TimeWindow window = includeShared ? killWindow : selfKillWindow;
+        return window.getCount(1, TimeUnit.MINUTES);
     }
 
     public void checkFocusedMobValidity() {
@@ -1,5 +1,5 @@
 /*
- * Copyright © Wynntils 2024-2025.
+ * Copyright © Wynntils 2024-2026.
  * This file is released under LGPLv3. See LICENSE for full license details.
  */
 package com.wynntils.models.combat.label;
@@ -7,6 +7,7 @@ package com.wynntils.models.combat.label;
 import com.wynntils.core.WynntilsMod;
 import com.wynntils.core.text.StyledText;
 import com.wynntils.handlers.labels.type.LabelParser;
+import com.wynntils.handlers.labels.type.LabelPrefilter;
 import com.wynntils.models.stats.type.DamageType;
 import com.wynntils.utils.mc.type.Location;
 import java.util.HashMap;
@@ -52,4 +53,10 @@ public class DamageLabelParser implements LabelParser<DamageLabelInfo> {
 
         return new DamageLabelInfo(label, location, entity, damages);
     }
+
+    @Override
+    public LabelPrefilter getPrefilter() {
+        // Damage labels start with their damage color, directly followed by the damage numbers
+        return LabelPrefilter.startingWith("§2", "§4", "§5", "§b", "§c", "§e", "§f").andContaining("-");
+    }
 }
@@ -6,6 +6,7 @@ package com.wynntils.models.combat.label;
 
 import com.wynntils.core.text.StyledText;
 import com.wynntils.handlers.labels.type.LabelParser;
+import com.wynntils.handlers.labels.type.LabelPrefilter;
 import com.wynntils.models.combat.type.KillCreditType;
 import com.wynntils.utils.mc.type.Location;
 import java.util.regex.Matcher;
@@ -36,4 +37,9 @@ public class KillLabelParser implements LabelParser<KillLabelInfo> {
 
         return new KillLabelInfo(label, location, entity, combatXp, guildXp, killCredit);
     }
+
+    @Override
+    public LabelPrefilter getPrefilter() {
+        return LabelPrefilter.containing(" Combat XP§7]");
+    }
 }
@@ -6,6 +6,7 @@ package com.wynntils.models.combat.label;
 
 import com.wynntils.core.text.StyledText;
 import com.wynntils.handlers.labels.type.LabelParser;
+import com.wynntils.handlers.labels.type.LabelPrefilter;
 import com.wynntils.utils.mc.type.Location;
 import java.util.Arrays;
 import java.util.EnumMap;
@@ -22,6 +23,9 @@ public class MobDebuffsLabelParser implements LabelParser<MobDebuffsLabelInfo> {
     private static final Pattern DEBUFF_PATTERN = Pattern.compile("§(?:#?[a-z0-9]{1,8})(?<symbol>[" + DEBUFF_SYMBOLS
             + "])(?:\\s*§7(?<value>\\d+(?:\\.\\d+)?)(?<unit>%|k|m|b)?)?");
 
+    private static final String[] DEBUFF_SYMBOL_KEYWORDS =
+            DEBUFF_SYMBOLS.chars().mapToObj(Character::toString).toArray(String[]::new);
+
     @Override
     public MobDebuffsLabelInfo getInfo(StyledText label, Location location, Entity entity) {
         Matcher matcher = label.getMatcher(DEBUFF_PATTERN);
@@ -60,4 +64,9 @@ public class MobDebuffsLabelParser implements LabelParser<MobDebuffsLabelInfo> {
 
         return new MobDebuffsLabelInfo(label, location, entity, debuffs);
     }
+
+    @Override
+    public LabelPrefilter getPrefilter() {
+        return LabelPrefilter.containing(DEBUFF_SYMBOL_KEYWORDS);
+    }
 }
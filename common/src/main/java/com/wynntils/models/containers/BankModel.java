@@ -1,5 +1,5 @@
 /*
- * Copyright © Wynntils 2023-2025.
+ * Copyright © Wynntils 2023-2026.
  * This file is released under LGPLv3. See LICENSE for full license details.
  */
 package com.wynntils.models.containers;
@@ -14,13 +14,26 @@ import com.wynntils.mc.event.ContainerSetContentEvent;
 import com.wynntils.mc.event.ContainerSetSlotEvent;
 import com.wynntils.mc.event.ScreenClosedEvent;
 import com.wynntils.mc.event.ScreenInitEvent;
+import com.wynntils.mc.event.TickEvent;
 import com.wynntils.models.containers.containers.personal.PersonalStorageContainer;
 import com.wynntils.models.containers.event.BankPageSetEvent;
+import com.wynntils.models.containers.type.BankItemLocation;
 import com.wynntils.models.containers.type.BankPageCustomization;
+import com.wynntils.models.containers.type.BankPageSnapshot;
+import com.wynntils.models.containers.type.BankSnapshotItem;
 import com.wynntils.models.containers.type.PersonalStorageType;
 import com.wynntils.models.containers.type.QuickJumpButtonIcon;
+import com.wynntils.models.items.WynnItem;
+import com.wynntils.models.items.encoding.type.EncodingSettings;
+import com.wynntils.utils.EncodedByteBuffer;
+import com.wynntils.utils.mc.McUtils;
+import com.wynntils.utils.type.ErrorOr;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalInt;
+import java.util.Set;
 import java.util.TreeMap;
 import java.util.function.Consumer;
 import java.util.regex.Matcher;
@@ -65,11 +78,18 @@ public final class BankModel extends Model {
     private final Storage<Map<String, Map<Integer, BankPageCustomization>>> customCharacterBankPagesCustomizations =
             new Storage<>(new TreeMap<>());
 
+    // The items of every viewed page, by storage (see getSnapshotKey) and page
+    @Persisted
+    private final Storage<Map<String, Map<Integer, BankPageSnapshot>>> pageSnapshots = new Storage<>(new TreeMap<>());
+
     public static final int QUICK_JUMP_SLOT = 7;
     private static final String FINAL_PAGE_NAME = "\uDB3F\uDFFF";
 
     private static final int MAX_CHARACTER_BANK_PAGES = 12;
     private static final StyledText LAST_BANK_PAGE_STRING = StyledText.fromString(">§4>§c>§4>§c>");
+    private static final String CHARACTER_SNAPSHOT_KEY_PREFIX = PersonalStorageType.CHARACTER_BANK.name() + ":";
+    // The snapshots are kept for stat searches, so the items are encoded with all of their details
+    private static final EncodingSettings SNAPSHOT_ENCODING_SETTINGS = new EncodingSettings(true, true);
 
     private boolean editingMode;
     private boolean updatedPage;
@@ -77,6 +97,12 @@ public final class BankModel extends Model {
     private PersonalStorageContainer personalStorageContainer = null;
     private PersonalStorageType storageContainerType = null;
 
+    // The decoded snapshot items, built when the snapshots are first searched
+    private List<BankItemLocation> snapshotIndex = null;
+    private final BankSnapshotTracker snapshotTracker = new BankSnapshotTracker();
+    // Enabled by the features which search the snapshots
+    private boolean pageSnapshotsEnabled = false;
+
     public BankModel() {
         super(List.of());
     }
@@ -94,6 +120,7 @@ public final class BankModel extends Model {
 
         editingMode = false;
         updatedPage = false;
+        snapshotTracker.reset();
     }
 
     @SubscribeEvent(priority = EventPriority.HIGHEST)
@@ -102,6 +129,7 @@ public final class BankModel extends Model {
         currentPage = 1;
         editingMode = false;
         updatedPage = false;
+        snapshotTracker.reset();
     }
 
     // Swapping between account/character bank or personal/island storage does not
@@ -135,6 +163,74 @@ public final class BankModel extends Model {
         }
     }
 
+    @SubscribeEvent
+    public void onContainerSetContentPost(ContainerSetContentEvent.Post event) {
+        if (storageContainerType == null || !pageSnapshotsEnabled) return;
+        if (event.getContainerId() != McUtils.containerMenu().containerId) return;
+
+        snapshotTracker.markChanged();
+    }
+
+    @SubscribeEvent
+    public void onContainerSetSlotPost(ContainerSetSlotEvent.Post event) {
+        if (storageContainerType == null || !pageSnapshotsEnabled) return;
+        if (!updatedPage) return;
+        if (event.getContainerId() != McUtils.containerMenu().containerId) return;
+        if (!personalStorageContainer.getBounds().getSlots().contains(event.getSlot())) return;
+
+        // Depositing or withdrawing items changes single slots of the page, but so does paging with set slot
+        // packets, before the page number is known
+        snapshotTracker.markChanged();
+    }
+
+    @SubscribeEvent
+    public void onTick(TickEvent event) {
+        if (storageContainerType == null || !pageSnapshotsEnabled) return;
+
+        snapshotTracker.tick().ifPresent(trackedPage -> {
+            List<ItemStack> items = McUtils.containerMenu().getItems();
+
+            // Key the snapshot on the page shown by the navigation items of the same container state as the
+            // snapshotted items, as the tracked page can belong to an earlier state. Only a storage with a single
+            // page has no navigation items with a page number.
+            int page = parsePage(
+                            items.get(personalStorageContainer.getPreviousItemSlot()),
+                            items.get(personalStorageContainer.getNextItemSlot()))
+                    .orElse(trackedPage);
+            updatePageSnapshot(items, page);
+        });
+    }
+
+    /**
+     * Sets whether the items of viewed bank pages are remembered, for {@link #getSnapshotItems()}.
+     */
+    public void setPageSnapshotsEnabled(boolean enabled) {
+        pageSnapshotsEnabled = enabled;
+        snapshotTracker.reset();
+    }
+
+    /**
+     * Returns the pages of the storage which were viewed, for the current character, even if they had no items.
+     */
+    public Set<Integer> getSnapshotPages(PersonalStorageType storageType) {
+        return Set.copyOf(pageSnapshots
+                .get()
+                .getOrDefault(getSnapshotKey(storageType, Models.Character.getId()), Map.of())
+                .keySet());
+    }
+
+    /**
+     * Returns the items of all viewed bank pages, of all storages and characters, as they were when the pages were
+     * last viewed. The items are decoded once and kept until a page is viewed again.
+     */
+    public List<BankItemLocation> getSnapshotItems() {
+        if (snapshotIndex == null) {
+            snapshotIndex = buildSnapshotIndex();
+        }
+
+        return snapshotIndex;
+    }
+
     public BankPageCustomization getPageCustomization(int page) {
         Map<Integer, BankPageCustomization> pageNamesMap = getCurrentCustomizationMap();
         if (pageNamesMap == null) return new BankPageCustomization(page);
@@ -227,25 +323,35 @@ public final class BankModel extends Model {
     }
 
     private void updateState(ItemStack previousPageItem, ItemStack nextPageItem) {
+        parsePage(previousPageItem, nextPageItem).ifPresent(page -> currentPage = page);
+
+        if (isItemIndicatingLastBankPage(nextPageItem)) {
+            updateFinalPage();
+        }
+
+        snapshotTracker.setPage(currentPage);
+
+        WynntilsMod.postEvent(new BankPageSetEvent());
+    }
+
+    private OptionalInt parsePage(ItemStack previousPageItem, ItemStack nextPageItem) {
+        OptionalInt page = OptionalInt.empty();
+
         Matcher previousPageMatcher = StyledText.fromComponent(previousPageItem.getHoverName())
                 .getMatcher(personalStorageContainer.getPreviousItemPattern());
 
         if (previousPageMatcher.matches()) {
-            currentPage = Integer.parseInt(previousPageMatcher.group(1)) + 1;
+            page = OptionalInt.of(Integer.parseInt(previousPageMatcher.group(1)) + 1);
         }
 
         Matcher nextPageMatcher = StyledText.fromComponent(nextPageItem.getHoverName())
                 .getMatcher(personalStorageContainer.getNextItemPattern());
 
         if (nextPageMatcher.matches()) {
-            currentPage = Integer.parseInt(nextPageMatcher.group(1)) - 1;
-        }
-
-        if (isItemIndicatingLastBankPage(nextPageItem)) {
-            updateFinalPage();
+            page = OptionalInt.of(Integer.parseInt(nextPageMatcher.group(1)) - 1);
         }
 
-        WynntilsMod.postEvent(new BankPageSetEvent());
+        return page;
     }
 
     private boolean isItemIndicatingLastBankPage(ItemStack item) {
@@ -276,6 +382,102 @@ public final class BankModel extends Model {
         }
     }
 
+    private void updatePageSnapshot(List<ItemStack> items, int page) {
+        Map<Integer, BankSnapshotItem> snapshotItems = new TreeMap<>();
+        for (int slot : personalStorageContainer.getBounds().getSlots()) {
+            if (slot >= items.size()) continue;
+
+            ItemStack itemStack = items.get(slot);
+            if (itemStack.isEmpty()) continue;
+
+            snapshotItems.put(slot, createSnapshotItem(itemStack));
+        }
+
+        String snapshotKey = getSnapshotKey(storageContainerType, Models.Character.getId());
+        BankPageSnapshot previousSnapshot = pageSnapshots.get().getOrDefault(snapshotKey, Map.of()).get(page);
+        if (previousSnapshot != null && previousSnapshot.items().equals(snapshotItems)) return;
+
+        pageSnapshots
+                .get()
+                .computeIfAbsent(snapshotKey, key -> new TreeMap<>())
+                .put(page, new BankPageSnapshot(snapshotItems, System.currentTimeMillis()));
+        // Only the changed page has to be written, not the snapshots of every page
+        pageSnapshots.touched(snapshotKey, String.valueOf(page));
+
+        snapshotIndex = null;
+    }
+
+    private BankSnapshotItem createSnapshotItem(ItemStack itemStack) {
+        String name = StyledText.fromComponent(itemStack.getHoverName()).getStringWithoutFormatting();
+
+        Optional<WynnItem> wynnItemOpt = Models.Item.getWynnItem(itemStack);
+        if (wynnItemOpt.isEmpty() || !Models.ItemEncoding.canEncodeItem(wynnItemOpt.get())) {
+            return new BankSnapshotItem(name, null);
+        }
+
+        ErrorOr<EncodedByteBuffer> encoded =
+                Models.ItemEncoding.encodeItem(wynnItemOpt.get(), SNAPSHOT_ENCODING_SETTINGS);
+        if (encoded.hasError()) {
+            return new BankSnapshotItem(name, null);
+        }
+
+        return new BankSnapshotItem(name, encoded.getValue().toBase64String());
+    }
+
+    private List<BankItemLocation> buildSnapshotIndex() {
+        List<BankItemLocation> index = new ArrayList<>();
+
+        pageSnapshots.get().forEach((snapshotKey, pages) -> {
+            PersonalStorageType storageType;
+            String characterId = null;
+            try {
+                if (snapshotKey.startsWith(CHARACTER_SNAPSHOT_KEY_PREFIX)) {
+                    storageType = PersonalStorageType.CHARACTER_BANK;
+                    characterId = snapshotKey.substring(CHARACTER_SNAPSHOT_KEY_PREFIX.length());
+                } else {
+                    storageType = PersonalStorageType.valueOf(snapshotKey);
+                }
+            } catch (IllegalArgumentException e) {
+                WynntilsMod.warn("Unknown bank snapshot storage: " + snapshotKey);
+                return;
+            }
+
+            for (Map.Entry<Integer, BankPageSnapshot> page : pages.entrySet()) {
+                for (Map.Entry<Integer, BankSnapshotItem> item : page.getValue().items().entrySet()) {
+                    index.add(new BankItemLocation(
+                            storageType,
+                            characterId,
+                            page.getKey(),
+                            item.getKey(),
+                            item.getValue().name(),
+                            decodeSnapshotItem(item.getValue())));
+                }
+            }
+        });
+
+        return List.copyOf(index);
+    }
+
+    private WynnItem decodeSnapshotItem(BankSnapshotItem item) {
+        if (item.encodedItem() == null) return null;
+
+        ErrorOr<WynnItem> decoded;
+        try {
+            decoded = Models.ItemEncoding.decodeItem(EncodedByteBuffer.fromBase64String(item.encodedItem()), null);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+
+        // Items which can no longer be decoded (e.g. after API changes) can still be found by their name
+        return decoded.hasError() ? null : decoded.getValue();
+    }
+
+    private static String getSnapshotKey(PersonalStorageType storageType, String characterId) {
+        return storageType == PersonalStorageType.CHARACTER_BANK
+                ? CHARACTER_SNAPSHOT_KEY_PREFIX + characterId
+                : storageType.name();
+    }
+
     private Map<Integer, BankPageCustomization> getCurrentCustomizationMap() {
         return switch (storageContainerType) {
             case ACCOUNT_BANK -> customAccountBankPageCustomizations.get();
@@ -0,0 +1,57 @@
+/*
+ * Copyright © Wynntils 2026.
+ * This file is released under LGPLv3. See LICENSE for full license details.
+ */
+package com.wynntils.models.containers;
+
+import java.util.OptionalInt;
+
+/**
+ * Decides when, and for which page, the items of an open bank page are snapshotted.
+ *
+ * Paging with a full inventory or with quick jumps only sends single slot updates, and the items of the new page
+ * arrive before the navigation items which tell the new page number. So changed slots only mark the snapshot as
+ * pending, and it is taken once the slots stopped changing for a tick, when the page is known.
+ */
+public final class BankSnapshotTracker {
+    private static final int UNKNOWN_PAGE = -1;
+
+    private int page = UNKNOWN_PAGE;
+    private boolean pending = false;
+    private boolean changedThisTick = false;
+
+    public void setPage(int page) {
+        if (this.page == page) return;
+
+        this.page = page;
+        // The items of the new page have to be snapshotted, even if they arrived before the page number
+        markChanged();
+    }
+
+    public void markChanged() {
+        pending = true;
+        changedThisTick = true;
+    }
+
+    /**
+     * @return the page to snapshot now, or an empty optional if nothing changed, the slots are still changing,
+     *         or the page is not known yet
+     */
+    public OptionalInt tick() {
+        if (changedThisTick) {
+            changedThisTick = false;
+            return OptionalInt.empty();
+        }
+
+        if (!pending || page == UNKNOWN_PAGE) return OptionalInt.empty();
+
+        pending = false;
+        return OptionalInt.of(page);
+    }
+
+    public void reset() {
+        page = UNKNOWN_PAGE;
+        pending = false;
+        changedThisTick = false;
+    }
+}
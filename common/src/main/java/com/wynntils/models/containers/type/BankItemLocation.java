@@ -0,0 +1,16 @@
+/*
+ * Copyright © Wynntils 2026.
+ * This file is released under LGPLv3. See LICENSE for full license details.
+ */
+package com.wynntils.models.containers.type;
+
+import com.wynntils.models.items.WynnItem;
+
+/**
+ * An item in the bank snapshots, with where it was seen.
+ *
+ * @param characterId the id of the character owning the bank, or null for banks shared by all characters
+ * @param wynnItem the decoded item, or null if the item is only known by its name
+ */
+public record BankItemLocation(
+        PersonalStorageType storageType, String characterId, int page, int slot, String name, WynnItem wynnItem) {}
@@ -0,0 +1,17 @@
+/*
+ * Copyright © Wynntils 2026.
+ * This file is released under LGPLv3. See LICENSE for full license details.
+ */
+package com.wynntils.models.containers.type;
+
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * The items of a bank page when it was last viewed, by their slot.
+ */
+public record BankPageSnapshot(Map<Integer, BankSnapshotItem> items, long timestamp) {
+    public BankPageSnapshot {
+        items = new TreeMap<>(items);
+    }
+}
@@ -0,0 +1,14 @@
+/*
+ * Copyright © Wynntils 2026.
+ * This file is released under LGPLv3. See LICENSE for full license details.
+ */
+package com.wynntils.models.containers.type;
+
+/**
+ * An item on a viewed bank page.
+ *
+ * @param name the name of the item, without formatting
+ * @param encodedItem the item encoded by {@link com.wynntils.models.items.ItemEncodingModel}, as base64, or null if
+ *                    the item can not be encoded and is only known by its name
+ */
+public record BankSnapshotItem(String name, String encodedItem) {}
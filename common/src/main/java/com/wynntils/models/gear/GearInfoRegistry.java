@@ -10,6 +10,7 @@ import com.google.gson.JsonDeserializationContext;
 import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
 import com.google.gson.JsonParseException;
+import com.google.gson.stream.JsonReader;
 import com.wynntils.core.components.Models;
 import com.wynntils.core.components.Services;
 import com.wynntils.core.net.Dependency;
@@ -36,6 +37,10 @@ import java.util.Set;
 import java.util.stream.Stream;
 
 public class GearInfoRegistry {
+    private static final Gson GSON = new GsonBuilder()
+            .registerTypeHierarchyAdapter(GearInfo.class, new GearInfoDeserializer())
+            .create();
+
     private List<GearInfo> gearInfoRegistry = List.of();
     private Map<String, GearInfo> gearInfoLookup = Map.of();
     private Map<String, GearInfo> gearInfoLookupApiName = Map.of();
@@ -47,7 +52,7 @@ public class GearInfoRegistry {
                                 Dependency.simple(Services.CustomModel, UrlId.DATA_STATIC_MODEL_DATA),
                                 Dependency.simple(Models.Set, UrlId.DATA_STATIC_ITEM_SETS),
                                 Dependency.simple(Models.WynnItem, UrlId.DATA_STATIC_ITEM_OBTAIN_V2))))
-                .handleJsonObject(this::handleGearInfo);
+                .handleJsonReader(this::handleGearInfo);
     }
 
     public GearInfo getFromDisplayName(String gearName) {
@@ -67,25 +72,20 @@ public class GearInfoRegistry {
         return gearInfoRegistry.stream();
     }
 
-    private void handleGearInfo(JsonObject json) {
-        Gson gson = new GsonBuilder()
-                .registerTypeHierarchyAdapter(GearInfo.class, new GearInfoDeserializer())
-                .create();
-
+    private void handleGearInfo(JsonReader reader) {
         List<GearInfo> gearRegistry = new ArrayList<>();
 
-        for (Map.Entry<String, JsonElement> entry : json.entrySet()) {
-            JsonObject itemObject = entry.getValue().getAsJsonObject();
-
+        // The gear data is large, so read it one item at a time instead of parsing all of it up front
+        JsonUtils.forEachObjectEntry(reader, (name, itemObject) -> {
             // Inject the name into the object
-            itemObject.addProperty("name", entry.getKey());
+            itemObject.addProperty("name", name);
 
             // Deserialize the item
-            GearInfo gearInfo = gson.fromJson(itemObject, GearInfo.class);
+            GearInfo gearInfo = GSON.fromJson(itemObject, GearInfo.class);
 
             // Add the item to the registry
             gearRegistry.add(gearInfo);
-        }
+        });
 
         // Create fast lookup maps
         Map<String, GearInfo> lookupMap = new HashMap<>();
@@ -1,5 +1,5 @@
 /*
- * Copyright © Wynntils 2023-2025.
+ * Copyright © Wynntils 2023-2026.
  * This file is released under LGPLv3. See LICENSE for full license details.
  */
 package com.wynntils.models.guild;
@@ -18,6 +18,7 @@ import com.wynntils.core.net.DownloadRegistry;
 import com.wynntils.core.net.UrlId;
 import com.wynntils.core.text.StyledText;
 import com.wynntils.handlers.chat.event.ChatMessageEvent;
+import com.wynntils.handlers.chat.type.ChatPattern;
 import com.wynntils.handlers.container.scriptedquery.QueryBuilder;
 import com.wynntils.handlers.container.scriptedquery.QueryStep;
 import com.wynntils.handlers.container.type.ContainerContent;
@@ -38,7 +39,6 @@ import com.wynntils.services.hades.event.HadesEvent;
 import com.wynntils.utils.colors.CustomColor;
 import com.wynntils.utils.mc.LoreUtils;
 import com.wynntils.utils.mc.McUtils;
-import com.wynntils.utils.mc.StyledTextUtils;
 import com.wynntils.utils.type.CappedValue;
 import java.lang.reflect.Type;
 import java.util.Collections;
@@ -51,6 +51,7 @@ import java.util.Optional;
 import java.util.Set;
 import java.util.TreeSet;
 import java.util.concurrent.CompletableFuture;
+import java.util.regex.MatchResult;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
@@ -88,6 +89,10 @@ public final class GuildModel extends Model {
     private static final Pattern MEMBER_KICKED =
             Pattern.compile("§b(\uE006\uE002|\uE001) .+ has kicked (.+) from the guild");
 
+    private static final ChatPattern MEMBER_LEFT_CHAT = ChatPattern.ofUnwrapped(MEMBER_LEFT);
+    private static final ChatPattern MEMBER_JOIN_CHAT = ChatPattern.ofUnwrapped(MEMBER_JOIN);
+    private static final ChatPattern MEMBER_KICKED_CHAT = ChatPattern.ofUnwrapped(MEMBER_KICKED);
+
     // Test in GuildModel_MSG_RANK_CHANGED
     private static final Pattern MSG_RANK_CHANGED = Pattern.compile(
             "§b(\uE006\uE002|\uE001) [\\w]{1,16} has set ([\\w]{1,16}) guild rank from §3(?: )?(?:Recruit|Recruiter|Captain|Strategist|Chief|Owner)§b to §3(?: )?(Recruit|Recruiter|Captain|Strategist|Chief|Owner)$");
@@ -116,6 +121,16 @@ public final class GuildModel extends Model {
     private static final Pattern MSG_ALLIANCE_REVOKED =
             Pattern.compile("^§3\\[INFO\\]§b (?<actor>[\\w\\s]+) revoked the alliance with (?<guild>[a-zA-Z\\s]+)$");
 
+    private static final ChatPattern MSG_LEFT_GUILD_CHAT = ChatPattern.of(MSG_LEFT_GUILD);
+    private static final ChatPattern MSG_JOINED_GUILD_CHAT = ChatPattern.of(MSG_JOINED_GUILD);
+    private static final ChatPattern MSG_RANK_CHANGED_CHAT = ChatPattern.of(MSG_RANK_CHANGED);
+    private static final ChatPattern MSG_OBJECTIVE_COMPLETED_CHAT = ChatPattern.of(MSG_OBJECTIVE_COMPLETED);
+    private static final ChatPattern MSG_NEW_OBJECTIVES_CHAT = ChatPattern.of(MSG_NEW_OBJECTIVES);
+    private static final ChatPattern MSG_TRIBUTE_SCHEDULED_CHAT = ChatPattern.of(MSG_TRIBUTE_SCHEDULED);
+    private static final ChatPattern MSG_TRIBUTE_STOPPED_CHAT = ChatPattern.of(MSG_TRIBUTE_STOPPED);
+    private static final ChatPattern MSG_ALLIANCE_FORMED_CHAT = ChatPattern.of(MSG_ALLIANCE_FORMED);
+    private static final ChatPattern MSG_ALLIANCE_REVOKED_CHAT = ChatPattern.of(MSG_ALLIANCE_REVOKED);
+
     // Test in GuildModel_LEVEL_MATCHER
     private static final Pattern LEVEL_MATCHER = Pattern.compile("^§b§l[a-zA-Z\\s]+§3§l \\[Lv\\. (?<level>\\d+)\\]$");
 
@@ -174,16 +189,15 @@ public final class GuildModel extends Model {
 
     @SubscribeEvent
     public void onChatMessage(ChatMessageEvent.Match e) {
-        StyledText message = e.getMessage();
-
-        if (message.matches(MSG_LEFT_GUILD)) {
+        if (e.matches(MSG_LEFT_GUILD_CHAT)) {
             leaveGuild();
             WynntilsMod.info("User left guild");
             return;
         }
 
-        Matcher joinedGuildMatcher = message.getMatcher(MSG_JOINED_GUILD);
-        if (joinedGuildMatcher.matches()) {
+        Optional<MatchResult> joinedGuildMatch = e.getMatch(MSG_JOINED_GUILD_CHAT);
+        if (joinedGuildMatch.isPresent()) {
+            MatchResult joinedGuildMatcher = joinedGuildMatch.get();
             guildName = joinedGuildMatcher.group(1);
             guildRank = GuildRank.RECRUIT;
             WynntilsMod.info("User joined guild " + guildName + " as a " + guildRank);
@@ -192,11 +206,9 @@ public final class GuildModel extends Model {
             return;
         }
 
-        StyledText unwrapped = StyledTextUtils.unwrap(message).stripAlignment();
-
-        Matcher memberLeftMatcher = unwrapped.getMatcher(MEMBER_LEFT);
-        if (memberLeftMatcher.matches()) {
-            String playerName = memberLeftMatcher.group(2);
+        Optional<MatchResult> memberLeftMatch = e.getMatch(MEMBER_LEFT_CHAT);
+        if (memberLeftMatch.isPresent()) {
+            String playerName = memberLeftMatch.get().group(2);
             WynntilsMod.info("Player " + playerName + " left guild");
             guildMembers.remove(playerName);
             WynntilsMod.postEvent(new HadesRelationsUpdateEvent.GuildMemberList(
@@ -204,9 +216,9 @@ public final class GuildModel extends Model {
             return;
         }
 
-        Matcher memberJoinedMatcher = unwrapped.getMatcher(MEMBER_JOIN);
-        if (memberJoinedMatcher.matches()) {
-            String playerName = memberJoinedMatcher.group(2);
+        Optional<MatchResult> memberJoinedMatch = e.getMatch(MEMBER_JOIN_CHAT);
+        if (memberJoinedMatch.isPresent()) {
+            String playerName = memberJoinedMatch.get().group(2);
             WynntilsMod.info("Player " + playerName + " joined guild");
             guildMembers.add(playerName);
             WynntilsMod.postEvent(new HadesRelationsUpdateEvent.GuildMemberList(
@@ -214,9 +226,9 @@ public final class GuildModel extends Model {
             return;
         }
 
-        Matcher memberKickedMatcher = unwrapped.getMatcher(MEMBER_KICKED);
-        if (memberKickedMatcher.matches()) {
-            String playerName = memberKickedMatcher.group(2);
+        Optional<MatchResult> memberKickedMatch = e.getMatch(MEMBER_KICKED_CHAT);
+        if (memberKickedMatch.isPresent()) {
+            String playerName = memberKickedMatch.get().group(2);
 
             if (playerName.equals(McUtils.playerName())) {
                 leaveGuild();
@@ -231,8 +243,9 @@ public final class GuildModel extends Model {
             return;
         }
 
-        Matcher rankChangedMatcher = message.getMatcher(MSG_RANK_CHANGED);
-        if (rankChangedMatcher.matches()) {
+        Optional<MatchResult> rankChangedMatch = e.getMatch(MSG_RANK_CHANGED_CHAT);
+        if (rankChangedMatch.isPresent()) {
+            MatchResult rankChangedMatcher = rankChangedMatch.get();
             if (!rankChangedMatcher.group(2).equals(McUtils.playerName())) return;
             guildRank = GuildRank.valueOf(rankChangedMatcher.group(4).toUpperCase(Locale.ROOT));
             WynntilsMod.info("User's guild rank changed to " + guildRank);
@@ -241,8 +254,9 @@ public final class GuildModel extends Model {
 
         // FIXME: All below patterns likely need updating
         // Handle completed objective
-        Matcher objectiveCompletedMatcher = message.getMatcher(MSG_OBJECTIVE_COMPLETED);
-        if (objectiveCompletedMatcher.matches()) {
+        Optional<MatchResult> objectiveCompletedMatch = e.getMatch(MSG_OBJECTIVE_COMPLETED_CHAT);
+        if (objectiveCompletedMatch.isPresent()) {
+            MatchResult objectiveCompletedMatcher = objectiveCompletedMatch.get();
             int currentGoal = objectivesCompletedProgress.max();
             int completed = objectivesCompletedProgress.current() + 1;
             // Get next goal
@@ -262,13 +276,14 @@ public final class GuildModel extends Model {
             return;
         }
 
-        if (message.matches(MSG_NEW_OBJECTIVES)) {
+        if (e.matches(MSG_NEW_OBJECTIVES_CHAT)) {
             objectivesCompletedProgress = new CappedValue(0, OBJECTIVE_GOALS.getFirst());
             return;
         }
 
-        Matcher tributeScheduledMatcher = message.getMatcher(MSG_TRIBUTE_SCHEDULED);
-        if (tributeScheduledMatcher.matches()) {
+        Optional<MatchResult> tributeScheduledMatch = e.getMatch(MSG_TRIBUTE_SCHEDULED_CHAT);
+        if (tributeScheduledMatch.isPresent()) {
+            MatchResult tributeScheduledMatcher = tributeScheduledMatch.get();
             String recipient = tributeScheduledMatcher.group("recipient");
             GuildResource resource = GuildResource.fromSymbol(tributeScheduledMatcher.group("resource"));
             int amount = Integer.parseInt(tributeScheduledMatcher.group("amount"));
@@ -280,8 +295,9 @@ public final class GuildModel extends Model {
             return;
         }
 
-        Matcher tributeStoppedMatcher = message.getMatcher(MSG_TRIBUTE_STOPPED);
-        if (tributeStoppedMatcher.matches()) {
+        Optional<MatchResult> tributeStoppedMatch = e.getMatch(MSG_TRIBUTE_STOPPED_CHAT);
+        if (tributeStoppedMatch.isPresent()) {
+            MatchResult tributeStoppedMatcher = tributeStoppedMatch.get();
             String recipient = tributeStoppedMatcher.group("recipient");
             GuildResource resource = GuildResource.fromName(tributeStoppedMatcher.group("resource"));
             if (recipient.equals(guildName)) {
@@ -292,8 +308,9 @@ public final class GuildModel extends Model {
             return;
         }
 
-        Matcher allianceFormedMatcher = message.getMatcher(MSG_ALLIANCE_FORMED);
-        if (allianceFormedMatcher.matches()) {
+        Optional<MatchResult> allianceFormedMatch = e.getMatch(MSG_ALLIANCE_FORMED_CHAT);
+        if (allianceFormedMatch.isPresent()) {
+            MatchResult allianceFormedMatcher = allianceFormedMatch.get();
             String guild = allianceFormedMatcher.group("guild");
             if (guild.equals(guildName)) {
                 guild = allianceFormedMatcher.group("actor");
@@ -302,8 +319,9 @@ public final class GuildModel extends Model {
             return;
         }
 
-        Matcher allianceRevokedMatcher = message.getMatcher(MSG_ALLIANCE_REVOKED);
-        if (allianceRevokedMatcher.matches()) {
+        Optional<MatchResult> allianceRevokedMatch = e.getMatch(MSG_ALLIANCE_REVOKED_CHAT);
+        if (allianceRevokedMatch.isPresent()) {
+            MatchResult allianceRevokedMatcher = allianceRevokedMatch.get();
             String guild = allianceRevokedMatcher.group("guild");
             if (guild.equals(guildName)) {
                 guild = allianceRevokedMatcher.group("actor");
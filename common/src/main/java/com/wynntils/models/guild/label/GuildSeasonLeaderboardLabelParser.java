@@ -1,5 +1,5 @@
 /*
- * Copyright © Wynntils 2024.
+ * Copyright © Wynntils 2024-2026.
  * This file is released under LGPLv3. See LICENSE for full license details.
  */
 package com.wynntils.models.guild.label;
@@ -8,6 +8,7 @@ import com.wynntils.core.WynntilsMod;
 import com.wynntils.core.text.StyledText;
 import com.wynntils.handlers.labels.type.LabelInfo;
 import com.wynntils.handlers.labels.type.LabelParser;
+import com.wynntils.handlers.labels.type.LabelPrefilter;
 import com.wynntils.models.guild.type.GuildLeaderboardInfo;
 import com.wynntils.utils.mc.type.Location;
 import java.util.ArrayList;
@@ -77,4 +78,9 @@ public class GuildSeasonLeaderboardLabelParser implements LabelParser {
 
         return null;
     }
+
+    @Override
+    public LabelPrefilter getPrefilter() {
+        return LabelPrefilter.startingWith("§d§lSeason ");
+    }
 }
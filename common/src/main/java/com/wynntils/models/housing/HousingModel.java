@@ -1,23 +1,22 @@
 /*
- * Copyright © Wynntils 2025.
+ * Copyright © Wynntils 2025-2026.
  * This file is released under LGPLv3. See LICENSE for full license details.
  */
 package com.wynntils.models.housing;
 
 import com.wynntils.core.components.Model;
-import com.wynntils.core.text.StyledText;
 import com.wynntils.handlers.chat.event.ChatMessageEvent;
+import com.wynntils.handlers.chat.type.ChatPattern;
 import com.wynntils.models.worlds.event.WorldStateEvent;
 import com.wynntils.models.worlds.type.WorldState;
-import com.wynntils.utils.mc.StyledTextUtils;
 import java.util.List;
-import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import net.neoforged.bus.api.SubscribeEvent;
 
 public class HousingModel extends Model {
     private static final Pattern HOUSING_EDIT_PATTERN = Pattern.compile(
             "§e(?:\uE008\uE002|\uE001) You (?<state>are now in|have left) housing edit mode. Type §b/housing edit§e to switch back.");
+    private static final ChatPattern HOUSING_EDIT = ChatPattern.ofUnwrapped(HOUSING_EDIT_PATTERN);
 
     private boolean onHousing = false;
     private boolean inEditMode = false;
@@ -38,12 +37,7 @@ public class HousingModel extends Model {
     public void onChatMessage(ChatMessageEvent.Match event) {
         if (!onHousing) return;
 
-        StyledText message = StyledTextUtils.unwrap(event.getMessage()).stripAlignment();
-
-        Matcher matcher = message.getMatcher(HOUSING_EDIT_PATTERN);
-        if (matcher.matches()) {
-            inEditMode = matcher.group("state").equals("are now in");
-        }
+        event.getMatch(HOUSING_EDIT).ifPresent(matcher -> inEditMode = matcher.group("state").equals("are now in"));
     }
 
     public void updateHousingState(boolean onHousing, String housingName) {
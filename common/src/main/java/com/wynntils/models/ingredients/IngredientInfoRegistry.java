@@ -1,5 +1,5 @@
 /*
- * Copyright © Wynntils 2023-2025.
+ * Copyright © Wynntils 2023-2026.
  * This file is released under LGPLv3. See LICENSE for full license details.
  */
 package com.wynntils.models.ingredients;
@@ -11,6 +11,7 @@ import com.google.gson.JsonDeserializationContext;
 import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
 import com.google.gson.JsonParseException;
+import com.google.gson.stream.JsonReader;
 import com.wynntils.core.WynntilsMod;
 import com.wynntils.core.components.Models;
 import com.wynntils.core.net.Dependency;
@@ -54,7 +55,7 @@ public class IngredientInfoRegistry {
                         Dependency.multi(
                                 Models.WynnItem,
                                 Set.of(UrlId.DATA_STATIC_ITEM_OBTAIN_V2, UrlId.DATA_STATIC_MATERIAL_CONVERSION)))
-                .handleJsonObject(this::handleIngredients);
+                .handleJsonReader(this::handleIngredients);
     }
 
     public IngredientInfo getFromDisplayName(String ingredientName) {
@@ -69,22 +70,21 @@ public class IngredientInfoRegistry {
         return ingredientInfoRegistry.stream();
     }
 
-    private void handleIngredients(JsonObject json) {
+    private void handleIngredients(JsonReader reader) {
         // Create fast lookup maps
         List<IngredientInfo> registry = new ArrayList<>();
 
-        for (Map.Entry<String, JsonElement> entry : json.entrySet()) {
-            JsonObject ingredientObject = entry.getValue().getAsJsonObject();
-
+        // Read one ingredient at a time instead of parsing all of the data up front
+        JsonUtils.forEachObjectEntry(reader, (name, ingredientObject) -> {
             // Inject the name into the object
-            ingredientObject.addProperty("name", entry.getKey());
+            ingredientObject.addProperty("name", name);
 
             // Deserialize the item
             IngredientInfo ingredientInfo = GSON.fromJson(ingredientObject, IngredientInfo.class);
 
             // Add the item to the registry
             registry.add(ingredientInfo);
-        }
+        });
 
         Map<String, IngredientInfo> lookupMap = new HashMap<>();
         Map<String, IngredientInfo> altLookupMap = new HashMap<>();
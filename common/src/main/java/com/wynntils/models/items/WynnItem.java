@@ -1,5 +1,5 @@
 /*
- * Copyright © Wynntils 2022-2023.
+ * Copyright © Wynntils 2022-2026.
  * This file is released under LGPLv3. See LICENSE for full license details.
  */
 package com.wynntils.models.items;
@@ -7,13 +7,27 @@ package com.wynntils.models.items;
 import com.wynntils.handlers.item.ItemAnnotation;
 import net.minecraft.world.item.ItemStack;
 
-public class WynnItem implements ItemAnnotation {
-    private final WynnItemData data = new WynnItemData();
+public class WynnItem implements ItemAnnotation, Cloneable {
+    private WynnItemData data = new WynnItemData();
 
     public WynnItemData getData() {
         return data;
     }
 
+    /**
+     * Returns a shallow copy of this item, with its own empty data. The parsed fields of items are final,
+     * so the copy can be used for another stack with the same content.
+     */
+    public WynnItem copy() {
+        try {
+            WynnItem copy = (WynnItem) super.clone();
+            copy.data = new WynnItemData();
+            return copy;
+        } catch (CloneNotSupportedException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
     @Override
     public String toString() {
         return "WynnItem{}";
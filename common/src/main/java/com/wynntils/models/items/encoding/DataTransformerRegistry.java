@@ -1,5 +1,5 @@
 /*
- * Copyright © Wynntils 2023-2025.
+ * Copyright © Wynntils 2023-2026.
  * This file is released under LGPLv3. See LICENSE for full license details.
  */
 package com.wynntils.models.items.encoding;
@@ -42,18 +42,17 @@ import com.wynntils.models.items.encoding.type.DataTransformer;
 import com.wynntils.models.items.encoding.type.ItemData;
 import com.wynntils.models.items.encoding.type.ItemTransformingVersion;
 import com.wynntils.utils.EncodedByteBuffer;
-import com.wynntils.utils.type.ArrayReader;
+import com.wynntils.utils.type.ByteReader;
+import com.wynntils.utils.type.ByteWriter;
 import com.wynntils.utils.type.ErrorOr;
-import com.wynntils.utils.type.UnsignedByte;
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
 /**
  * This class is responsible for registering and storing all data transformers.
- * Data transformers are used for transforming between {@link ItemData} and {@link UnsignedByte} arrays.
+ * Data transformers are used for transforming between {@link ItemData} and bytes.
  */
 public final class DataTransformerRegistry {
     private final DataTransformerMap dataTransformers = new DataTransformerMap();
@@ -63,16 +62,14 @@ public final class DataTransformerRegistry {
     }
 
     public ErrorOr<EncodedByteBuffer> encodeData(ItemTransformingVersion version, List<ItemData> data) {
-        List<UnsignedByte> bytes = new ArrayList<>();
+        ByteWriter byteWriter = new ByteWriter();
 
         for (ItemData itemData : data) {
             try {
-                ErrorOr<UnsignedByte[]> errorOrEncodedData = encodeData(version, itemData);
+                ErrorOr<Void> errorOrEncodedData = encodeData(version, itemData, byteWriter);
                 if (errorOrEncodedData.hasError()) {
                     return ErrorOr.error(errorOrEncodedData.getError());
                 }
-
-                bytes.addAll(Arrays.asList(errorOrEncodedData.getValue()));
             } catch (Exception e) {
                 return ErrorOr.<EncodedByteBuffer>error("Failed to encode data class "
                                 + itemData.getClass().getSimpleName() + "!")
@@ -80,11 +77,11 @@ public final class DataTransformerRegistry {
             }
         }
 
-        return ErrorOr.of(EncodedByteBuffer.fromBytes(bytes.toArray(new UnsignedByte[0])));
+        return ErrorOr.of(EncodedByteBuffer.fromBytes(byteWriter.toByteArray()));
     }
 
     public ErrorOr<List<ItemData>> decodeData(EncodedByteBuffer encodedByteBuffer) {
-        ArrayReader<UnsignedByte> byteReader = encodedByteBuffer.getReader();
+        ByteReader byteReader = encodedByteBuffer.getByteReader();
 
         // Handle start data specially
         ErrorOr<StartData> errorOrStartData = StartDataTransformer.decodeData(byteReader);
@@ -95,28 +92,28 @@ public final class DataTransformerRegistry {
         return decodeData(errorOrStartData.getValue().version(), byteReader);
     }
 
-    private ErrorOr<UnsignedByte[]> encodeData(ItemTransformingVersion version, ItemData data) {
+    private ErrorOr<Void> encodeData(ItemTransformingVersion version, ItemData data, ByteWriter byteWriter) {
         DataTransformer<ItemData> dataTransformer = (DataTransformer<ItemData>) dataTransformers.get(data.getClass());
         if (dataTransformer == null) {
-            return ErrorOr.<UnsignedByte[]>error(
-                            "No data transformer found for " + data.getClass().getSimpleName())
+            return ErrorOr.<Void>error("No data transformer found for " + data.getClass().getSimpleName())
                     .logged();
         }
 
-        return dataTransformer.encode(version, data);
+        return dataTransformer.encode(version, data, byteWriter);
     }
 
-    private ErrorOr<List<ItemData>> decodeData(ItemTransformingVersion version, ArrayReader<UnsignedByte> byteReader) {
+    private ErrorOr<List<ItemData>> decodeData(ItemTransformingVersion version, ByteReader byteReader) {
         List<ItemData> dataList = new ArrayList<>();
 
         while (byteReader.hasRemaining()) {
-            UnsignedByte dataBlockId = byteReader.read();
+            byte dataBlockId = byteReader.readByte();
 
             try {
-                DataTransformer<ItemData> dataTransformer = dataTransformers.get(dataBlockId.toByte());
+                DataTransformer<ItemData> dataTransformer = dataTransformers.get(dataBlockId);
 
                 if (dataTransformer == null) {
-                    return ErrorOr.<List<ItemData>>error("No data transformer found for id " + dataBlockId.value())
+                    return ErrorOr.<List<ItemData>>error(
+                                    "No data transformer found for id " + Byte.toUnsignedInt(dataBlockId))
                             .logged();
                 }
 
@@ -128,7 +125,8 @@ public final class DataTransformerRegistry {
 
                 dataList.add(errorOrData.getValue());
             } catch (Exception e) {
-                return ErrorOr.<List<ItemData>>error("Failed to decode data block with id " + dataBlockId.value() + "!")
+                return ErrorOr.<List<ItemData>>error(
+                                "Failed to decode data block with id " + Byte.toUnsignedInt(dataBlockId) + "!")
                         .logged();
             }
         }
@@ -1,5 +1,5 @@
 /*
- * Copyright © Wynntils 2023-2025.
+ * Copyright © Wynntils 2023-2026.
  * This file is released under LGPLv3. See LICENSE for full license details.
  */
 package com.wynntils.models.items.encoding.impl.block;
@@ -9,21 +9,21 @@ import com.wynntils.models.items.encoding.data.CustomConsumableTypeData;
 import com.wynntils.models.items.encoding.type.DataTransformer;
 import com.wynntils.models.items.encoding.type.DataTransformerType;
 import com.wynntils.models.items.encoding.type.ItemTransformingVersion;
-import com.wynntils.utils.type.ArrayReader;
+import com.wynntils.utils.type.ByteReader;
+import com.wynntils.utils.type.ByteWriter;
 import com.wynntils.utils.type.ErrorOr;
-import com.wynntils.utils.type.UnsignedByte;
 
 public class CustomConsumableTypeDataTransformer extends DataTransformer<CustomConsumableTypeData> {
     @Override
-    protected ErrorOr<UnsignedByte[]> encodeData(ItemTransformingVersion version, CustomConsumableTypeData data) {
+    protected ErrorOr<Void> encodeData(
+            ItemTransformingVersion version, CustomConsumableTypeData data, ByteWriter byteWriter) {
         return switch (version) {
-            case VERSION_1, VERSION_2 -> encodeCustomConsumableTypeData(data);
+            case VERSION_1, VERSION_2 -> encodeCustomConsumableTypeData(data, byteWriter);
         };
     }
 
     @Override
-    public ErrorOr<CustomConsumableTypeData> decodeData(
-            ItemTransformingVersion version, ArrayReader<UnsignedByte> byteReader) {
+    public ErrorOr<CustomConsumableTypeData> decodeData(ItemTransformingVersion version, ByteReader byteReader) {
         return switch (version) {
             case VERSION_1, VERSION_2 -> decodeCustomConsumableTypeData(byteReader);
         };
@@ -34,15 +34,15 @@ public class CustomConsumableTypeDataTransformer extends DataTransformer<CustomC
         return DataTransformerType.CUSTOM_CONSUMABLE_TYPE_DATA_TRANSFORMER.getId();
     }
 
-    private ErrorOr<UnsignedByte[]> encodeCustomConsumableTypeData(CustomConsumableTypeData data) {
+    private ErrorOr<Void> encodeCustomConsumableTypeData(CustomConsumableTypeData data, ByteWriter byteWriter) {
         // The data is a single byte, containing the id of the type of the item.
-        return ErrorOr.of(
-                new UnsignedByte[] {UnsignedByte.of((byte) data.consumableType().getEncodingId())});
+        byteWriter.write(data.consumableType().getEncodingId());
+        return ErrorOr.of(null);
     }
 
-    private ErrorOr<CustomConsumableTypeData> decodeCustomConsumableTypeData(ArrayReader<UnsignedByte> byteReader) {
+    private ErrorOr<CustomConsumableTypeData> decodeCustomConsumableTypeData(ByteReader byteReader) {
         // The data is a single byte, containing the id of the type of the item.
-        int typeId = byteReader.read().value();
+        int typeId = byteReader.read();
         ConsumableType type = ConsumableType.fromEncodingId(typeId);
         if (type == null) {
             return ErrorOr.error("Unknown consumable type id: " + typeId);
@@ -12,26 +12,25 @@ import com.wynntils.models.items.encoding.type.DataTransformerType;
 import com.wynntils.models.items.encoding.type.ItemTransformingVersion;
 import com.wynntils.models.stats.type.StatPossibleValues;
 import com.wynntils.models.stats.type.StatType;
-import com.wynntils.utils.UnsignedByteUtils;
-import com.wynntils.utils.type.ArrayReader;
+import com.wynntils.utils.type.ByteReader;
+import com.wynntils.utils.type.ByteWriter;
 import com.wynntils.utils.type.ErrorOr;
 import com.wynntils.utils.type.RangedValue;
-import com.wynntils.utils.type.UnsignedByte;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 
 public class CustomIdentificationDataTransformer extends DataTransformer<CustomIdentificationsData> {
     @Override
-    protected ErrorOr<UnsignedByte[]> encodeData(ItemTransformingVersion version, CustomIdentificationsData data) {
+    protected ErrorOr<Void> encodeData(
+            ItemTransformingVersion version, CustomIdentificationsData data, ByteWriter byteWriter) {
         return switch (version) {
-            case VERSION_1, VERSION_2 -> encodeCustomIdentificationData(data);
+            case VERSION_1, VERSION_2 -> encodeCustomIdentificationData(data, byteWriter);
         };
     }
 
     @Override
-    public ErrorOr<CustomIdentificationsData> decodeData(
-            ItemTransformingVersion version, ArrayReader<UnsignedByte> byteReader) {
+    public ErrorOr<CustomIdentificationsData> decodeData(ItemTransformingVersion version, ByteReader byteReader) {
         return switch (version) {
             case VERSION_1, VERSION_2 -> decodeCustomIdentificationData(byteReader);
         };
@@ -42,11 +41,9 @@ public class CustomIdentificationDataTransformer extends DataTransformer<CustomI
         return DataTransformerType.CUSTOM_IDENTIFICATION_DATA_TRANSFORMER.getId();
     }
 
-    private ErrorOr<UnsignedByte[]> encodeCustomIdentificationData(CustomIdentificationsData data) {
-        List<UnsignedByte> bytes = new ArrayList<>();
-
+    private ErrorOr<Void> encodeCustomIdentificationData(CustomIdentificationsData data, ByteWriter byteWriter) {
         // The first byte is the number of identifications.
-        bytes.add(UnsignedByte.of((byte) data.possibleValues().size()));
+        byteWriter.write(data.possibleValues().size());
 
         // The identifications are encoded the following way:
         for (StatPossibleValues statPossibleValues : data.possibleValues()) {
@@ -59,25 +56,23 @@ public class CustomIdentificationDataTransformer extends DataTransformer<CustomI
                         + statPossibleValues.statType().getDisplayName());
             }
             int id = idOpt.get();
-            bytes.add(UnsignedByte.of((byte) id));
+            byteWriter.write(id);
 
             // The next bytes are the identification's max value bytes, which are assembled into an integer.
-            UnsignedByte[] unsignedBytes = UnsignedByteUtils.encodeVariableSizedInteger(
-                    statPossibleValues.range().high());
-            bytes.addAll(List.of(unsignedBytes));
+            byteWriter.writeVariableSizedInteger(statPossibleValues.range().high());
         }
 
-        return ErrorOr.of(bytes.toArray(new UnsignedByte[0]));
+        return ErrorOr.of(null);
     }
 
-    private ErrorOr<CustomIdentificationsData> decodeCustomIdentificationData(ArrayReader<UnsignedByte> byteReader) {
+    private ErrorOr<CustomIdentificationsData> decodeCustomIdentificationData(ByteReader byteReader) {
         // The first byte is the number of identifications.
-        int numIdentifications = byteReader.read().value();
+        int numIdentifications = byteReader.read();
         List<StatPossibleValues> possibleValues = new ArrayList<>();
 
         for (int i = 0; i < numIdentifications; i++) {
             // The first byte is the id of the identification.
-            int id = byteReader.read().value();
+            int id = byteReader.read();
             Optional<StatType> statTypeOpt = Models.Stat.getStatTypeForId(id);
             if (statTypeOpt.isEmpty()) {
                 WynntilsMod.warn("No stat found for id " + id);
@@ -86,7 +81,7 @@ public class CustomIdentificationDataTransformer extends DataTransformer<CustomI
             StatType statType = statTypeOpt.get();
 
             // The next bytes are the identification's max value bytes, which are assembled into an integer.
-            int maxValue = (int) UnsignedByteUtils.decodeVariableSizedInteger(byteReader);
+            int maxValue = (int) byteReader.readVariableSizedInteger();
 
             // For positive stats on crafted items, the max values can be used to calculate the minimum values (10%
             // of the maximum, rounded). Negative stats do not decay so are always the maximum.
@@ -1,5 +1,5 @@
 /*
- * Copyright © Wynntils 2023-2025.
+ * Copyright © Wynntils 2023-2026.
  * This file is released under LGPLv3. See LICENSE for full license details.
  */
 package com.wynntils.models.items.encoding.impl.block;
@@ -10,26 +10,25 @@ import com.wynntils.models.items.encoding.type.DataTransformer;
 import com.wynntils.models.items.encoding.type.DataTransformerType;
 import com.wynntils.models.items.encoding.type.ItemTransformingVersion;
 import com.wynntils.models.stats.type.DamageType;
-import com.wynntils.utils.UnsignedByteUtils;
-import com.wynntils.utils.type.ArrayReader;
+import com.wynntils.utils.type.ByteReader;
+import com.wynntils.utils.type.ByteWriter;
 import com.wynntils.utils.type.ErrorOr;
 import com.wynntils.utils.type.Pair;
 import com.wynntils.utils.type.RangedValue;
-import com.wynntils.utils.type.UnsignedByte;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 
 public class DamageDataTransformer extends DataTransformer<DamageData> {
     @Override
-    protected ErrorOr<UnsignedByte[]> encodeData(ItemTransformingVersion version, DamageData data) {
+    protected ErrorOr<Void> encodeData(ItemTransformingVersion version, DamageData data, ByteWriter byteWriter) {
         return switch (version) {
-            case VERSION_1, VERSION_2 -> encodeDamageData(data);
+            case VERSION_1, VERSION_2 -> encodeDamageData(data, byteWriter);
         };
     }
 
     @Override
-    public ErrorOr<DamageData> decodeData(ItemTransformingVersion version, ArrayReader<UnsignedByte> byteReader) {
+    public ErrorOr<DamageData> decodeData(ItemTransformingVersion version, ByteReader byteReader) {
         return switch (version) {
             case VERSION_1, VERSION_2 -> decodeDamageData(byteReader);
         };
@@ -45,49 +44,40 @@ public class DamageDataTransformer extends DataTransformer<DamageData> {
         return !data.damages().isEmpty() || data.attackSpeed().isPresent();
     }
 
-    private ErrorOr<UnsignedByte[]> encodeDamageData(DamageData data) {
-        List<UnsignedByte> bytes = new ArrayList<>();
-
+    private ErrorOr<Void> encodeDamageData(DamageData data, ByteWriter byteWriter) {
         if (data.attackSpeed().isEmpty()) {
             return ErrorOr.error("Attack speed is not present, but damage data is present.");
         }
 
         // The first byte is the id of the attack speed of the item.
-        bytes.add(UnsignedByte.of((byte) data.attackSpeed().get().getEncodingId()));
+        byteWriter.write(data.attackSpeed().get().getEncodingId());
 
         // The next byte is the number of attack damages present on the item.
-        bytes.add(UnsignedByte.of((byte) data.damages().size()));
+        byteWriter.write(data.damages().size());
 
         // An attack damage is encoded the following way:
         for (Pair<DamageType, RangedValue> damage : data.damages()) {
             // The first byte is the id of the skill (`ETWFAN`, where N represents Neutral).
             DamageType damageType = damage.a();
 
-            byte damageTypeId;
             if (damageType != DamageType.NEUTRAL && damageType.getElement().isEmpty()) {
                 return ErrorOr.error("Damage type " + damageType + " does not have an element");
-            } else {
-                damageTypeId = (byte) damageType.getEncodingId();
             }
-            bytes.add(UnsignedByte.of(damageTypeId));
+            byteWriter.write(damageType.getEncodingId());
 
             // The next bytes are the minimum damage bytes, which are assembled into an integer.
-            UnsignedByte[] unsignedBytes =
-                    UnsignedByteUtils.encodeVariableSizedInteger(damage.b().low());
-            bytes.addAll(List.of(unsignedBytes));
+            byteWriter.writeVariableSizedInteger(damage.b().low());
 
             // The next bytes are the maximum damage bytes, which are assembled into an integer.
-            unsignedBytes =
-                    UnsignedByteUtils.encodeVariableSizedInteger(damage.b().high());
-            bytes.addAll(List.of(unsignedBytes));
+            byteWriter.writeVariableSizedInteger(damage.b().high());
         }
 
-        return ErrorOr.of(bytes.toArray(new UnsignedByte[0]));
+        return ErrorOr.of(null);
     }
 
-    private ErrorOr<DamageData> decodeDamageData(ArrayReader<UnsignedByte> byteReader) {
+    private ErrorOr<DamageData> decodeDamageData(ByteReader byteReader) {
         // The first byte is the id of the attack speed of the item.
-        int attackSpeedId = byteReader.read().value();
+        int attackSpeedId = byteReader.read();
         GearAttackSpeed attackSpeed = GearAttackSpeed.fromEncodingId(attackSpeedId);
 
         if (attackSpeed == null) { // Sometimes null when users mess with custom encoding
@@ -95,13 +85,13 @@ public class DamageDataTransformer extends DataTransformer<DamageData> {
         }
 
         // The next byte is the number of attack damages present on the item.
-        int damageCount = byteReader.read().value();
+        int damageCount = byteReader.read();
 
         List<Pair<DamageType, RangedValue>> damages = new ArrayList<>();
 
         for (int i = 0; i < damageCount; i++) {
             // The first byte is the id of the skill (`ETWFAN`, where N represents Neutral).
-            int damageTypeId = byteReader.read().value();
+            int damageTypeId = byteReader.read();
             DamageType damageType = DamageType.fromEncodingId(damageTypeId);
 
             if (damageType == null) { // Sometimes null when users mess with custom encoding
@@ -109,10 +99,10 @@ public class DamageDataTransformer extends DataTransformer<DamageData> {
             }
 
             // The next bytes are the minimum damage bytes, which are assembled into an integer.
-            int minDamage = (int) UnsignedByteUtils.decodeVariableSizedInteger(byteReader);
+            int minDamage = (int) byteReader.readVariableSizedInteger();
 
             // The next bytes are the maximum damage bytes, which are assembled into an integer.
-            int maxDamage = (int) UnsignedByteUtils.decodeVariableSizedInteger(byteReader);
+            int maxDamage = (int) byteReader.readVariableSizedInteger();
 
             damages.add(new Pair<>(damageType, new RangedValue(minDamage, maxDamage)));
         }
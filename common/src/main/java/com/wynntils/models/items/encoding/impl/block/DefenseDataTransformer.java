@@ -1,5 +1,5 @@
 /*
- * Copyright © Wynntils 2023-2025.
+ * Copyright © Wynntils 2023-2026.
  * This file is released under LGPLv3. See LICENSE for full license details.
  */
 package com.wynntils.models.items.encoding.impl.block;
@@ -9,24 +9,23 @@ import com.wynntils.models.items.encoding.data.DefenseData;
 import com.wynntils.models.items.encoding.type.DataTransformer;
 import com.wynntils.models.items.encoding.type.DataTransformerType;
 import com.wynntils.models.items.encoding.type.ItemTransformingVersion;
-import com.wynntils.utils.UnsignedByteUtils;
-import com.wynntils.utils.type.ArrayReader;
+import com.wynntils.utils.type.ByteReader;
+import com.wynntils.utils.type.ByteWriter;
 import com.wynntils.utils.type.ErrorOr;
 import com.wynntils.utils.type.Pair;
-import com.wynntils.utils.type.UnsignedByte;
 import java.util.ArrayList;
 import java.util.List;
 
 public class DefenseDataTransformer extends DataTransformer<DefenseData> {
     @Override
-    protected ErrorOr<UnsignedByte[]> encodeData(ItemTransformingVersion version, DefenseData data) {
+    protected ErrorOr<Void> encodeData(ItemTransformingVersion version, DefenseData data, ByteWriter byteWriter) {
         return switch (version) {
-            case VERSION_1, VERSION_2 -> encodeDefenseData(data);
+            case VERSION_1, VERSION_2 -> encodeDefenseData(data, byteWriter);
         };
     }
 
     @Override
-    public ErrorOr<DefenseData> decodeData(ItemTransformingVersion version, ArrayReader<UnsignedByte> byteReader) {
+    public ErrorOr<DefenseData> decodeData(ItemTransformingVersion version, ByteReader byteReader) {
         return switch (version) {
             case VERSION_1, VERSION_2 -> decodeDefenseData(byteReader);
         };
@@ -42,39 +41,37 @@ public class DefenseDataTransformer extends DataTransformer<DefenseData> {
         return data.health() != 0 || !data.defences().isEmpty();
     }
 
-    private ErrorOr<UnsignedByte[]> encodeDefenseData(DefenseData data) {
+    private ErrorOr<Void> encodeDefenseData(DefenseData data, ByteWriter byteWriter) {
         // The first bytes are the health bytes, which are assembled into an integer.
-        UnsignedByte[] unsignedBytes = UnsignedByteUtils.encodeVariableSizedInteger(data.health());
-        List<UnsignedByte> bytes = new ArrayList<>(List.of(unsignedBytes));
+        byteWriter.writeVariableSizedInteger(data.health());
 
         // The next byte is the number of defense stats present on the item.
-        bytes.add(UnsignedByte.of((byte) data.defences().size()));
+        byteWriter.write(data.defences().size());
 
         // A defense stat is encoded the following way:
         for (Pair<Element, Integer> defence : data.defences()) {
             // The first byte is the id of the skill (`ETWFA`).
-            bytes.add(UnsignedByte.of((byte) defence.a().getEncodingId()));
+            byteWriter.write(defence.a().getEncodingId());
 
             // The next bytes are the defense bytes, which are assembled into an integer.
-            unsignedBytes = UnsignedByteUtils.encodeVariableSizedInteger(defence.b());
-            bytes.addAll(List.of(unsignedBytes));
+            byteWriter.writeVariableSizedInteger(defence.b());
         }
 
-        return ErrorOr.of(bytes.toArray(new UnsignedByte[0]));
+        return ErrorOr.of(null);
     }
 
-    private ErrorOr<DefenseData> decodeDefenseData(ArrayReader<UnsignedByte> byteReader) {
+    private ErrorOr<DefenseData> decodeDefenseData(ByteReader byteReader) {
         // The first bytes are the health bytes, which are assembled into an integer.
-        int health = (int) UnsignedByteUtils.decodeVariableSizedInteger(byteReader);
+        int health = (int) byteReader.readVariableSizedInteger();
 
         // The next byte is the number of defense stats present on the item.
-        int defencesCount = byteReader.read().value();
+        int defencesCount = byteReader.read();
         List<Pair<Element, Integer>> defences = new ArrayList<>();
 
         for (int i = 0; i < defencesCount; i++) {
             // A defense stat is encoded the following way:
             // The first byte is the id of the skill (`ETWFA`).
-            int elementTypeId = byteReader.read().value();
+            int elementTypeId = byteReader.read();
             Element element = Element.fromEncodingId(elementTypeId);
 
             if (element == null) { // Sometimes null when users mess with custom encoding
@@ -82,7 +79,7 @@ public class DefenseDataTransformer extends DataTransformer<DefenseData> {
             }
 
             // The next bytes are the defense bytes, which are assembled into an integer.
-            int defence = (int) UnsignedByteUtils.decodeVariableSizedInteger(byteReader);
+            int defence = (int) byteReader.readVariableSizedInteger();
 
             defences.add(Pair.of(element, defence));
         }
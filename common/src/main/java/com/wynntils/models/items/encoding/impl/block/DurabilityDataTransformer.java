@@ -1,5 +1,5 @@
 /*
- * Copyright © Wynntils 2023-2025.
+ * Copyright © Wynntils 2023-2026.
  * This file is released under LGPLv3. See LICENSE for full license details.
  */
 package com.wynntils.models.items.encoding.impl.block;
@@ -8,24 +8,21 @@ import com.wynntils.models.items.encoding.data.DurabilityData;
 import com.wynntils.models.items.encoding.type.DataTransformer;
 import com.wynntils.models.items.encoding.type.DataTransformerType;
 import com.wynntils.models.items.encoding.type.ItemTransformingVersion;
-import com.wynntils.utils.UnsignedByteUtils;
-import com.wynntils.utils.type.ArrayReader;
+import com.wynntils.utils.type.ByteReader;
+import com.wynntils.utils.type.ByteWriter;
 import com.wynntils.utils.type.CappedValue;
 import com.wynntils.utils.type.ErrorOr;
-import com.wynntils.utils.type.UnsignedByte;
-import java.util.ArrayList;
-import java.util.List;
 
 public class DurabilityDataTransformer extends DataTransformer<DurabilityData> {
     @Override
-    protected ErrorOr<UnsignedByte[]> encodeData(ItemTransformingVersion version, DurabilityData data) {
+    protected ErrorOr<Void> encodeData(ItemTransformingVersion version, DurabilityData data, ByteWriter byteWriter) {
         return switch (version) {
-            case VERSION_1, VERSION_2 -> encodeDurabilityData(data);
+            case VERSION_1, VERSION_2 -> encodeDurabilityData(data, byteWriter);
         };
     }
 
     @Override
-    public ErrorOr<DurabilityData> decodeData(ItemTransformingVersion version, ArrayReader<UnsignedByte> byteReader) {
+    public ErrorOr<DurabilityData> decodeData(ItemTransformingVersion version, ByteReader byteReader) {
         return switch (version) {
             case VERSION_1, VERSION_2 -> decodeDurabilityData(byteReader);
         };
@@ -36,39 +33,33 @@ public class DurabilityDataTransformer extends DataTransformer<DurabilityData> {
         return DataTransformerType.DURABILITY_DATA_TRANSFORMER.getId();
     }
 
-    private ErrorOr<UnsignedByte[]> encodeDurabilityData(DurabilityData data) {
-        List<UnsignedByte> bytes = new ArrayList<>();
-
+    private ErrorOr<Void> encodeDurabilityData(DurabilityData data, ByteWriter byteWriter) {
         // The first byte is the overall effectiveness of the identifications (the percentage next to the name for
         // crafted items).
         if (data.effectStrength() > 100 || data.effectStrength() < 0) {
             return ErrorOr.error("Effect strength was not a percentage.");
         }
-        bytes.add(UnsignedByte.of((byte) data.effectStrength()));
+        byteWriter.write(data.effectStrength());
 
         // The next bytes are the maximum durability bytes, which are assembled into an integer.
-        int max = data.durability().max();
-        UnsignedByte[] unsignedBytes = UnsignedByteUtils.encodeVariableSizedInteger(max);
-        bytes.addAll(List.of(unsignedBytes));
+        byteWriter.writeVariableSizedInteger(data.durability().max());
 
         // The next bytes are the current durability bytes, which are assembled into an integer.
-        int current = data.durability().current();
-        unsignedBytes = UnsignedByteUtils.encodeVariableSizedInteger(current);
-        bytes.addAll(List.of(unsignedBytes));
+        byteWriter.writeVariableSizedInteger(data.durability().current());
 
-        return ErrorOr.of(bytes.toArray(new UnsignedByte[0]));
+        return ErrorOr.of(null);
     }
 
-    private ErrorOr<DurabilityData> decodeDurabilityData(ArrayReader<UnsignedByte> byteReader) {
+    private ErrorOr<DurabilityData> decodeDurabilityData(ByteReader byteReader) {
         // The first byte is the overall effectiveness of the identifications (the percentage next to the name for
         // crafted items).
-        int effectStrength = byteReader.read().value();
+        int effectStrength = byteReader.read();
 
         // The next bytes are the maximum durability bytes, which are assembled into an integer.
-        int max = (int) UnsignedByteUtils.decodeVariableSizedInteger(byteReader);
+        int max = (int) byteReader.readVariableSizedInteger();
 
         // The next bytes are the current durability bytes, which are assembled into an integer.
-        int current = (int) UnsignedByteUtils.decodeVariableSizedInteger(byteReader);
+        int current = (int) byteReader.readVariableSizedInteger();
 
         return ErrorOr.of(new DurabilityData(effectStrength, new CappedValue(current, max)));
     }
@@ -1,5 +1,5 @@
 /*
- * Copyright © Wynntils 2023-2024.
+ * Copyright © Wynntils 2023-2026.
  * This file is released under LGPLv3. See LICENSE for full license details.
  */
 package com.wynntils.models.items.encoding.impl.block;
@@ -8,19 +8,19 @@ import com.wynntils.models.items.encoding.data.EndData;
 import com.wynntils.models.items.encoding.type.DataTransformer;
 import com.wynntils.models.items.encoding.type.DataTransformerType;
 import com.wynntils.models.items.encoding.type.ItemTransformingVersion;
-import com.wynntils.utils.type.ArrayReader;
+import com.wynntils.utils.type.ByteReader;
+import com.wynntils.utils.type.ByteWriter;
 import com.wynntils.utils.type.ErrorOr;
-import com.wynntils.utils.type.UnsignedByte;
 
 public class EndDataTransformer extends DataTransformer<EndData> {
     @Override
-    public ErrorOr<UnsignedByte[]> encodeData(ItemTransformingVersion version, EndData data) {
+    public ErrorOr<Void> encodeData(ItemTransformingVersion version, EndData data, ByteWriter byteWriter) {
         // End data is always empty
-        return ErrorOr.of(new UnsignedByte[0]);
+        return ErrorOr.of(null);
     }
 
     @Override
-    public ErrorOr<EndData> decodeData(ItemTransformingVersion version, ArrayReader<UnsignedByte> byteReader) {
+    public ErrorOr<EndData> decodeData(ItemTransformingVersion version, ByteReader byteReader) {
         // End data is always empty
         return ErrorOr.of(new EndData());
     }
@@ -1,5 +1,5 @@
 /*
- * Copyright © Wynntils 2023-2025.
+ * Copyright © Wynntils 2023-2026.
  * This file is released under LGPLv3. See LICENSE for full license details.
  */
 package com.wynntils.models.items.encoding.impl.block;
@@ -14,11 +14,10 @@ import com.wynntils.models.stats.StatCalculator;
 import com.wynntils.models.stats.type.StatActualValue;
 import com.wynntils.models.stats.type.StatPossibleValues;
 import com.wynntils.models.stats.type.StatType;
-import com.wynntils.utils.UnsignedByteUtils;
-import com.wynntils.utils.type.ArrayReader;
+import com.wynntils.utils.type.ByteReader;
+import com.wynntils.utils.type.ByteWriter;
 import com.wynntils.utils.type.ErrorOr;
 import com.wynntils.utils.type.RangedValue;
-import com.wynntils.utils.type.UnsignedByte;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
@@ -27,9 +26,9 @@ import java.util.Optional;
 
 public class IdentificationDataTransformer extends DataTransformer<IdentificationData> {
     @Override
-    public ErrorOr<UnsignedByte[]> encodeData(ItemTransformingVersion version, IdentificationData data) {
+    public ErrorOr<Void> encodeData(ItemTransformingVersion version, IdentificationData data, ByteWriter byteWriter) {
         return switch (version) {
-            case VERSION_1, VERSION_2 -> encodeIdentifications(data, data.extendedEncoding());
+            case VERSION_1, VERSION_2 -> encodeIdentifications(data, data.extendedEncoding(), byteWriter);
         };
     }
 
@@ -50,8 +49,7 @@ public class IdentificationDataTransformer extends DataTransformer<Identificatio
         };
     }
 
-    public ErrorOr<IdentificationData> decodeData(
-            ItemTransformingVersion version, ArrayReader<UnsignedByte> byteReader) {
+    public ErrorOr<IdentificationData> decodeData(ItemTransformingVersion version, ByteReader byteReader) {
         return switch (version) {
             case VERSION_1, VERSION_2 -> decodeIdentifications(byteReader);
         };
@@ -62,9 +60,8 @@ public class IdentificationDataTransformer extends DataTransformer<Identificatio
         return DataTransformerType.IDENTIFICATION_DATA_TRANSFORMER.getId();
     }
 
-    private ErrorOr<UnsignedByte[]> encodeIdentifications(IdentificationData data, boolean extendedEncoding) {
-        List<UnsignedByte> bytes = new ArrayList<>();
-
+    private ErrorOr<Void> encodeIdentifications(
+            IdentificationData data, boolean extendedEncoding, ByteWriter byteWriter) {
         if (data.identifications().size() > 255) {
             WynntilsMod.warn("Item has more than 255 identifications!");
             return ErrorOr.error("Cannot encode more than 255 identifications!");
@@ -77,21 +74,14 @@ public class IdentificationDataTransformer extends DataTransformer<Identificatio
                     return possibleValues == null || !possibleValues.isPreIdentified();
                 })
                 .count();
-        bytes.add(UnsignedByte.of(encodedSize));
-        bytes.add(UnsignedByte.of((byte) (extendedEncoding ? 1 : 0)));
-
-        ErrorOr<List<UnsignedByte>> errorOrData;
-        errorOrData = encodeIdentifications(data, bytes, extendedEncoding);
-
-        if (errorOrData.hasError()) {
-            return ErrorOr.error(errorOrData.getError());
-        }
+        byteWriter.write(encodedSize);
+        byteWriter.write(extendedEncoding ? 1 : 0);
 
-        return ErrorOr.of(bytes.toArray(new UnsignedByte[0]));
+        return encodeIdentificationValues(data, extendedEncoding, byteWriter);
     }
 
-    private ErrorOr<List<UnsignedByte>> encodeIdentifications(
-            IdentificationData data, List<UnsignedByte> bytes, boolean encodeExtendedData) {
+    private ErrorOr<Void> encodeIdentificationValues(
+            IdentificationData data, boolean encodeExtendedData, ByteWriter byteWriter) {
         // Encoding simple data:
         // Encoding an identification:
         // Each identification takes 2 bytes to encode.
@@ -116,7 +106,7 @@ public class IdentificationDataTransformer extends DataTransformer<Identificatio
                     })
                     .toList();
 
-            bytes.add(UnsignedByte.of((byte) preIdentifiedStats.size()));
+            byteWriter.write(preIdentifiedStats.size());
 
             for (StatActualValue identification : preIdentifiedStats) {
                 StatPossibleValues possibleValues = data.possibleValues().get(identification.statType());
@@ -133,15 +123,11 @@ public class IdentificationDataTransformer extends DataTransformer<Identificatio
                 int id = idOpt.get();
 
                 // The first byte is the numerical key of the ID.
-                bytes.add(UnsignedByte.of((byte) id));
-
-                // The base value is the value of the stat as of sharing.
-                int baseValue = possibleValues.baseValue();
-                UnsignedByte[] baseValueBytes = UnsignedByteUtils.encodeVariableSizedInteger(baseValue);
+                byteWriter.write(id);
 
                 // The following bytes is are assembled into an integer,
                 // representing the base value of the id, as of sharing.
-                bytes.addAll(List.of(baseValueBytes));
+                byteWriter.writeVariableSizedInteger(possibleValues.baseValue());
             }
         }
 
@@ -171,55 +157,50 @@ public class IdentificationDataTransformer extends DataTransformer<Identificatio
             int id = idOpt.get();
 
             // The first byte is the numerical key of the ID.
-            bytes.add(UnsignedByte.of((byte) id));
+            byteWriter.write(id);
 
             if (encodeExtendedData) {
-                // The base value is the value of the stat as of sharing.
-                int baseValue = possibleValues.baseValue();
-                UnsignedByte[] baseValueBytes = UnsignedByteUtils.encodeVariableSizedInteger(baseValue);
-
                 // The following bytes is are assembled into an integer,
                 // representing the base value of the id, as of sharing.
-                bytes.addAll(List.of(baseValueBytes));
+                byteWriter.writeVariableSizedInteger(possibleValues.baseValue());
             }
 
             int internalRoll = identification.internalRoll().low();
-            UnsignedByte internalRollByte = UnsignedByte.of((byte) internalRoll);
 
             // Check if the internal roll fits a byte.
-            if (internalRoll != internalRollByte.value()) {
+            if (internalRoll != (internalRoll & 0xFF)) {
                 WynntilsMod.warn("Internal roll " + internalRoll + " does not fit a byte!");
                 return ErrorOr.error("Unable to encode stat type, invalid internal roll: "
                         + identification.statType().getDisplayName());
             }
 
             // The last byte is the calculated internal roll of the item.
-            bytes.add(internalRollByte);
+            byteWriter.write(internalRoll);
         }
 
-        return ErrorOr.of(bytes);
+        return ErrorOr.of(null);
     }
 
-    private ErrorOr<IdentificationData> decodeIdentifications(ArrayReader<UnsignedByte> byteReader) {
+    private ErrorOr<IdentificationData> decodeIdentifications(ByteReader byteReader) {
         List<StatActualValue> identifications = new ArrayList<>();
         List<StatPossibleValues> possibleValues = new ArrayList<>();
         Map<StatType, Integer> pendingCalculations = new HashMap<>();
 
         // The first byte is the number of identifications
-        int identificationCount = byteReader.read().value();
+        int identificationCount = byteReader.read();
 
         // The second byte is whether extended data is encoded
-        boolean extendedData = byteReader.read().value() == 1;
+        boolean extendedData = byteReader.read() == 1;
 
         // If extended data is encoded, the next byte is the number of pre-identified stats
         int preIdentifiedCount = 0;
         if (extendedData) {
-            preIdentifiedCount = byteReader.read().value();
+            preIdentifiedCount = byteReader.read();
         }
 
         for (int i = 0; i < preIdentifiedCount + identificationCount; i++) {
             // The first byte is the numerical key of the ID.
-            int id = byteReader.read().value();
+            int id = byteReader.read();
 
             Optional<StatType> statTypeOpt = Models.Stat.getStatTypeForId(id);
 
@@ -235,7 +216,7 @@ public class IdentificationDataTransformer extends DataTransformer<Identificatio
             if (extendedData) {
                 // The following bytes is are assembled into an integer,
                 // representing the base value of the id, as of sharing.
-                int baseValue = (int) UnsignedByteUtils.decodeVariableSizedInteger(byteReader);
+                int baseValue = (int) byteReader.readVariableSizedInteger();
 
                 RangedValue range = StatCalculator.calculatePossibleValuesRange(baseValue, preIdentified, statType);
                 StatPossibleValues possibleValue = new StatPossibleValues(statType, range, baseValue, preIdentified);
@@ -246,7 +227,7 @@ public class IdentificationDataTransformer extends DataTransformer<Identificatio
             }
 
             // The next byte is the calculated internal roll of the item.
-            int internalRoll = byteReader.read().value();
+            int internalRoll = byteReader.read();
 
             // We might not know the possible values yet, so we store the internal roll for later
             pendingCalculations.put(statType, internalRoll);
@@ -1,5 +1,5 @@
 /*
- * Copyright © Wynntils 2023-2025.
+ * Copyright © Wynntils 2023-2026.
  * This file is released under LGPLv3. See LICENSE for full license details.
  */
 package com.wynntils.models.items.encoding.impl.block;
@@ -8,51 +8,50 @@ import com.wynntils.models.items.encoding.data.NameData;
 import com.wynntils.models.items.encoding.type.DataTransformer;
 import com.wynntils.models.items.encoding.type.DataTransformerType;
 import com.wynntils.models.items.encoding.type.ItemTransformingVersion;
-import com.wynntils.utils.UnsignedByteUtils;
-import com.wynntils.utils.type.ArrayReader;
+import com.wynntils.utils.type.ByteReader;
+import com.wynntils.utils.type.ByteWriter;
 import com.wynntils.utils.type.ErrorOr;
-import com.wynntils.utils.type.UnsignedByte;
-import java.util.ArrayList;
-import java.util.List;
 
 public class NameDataTransformer extends DataTransformer<NameData> {
     @Override
-    public ErrorOr<UnsignedByte[]> encodeData(ItemTransformingVersion version, NameData data) {
+    public ErrorOr<Void> encodeData(ItemTransformingVersion version, NameData data, ByteWriter byteWriter) {
         return switch (version) {
-            case VERSION_1, VERSION_2 -> encodeName(data.name().orElse(""));
+            case VERSION_1, VERSION_2 -> encodeName(data.name().orElse(""), byteWriter);
         };
     }
 
     @Override
-    public ErrorOr<NameData> decodeData(ItemTransformingVersion version, ArrayReader<UnsignedByte> byteReader) {
+    public ErrorOr<NameData> decodeData(ItemTransformingVersion version, ByteReader byteReader) {
         return switch (version) {
             case VERSION_1, VERSION_2 -> decodeName(byteReader);
         };
     }
 
-    private ErrorOr<UnsignedByte[]> encodeName(String name) {
+    private ErrorOr<Void> encodeName(String name, ByteWriter byteWriter) {
         try {
-            return ErrorOr.of(UnsignedByteUtils.encodeString(name));
+            byteWriter.writeString(name);
+            return ErrorOr.of(null);
         } catch (IllegalArgumentException e) {
             return ErrorOr.error("Name contains non-ASCII characters");
         }
     }
 
-    private ErrorOr<NameData> decodeName(ArrayReader<UnsignedByte> byteReader) {
-        List<UnsignedByte> bytes = new ArrayList<>();
+    private ErrorOr<NameData> decodeName(ByteReader byteReader) {
+        // Find the null byte, the name is always at least one byte long
+        int length = 1;
+        while (length < byteReader.remaining() && byteReader.peek(length) != 0) {
+            length++;
+        }
 
-        // Read until we find a null byte
-        do {
-            bytes.add(byteReader.read());
-        } while (byteReader.hasRemaining() && byteReader.peek().value() != 0);
+        String name = byteReader.readString(length);
 
         // If this is the case, the byte reader ended, and we didn't find a null byte
-        UnsignedByte nullByte = byteReader.read();
-        if (nullByte.value() != 0) {
+        int nullByte = byteReader.read();
+        if (nullByte != 0) {
             return ErrorOr.error("Name data is not null terminated");
         }
 
-        return ErrorOr.of(NameData.sanitized(UnsignedByteUtils.decodeString(bytes)));
+        return ErrorOr.of(NameData.sanitized(name));
     }
 
     @Override
@@ -1,5 +1,5 @@
 /*
- * Copyright © Wynntils 2023-2025.
+ * Copyright © Wynntils 2023-2026.
  * This file is released under LGPLv3. See LICENSE for full license details.
  */
 package com.wynntils.models.items.encoding.impl.block;
@@ -12,19 +12,18 @@ import com.wynntils.models.items.encoding.type.DataTransformer;
 import com.wynntils.models.items.encoding.type.DataTransformerType;
 import com.wynntils.models.items.encoding.type.ItemTransformingVersion;
 import com.wynntils.utils.UnsignedByteUtils;
-import com.wynntils.utils.type.ArrayReader;
+import com.wynntils.utils.type.ByteReader;
+import com.wynntils.utils.type.ByteWriter;
 import com.wynntils.utils.type.ErrorOr;
 import com.wynntils.utils.type.Pair;
-import com.wynntils.utils.type.UnsignedByte;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.stream.Stream;
 
 public class PowderDataTransformer extends DataTransformer<PowderData> {
     @Override
-    public ErrorOr<UnsignedByte[]> encodeData(ItemTransformingVersion version, PowderData data) {
+    public ErrorOr<Void> encodeData(ItemTransformingVersion version, PowderData data, ByteWriter byteWriter) {
         return switch (version) {
-            case VERSION_1, VERSION_2 -> encodePowderData(data);
+            case VERSION_1, VERSION_2 -> encodePowderData(data, byteWriter);
         };
     }
 
@@ -34,7 +33,7 @@ public class PowderDataTransformer extends DataTransformer<PowderData> {
     }
 
     @Override
-    public ErrorOr<PowderData> decodeData(ItemTransformingVersion version, ArrayReader<UnsignedByte> byteReader) {
+    public ErrorOr<PowderData> decodeData(ItemTransformingVersion version, ByteReader byteReader) {
         return switch (version) {
             case VERSION_1, VERSION_2 -> decodePowderData(byteReader);
         };
@@ -45,7 +44,7 @@ public class PowderDataTransformer extends DataTransformer<PowderData> {
         return DataTransformerType.POWDER_DATA_TRANSFORMER.getId();
     }
 
-    private ErrorOr<UnsignedByte[]> encodePowderData(PowderData data) {
+    private ErrorOr<Void> encodePowderData(PowderData data, ByteWriter byteWriter) {
         // Powders are encoded as bits, a powder needs 5 bits to encode
         // That means the total size is 5 * powderCount,
         // which is padded to the nearest byte
@@ -79,7 +78,7 @@ public class PowderDataTransformer extends DataTransformer<PowderData> {
             powderData[i] = false;
         }
 
-        UnsignedByte[] dataBytes = UnsignedByteUtils.fromBitArray(powderData);
+        byte[] dataBytes = UnsignedByteUtils.packBits(powderData);
         if (data.powders().size() > 255) {
             return ErrorOr.error("Too many powders on item.");
         }
@@ -89,19 +88,19 @@ public class PowderDataTransformer extends DataTransformer<PowderData> {
 
         // The first byte is the powder slots on the item
         // The second byte is the number of powders
-        return ErrorOr.of(Stream.concat(
-                        Stream.of(UnsignedByte.of((byte) data.powderSlots()), UnsignedByte.of((byte)
-                                data.powders().size())),
-                        Stream.of(dataBytes))
-                .toArray(UnsignedByte[]::new));
+        byteWriter.write(data.powderSlots());
+        byteWriter.write(data.powders().size());
+        byteWriter.write(dataBytes);
+
+        return ErrorOr.of(null);
     }
 
-    private ErrorOr<PowderData> decodePowderData(ArrayReader<UnsignedByte> byteReader) {
+    private ErrorOr<PowderData> decodePowderData(ByteReader byteReader) {
         // The first byte is the powder slots on the item
-        int powderSlots = byteReader.read().value();
+        int powderSlots = byteReader.read();
 
         // The second byte is the number of powders
-        int powderCount = byteReader.read().value();
+        int powderCount = byteReader.read();
 
         if (powderCount > powderSlots) {
             WynntilsMod.warn("Powder count is greater than powder slots. This should not happen.");
@@ -116,10 +115,10 @@ public class PowderDataTransformer extends DataTransformer<PowderData> {
         int totalBits = (bitsNeeded + 7) / 8 * 8;
 
         // The remaining bytes are the powder data
-        UnsignedByte[] powderData = byteReader.read(totalBits / 8);
+        byte[] powderData = byteReader.read(totalBits / 8);
 
         // Convert the powder data to a bit array
-        boolean[] powderBits = UnsignedByteUtils.toBitArray(powderData);
+        boolean[] powderBits = UnsignedByteUtils.unpackBits(powderData);
 
         // Remove the padding
         boolean[] powderDataBits = new boolean[bitsNeeded];
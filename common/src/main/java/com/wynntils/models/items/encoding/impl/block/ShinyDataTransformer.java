@@ -1,5 +1,5 @@
 /*
- * Copyright © Wynntils 2023-2025.
+ * Copyright © Wynntils 2023-2026.
  * This file is released under LGPLv3. See LICENSE for full license details.
  */
 package com.wynntils.models.items.encoding.impl.block;
@@ -10,17 +10,16 @@ import com.wynntils.models.items.encoding.type.DataTransformer;
 import com.wynntils.models.items.encoding.type.DataTransformerType;
 import com.wynntils.models.items.encoding.type.ItemTransformingVersion;
 import com.wynntils.models.stats.type.ShinyStat;
-import com.wynntils.utils.UnsignedByteUtils;
-import com.wynntils.utils.type.ArrayReader;
+import com.wynntils.utils.type.ByteReader;
+import com.wynntils.utils.type.ByteWriter;
 import com.wynntils.utils.type.ErrorOr;
-import com.wynntils.utils.type.UnsignedByte;
 
 public class ShinyDataTransformer extends DataTransformer<ShinyData> {
     @Override
-    public ErrorOr<UnsignedByte[]> encodeData(ItemTransformingVersion version, ShinyData data) {
+    public ErrorOr<Void> encodeData(ItemTransformingVersion version, ShinyData data, ByteWriter byteWriter) {
         return switch (version) {
-            case VERSION_1 -> ErrorOr.of(encodeShinyData(data));
-            case VERSION_2 -> ErrorOr.of(encodeShinyDataV2(data));
+            case VERSION_1 -> encodeShinyData(data, byteWriter);
+            case VERSION_2 -> encodeShinyDataV2(data, byteWriter);
         };
     }
 
@@ -30,7 +29,7 @@ public class ShinyDataTransformer extends DataTransformer<ShinyData> {
     }
 
     @Override
-    public ErrorOr<ShinyData> decodeData(ItemTransformingVersion version, ArrayReader<UnsignedByte> byteReader) {
+    public ErrorOr<ShinyData> decodeData(ItemTransformingVersion version, ByteReader byteReader) {
         return switch (version) {
             case VERSION_1 -> decodeShinyData(byteReader);
             case VERSION_2 -> decodeShinyDataV2(byteReader);
@@ -42,63 +41,52 @@ public class ShinyDataTransformer extends DataTransformer<ShinyData> {
         return DataTransformerType.SHINY_DATA_TRANSFORMER.getId();
     }
 
-    private static UnsignedByte[] encodeShinyDataV2(ShinyData data) {
-        UnsignedByte[] shinyStatValueBytes =
-                UnsignedByteUtils.encodeVariableSizedInteger(data.shinyStat().value());
-
-        UnsignedByte[] bytes = new UnsignedByte[shinyStatValueBytes.length + 2];
-
+    private static ErrorOr<Void> encodeShinyDataV2(ShinyData data, ByteWriter byteWriter) {
         // The first byte is the id of the shiny stat.
-        bytes[0] = UnsignedByte.of((byte) data.shinyStat().statType().id());
+        byteWriter.write(data.shinyStat().statType().id());
 
         // The second byte is the shiny reroll count.
-        bytes[1] = UnsignedByte.of((byte) data.shinyStat().shinyRerolls());
+        byteWriter.write(data.shinyStat().shinyRerolls());
 
         // The following bytes is are assembled into an integer representing the shiny value.
-        System.arraycopy(shinyStatValueBytes, 0, bytes, 2, shinyStatValueBytes.length);
+        byteWriter.writeVariableSizedInteger(data.shinyStat().value());
 
-        return bytes;
+        return ErrorOr.of(null);
     }
 
-    private static ErrorOr<ShinyData> decodeShinyDataV2(ArrayReader<UnsignedByte> byteReader) {
+    private static ErrorOr<ShinyData> decodeShinyDataV2(ByteReader byteReader) {
         // The first byte is the id of the shiny stat.
-        UnsignedByte statTypeId = byteReader.read();
+        int statTypeId = byteReader.read();
 
         // The second byte is the shiny reroll count.
-        UnsignedByte shinyRerolls = byteReader.read();
+        int shinyRerolls = byteReader.read();
 
         // The following bytes is are assembled into an integer representing the shiny value.
-        long statValue = UnsignedByteUtils.decodeVariableSizedInteger(byteReader);
+        long statValue = byteReader.readVariableSizedInteger();
 
         // Note: V1 encoding does not support shiny rerolls, so we default to 0.
-        return ErrorOr.of(new ShinyData(
-                new ShinyStat(Models.Shiny.getShinyStatType(statTypeId.value()), statValue, shinyRerolls.value())));
+        return ErrorOr.of(
+                new ShinyData(new ShinyStat(Models.Shiny.getShinyStatType(statTypeId), statValue, shinyRerolls)));
     }
 
-    private static UnsignedByte[] encodeShinyData(ShinyData data) {
-        UnsignedByte[] shinyStatValueBytes =
-                UnsignedByteUtils.encodeVariableSizedInteger(data.shinyStat().value());
-
-        UnsignedByte[] bytes = new UnsignedByte[shinyStatValueBytes.length + 1];
-
+    private static ErrorOr<Void> encodeShinyData(ShinyData data, ByteWriter byteWriter) {
         // The first byte is the id of the shiny stat.
-        bytes[0] = UnsignedByte.of((byte) data.shinyStat().statType().id());
+        byteWriter.write(data.shinyStat().statType().id());
 
         // The following bytes is are assembled into an integer representing the shiny value.
-        System.arraycopy(shinyStatValueBytes, 0, bytes, 1, shinyStatValueBytes.length);
+        byteWriter.writeVariableSizedInteger(data.shinyStat().value());
 
-        return bytes;
+        return ErrorOr.of(null);
     }
 
-    private ErrorOr<ShinyData> decodeShinyData(ArrayReader<UnsignedByte> byteReader) {
+    private ErrorOr<ShinyData> decodeShinyData(ByteReader byteReader) {
         // The first byte is the id of the shiny stat.
-        UnsignedByte statTypeId = byteReader.read();
+        int statTypeId = byteReader.read();
 
         // The following bytes is are assembled into an integer representing the shiny value.
-        long statValue = UnsignedByteUtils.decodeVariableSizedInteger(byteReader);
+        long statValue = byteReader.readVariableSizedInteger();
 
         // Note: V1 encoding does not support shiny rerolls, so we default to 0.
-        return ErrorOr.of(
-                new ShinyData(new ShinyStat(Models.Shiny.getShinyStatType(statTypeId.value()), statValue, 0)));
+        return ErrorOr.of(new ShinyData(new ShinyStat(Models.Shiny.getShinyStatType(statTypeId), statValue, 0)));
     }
 }
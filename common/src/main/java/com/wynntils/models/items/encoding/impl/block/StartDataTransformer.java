@@ -1,5 +1,5 @@
 /*
- * Copyright © Wynntils 2023-2025.
+ * Copyright © Wynntils 2023-2026.
  * This file is released under LGPLv3. See LICENSE for full license details.
  */
 package com.wynntils.models.items.encoding.impl.block;
@@ -8,9 +8,9 @@ import com.wynntils.models.items.encoding.data.StartData;
 import com.wynntils.models.items.encoding.type.DataTransformer;
 import com.wynntils.models.items.encoding.type.DataTransformerType;
 import com.wynntils.models.items.encoding.type.ItemTransformingVersion;
-import com.wynntils.utils.type.ArrayReader;
+import com.wynntils.utils.type.ByteReader;
+import com.wynntils.utils.type.ByteWriter;
 import com.wynntils.utils.type.ErrorOr;
-import com.wynntils.utils.type.UnsignedByte;
 
 public class StartDataTransformer extends DataTransformer<StartData> {
     /**
@@ -18,34 +18,34 @@ public class StartDataTransformer extends DataTransformer<StartData> {
      * @param byteReader The byte reader to read the data from.
      * @return The decoded start data.
      */
-    public static ErrorOr<StartData> decodeData(ArrayReader<UnsignedByte> byteReader) {
-        UnsignedByte idByte = byteReader.read();
-        if (idByte.value() != DataTransformerType.START_DATA_TRANSFORMER.getId()) {
+    public static ErrorOr<StartData> decodeData(ByteReader byteReader) {
+        int idByte = byteReader.read();
+        if (idByte != DataTransformerType.START_DATA_TRANSFORMER.getId()) {
             return ErrorOr.error("Encoded data does not start with a start data block.");
         }
 
-        UnsignedByte versionByte = byteReader.read();
+        byte versionByte = byteReader.readByte();
 
         StartData startData = StartData.fromByte(versionByte);
         if (startData.version() == null) {
-            return ErrorOr.error("Unknown version: " + versionByte);
+            return ErrorOr.error("Unknown version: " + Byte.toUnsignedInt(versionByte));
         }
 
         return ErrorOr.of(startData);
     }
 
     @Override
-    public ErrorOr<UnsignedByte[]> encodeData(ItemTransformingVersion version, StartData data) {
+    public ErrorOr<Void> encodeData(ItemTransformingVersion version, StartData data, ByteWriter byteWriter) {
         return switch (version) {
-            case VERSION_1, VERSION_2 ->
-                ErrorOr.of(new UnsignedByte[] {
-                    UnsignedByte.of(data.version().getId()),
-                });
+            case VERSION_1, VERSION_2 -> {
+                byteWriter.write(data.version().getId());
+                yield ErrorOr.of(null);
+            }
         };
     }
 
     @Override
-    public ErrorOr<StartData> decodeData(ItemTransformingVersion version, ArrayReader<UnsignedByte> byteReader) {
+    public ErrorOr<StartData> decodeData(ItemTransformingVersion version, ByteReader byteReader) {
         // NOOP, should never be called
         throw new IllegalStateException("StartDataTransformer should never be called to decode data");
     }
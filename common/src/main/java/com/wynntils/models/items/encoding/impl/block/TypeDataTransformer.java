@@ -1,5 +1,5 @@
 /*
- * Copyright © Wynntils 2023-2025.
+ * Copyright © Wynntils 2023-2026.
  * This file is released under LGPLv3. See LICENSE for full license details.
  */
 package com.wynntils.models.items.encoding.impl.block;
@@ -8,28 +8,30 @@ import com.wynntils.models.items.encoding.data.TypeData;
 import com.wynntils.models.items.encoding.type.DataTransformer;
 import com.wynntils.models.items.encoding.type.DataTransformerType;
 import com.wynntils.models.items.encoding.type.ItemTransformingVersion;
-import com.wynntils.utils.type.ArrayReader;
+import com.wynntils.utils.type.ByteReader;
+import com.wynntils.utils.type.ByteWriter;
 import com.wynntils.utils.type.ErrorOr;
-import com.wynntils.utils.type.UnsignedByte;
 
 public class TypeDataTransformer extends DataTransformer<TypeData> {
     @Override
-    public ErrorOr<UnsignedByte[]> encodeData(ItemTransformingVersion version, TypeData data) {
+    public ErrorOr<Void> encodeData(ItemTransformingVersion version, TypeData data, ByteWriter byteWriter) {
         return switch (version) {
-            case VERSION_1, VERSION_2 ->
-                ErrorOr.of(new UnsignedByte[] {UnsignedByte.of(data.itemType().getEncodingId())});
+            case VERSION_1, VERSION_2 -> {
+                byteWriter.write(data.itemType().getEncodingId());
+                yield ErrorOr.of(null);
+            }
         };
     }
 
     @Override
-    public ErrorOr<TypeData> decodeData(ItemTransformingVersion version, ArrayReader<UnsignedByte> byteReader) {
+    public ErrorOr<TypeData> decodeData(ItemTransformingVersion version, ByteReader byteReader) {
         return switch (version) {
             case VERSION_1, VERSION_2 -> decodeType(byteReader);
         };
     }
 
-    private static ErrorOr<TypeData> decodeType(ArrayReader<UnsignedByte> byteReader) {
-        TypeData typeData = TypeData.fromByte(byteReader.read());
+    private static ErrorOr<TypeData> decodeType(ByteReader byteReader) {
+        TypeData typeData = TypeData.fromByte(byteReader.readByte());
         if (typeData.itemType() == null) {
             return ErrorOr.error("Unknown item type.");
         }
@@ -1,5 +1,5 @@
 /*
- * Copyright © Wynntils 2023-2025.
+ * Copyright © Wynntils 2023-2026.
  * This file is released under LGPLv3. See LICENSE for full license details.
  */
 package com.wynntils.models.items.encoding.impl.block;
@@ -8,21 +8,21 @@ import com.wynntils.models.items.encoding.data.UsesData;
 import com.wynntils.models.items.encoding.type.DataTransformer;
 import com.wynntils.models.items.encoding.type.DataTransformerType;
 import com.wynntils.models.items.encoding.type.ItemTransformingVersion;
-import com.wynntils.utils.type.ArrayReader;
+import com.wynntils.utils.type.ByteReader;
+import com.wynntils.utils.type.ByteWriter;
 import com.wynntils.utils.type.CappedValue;
 import com.wynntils.utils.type.ErrorOr;
-import com.wynntils.utils.type.UnsignedByte;
 
 public class UsesDataTransformer extends DataTransformer<UsesData> {
     @Override
-    protected ErrorOr<UnsignedByte[]> encodeData(ItemTransformingVersion version, UsesData data) {
+    protected ErrorOr<Void> encodeData(ItemTransformingVersion version, UsesData data, ByteWriter byteWriter) {
         return switch (version) {
-            case VERSION_1, VERSION_2 -> encodeUsesData(data);
+            case VERSION_1, VERSION_2 -> encodeUsesData(data, byteWriter);
         };
     }
 
     @Override
-    public ErrorOr<UsesData> decodeData(ItemTransformingVersion version, ArrayReader<UnsignedByte> byteReader) {
+    public ErrorOr<UsesData> decodeData(ItemTransformingVersion version, ByteReader byteReader) {
         return switch (version) {
             case VERSION_1, VERSION_2 -> decodeUsesData(byteReader);
         };
@@ -33,7 +33,7 @@ public class UsesDataTransformer extends DataTransformer<UsesData> {
         return DataTransformerType.USES_DATA_TRANSFORMER.getId();
     }
 
-    private ErrorOr<UnsignedByte[]> encodeUsesData(UsesData data) {
+    private ErrorOr<Void> encodeUsesData(UsesData data, ByteWriter byteWriter) {
         if (data.uses().current() < 0
                 || data.uses().max() < 0
                 || data.uses().current() > 255
@@ -41,22 +41,21 @@ public class UsesDataTransformer extends DataTransformer<UsesData> {
             return ErrorOr.error("Uses data does not fit a byte: " + data.uses());
         }
 
-        UnsignedByte[] bytes = new UnsignedByte[2];
         // The first byte is the remaining uses for the item.
-        bytes[0] = new UnsignedByte((byte) data.uses().current());
+        byteWriter.write(data.uses().current());
 
         // The second byte is the maximum uses for the item.
-        bytes[1] = new UnsignedByte((byte) data.uses().max());
+        byteWriter.write(data.uses().max());
 
-        return ErrorOr.of(bytes);
+        return ErrorOr.of(null);
     }
 
-    private ErrorOr<UsesData> decodeUsesData(ArrayReader<UnsignedByte> byteReader) {
+    private ErrorOr<UsesData> decodeUsesData(ByteReader byteReader) {
         // The first byte is the remaining uses for the item.
-        int currentUses = byteReader.read().value();
+        int currentUses = byteReader.read();
 
         // The second byte is the maximum uses for the item.
-        int maxUses = byteReader.read().value();
+        int maxUses = byteReader.read();
 
         return ErrorOr.of(new UsesData(new CappedValue(currentUses, maxUses)));
     }
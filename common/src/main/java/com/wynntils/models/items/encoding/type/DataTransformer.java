@@ -1,42 +1,35 @@
 /*
- * Copyright © Wynntils 2023-2024.
+ * Copyright © Wynntils 2023-2026.
  * This file is released under LGPLv3. See LICENSE for full license details.
  */
 package com.wynntils.models.items.encoding.type;
 
-import com.wynntils.utils.type.ArrayReader;
+import com.wynntils.utils.type.ByteReader;
+import com.wynntils.utils.type.ByteWriter;
 import com.wynntils.utils.type.ErrorOr;
-import com.wynntils.utils.type.UnsignedByte;
 
 /**
  * Interface for transforming data into bytes.
  * @param <T> The type of data to transform.
  */
 public abstract class DataTransformer<T extends ItemData> {
-    public final ErrorOr<UnsignedByte[]> encode(ItemTransformingVersion version, T data) {
-        if (!shouldEncodeData(version, data)) return ErrorOr.of(new UnsignedByte[0]);
-
-        ErrorOr<UnsignedByte[]> errorOrData = encodeData(version, data);
-        if (errorOrData.hasError()) {
-            return errorOrData;
-        }
-
-        UnsignedByte[] dataBytes = errorOrData.getValue();
-
-        UnsignedByte[] bytes = new UnsignedByte[dataBytes.length + 1];
-        bytes[0] = UnsignedByte.of(getId());
-        System.arraycopy(dataBytes, 0, bytes, 1, dataBytes.length);
-
-        return ErrorOr.of(bytes);
+    /**
+     * Writes the data as a block, starting with the id of this transformer.
+     */
+    public final ErrorOr<Void> encode(ItemTransformingVersion version, T data, ByteWriter byteWriter) {
+        if (!shouldEncodeData(version, data)) return ErrorOr.of(null);
+
+        byteWriter.write(getId());
+        return encodeData(version, data, byteWriter);
     }
 
-    protected abstract ErrorOr<UnsignedByte[]> encodeData(ItemTransformingVersion version, T data);
+    protected abstract ErrorOr<Void> encodeData(ItemTransformingVersion version, T data, ByteWriter byteWriter);
 
     protected boolean shouldEncodeData(ItemTransformingVersion version, T data) {
         return true;
     }
 
-    public abstract ErrorOr<T> decodeData(ItemTransformingVersion version, ArrayReader<UnsignedByte> byteReader);
+    public abstract ErrorOr<T> decodeData(ItemTransformingVersion version, ByteReader byteReader);
 
     public abstract byte getId();
 }
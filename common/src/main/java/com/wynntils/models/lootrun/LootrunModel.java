@@ -17,6 +17,7 @@ import com.wynntils.core.persisted.storage.Storage;
 import com.wynntils.core.text.StyledText;
 import com.wynntils.features.combat.CustomLootrunBeaconsFeature;
 import com.wynntils.handlers.chat.event.ChatMessageEvent;
+import com.wynntils.handlers.chat.type.ChatPattern;
 import com.wynntils.handlers.chat.type.RecipientType;
 import com.wynntils.handlers.labels.event.LabelIdentifiedEvent;
 import com.wynntils.handlers.particle.event.ParticleVerifiedEvent;
@@ -78,7 +79,7 @@ import java.util.Optional;
 import java.util.Set;
 import java.util.TreeMap;
 import java.util.UUID;
-import java.util.regex.Matcher;
+import java.util.regex.MatchResult;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 import net.minecraft.ChatFormatting;
@@ -106,16 +107,23 @@ public final class LootrunModel extends Model {
     private static final Pattern LOOTRUN_COMPLETED_PATTERN = Pattern.compile("\uDB00\uDC62§6§lLootrun Completed!");
 
     // Rewards
-    private static final Pattern REWARD_PULLS_PATTERN = Pattern.compile("§.(\\d+)§7 Reward Pulls§r");
-    private static final Pattern REWARD_REROLLS_PATTERN = Pattern.compile("§.(\\d+)§7 Reward Rerolls§r");
-    private static final Pattern REWARD_SACRIFICES_PATTERN = Pattern.compile("§.(\\d+)§7 Reward Sacrifices§r");
-    private static final Pattern LOOTRUN_EXPERIENCE_PATTERN = Pattern.compile("§.(\\d+)§7 Lootrun Experience§r");
+    private static final Pattern REWARD_PULLS_PATTERN =
+            Pattern.compile(".*?§.(\\d+)§7 Reward Pulls§r.*", Pattern.DOTALL);
+    private static final Pattern REWARD_REROLLS_PATTERN =
+            Pattern.compile(".*?§.(\\d+)§7 Reward Rerolls§r.*", Pattern.DOTALL);
+    private static final Pattern REWARD_SACRIFICES_PATTERN =
+            Pattern.compile(".*?§.(\\d+)§7 Reward Sacrifices§r.*", Pattern.DOTALL);
+    private static final Pattern LOOTRUN_EXPERIENCE_PATTERN =
+            Pattern.compile(".*?§.(\\d+)§7 Lootrun Experience§r.*", Pattern.DOTALL);
 
     // Statistics
-    private static final Pattern TIME_ELAPSED_PATTERN = Pattern.compile("§7Time Elapsed: §.(\\d+):(\\d+)");
-    private static final Pattern MOBS_KILLED_PATTERN = Pattern.compile("§7Mobs Killed: §.(\\d+)");
-    private static final Pattern CHESTS_OPENED_PATTERN = Pattern.compile("§7Chests Open: §.(\\d+)");
-    private static final Pattern CHALLENGES_COMPLETED_PATTERN = Pattern.compile("§7Challenges Completed: §.(\\d+)");
+    private static final Pattern TIME_ELAPSED_PATTERN =
+            Pattern.compile(".*?§7Time Elapsed: §.(\\d+):(\\d+).*", Pattern.DOTALL);
+    private static final Pattern MOBS_KILLED_PATTERN = Pattern.compile(".*?§7Mobs Killed: §.(\\d+).*", Pattern.DOTALL);
+    private static final Pattern CHESTS_OPENED_PATTERN =
+            Pattern.compile(".*?§7Chests Open: §.(\\d+).*", Pattern.DOTALL);
+    private static final Pattern CHALLENGES_COMPLETED_PATTERN =
+            Pattern.compile(".*?§7Challenges Completed: §.(\\d+).*", Pattern.DOTALL);
 
     //                             À§c§lLootrun Failed!
     //                         ÀÀ§7Better luck next time!
@@ -132,9 +140,9 @@ public final class LootrunModel extends Model {
     private static final Pattern BEACONS_PATTERN = Pattern.compile(
             "[\uDAFF\uDFFF-\uDB00\uDC78]§(?<beaconOneColor>[a-z0-9#]+)§l(?<beaconOneVibrant>Vibrant )?.+? Beacon(§r[\uDAFF\uDFFF-\uDB00\uDC78]§(?<beaconTwoColor>[a-z0-9#]+)§l(?<beaconTwoVibrant>Vibrant )?.+ Beacon)?");
     private static final Pattern ORANGE_AMOUNT_PATTERN =
-            Pattern.compile("(?:.+)?§7(?:.+?)?for (?:§b)?(\\d+)(§(r|7))? Challenges");
+            Pattern.compile("(?:.+)?§7(?:.+?)?for (?:§b)?(\\d+)(§(r|7))? Challenges.*", Pattern.DOTALL);
     private static final Pattern RAINBOW_AMOUNT_PATTERN =
-            Pattern.compile("(?:.+)?§7(?:.+?)?next (?:§b)?(\\d+)(§(r|7))? Challenges");
+            Pattern.compile("(?:.+)?§7(?:.+?)?next (?:§b)?(\\d+)(§(r|7))? Challenges.*", Pattern.DOTALL);
     private static final Pattern MISSION_COMPLETED_PATTERN =
             Pattern.compile("(?:[^\u0000-\u007F]+)?§b§lMission Completed");
 
@@ -142,18 +150,51 @@ public final class LootrunModel extends Model {
     // (missions that apply effects on challenge completion)
     private static final Pattern COMPLETED_MISSION_PATTERN = Pattern.compile("(?:[^\\u0000-\\u007F]+)?§.(?<mission>"
             + MissionType.missionTypes().stream().map(MissionType::getName).collect(Collectors.joining("|")) + ")");
-    private static final Pattern ACTIVE_MISSION_PATTERN = Pattern.compile("[À\\s]*?§b§l(?<mission>"
-            + MissionType.missionTypes().stream().map(MissionType::getName).collect(Collectors.joining("|")) + ")");
-
-    private static final Pattern TRIAL_STARTED_PATTERN = Pattern.compile("\uDB00\uDC6D§b§lTrial Started");
-    private static final Pattern TRIAL_NAME_PATTERN = Pattern.compile("(?:.+)?§7(?<trial>"
-            + TrialType.trialTypes().stream().map(TrialType::getName).collect(Collectors.joining("|")) + ")");
+    private static final Pattern ACTIVE_MISSION_PATTERN = Pattern.compile(
+            ".*?§b§l(?<mission>"
+                    + MissionType.missionTypes().stream().map(MissionType::getName).collect(Collectors.joining("|"))
+                    + ").*",
+            Pattern.DOTALL);
+
+    private static final Pattern TRIAL_STARTED_PATTERN =
+            Pattern.compile(".*?\uDB00\uDC6D§b§lTrial Started.*", Pattern.DOTALL);
+    private static final Pattern TRIAL_NAME_PATTERN = Pattern.compile(
+            "(?:.+)?§7(?<trial>"
+                    + TrialType.trialTypes().stream().map(TrialType::getName).collect(Collectors.joining("|"))
+                    + ").*",
+            Pattern.DOTALL);
 
     // These patterns detect when rerolls/sacrifices are gained after completing a challenge.
     // (Gambling Beast, Warmth Devourer)
     private static final Pattern CHALLENGE_GET_SACRIFICE_PATTERN =
-            Pattern.compile("\\[\\+(\\d+) Reward Sacrifices?\\]");
-    private static final Pattern CHALLENGE_GET_REROLL_PATTERN = Pattern.compile("\\[\\+(\\d+) Reward Rerolls?\\]");
+            Pattern.compile(".*?\\[\\+(\\d+) Reward Sacrifices?\\].*", Pattern.DOTALL);
+    private static final Pattern CHALLENGE_GET_REROLL_PATTERN =
+            Pattern.compile(".*?\\[\\+(\\d+) Reward Rerolls?\\].*", Pattern.DOTALL);
+
+    // Patterns that were found anywhere in a message match the whole message, as chat patterns must
+    private static final ChatPattern LOOTRUN_COMPLETED = ChatPattern.of(LOOTRUN_COMPLETED_PATTERN);
+    private static final ChatPattern REWARD_PULLS = ChatPattern.of(REWARD_PULLS_PATTERN);
+    private static final ChatPattern REWARD_REROLLS = ChatPattern.of(REWARD_REROLLS_PATTERN);
+    private static final ChatPattern REWARD_SACRIFICES = ChatPattern.of(REWARD_SACRIFICES_PATTERN);
+    private static final ChatPattern LOOTRUN_EXPERIENCE = ChatPattern.of(LOOTRUN_EXPERIENCE_PATTERN);
+    private static final ChatPattern TIME_ELAPSED = ChatPattern.of(TIME_ELAPSED_PATTERN);
+    private static final ChatPattern MOBS_KILLED = ChatPattern.of(MOBS_KILLED_PATTERN);
+    private static final ChatPattern CHESTS_OPENED = ChatPattern.of(CHESTS_OPENED_PATTERN);
+    private static final ChatPattern CHALLENGES_COMPLETED = ChatPattern.of(CHALLENGES_COMPLETED_PATTERN);
+    private static final ChatPattern LOOTRUN_FAILED = ChatPattern.of(LOOTRUN_FAILED_PATTERN);
+    private static final ChatPattern CHALLENGE_COMPLETED = ChatPattern.of(CHALLENGE_COMPLETED_PATTERN);
+    private static final ChatPattern CHALLENGE_FAILED = ChatPattern.of(CHALLENGE_FAILED_PATTERN);
+    private static final ChatPattern CHOOSE_BEACON = ChatPattern.of(CHOOSE_BEACON_PATTERN);
+    private static final ChatPattern BEACONS = ChatPattern.of(BEACONS_PATTERN);
+    private static final ChatPattern ORANGE_AMOUNT = ChatPattern.of(ORANGE_AMOUNT_PATTERN);
+    private static final ChatPattern RAINBOW_AMOUNT = ChatPattern.of(RAINBOW_AMOUNT_PATTERN);
+    private static final ChatPattern MISSION_COMPLETED = ChatPattern.of(MISSION_COMPLETED_PATTERN);
+    private static final ChatPattern COMPLETED_MISSION = ChatPattern.of(COMPLETED_MISSION_PATTERN);
+    private static final ChatPattern ACTIVE_MISSION = ChatPattern.of(ACTIVE_MISSION_PATTERN);
+    private static final ChatPattern TRIAL_STARTED = ChatPattern.of(TRIAL_STARTED_PATTERN);
+    private static final ChatPattern TRIAL_NAME = ChatPattern.of(TRIAL_NAME_PATTERN);
+    private static final ChatPattern CHALLENGE_GET_SACRIFICE = ChatPattern.of(CHALLENGE_GET_SACRIFICE_PATTERN);
+    private static final ChatPattern CHALLENGE_GET_REROLL = ChatPattern.of(CHALLENGE_GET_REROLL_PATTERN);
 
     private static final float BEACON_REMOVAL_RADIUS = 25f;
 
@@ -311,56 +352,53 @@ public final class LootrunModel extends Model {
     @SubscribeEvent
     public void onChatMessage(ChatMessageEvent.Match event) {
         if (event.getRecipientType() != RecipientType.INFO) return;
-        StyledText styledText = event.getMessage();
 
-        if (styledText.matches(LOOTRUN_COMPLETED_PATTERN)) {
+        if (event.matches(LOOTRUN_COMPLETED)) {
             lootrunCompletedBuilder = new LootrunFinishedEventBuilder.Completed();
             lootrunFailedBuilder = null;
             return;
         }
-        if (styledText.matches(LOOTRUN_FAILED_PATTERN)) {
+        if (event.matches(LOOTRUN_FAILED)) {
             lootrunFailedBuilder = new LootrunFinishedEventBuilder.Failed();
             lootrunCompletedBuilder = null;
             return;
         }
 
         if (lootrunCompletedBuilder != null) {
-            parseCompletedMessages(styledText);
+            parseCompletedMessages(event);
         } else if (lootrunFailedBuilder != null) {
-            parseFailedMessages(styledText);
+            parseFailedMessages(event);
         }
 
-        Matcher matcher = MISSION_COMPLETED_PATTERN.matcher(styledText.getString());
-        if (matcher.matches()) {
+        if (event.matches(MISSION_COMPLETED)) {
             expectMissionComplete = true;
             return;
         }
 
         if (expectMissionComplete) {
-            matcher = COMPLETED_MISSION_PATTERN.matcher(styledText.getString());
-            if (matcher.matches()) {
+            MatchResult matcher = event.getMatch(COMPLETED_MISSION).orElse(null);
+            if (matcher != null) {
                 MissionType mission = MissionType.fromName(matcher.group("mission"));
                 addMission(mission);
                 return;
             }
         }
 
-        matcher = ACTIVE_MISSION_PATTERN.matcher(styledText.getString());
-        if (matcher.find()) {
+        MatchResult matcher = event.getMatch(ACTIVE_MISSION).orElse(null);
+        if (matcher != null) {
             MissionType mission = MissionType.fromName(matcher.group("mission"));
             addMission(mission);
             return;
         }
 
-        matcher = TRIAL_STARTED_PATTERN.matcher(styledText.getString());
-        if (matcher.find()) {
+        if (event.matches(TRIAL_STARTED)) {
             expectTrialStarted = true;
             return;
         }
 
         if (expectTrialStarted) {
-            matcher = TRIAL_NAME_PATTERN.matcher(styledText.getString());
-            if (matcher.find()) {
+            matcher = event.getMatch(TRIAL_NAME).orElse(null);
+            if (matcher != null) {
                 TrialType trial = TrialType.fromName(matcher.group("trial"));
                 addTrial(trial);
             }
@@ -368,8 +406,8 @@ public final class LootrunModel extends Model {
             return;
         }
 
-        matcher = CHALLENGE_GET_SACRIFICE_PATTERN.matcher(styledText.getString());
-        if (matcher.find()) {
+        matcher = event.getMatch(CHALLENGE_GET_SACRIFICE).orElse(null);
+        if (matcher != null) {
             int amount = Integer.parseInt(matcher.group(1));
             LootrunDetails details = getCurrentLootrunDetails();
             details.setSacrifices(details.getSacrifices() + amount);
@@ -377,8 +415,8 @@ public final class LootrunModel extends Model {
             return;
         }
 
-        matcher = CHALLENGE_GET_REROLL_PATTERN.matcher(styledText.getString());
-        if (matcher.find()) {
+        matcher = event.getMatch(CHALLENGE_GET_REROLL).orElse(null);
+        if (matcher != null) {
             int amount = Integer.parseInt(matcher.group(1));
             LootrunDetails details = getCurrentLootrunDetails();
             details.setRerolls(details.getRerolls() + amount);
@@ -386,20 +424,18 @@ public final class LootrunModel extends Model {
             return;
         }
 
-        matcher = CHALLENGE_COMPLETED_PATTERN.matcher(styledText.getString());
-        if (matcher.matches()) {
+        if (event.matches(CHALLENGE_COMPLETED)) {
             challengeCompleted();
             return;
         }
 
-        matcher = CHALLENGE_FAILED_PATTERN.matcher(styledText.getString());
-        if (matcher.matches()) {
+        if (event.matches(CHALLENGE_FAILED)) {
             challengeFailed();
             return;
         }
 
-        matcher = styledText.getMatcher(BEACONS_PATTERN);
-        if (matcher.matches()) {
+        matcher = event.getMatch(BEACONS).orElse(null);
+        if (matcher != null) {
             String beaconOneColorStr = matcher.group("beaconOneColor");
             CustomColor beaconOneColor = beaconOneColorStr.startsWith("#")
                     ? CustomColor.fromHexString(beaconOneColorStr)
@@ -438,15 +474,14 @@ public final class LootrunModel extends Model {
             return;
         }
 
-        if (styledText.matches(CHOOSE_BEACON_PATTERN)) {
+        if (event.matches(CHOOSE_BEACON)) {
             newBeacons();
             return;
         }
 
         if (expectOrangeBeacon) {
-            Matcher orangeMatcher = styledText.getMatcher(ORANGE_AMOUNT_PATTERN);
-
-            if (orangeMatcher.find()) {
+            MatchResult orangeMatcher = event.getMatch(ORANGE_AMOUNT).orElse(null);
+            if (orangeMatcher != null) {
                 expectOrangeBeacon = false;
                 getCurrentLootrunDetails().setOrangeAmount(Integer.parseInt(orangeMatcher.group(1)));
                 lootrunDetailsStorage.touched();
@@ -454,9 +489,8 @@ public final class LootrunModel extends Model {
         }
 
         if (expectRainbowBeacon) {
-            Matcher rainbowMatcher = styledText.getMatcher(RAINBOW_AMOUNT_PATTERN);
-
-            if (rainbowMatcher.find()) {
+            MatchResult rainbowMatcher = event.getMatch(RAINBOW_AMOUNT).orElse(null);
+            if (rainbowMatcher != null) {
                 expectRainbowBeacon = false;
                 getCurrentLootrunDetails().setRainbowAmount(Integer.parseInt(rainbowMatcher.group(1)));
                 lootrunDetailsStorage.touched();
@@ -1085,6 +1119,7 @@ public final class LootrunModel extends Model {
         lootrunDetails.setOrangeAmount(-1);
         lootrunDetails.setRainbowAmount(-1);
         lootrunDetailsStorage.get().put(Models.Character.getId(), lootrunDetails);
+        lootrunDetailsStorage.touched();
     }
 
     private void challengeFailed() {
@@ -1114,6 +1149,7 @@ public final class LootrunModel extends Model {
         List<Integer> orangeCounts = getOrangeCounts(lootrunDetails);
         lootrunDetails.setOrangeBeaconCounts(orangeCounts);
         lootrunDetailsStorage.get().put(Models.Character.getId(), lootrunDetails);
+        lootrunDetailsStorage.touched();
     }
 
     private List<Integer> getOrangeCounts(LootrunDetails lootrunDetails) {
@@ -1295,75 +1331,75 @@ public final class LootrunModel extends Model {
         return Pair.of(predictionScore, currentTaskLocation);
     }
 
-    private void parseCompletedMessages(StyledText styledText) {
-        Matcher matcher = styledText.getMatcher(REWARD_PULLS_PATTERN);
-        if (matcher.find()) {
+    private void parseCompletedMessages(ChatMessageEvent.Match event) {
+        MatchResult matcher = event.getMatch(REWARD_PULLS).orElse(null);
+        if (matcher != null) {
             int pulls = Integer.parseInt(matcher.group(1));
             lootrunCompletedBuilder.setRewardPulls(pulls);
             expectedPulls.store(pulls);
 
-            matcher = styledText.getMatcher(TIME_ELAPSED_PATTERN);
-            if (matcher.find()) {
+            matcher = event.getMatch(TIME_ELAPSED).orElse(null);
+            if (matcher != null) {
                 lootrunCompletedBuilder.setTimeElapsed(
                         Integer.parseInt(matcher.group(1)) * 60 + Integer.parseInt(matcher.group(2)));
                 return;
             }
 
-            WynntilsMod.warn("Found lootrun pulls but no time elapsed: " + styledText);
+            WynntilsMod.warn("Found lootrun pulls but no time elapsed: " + event.getMessage());
         }
 
-        matcher = styledText.getMatcher(REWARD_REROLLS_PATTERN);
-        if (matcher.find()) {
+        matcher = event.getMatch(REWARD_REROLLS).orElse(null);
+        if (matcher != null) {
             lootrunCompletedBuilder.setRewardRerolls(Integer.parseInt(matcher.group(1)));
 
-            matcher = styledText.getMatcher(MOBS_KILLED_PATTERN);
-            if (matcher.find()) {
+            matcher = event.getMatch(MOBS_KILLED).orElse(null);
+            if (matcher != null) {
                 lootrunCompletedBuilder.setMobsKilled(Integer.parseInt(matcher.group(1)));
                 return;
             }
 
-            WynntilsMod.warn("Found lootrun rerolls but no mobs killed: " + styledText);
+            WynntilsMod.warn("Found lootrun rerolls but no mobs killed: " + event.getMessage());
         }
 
-        matcher = styledText.getMatcher(REWARD_SACRIFICES_PATTERN);
-        if (matcher.find()) {
+        matcher = event.getMatch(REWARD_SACRIFICES).orElse(null);
+        if (matcher != null) {
             lootrunCompletedBuilder.setRewardSacrifices(Integer.parseInt(matcher.group(1)));
 
-            matcher = styledText.getMatcher(CHESTS_OPENED_PATTERN);
-            if (matcher.find()) {
+            matcher = event.getMatch(CHESTS_OPENED).orElse(null);
+            if (matcher != null) {
                 lootrunCompletedBuilder.setChestsOpened(Integer.parseInt(matcher.group(1)));
                 return;
             }
 
-            WynntilsMod.warn("Found lootrun sacrifices but no chests opened: " + styledText);
+            WynntilsMod.warn("Found lootrun sacrifices but no chests opened: " + event.getMessage());
         }
 
-        matcher = styledText.getMatcher(LOOTRUN_EXPERIENCE_PATTERN);
-        if (matcher.find()) {
+        matcher = event.getMatch(LOOTRUN_EXPERIENCE).orElse(null);
+        if (matcher != null) {
             lootrunCompletedBuilder.setExperienceGained(Integer.parseInt(matcher.group(1)));
 
-            matcher = styledText.getMatcher(CHALLENGES_COMPLETED_PATTERN);
-            if (matcher.find()) {
+            matcher = event.getMatch(CHALLENGES_COMPLETED).orElse(null);
+            if (matcher != null) {
                 lootrunCompletedBuilder.setChallengesCompleted(Integer.parseInt(matcher.group(1)));
                 WynntilsMod.postEvent(lootrunCompletedBuilder.build());
                 lootrunCompletedBuilder = null;
                 return;
             }
 
-            WynntilsMod.warn("Found lootrun experience but no challenges completed: " + styledText);
+            WynntilsMod.warn("Found lootrun experience but no challenges completed: " + event.getMessage());
         }
     }
 
-    private void parseFailedMessages(StyledText styledText) {
-        Matcher matcher = styledText.getMatcher(TIME_ELAPSED_PATTERN);
-        if (matcher.find()) {
+    private void parseFailedMessages(ChatMessageEvent.Match event) {
+        MatchResult matcher = event.getMatch(TIME_ELAPSED).orElse(null);
+        if (matcher != null) {
             lootrunFailedBuilder.setTimeElapsed(
                     Integer.parseInt(matcher.group(1)) * 60 + Integer.parseInt(matcher.group(2)));
             return;
         }
 
-        matcher = styledText.getMatcher(CHALLENGES_COMPLETED_PATTERN);
-        if (matcher.find()) {
+        matcher = event.getMatch(CHALLENGES_COMPLETED).orElse(null);
+        if (matcher != null) {
             lootrunFailedBuilder.setChallengesCompleted(Integer.parseInt(matcher.group(1)));
             WynntilsMod.postEvent(lootrunFailedBuilder.build());
             lootrunFailedBuilder = null;
@@ -6,6 +6,7 @@ package com.wynntils.models.npc.label;
 
 import com.wynntils.core.text.StyledText;
 import com.wynntils.handlers.labels.type.LabelParser;
+import com.wynntils.handlers.labels.type.LabelPrefilter;
 import com.wynntils.utils.mc.type.Location;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -54,4 +55,9 @@ public class NpcLabelParser implements LabelParser<NpcLabelInfo> {
 
         return null;
     }
+
+    @Override
+    public LabelPrefilter getPrefilter() {
+        return LabelPrefilter.startingWith("§f", "§b", "§6V", "§dLootrun Master");
+    }
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright © Wynntils 2023-2025.
+ * Copyright © Wynntils 2023-2026.
  * This file is released under LGPLv3. See LICENSE for full license details.
  */
 package com.wynntils.models.players;
@@ -8,8 +8,8 @@ import com.wynntils.core.WynntilsMod;
 import com.wynntils.core.components.Handlers;
 import com.wynntils.core.components.Model;
 import com.wynntils.core.components.Models;
-import com.wynntils.core.text.StyledText;
 import com.wynntils.handlers.chat.event.ChatMessageEvent;
+import com.wynntils.handlers.chat.type.ChatPattern;
 import com.wynntils.handlers.chat.type.MessageType;
 import com.wynntils.models.players.event.FriendsEvent;
 import com.wynntils.models.players.event.HadesRelationsUpdateEvent;
@@ -17,15 +17,15 @@ import com.wynntils.models.worlds.event.WorldStateEvent;
 import com.wynntils.models.worlds.type.WorldState;
 import com.wynntils.services.hades.event.HadesEvent;
 import com.wynntils.utils.mc.McUtils;
-import com.wynntils.utils.mc.StyledTextUtils;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
-import java.util.regex.Matcher;
+import java.util.regex.MatchResult;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 import net.neoforged.bus.api.SubscribeEvent;
@@ -68,6 +68,16 @@ public final class FriendsModel extends Model {
     private static final Pattern LEAVE_PATTERN = Pattern.compile("§a(?<username>\\w{1,16}) left the game\\.");
     // endregion
 
+    private static final ChatPattern FRIEND_LIST_CHAT = ChatPattern.ofUnwrappedUnformatted(FRIEND_LIST);
+    private static final ChatPattern FRIEND_LIST_FAIL_1_CHAT = ChatPattern.ofUnwrapped(FRIEND_LIST_FAIL_1);
+    private static final ChatPattern FRIEND_LIST_FAIL_2_CHAT = ChatPattern.ofUnwrapped(FRIEND_LIST_FAIL_2);
+    private static final ChatPattern FRIEND_REMOVE_MESSAGE = ChatPattern.ofUnwrapped(FRIEND_REMOVE_MESSAGE_PATTERN);
+    private static final ChatPattern FRIEND_ADD_MESSAGE = ChatPattern.ofUnwrapped(FRIEND_ADD_MESSAGE_PATTERN);
+    private static final ChatPattern ONLINE_FRIENDS_HEADER_CHAT = ChatPattern.ofUnwrapped(ONLINE_FRIENDS_HEADER);
+    private static final ChatPattern ONLINE_FRIEND_CHAT = ChatPattern.ofUnwrapped(ONLINE_FRIEND);
+    private static final ChatPattern JOIN = ChatPattern.ofUnwrapped(JOIN_PATTERN);
+    private static final ChatPattern LEAVE = ChatPattern.ofUnwrapped(LEAVE_PATTERN);
+
     private static final int REQUEST_RATELIMIT = 250;
 
     private ListStatus friendMessageStatus = ListStatus.IDLE;
@@ -105,11 +115,9 @@ public final class FriendsModel extends Model {
     public void onChatReceived(ChatMessageEvent.Match event) {
         if (event.getMessageType() != MessageType.FOREGROUND) return;
 
-        StyledText styledText = StyledTextUtils.unwrap(event.getMessage()).stripAlignment();
-        String unformatted = styledText.getStringWithoutFormatting();
-
-        Matcher joinMatcher = styledText.getMatcher(JOIN_PATTERN);
-        if (joinMatcher.matches()) {
+        Optional<MatchResult> joinMatch = event.getMatch(JOIN);
+        if (joinMatch.isPresent()) {
+            MatchResult joinMatcher = joinMatch.get();
             String username = joinMatcher.group("username");
             String server = joinMatcher.group("server");
 
@@ -118,33 +126,32 @@ public final class FriendsModel extends Model {
             return;
         }
 
-        Matcher leaveMatcher = styledText.getMatcher(LEAVE_PATTERN);
-        if (leaveMatcher.matches()) {
-            String username = leaveMatcher.group("username");
+        Optional<MatchResult> leaveMatch = event.getMatch(LEAVE);
+        if (leaveMatch.isPresent()) {
+            String username = leaveMatch.get().group("username");
 
             onlineFriends.remove(username);
             WynntilsMod.postEvent(new FriendsEvent.Left(username));
             return;
         }
 
-        if (tryParseFriendMessages(styledText)) return;
+        if (tryParseFriendMessages(event)) return;
 
         if (friendMessageStatus == ListStatus.EXPECTING) {
-            if (tryParseFriendList(unformatted) || tryParseNoFriendList(styledText)) {
+            if (tryParseFriendList(event) || tryParseNoFriendList(event)) {
                 event.cancelChat();
                 friendMessageStatus = ListStatus.IDLE;
                 return;
             }
 
             // Skip first message of two, but still expect more messages
-            if (styledText.getMatcher(FRIEND_LIST_FAIL_1).matches()) {
+            if (event.matches(FRIEND_LIST_FAIL_1_CHAT)) {
                 event.cancelChat();
                 return;
             }
         }
 
-        if (onlineMessageStatus == ListStatus.EXPECTING
-                && styledText.getMatcher(ONLINE_FRIENDS_HEADER).matches()) {
+        if (onlineMessageStatus == ListStatus.EXPECTING && event.matches(ONLINE_FRIENDS_HEADER_CHAT)) {
             // List of online friends is sent in multiple messages
             // When we detect the first message indicating the start of the friends list, we set a flag
             onlineMessageStatus = ListStatus.PROCESSING;
@@ -155,8 +162,9 @@ public final class FriendsModel extends Model {
         if (onlineMessageStatus == ListStatus.PROCESSING) {
             // If this flag is set, the next messages should be the list of online friends
             // But as soon as the matcher fails, we know we've reached the end of the list
-            Matcher onlineFriendMatcher = styledText.getMatcher(ONLINE_FRIEND);
-            if (onlineFriendMatcher.matches()) {
+            Optional<MatchResult> onlineFriendMatch = event.getMatch(ONLINE_FRIEND_CHAT);
+            if (onlineFriendMatch.isPresent()) {
+                MatchResult onlineFriendMatcher = onlineFriendMatch.get();
                 String username = onlineFriendMatcher.group(1);
                 String server = onlineFriendMatcher.group(2);
 
@@ -171,8 +179,8 @@ public final class FriendsModel extends Model {
         }
     }
 
-    private boolean tryParseNoFriendList(StyledText styledText) {
-        if (styledText.getMatcher(FRIEND_LIST_FAIL_2).matches()) {
+    private boolean tryParseNoFriendList(ChatMessageEvent.Match event) {
+        if (event.matches(FRIEND_LIST_FAIL_2_CHAT)) {
             WynntilsMod.info("Friend list is empty.");
             return true;
         }
@@ -180,9 +188,9 @@ public final class FriendsModel extends Model {
         return false;
     }
 
-    private boolean tryParseFriendMessages(StyledText styledText) {
-        Matcher matcher = styledText.getMatcher(FRIEND_REMOVE_MESSAGE_PATTERN);
-        if (matcher.matches()) {
+    private boolean tryParseFriendMessages(ChatMessageEvent.Match event) {
+        MatchResult matcher = event.getMatch(FRIEND_REMOVE_MESSAGE).orElse(null);
+        if (matcher != null) {
             String player = matcher.group(1);
 
             WynntilsMod.info("Player has removed friend: " + player);
@@ -194,8 +202,8 @@ public final class FriendsModel extends Model {
             return true;
         }
 
-        matcher = styledText.getMatcher(FRIEND_ADD_MESSAGE_PATTERN);
-        if (matcher.matches()) {
+        matcher = event.getMatch(FRIEND_ADD_MESSAGE).orElse(null);
+        if (matcher != null) {
             String player = matcher.group(1);
 
             WynntilsMod.info("Player has added friend: " + player);
@@ -210,11 +218,11 @@ public final class FriendsModel extends Model {
         return false;
     }
 
-    private boolean tryParseFriendList(String unformatted) {
-        Matcher matcher = FRIEND_LIST.matcher(unformatted);
-        if (!matcher.matches()) return false;
+    private boolean tryParseFriendList(ChatMessageEvent.Match event) {
+        Optional<MatchResult> friendListMatch = event.getMatch(FRIEND_LIST_CHAT);
+        if (friendListMatch.isEmpty()) return false;
         String[] friendList =
-                matcher.group(1).replaceAll(FRIEND_PREFIX_REGEX, "").split(", ");
+                friendListMatch.get().group(1).replaceAll(FRIEND_PREFIX_REGEX, "").split(", ");
 
         friends = Arrays.stream(friendList).collect(Collectors.toSet());
         WynntilsMod.postEvent(
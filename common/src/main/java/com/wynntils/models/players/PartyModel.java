@@ -1,5 +1,5 @@
 /*
- * Copyright © Wynntils 2023-2025.
+ * Copyright © Wynntils 2023-2026.
  * This file is released under LGPLv3. See LICENSE for full license details.
  */
 package com.wynntils.models.players;
@@ -10,6 +10,7 @@ import com.wynntils.core.components.Model;
 import com.wynntils.core.components.Models;
 import com.wynntils.core.text.StyledText;
 import com.wynntils.handlers.chat.event.ChatMessageEvent;
+import com.wynntils.handlers.chat.type.ChatPattern;
 import com.wynntils.handlers.chat.type.MessageType;
 import com.wynntils.handlers.scoreboard.ScoreboardPart;
 import com.wynntils.mc.event.SetPlayerTeamEvent;
@@ -30,6 +31,7 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
+import java.util.regex.MatchResult;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
@@ -95,6 +97,19 @@ public final class PartyModel extends Model {
             Pattern.compile("(?:" + PARTY_PREFIX_REGEX + "|\\s+§e)You have been invited to join (.+)'s? party!\\s*");
     // endregion
 
+    private static final ChatPattern PARTY_LIST_ALL_CHAT = ChatPattern.ofUnwrapped(PARTY_LIST_ALL);
+    private static final ChatPattern PARTY_COMMAND_FAILED_CHAT = ChatPattern.ofUnwrapped(PARTY_COMMAND_FAILED);
+    private static final ChatPattern PARTY_PLAYER_LEFT_CHAT = ChatPattern.ofUnwrapped(PARTY_PLAYER_LEFT);
+    private static final ChatPattern PARTY_PLAYER_KICKED_CHAT = ChatPattern.ofUnwrapped(PARTY_PLAYER_KICKED);
+    private static final ChatPattern PARTY_PLAYER_DISBANDED_CHAT = ChatPattern.ofUnwrapped(PARTY_PLAYER_DISBANDED);
+    private static final ChatPattern PARTY_PLAYER_CREATED_CHAT = ChatPattern.ofUnwrapped(PARTY_PLAYER_CREATED);
+    private static final ChatPattern PARTY_SOMEONE_JOINED_CHAT = ChatPattern.ofUnwrapped(PARTY_SOMEONE_JOINED);
+    private static final ChatPattern PARTY_OTHER_LEFT_CHAT = ChatPattern.ofUnwrapped(PARTY_OTHER_LEFT);
+    private static final ChatPattern PARTY_OTHER_KICKED_CHAT = ChatPattern.ofUnwrapped(PARTY_OTHER_KICKED);
+    private static final ChatPattern PARTY_NEW_LEADER_CHAT = ChatPattern.ofUnwrapped(PARTY_NEW_LEADER);
+    private static final ChatPattern PARTY_RESTORED_SELF_CHAT = ChatPattern.ofUnwrapped(PARTY_RESTORED_SELF);
+    private static final ChatPattern PARTY_INVITED_CHAT = ChatPattern.ofUnwrapped(PARTY_INVITED);
+
     private static final ScoreboardPart PARTY_SCOREBOARD_PART = new PartyScoreboardPart();
 
     public static final int MAX_PARTY_MEMBER_COUNT = 10;
@@ -135,12 +150,10 @@ public final class PartyModel extends Model {
     public void onChatReceived(ChatMessageEvent.Match event) {
         if (event.getMessageType() != MessageType.FOREGROUND) return;
 
-        StyledText chatMessage = StyledTextUtils.unwrap(event.getMessage()).stripAlignment();
-
-        if (tryParsePartyMessages(chatMessage)) return;
+        if (tryParsePartyMessages(event)) return;
 
         if (expectingPartyMessage) {
-            if (tryParseNoPartyMessage(chatMessage) || tryParsePartyList(chatMessage)) {
+            if (tryParseNoPartyMessage(event) || tryParsePartyList(event)) {
                 event.cancelChat();
                 expectingPartyMessage = false;
                 return;
@@ -148,8 +161,8 @@ public final class PartyModel extends Model {
         }
     }
 
-    private boolean tryParsePartyMessages(StyledText styledText) {
-        if (styledText.matches(PARTY_PLAYER_CREATED)) {
+    private boolean tryParsePartyMessages(ChatMessageEvent.Match event) {
+        if (event.matches(PARTY_PLAYER_CREATED_CHAT)) {
             WynntilsMod.info("Player created a new party.");
 
             inParty = true;
@@ -161,18 +174,18 @@ public final class PartyModel extends Model {
             return true;
         }
 
-        if (styledText.matches(PARTY_PLAYER_LEFT)
-                || styledText.matches(PARTY_PLAYER_DISBANDED)
-                || styledText.matches(PARTY_PLAYER_KICKED)) {
+        if (event.matches(PARTY_PLAYER_LEFT_CHAT)
+                || event.matches(PARTY_PLAYER_DISBANDED_CHAT)
+                || event.matches(PARTY_PLAYER_KICKED_CHAT)) {
             WynntilsMod.info("Player is no longer in a party.");
 
             resetData(); // (!) resetData() already posts events for both HadesRelationsUpdateEvent and PartyEvent
             return true;
         }
 
-        Matcher matcher = styledText.getMatcher(PARTY_SOMEONE_JOINED);
-        if (matcher.matches()) {
-            Pair<String, String> possibleNameAndNick = StyledTextUtils.extractNameAndNick(styledText);
+        MatchResult matcher = event.getMatch(PARTY_SOMEONE_JOINED_CHAT).orElse(null);
+        if (matcher != null) {
+            Pair<String, String> possibleNameAndNick = StyledTextUtils.extractNameAndNick(unwrap(event));
             String player;
             if (possibleNameAndNick != null) {
                 player = possibleNameAndNick.a();
@@ -195,9 +208,9 @@ public final class PartyModel extends Model {
             return true;
         }
 
-        matcher = styledText.getMatcher(PARTY_OTHER_LEFT);
-        if (matcher.matches()) {
-            Pair<String, String> possibleNameAndNick = StyledTextUtils.extractNameAndNick(styledText);
+        matcher = event.getMatch(PARTY_OTHER_LEFT_CHAT).orElse(null);
+        if (matcher != null) {
+            Pair<String, String> possibleNameAndNick = StyledTextUtils.extractNameAndNick(unwrap(event));
             String player;
             if (possibleNameAndNick != null) {
                 player = possibleNameAndNick.a();
@@ -214,9 +227,9 @@ public final class PartyModel extends Model {
             return true;
         }
 
-        matcher = styledText.getMatcher(PARTY_OTHER_KICKED);
-        if (matcher.matches()) {
-            Pair<String, String> possibleNameAndNick = StyledTextUtils.extractNameAndNick(styledText);
+        matcher = event.getMatch(PARTY_OTHER_KICKED_CHAT).orElse(null);
+        if (matcher != null) {
+            Pair<String, String> possibleNameAndNick = StyledTextUtils.extractNameAndNick(unwrap(event));
             String player;
             if (possibleNameAndNick != null) {
                 player = possibleNameAndNick.a();
@@ -233,9 +246,9 @@ public final class PartyModel extends Model {
             return true;
         }
 
-        matcher = styledText.getMatcher(PARTY_NEW_LEADER);
-        if (matcher.matches()) {
-            Pair<String, String> possibleNameAndNick = StyledTextUtils.extractNameAndNick(styledText);
+        matcher = event.getMatch(PARTY_NEW_LEADER_CHAT).orElse(null);
+        if (matcher != null) {
+            Pair<String, String> possibleNameAndNick = StyledTextUtils.extractNameAndNick(unwrap(event));
             String player;
             if (possibleNameAndNick != null) {
                 player = possibleNameAndNick.a();
@@ -252,9 +265,9 @@ public final class PartyModel extends Model {
             return true;
         }
 
-        matcher = styledText.getMatcher(PARTY_INVITED);
-        if (matcher.matches()) {
-            Pair<String, String> possibleNameAndNick = StyledTextUtils.extractNameAndNick(styledText);
+        matcher = event.getMatch(PARTY_INVITED_CHAT).orElse(null);
+        if (matcher != null) {
+            Pair<String, String> possibleNameAndNick = StyledTextUtils.extractNameAndNick(unwrap(event));
             String inviter;
             if (possibleNameAndNick != null) {
                 inviter = possibleNameAndNick.a();
@@ -267,8 +280,7 @@ public final class PartyModel extends Model {
             return true;
         }
 
-        matcher = styledText.getMatcher(PARTY_RESTORED_SELF);
-        if (matcher.matches()) {
+        if (event.matches(PARTY_RESTORED_SELF_CHAT)) {
             // We have no idea what the previous party was, so we have to request the party list.
             WynntilsMod.info("Player's previous party was restored, requesting party list.");
 
@@ -279,8 +291,8 @@ public final class PartyModel extends Model {
         return false;
     }
 
-    private boolean tryParseNoPartyMessage(StyledText styledText) {
-        if (styledText.matches(PARTY_COMMAND_FAILED)) {
+    private boolean tryParseNoPartyMessage(ChatMessageEvent.Match event) {
+        if (event.matches(PARTY_COMMAND_FAILED_CHAT)) {
             resetData();
             WynntilsMod.info("Player is not in a party.");
             return true;
@@ -289,9 +301,11 @@ public final class PartyModel extends Model {
         return false;
     }
 
-    private boolean tryParsePartyList(StyledText styledText) {
-        Matcher matcher = styledText.getMatcher(PARTY_LIST_ALL);
-        if (!matcher.matches()) return false;
+    private boolean tryParsePartyList(ChatMessageEvent.Match event) {
+        Optional<MatchResult> listMatch = event.getMatch(PARTY_LIST_ALL_CHAT);
+        if (listMatch.isEmpty()) return false;
+
+        MatchResult matcher = listMatch.get();
 
         String[] partyList = StyledText.fromString(matcher.group(1))
                 .getStringWithoutFormatting()
@@ -301,7 +315,7 @@ public final class PartyModel extends Model {
 
         // Attempt to look for party leader with pattern.
         // If fail, assume we are leader (no special color will appear in list)
-        Matcher leaderMatcher = styledText.getMatcher(PARTY_LIST_LEADER);
+        Matcher leaderMatcher = unwrap(event).getMatcher(PARTY_LIST_LEADER);
         String oldLeader = partyLeader;
         partyLeader = leaderMatcher.find() ? leaderMatcher.group(1) : McUtils.playerName();
         WynntilsMod.postEvent(new PartyEvent.Promoted(oldLeader, partyLeader));
@@ -328,6 +342,11 @@ public final class PartyModel extends Model {
         return true;
     }
 
+    // Only needed for the matched party messages, so other messages are never unwrapped here
+    private static StyledText unwrap(ChatMessageEvent.Match event) {
+        return StyledTextUtils.unwrap(event.getMessage()).stripAlignment();
+    }
+
     /**
      * Resets all party data to a state where the player is not in a party.
      * Posts events for both PartyEvent and HadesRelationsUpdateEvent.
@@ -7,6 +7,7 @@ package com.wynntils.models.players;
 import com.google.common.reflect.TypeToken;
 import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
+import com.google.gson.JsonObject;
 import com.wynntils.core.WynntilsMod;
 import com.wynntils.core.components.Managers;
 import com.wynntils.core.components.Model;
@@ -14,9 +15,12 @@ import com.wynntils.core.components.Models;
 import com.wynntils.core.components.Services;
 import com.wynntils.core.net.ApiResponse;
 import com.wynntils.core.net.UrlId;
+import com.wynntils.core.persisted.Persisted;
+import com.wynntils.core.persisted.storage.Storage;
 import com.wynntils.core.text.StyledText;
 import com.wynntils.mc.event.PlayerJoinedWorldEvent;
 import com.wynntils.mc.event.PlayerTeamEvent;
+import com.wynntils.models.players.type.CachedWynntilsUser;
 import com.wynntils.models.players.type.wynnplayer.CharacterData;
 import com.wynntils.models.players.type.wynnplayer.WynnPlayerInfo;
 import com.wynntils.models.worlds.event.WorldStateEvent;
@@ -25,14 +29,23 @@ import com.wynntils.services.secrets.type.WynntilsSecret;
 import com.wynntils.utils.mc.McUtils;
 import com.wynntils.utils.type.TimedSet;
 import java.lang.reflect.Type;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.Queue;
 import java.util.Set;
+import java.util.TreeMap;
 import java.util.UUID;
+import java.util.concurrent.CancellationException;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.stream.Stream;
@@ -59,9 +72,25 @@ public final class PlayerModel extends Model {
     // before disabling lookups for them
     private static final int MAX_USER_ERRORS = 3;
 
+    // Users seen within this window are looked up together
+    private static final long LOOKUP_BATCH_WINDOW_MS = 250;
+
+    // How long lookup results are kept, also across restarts
+    private static final long USER_CACHE_TTL_MS = TimeUnit.HOURS.toMillis(1);
+    private static final long NO_ACCOUNT_CACHE_TTL_MS = TimeUnit.HOURS.toMillis(12);
+
+    // The least recently used users are dropped from the cache above this size
+    private static final int MAX_CACHED_USERS = 1000;
+
+    // Athena has no bulk user lookup, so only this many single user requests are sent at once
+    private static final int MAX_CONCURRENT_LOOKUPS = 4;
+
+    // After a failed request, wait before sending the next one, doubling the wait for every further failure
+    private static final long LOOKUP_BACKOFF_BASE_MS = TimeUnit.SECONDS.toMillis(1);
+    private static final long LOOKUP_BACKOFF_MAX_MS = TimeUnit.SECONDS.toMillis(30);
+
     private final Map<UUID, WynntilsUser> users = new ConcurrentHashMap<>();
     private final Set<UUID> usersWithoutWynntilsAccount = ConcurrentHashMap.newKeySet();
-    private final Set<UUID> fetching = ConcurrentHashMap.newKeySet();
     private final Map<UUID, Integer> ghosts = new ConcurrentHashMap<>();
     private final Map<UUID, String> nameMap = new ConcurrentHashMap<>();
 
@@ -70,6 +99,15 @@ public final class PlayerModel extends Model {
     private final TimedSet<Object> errors =
             new TimedSet<>(ERROR_TIMEOUT_MINUTE, TimeUnit.MINUTES, true, ConcurrentHashMap::newKeySet);
     private final Map<UUID, Integer> userFailures = new ConcurrentHashMap<>();
+    private final AtomicInteger consecutiveLookupFailures = new AtomicInteger();
+
+    private final ScheduledExecutorService lookupExecutor = new ScheduledThreadPoolExecutor(1);
+    private final UserLookupQueue lookupQueue =
+            new UserLookupQueue(this::lookupUsersOnAthena, lookupExecutor, LOOKUP_BATCH_WINDOW_MS);
+
+    // Only modified on the main thread
+    @Persisted
+    private final Storage<Map<String, CachedWynntilsUser>> cachedUsers = new Storage<>(new TreeMap<>());
 
     public PlayerModel() {
         super(List.of());
@@ -132,10 +170,18 @@ public final class PlayerModel extends Model {
         return nameMap.values().stream();
     }
 
+    @Override
+    public void onStorageLoad(Storage<?> storage) {
+        if (storage == cachedUsers) {
+            evictCachedUsers();
+        }
+    }
+
     public void reset() {
-        fetching.clear();
+        lookupQueue.clear();
         errors.clear();
         userFailures.clear();
+        consecutiveLookupFailures.set(0);
     }
 
     @SubscribeEvent
@@ -196,15 +242,23 @@ public final class PlayerModel extends Model {
         users.remove(uuid);
         usersWithoutWynntilsAccount.remove(uuid);
         userFailures.remove(uuid);
+        if (cachedUsers.get().remove(uuid.toString()) != null) {
+            cachedUsers.touched();
+        }
 
         loadUser(uuid, player.getScoreboardName());
     }
 
     private void loadUser(UUID uuid, String userName) {
         // Avoid fetching the same user multiple times
-        if (fetching.contains(uuid)) return;
+        if (lookupQueue.isInFlight(uuid)) return;
         if (users.containsKey(uuid) || usersWithoutWynntilsAccount.contains(uuid)) return;
 
+        if (loadCachedUser(uuid)) {
+            nameMap.put(uuid, userName);
+            return;
+        }
+
         // Call getEntries to clear old entries
         if (errors.getEntries().size() >= MAX_ERRORS) {
             // Athena is having problems, skip this
@@ -216,39 +270,85 @@ public final class PlayerModel extends Model {
             return;
         }
 
-        fetching.add(uuid); // temporary, avoid extra loads
         nameMap.put(uuid, userName);
 
-        ApiResponse apiResponse =
-                Services.WynntilsAccount.callApi(UrlId.API_ATHENA_USER_INFO, Map.of("uuid", uuid.toString()));
-        apiResponse.handleJsonObject(
-                json -> {
-                    if (json.has("error") && json.get("error").getAsString().equals(ATHENA_USER_NOT_FOUND)) {
-                        // This user does not exist in our database, stop requesting it
-                        usersWithoutWynntilsAccount.add(uuid);
-                        fetching.remove(uuid);
-                        return;
-                    }
+        lookupQueue.lookup(uuid).whenComplete((user, throwable) -> {
+            // The lookup was cancelled by a reset
+            if (throwable instanceof CancellationException) return;
 
-                    if (!json.has("user")) {
-                        fetching.remove(uuid);
-                        saveUserFailures(uuid, userName);
-                        return;
-                    }
+            if (throwable != null) {
+                saveUserFailures(uuid, userName);
+                return;
+            }
 
-                    WynntilsUser user = WynntilsMod.GSON.fromJson(json.getAsJsonObject("user"), WynntilsUser.class);
+            McUtils.mc().execute(() -> cacheUser(uuid, user.orElse(null)));
 
-                    users.put(uuid, user);
-                    fetching.remove(uuid);
+            if (user.isEmpty()) {
+                // This user does not exist in our database, stop requesting it
+                usersWithoutWynntilsAccount.add(uuid);
+                return;
+            }
 
-                    // Schedule cape loading for next render tick
-                    McUtils.mc().execute(() -> Services.Cosmetics.loadCosmeticTextures(uuid, user));
-                },
-                onError -> {
-                    errors.put(System.currentTimeMillis());
+            users.put(uuid, user.get());
 
-                    saveUserFailures(uuid, userName);
-                });
+            // Schedule cape loading for next render tick
+            McUtils.mc().execute(() -> Services.Cosmetics.loadCosmeticTextures(uuid, user.get()));
+        });
+    }
+
+    private boolean loadCachedUser(UUID uuid) {
+        CachedWynntilsUser cachedUser = cachedUsers.get().get(uuid.toString());
+        if (cachedUser == null || cachedUser.isExpired()) return false;
+
+        cachedUsers.get().put(uuid.toString(), cachedUser.withLastUsed(System.currentTimeMillis()));
+        cachedUsers.touched();
+
+        if (cachedUser.user() == null) {
+            usersWithoutWynntilsAccount.add(uuid);
+            return true;
+        }
+
+        users.put(uuid, cachedUser.user());
+        McUtils.mc().execute(() -> Services.Cosmetics.loadCosmeticTextures(uuid, cachedUser.user()));
+        return true;
+    }
+
+    private void cacheUser(UUID uuid, WynntilsUser user) {
+        long now = System.currentTimeMillis();
+        long ttl = user != null ? USER_CACHE_TTL_MS : NO_ACCOUNT_CACHE_TTL_MS;
+        cachedUsers.get().put(uuid.toString(), new CachedWynntilsUser(user, now + ttl, now));
+        evictCachedUsers();
+        cachedUsers.touched();
+    }
+
+    private void evictCachedUsers() {
+        Map<String, CachedWynntilsUser> cache = cachedUsers.get();
+        cache.values().removeIf(CachedWynntilsUser::isExpired);
+        if (cache.size() <= MAX_CACHED_USERS) return;
+
+        List<String> leastRecentlyUsed = cache.entrySet().stream()
+                .sorted(Comparator.comparingLong(entry -> entry.getValue().lastUsed()))
+                .limit(cache.size() - MAX_CACHED_USERS)
+                .map(Map.Entry::getKey)
+                .toList();
+        leastRecentlyUsed.forEach(cache::remove);
+    }
+
+    private CompletableFuture<Map<UUID, Optional<WynntilsUser>>> lookupUsersOnAthena(List<UUID> uuids) {
+        AthenaLookupBatch batch = new AthenaLookupBatch(uuids);
+        for (int i = 0; i < MAX_CONCURRENT_LOOKUPS; i++) {
+            batch.sendNext();
+        }
+
+        return batch.future;
+    }
+
+    private long getLookupBackoffMs() {
+        int failures = consecutiveLookupFailures.get();
+        if (failures == 0) return 0;
+
+        // Cap the shift, so the wait can not overflow
+        return Math.min(LOOKUP_BACKOFF_BASE_MS << Math.min(failures - 1, 16), LOOKUP_BACKOFF_MAX_MS);
     }
 
     public CompletableFuture<WynnPlayerInfo> getPlayer(String username) {
@@ -330,4 +430,79 @@ public final class PlayerModel extends Model {
         // Starting Wynncraft 2.1, all NPCs will have UUID version 2
         return uuid.version() == 2;
     }
+
+    /**
+     * Looks up a batch of users on Athena, which has no bulk user lookup.
+     *
+     * The batch is sent as one request per user, with at most {@link #MAX_CONCURRENT_LOOKUPS} requests in flight,
+     * and is done when all users have been answered.
+     */
+    private final class AthenaLookupBatch {
+        private final Queue<UUID> queue;
+        private final Map<UUID, Optional<WynntilsUser>> results = new ConcurrentHashMap<>();
+        private final AtomicInteger remaining;
+        private final CompletableFuture<Map<UUID, Optional<WynntilsUser>>> future = new CompletableFuture<>();
+
+        private AthenaLookupBatch(List<UUID> uuids) {
+            queue = new ConcurrentLinkedQueue<>(uuids);
+            remaining = new AtomicInteger(uuids.size());
+
+            if (uuids.isEmpty()) {
+                future.complete(results);
+            }
+        }
+
+        private void sendNext() {
+            UUID uuid;
+            while ((uuid = queue.poll()) != null) {
+                // Call getEntries to clear old entries
+                if (errors.getEntries().size() < MAX_ERRORS) {
+                    UUID nextUuid = uuid;
+                    long backoffMs = getLookupBackoffMs();
+                    if (backoffMs > 0) {
+                        lookupExecutor.schedule(() -> send(nextUuid), backoffMs, TimeUnit.MILLISECONDS);
+                    } else {
+                        send(nextUuid);
+                    }
+                    return;
+                }
+
+                // Athena is having problems, so the rest of the batch fails without sending more requests
+                answered();
+            }
+        }
+
+        private void send(UUID uuid) {
+            ApiResponse apiResponse =
+                    Services.WynntilsAccount.callApi(UrlId.API_ATHENA_USER_INFO, Map.of("uuid", uuid.toString()));
+            apiResponse.handleJsonObject(
+                    json -> {
+                        consecutiveLookupFailures.set(0);
+
+                        if (json.has("error") && json.get("error").getAsString().equals(ATHENA_USER_NOT_FOUND)) {
+                            results.put(uuid, Optional.empty());
+                        } else if (json.has("user")) {
+                            JsonObject userJson = json.getAsJsonObject("user");
+                            results.put(uuid, Optional.of(WynntilsMod.GSON.fromJson(userJson, WynntilsUser.class)));
+                        }
+                        // Otherwise, there is no result for the user, and the lookup counts as failed
+
+                        answered();
+                        sendNext();
+                    },
+                    onError -> {
+                        errors.put(System.currentTimeMillis());
+                        consecutiveLookupFailures.incrementAndGet();
+
+                        answered();
+                        sendNext();
+                    });
+        }
+
+        private void answered() {
+            if (remaining.decrementAndGet() == 0) {
+                future.complete(results);
+            }
+        }
+    }
 }
@@ -0,0 +1,143 @@
+/*
+ * Copyright © Wynntils 2026.
+ * This file is released under LGPLv3. See LICENSE for full license details.
+ */
+package com.wynntils.models.players;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Collects Wynntils user lookups, and sends them to the backend in batches.
+ *
+ * All users requested within a short window are looked up together, instead of sending one request
+ * per user when joining a busy world. A user that is already being looked up is not requested again;
+ * the lookup in flight is shared instead.
+ */
+public final class UserLookupQueue {
+    private static final int MAX_BATCH_SIZE = 50;
+
+    private final Backend backend;
+    private final ScheduledExecutorService executor;
+    private final long batchWindowMs;
+
+    private final Map<UUID, CompletableFuture<Optional<WynntilsUser>>> inFlight = new ConcurrentHashMap<>();
+    private final Set<UUID> pending = new LinkedHashSet<>();
+    private ScheduledFuture<?> scheduledFlush;
+
+    public UserLookupQueue(Backend backend, ScheduledExecutorService executor, long batchWindowMs) {
+        this.backend = backend;
+        this.executor = executor;
+        this.batchWindowMs = batchWindowMs;
+    }
+
+    /**
+     * Looks up the user, as part of the next batch.
+     *
+     * @return a future with the user, or an empty optional if they have no Wynntils account.
+     *         The future completes exceptionally if the lookup failed.
+     */
+    public CompletableFuture<Optional<WynntilsUser>> lookup(UUID uuid) {
+        CompletableFuture<Optional<WynntilsUser>> future = new CompletableFuture<>();
+        CompletableFuture<Optional<WynntilsUser>> existing = inFlight.putIfAbsent(uuid, future);
+        if (existing != null) return existing;
+
+        synchronized (pending) {
+            pending.add(uuid);
+
+            if (pending.size() >= MAX_BATCH_SIZE) {
+                executor.execute(this::flush);
+            } else if (scheduledFlush == null) {
+                scheduledFlush = executor.schedule(this::flush, batchWindowMs, TimeUnit.MILLISECONDS);
+            }
+        }
+
+        return future;
+    }
+
+    public boolean isInFlight(UUID uuid) {
+        return inFlight.containsKey(uuid);
+    }
+
+    /**
+     * Sends all pending lookups to the backend right away.
+     */
+    public void flush() {
+        List<UUID> batch;
+        synchronized (pending) {
+            if (scheduledFlush != null) {
+                scheduledFlush.cancel(false);
+                scheduledFlush = null;
+            }
+
+            batch = new ArrayList<>(pending);
+            pending.clear();
+        }
+
+        for (int start = 0; start < batch.size(); start += MAX_BATCH_SIZE) {
+            // Capture the lookups now, so a lookup made after a clear() is not completed by this batch
+            Map<UUID, CompletableFuture<Optional<WynntilsUser>>> lookups = new LinkedHashMap<>();
+            for (UUID uuid : batch.subList(start, Math.min(start + MAX_BATCH_SIZE, batch.size()))) {
+                CompletableFuture<Optional<WynntilsUser>> future = inFlight.get(uuid);
+                if (future == null) continue;
+
+                lookups.put(uuid, future);
+            }
+            if (lookups.isEmpty()) continue;
+
+            backend.lookupUsers(List.copyOf(lookups.keySet())).whenComplete((results, throwable) -> {
+                for (Map.Entry<UUID, CompletableFuture<Optional<WynntilsUser>>> entry : lookups.entrySet()) {
+                    UUID uuid = entry.getKey();
+                    CompletableFuture<Optional<WynntilsUser>> future = entry.getValue();
+                    inFlight.remove(uuid, future);
+
+                    if (throwable != null) {
+                        future.completeExceptionally(throwable);
+                    } else if (!results.containsKey(uuid)) {
+                        future.completeExceptionally(new IllegalStateException("No lookup result for " + uuid));
+                    } else {
+                        future.complete(results.get(uuid));
+                    }
+                }
+            });
+        }
+    }
+
+    /**
+     * Removes all pending lookups, and fails all lookups in flight.
+     */
+    public void clear() {
+        synchronized (pending) {
+            if (scheduledFlush != null) {
+                scheduledFlush.cancel(false);
+                scheduledFlush = null;
+            }
+            pending.clear();
+        }
+
+        inFlight.values().forEach(future -> future.cancel(false));
+        inFlight.clear();
+    }
+
+    @FunctionalInterface
+    public interface Backend {
+        /**
+         * Looks up all the given users.
+         *
+         * @return a future with a result for every user that could be looked up, which is an empty optional
+         *         for users without a Wynntils account. Users without a result are treated as failed lookups.
+         */
+        CompletableFuture<Map<UUID, Optional<WynntilsUser>>> lookupUsers(List<UUID> uuids);
+    }
+}
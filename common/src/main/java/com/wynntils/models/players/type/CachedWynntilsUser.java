@@ -0,0 +1,18 @@
+/*
+ * Copyright © Wynntils 2026.
+ * This file is released under LGPLv3. See LICENSE for full license details.
+ */
+package com.wynntils.models.players.type;
+
+import com.wynntils.models.players.WynntilsUser;
+
+// The user is null if the player has no Wynntils account
+public record CachedWynntilsUser(WynntilsUser user, long expiresAt, long lastUsed) {
+    public boolean isExpired() {
+        return System.currentTimeMillis() >= expiresAt;
+    }
+
+    public CachedWynntilsUser withLastUsed(long lastUsed) {
+        return new CachedWynntilsUser(user, expiresAt, lastUsed);
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright © Wynntils 2023-2025.
+ * Copyright © Wynntils 2023-2026.
  * This file is released under LGPLv3. See LICENSE for full license details.
  */
 package com.wynntils.models.profession;
@@ -11,6 +11,7 @@ import com.wynntils.core.persisted.Persisted;
 import com.wynntils.core.persisted.storage.Storage;
 import com.wynntils.core.text.StyledText;
 import com.wynntils.handlers.chat.event.ChatMessageEvent;
+import com.wynntils.handlers.chat.type.ChatPattern;
 import com.wynntils.handlers.labels.event.LabelIdentifiedEvent;
 import com.wynntils.models.profession.event.ProfessionXpGainEvent;
 import com.wynntils.models.profession.label.CraftingStationLabelParser;
@@ -30,6 +31,7 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
+import java.util.regex.MatchResult;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import net.minecraft.world.item.ItemStack;
@@ -44,6 +46,9 @@ public final class ProfessionModel extends Model {
     private static final Pattern PROFESSION_LEVELUP_PATTERN =
             Pattern.compile("§e\\s+You are now level (?<level>\\d+) in §f[ⓀⒸⒷⒿⒺⒹⓁⒶⒼⒻⒾⒽ]§e (?<name>.+)");
 
+    private static final ChatPattern PROFESSION_CRAFT = ChatPattern.of(PROFESSION_CRAFT_PATTERN);
+    private static final ChatPattern PROFESSION_LEVELUP = ChatPattern.of(PROFESSION_LEVELUP_PATTERN);
+
     private static final Pattern INFO_MENU_PROFESSION_LORE_PATTERN =
             Pattern.compile("§6- §7[ⓀⒸⒷⒿⒺⒹⓁⒶⒼⒻⒾⒽ] Lv. (\\d+) (.+)§8 \\[([\\d.]+)%\\]");
 
@@ -119,10 +124,8 @@ public final class ProfessionModel extends Model {
 
     @SubscribeEvent
     public void onChatMessage(ChatMessageEvent.Match event) {
-        StyledText message = event.getMessage();
-
-        Matcher craftMatcher = message.getMatcher(PROFESSION_CRAFT_PATTERN);
-        if (craftMatcher.matches()) {
+        MatchResult craftMatcher = event.getMatch(PROFESSION_CRAFT).orElse(null);
+        if (craftMatcher != null) {
             lastProfessionXpGain = ProfessionType.fromString(craftMatcher.group("name"));
             ProfessionXpGainEvent xpGainEvent = new ProfessionXpGainEvent(
                     ProfessionType.fromString(craftMatcher.group("name")),
@@ -135,8 +138,8 @@ public final class ProfessionModel extends Model {
             return;
         }
 
-        Matcher levelUpMatcher = message.getMatcher(PROFESSION_LEVELUP_PATTERN);
-        if (levelUpMatcher.matches()) {
+        MatchResult levelUpMatcher = event.getMatch(PROFESSION_LEVELUP).orElse(null);
+        if (levelUpMatcher != null) {
             updateLevel(
                     ProfessionType.fromString(levelUpMatcher.group("name")),
                     Integer.parseInt(levelUpMatcher.group("level")));
@@ -1,11 +1,12 @@
 /*
- * Copyright © Wynntils 2023-2025.
+ * Copyright © Wynntils 2023-2026.
  * This file is released under LGPLv3. See LICENSE for full license details.
  */
 package com.wynntils.models.profession.label;
 
 import com.wynntils.core.text.StyledText;
 import com.wynntils.handlers.labels.type.LabelParser;
+import com.wynntils.handlers.labels.type.LabelPrefilter;
 import com.wynntils.models.profession.type.ProfessionType;
 import com.wynntils.utils.mc.type.Location;
 import java.util.regex.Matcher;
@@ -30,4 +31,9 @@ public class CraftingStationLabelParser implements LabelParser<ProfessionCraftin
 
         return null;
     }
+
+    @Override
+    public LabelPrefilter getPrefilter() {
+        return LabelPrefilter.startingWith("§f").andContaining(" §6§l");
+    }
 }
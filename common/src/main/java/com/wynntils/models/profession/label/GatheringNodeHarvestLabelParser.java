@@ -1,11 +1,12 @@
 /*
- * Copyright © Wynntils 2024-2025.
+ * Copyright © Wynntils 2024-2026.
  * This file is released under LGPLv3. See LICENSE for full license details.
  */
 package com.wynntils.models.profession.label;
 
 import com.wynntils.core.text.StyledText;
 import com.wynntils.handlers.labels.type.LabelParser;
+import com.wynntils.handlers.labels.type.LabelPrefilter;
 import com.wynntils.models.profession.type.MaterialProfile;
 import com.wynntils.models.profession.type.ProfessionType;
 import com.wynntils.utils.mc.type.Location;
@@ -56,4 +57,9 @@ public class GatheringNodeHarvestLabelParser implements LabelParser<GatheringNod
 
         return null;
     }
+
+    @Override
+    public LabelPrefilter getPrefilter() {
+        return LabelPrefilter.containing(" XP §6[");
+    }
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright © Wynntils 2024-2025.
+ * Copyright © Wynntils 2024-2026.
  * This file is released under LGPLv3. See LICENSE for full license details.
  */
 package com.wynntils.models.raid;
@@ -12,6 +12,7 @@ import com.wynntils.core.persisted.Persisted;
 import com.wynntils.core.persisted.storage.Storage;
 import com.wynntils.core.text.StyledText;
 import com.wynntils.handlers.chat.event.ChatMessageEvent;
+import com.wynntils.handlers.chat.type.ChatPattern;
 import com.wynntils.mc.event.ContainerClickEvent;
 import com.wynntils.mc.event.ContainerCloseEvent;
 import com.wynntils.mc.event.ContainerSetContentEvent;
@@ -53,7 +54,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.TreeMap;
-import java.util.regex.Matcher;
+import java.util.regex.MatchResult;
 import java.util.regex.Pattern;
 import net.minecraft.ChatFormatting;
 import net.minecraft.network.chat.Component;
@@ -73,8 +74,9 @@ public final class RaidModel extends Model {
     private static final int RAID_REWARD_CHEST_ASPECT_SLOTS_END = 15;
     private static final int RAID_REWARD_CHEST_REWARD_SLOTS_START = 27;
     private static final int RAID_REWARD_CHEST_REWARD_SLOTS_END = 53;
-    private static final Pattern REWARD_PULLS_PATTERN = Pattern.compile("§.(\\d+)§7 Reward Pulls");
-    private static final Pattern ASPECT_PULLS_PATTERN = Pattern.compile("§.(\\d+)§7 Aspect Pulls");
+    // These are part of longer messages, so they match the whole message
+    private static final Pattern REWARD_PULLS_PATTERN = Pattern.compile(".*?§.(\\d+)§7 Reward Pulls.*", Pattern.DOTALL);
+    private static final Pattern ASPECT_PULLS_PATTERN = Pattern.compile(".*?§.(\\d+)§7 Aspect Pulls.*", Pattern.DOTALL);
 
     private static final Pattern RAID_CHOOSE_BUFF_PATTERN = Pattern.compile(
             "§#d6401eff(\\uE009\\uE002|\\uE001) §#fa7f63ff((§o)?(\\w+))§#d6401eff has chosen the §#fa7f63ff(\\w+ \\w+)§#d6401eff buff!");
@@ -83,6 +85,12 @@ public final class RaidModel extends Model {
     private static final Pattern PARASITE_OVERTAKEN_PATTERN = Pattern.compile(
             "§#d6401eff(?:\uE009\uE002|\uE001) §#fa7f63ff(?<player>.+?)§#d6401eff has been overtaken! Keep attacking §#ffc85fffThe Parasite§#d6401eff to save them!");
 
+    private static final ChatPattern CHALLENGE_COMPLETED = ChatPattern.of(CHALLENGE_COMPLETED_PATTERN);
+    private static final ChatPattern REWARD_PULLS = ChatPattern.of(REWARD_PULLS_PATTERN);
+    private static final ChatPattern ASPECT_PULLS = ChatPattern.of(ASPECT_PULLS_PATTERN);
+    private static final ChatPattern RAID_CHOOSE_BUFF = ChatPattern.ofUnwrapped(RAID_CHOOSE_BUFF_PATTERN);
+    private static final ChatPattern PARASITE_OVERTAKEN = ChatPattern.ofUnwrapped(PARASITE_OVERTAKEN_PATTERN);
+
     @Persisted
     private final Storage<Map<String, Long>> bestTimes = new Storage<>(new TreeMap<>());
 
@@ -161,26 +169,23 @@ public final class RaidModel extends Model {
 
     @SubscribeEvent
     public void onChatMessage(ChatMessageEvent.Match event) {
-        StyledText styledText = event.getMessage();
-
-        Matcher rewardPullMatcher = styledText.getMatcher(REWARD_PULLS_PATTERN);
-        if (rewardPullMatcher.find()) {
-            expectedNumRewardPulls.store(Integer.parseInt(rewardPullMatcher.group(1)));
+        Optional<MatchResult> rewardPullMatch = event.getMatch(REWARD_PULLS);
+        if (rewardPullMatch.isPresent()) {
+            expectedNumRewardPulls.store(Integer.parseInt(rewardPullMatch.get().group(1)));
             hasProcessedRewards = false;
             return;
         }
 
-        Matcher aspectPullMatcher = styledText.getMatcher(ASPECT_PULLS_PATTERN);
-        if (aspectPullMatcher.find()) {
-            expectedNumAspectPulls.store(Integer.parseInt(aspectPullMatcher.group(1)));
+        Optional<MatchResult> aspectPullMatch = event.getMatch(ASPECT_PULLS);
+        if (aspectPullMatch.isPresent()) {
+            expectedNumAspectPulls.store(Integer.parseInt(aspectPullMatch.get().group(1)));
             return;
         }
 
-        StyledText unwrapped = StyledTextUtils.unwrap(styledText).stripAlignment();
-
         if (inBuffRoom) {
-            Matcher matcher = unwrapped.getMatcher(RAID_CHOOSE_BUFF_PATTERN);
-            if (matcher.matches()) {
+            Optional<MatchResult> buffMatch = event.getMatch(RAID_CHOOSE_BUFF);
+            if (buffMatch.isPresent()) {
+                MatchResult matcher = buffMatch.get();
                 String playerName = matcher.group(4);
                 // if the player is nicknamed
                 if (matcher.group(3) != null) {
@@ -199,9 +204,9 @@ public final class RaidModel extends Model {
             return;
         }
 
-        Matcher matcher = unwrapped.getMatcher(PARASITE_OVERTAKEN_PATTERN);
-        if (matcher.matches()) {
-            parasiteOvertaken = matcher.group("player").equals(McUtils.playerName());
+        Optional<MatchResult> parasiteMatch = event.getMatch(PARASITE_OVERTAKEN);
+        if (parasiteMatch.isPresent()) {
+            parasiteOvertaken = parasiteMatch.get().group("player").equals(McUtils.playerName());
             return;
         }
 
@@ -209,7 +214,7 @@ public final class RaidModel extends Model {
 
         // One challenge in Nexus of Light does not display the scoreboard upon challenge completion so we have to check
         // for the chat message
-        if (styledText.matches(CHALLENGE_COMPLETED_PATTERN)) {
+        if (event.matches(CHALLENGE_COMPLETED)) {
             completeChallenge();
         }
     }
@@ -1,5 +1,5 @@
 /*
- * Copyright © Wynntils 2024-2025.
+ * Copyright © Wynntils 2024-2026.
  * This file is released under LGPLv3. See LICENSE for full license details.
  */
 package com.wynntils.models.spells.actionbar.matchers;
@@ -36,6 +36,11 @@ public class SpellSegmentMatcher implements ActionBarSegmentMatcher {
     private static final Pattern RIGHT_CLICK_PATTERN = Pattern.compile(RIGHT_CLICK);
     private static final Pattern LEFT_CLICK_PATTERN = Pattern.compile(LEFT_CLICK);
 
+    @Override
+    public String getSignature() {
+        return SEGMENT_SEPARATOR;
+    }
+
     @Override
     public ActionBarSegment parse(String actionBar) {
         Matcher matcher = SPELL_REGEX.matcher(actionBar);
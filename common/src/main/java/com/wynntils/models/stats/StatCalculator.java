@@ -1,9 +1,11 @@
 /*
- * Copyright © Wynntils 2023-2025.
+ * Copyright © Wynntils 2023-2026.
  * This file is released under LGPLv3. See LICENSE for full license details.
  */
 package com.wynntils.models.stats;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import com.wynntils.core.WynntilsMod;
 import com.wynntils.models.stats.type.StatActualValue;
 import com.wynntils.models.stats.type.StatCalculationInfo;
@@ -23,6 +25,11 @@ public final class StatCalculator {
     // Enable this in development environments to check if the calculated internal rolls are correct
     private static final boolean VERIFY_CALCULATED_ROLLS = false;
 
+    // Possible values are shared by all items of the same item info, so the roll statistics only need
+    // to be calculated once per info. The keys are weak, and compared by identity.
+    private static final Cache<StatPossibleValues, RollStatistics> ROLL_STATISTICS =
+            CacheBuilder.newBuilder().weakKeys().build();
+
     public static RangedValue calculatePossibleValuesRange(int baseValue, boolean preIdentified, StatType statType) {
         if (preIdentified) {
             // This is actually a single, fixed value
@@ -201,96 +208,95 @@ public final class StatCalculator {
     }
 
     public static double getPerfectChance(StatPossibleValues possibleValues) {
-        StatCalculationInfo statCalculationInfo =
-                possibleValues.statType().getStatCalculationInfo(possibleValues.baseValue());
-        boolean treatAsNegative = possibleValues.statType().treatAsInverted() ^ possibleValues.baseValue() < 0;
-
-        int allCases =
-                statCalculationInfo.range().high() - statCalculationInfo.range().low() + 1;
-
-        // Internal roll range for maximum value
-        // Do not confuse this with a "3 star" roll, aka perfect internal roll
-        RangedValue perfectInternalRollRange = calculateInternalRollRange(
-                possibleValues,
-                treatAsNegative
-                        ? possibleValues.range().low()
-                        : possibleValues.range().high(),
-                -1);
-        int perfectCases = perfectInternalRollRange.high() - perfectInternalRollRange.low() + 1;
-
-        return ((double) perfectCases) / allCases * 100;
+        return getRollStatistics(possibleValues).perfectChance();
     }
 
     public static double getDecreaseChance(StatActualValue actualValue, StatPossibleValues possibleValues) {
         assert !possibleValues.range().isFixed();
 
-        StatCalculationInfo statCalculationInfo =
-                possibleValues.statType().getStatCalculationInfo(possibleValues.baseValue());
-        boolean treatAsNegative = possibleValues.statType().treatAsInverted() ^ possibleValues.baseValue() < 0;
+        RollStatistics rollStatistics = getRollStatistics(possibleValues);
+        RangedValue rollRange = rollStatistics.rollRange();
 
         // This code finds the lowest possible and highest possible rolls that achieve the correct
         // result (inclusive). Then, it calculates the chance where we can get a lower roll
         RangedValue internalRollRange = actualValue.internalRoll();
 
-        int allCases =
-                statCalculationInfo.range().high() - statCalculationInfo.range().low() + 1;
-        int decreaseCases = treatAsNegative
-                ? statCalculationInfo.range().high() - internalRollRange.high()
-                : internalRollRange.low() - statCalculationInfo.range().low();
+        int decreaseCases = rollStatistics.treatAsNegative()
+                ? rollRange.high() - internalRollRange.high()
+                : internalRollRange.low() - rollRange.low();
 
-        return ((double) decreaseCases) / allCases * 100;
+        return ((double) decreaseCases) / rollStatistics.allCases() * 100;
     }
 
     public static double getIncreaseChance(StatActualValue actualValue, StatPossibleValues possibleValues) {
         assert !possibleValues.range().isFixed();
 
-        StatCalculationInfo statCalculationInfo =
-                possibleValues.statType().getStatCalculationInfo(possibleValues.baseValue());
-        boolean treatAsNegative = possibleValues.statType().treatAsInverted() ^ possibleValues.baseValue() < 0;
+        RollStatistics rollStatistics = getRollStatistics(possibleValues);
+        RangedValue rollRange = rollStatistics.rollRange();
 
         // This code finds the lowest possible and highest possible rolls that achieve the correct
         // result (inclusive). Then, it calculates the chance where we can get a higher roll
         RangedValue internalRollRange = actualValue.internalRoll();
 
-        int allCases =
-                statCalculationInfo.range().high() - statCalculationInfo.range().low() + 1;
-        int increaseCases = treatAsNegative
-                ? internalRollRange.low() - statCalculationInfo.range().low()
-                : statCalculationInfo.range().high() - internalRollRange.high();
+        int increaseCases = rollStatistics.treatAsNegative()
+                ? internalRollRange.low() - rollRange.low()
+                : rollRange.high() - internalRollRange.high();
 
-        return ((double) increaseCases) / allCases * 100;
+        return ((double) increaseCases) / rollStatistics.allCases() * 100;
     }
 
     public static Optional<Float> calculateOverallQuality(
             String itemName, List<StatPossibleValues> possibleValuesList, List<StatActualValue> identifications) {
-        DoubleSummaryStatistics percents = identifications.stream()
-                .filter(actualValue -> {
-                    // We do not include values that cannot possibly change
-                    StatPossibleValues possibleValues = possibleValuesList.stream()
-                            .filter(possibleValue -> possibleValue.statType().equals(actualValue.statType()))
-                            .findFirst()
-                            .orElse(null);
-                    if (possibleValues == null) {
-                        WynntilsMod.warn(
-                                "Error:" + itemName + " claims to have identification " + actualValue.statType());
-                        return false;
-                    }
-                    return !possibleValues.range().isFixed()
-                            && possibleValues.range().inRange(actualValue.value());
-                })
-                .mapToDouble(actualValue -> {
-                    StatPossibleValues possibleValues = possibleValuesList.stream()
-                            .filter(possibleValue -> possibleValue.statType().equals(actualValue.statType()))
-                            .findFirst()
-                            .orElse(null);
-                    return StatCalculator.getPercentage(actualValue, possibleValues);
-                })
-                .summaryStatistics();
+        StatPossibleValuesLookup possibleValuesLookup = new StatPossibleValuesLookup(possibleValuesList);
+
+        DoubleSummaryStatistics percents = new DoubleSummaryStatistics();
+        for (StatActualValue actualValue : identifications) {
+            StatPossibleValues possibleValues = possibleValuesLookup.get(actualValue.statType());
+            if (possibleValues == null) {
+                WynntilsMod.warn("Error:" + itemName + " claims to have identification " + actualValue.statType());
+                continue;
+            }
+
+            // We do not include values that cannot possibly change
+            if (possibleValues.range().isFixed() || !possibleValues.range().inRange(actualValue.value())) continue;
+
+            percents.accept(StatCalculator.getPercentage(actualValue, possibleValues));
+        }
         if (percents.getCount() == 0) return Optional.empty();
 
         return Optional.of((float) percents.getAverage());
     }
 
+    private static RollStatistics getRollStatistics(StatPossibleValues possibleValues) {
+        RollStatistics rollStatistics = ROLL_STATISTICS.getIfPresent(possibleValues);
+        if (rollStatistics != null) return rollStatistics;
+
+        rollStatistics = calculateRollStatistics(possibleValues);
+        ROLL_STATISTICS.put(possibleValues, rollStatistics);
+        return rollStatistics;
+    }
+
+    private static RollStatistics calculateRollStatistics(StatPossibleValues possibleValues) {
+        StatCalculationInfo statCalculationInfo =
+                possibleValues.statType().getStatCalculationInfo(possibleValues.baseValue());
+        boolean treatAsNegative = possibleValues.statType().treatAsInverted() ^ possibleValues.baseValue() < 0;
+
+        RangedValue rollRange = statCalculationInfo.range();
+        int allCases = rollRange.high() - rollRange.low() + 1;
+
+        // Internal roll range for maximum value
+        // Do not confuse this with a "3 star" roll, aka perfect internal roll
+        RangedValue perfectInternalRollRange = calculateInternalRollRange(
+                possibleValues,
+                treatAsNegative
+                        ? possibleValues.range().low()
+                        : possibleValues.range().high(),
+                -1);
+        int perfectCases = perfectInternalRollRange.high() - perfectInternalRollRange.low() + 1;
+
+        return new RollStatistics(rollRange, allCases, treatAsNegative, ((double) perfectCases) / allCases * 100);
+    }
+
     private static void verifyCalculatedInternalRoll(
             int baseValue,
             StatCalculationInfo statCalculationInfo,
@@ -332,4 +338,6 @@ public final class StatCalculator {
                 .longValue();
         assert higherRollBound == starMax || higherValue != oneAboveHigherValue;
     }
+
+    private record RollStatistics(RangedValue rollRange, int allCases, boolean treatAsNegative, double perfectChance) {}
 }
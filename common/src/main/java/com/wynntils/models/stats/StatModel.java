@@ -1,5 +1,5 @@
 /*
- * Copyright © Wynntils 2023-2025.
+ * Copyright © Wynntils 2023-2026.
  * This file is released under LGPLv3. See LICENSE for full license details.
  */
 package com.wynntils.models.stats;
@@ -30,19 +30,25 @@ import com.wynntils.models.stats.type.StatPossibleValues;
 import com.wynntils.models.stats.type.StatType;
 import com.wynntils.models.stats.type.StatUnit;
 import com.wynntils.utils.type.RangedValue;
+import it.unimi.dsi.fastutil.objects.Reference2IntMap;
+import it.unimi.dsi.fastutil.objects.Reference2IntOpenHashMap;
 import java.io.Reader;
 import java.lang.reflect.Type;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Comparator;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.regex.Matcher;
 import java.util.regex.Pattern;
+import java.util.stream.Collectors;
 
 public final class StatModel extends Model {
     private final List<StatType> statTypeRegistry = new ArrayList<>();
+    private final Reference2IntMap<StatType> statTypeIndices = new Reference2IntOpenHashMap<>();
     private final StatLookupTable statTypeLookup = new StatLookupTable();
     private final Map<StatListOrdering, List<StatType>> orderingLists;
 
@@ -99,6 +105,15 @@ public final class StatModel extends Model {
         return null;
     }
 
+    /**
+     * Stat types are only created when building the registry, so they can be indexed by identity.
+     *
+     * @return the position of the stat type in the registry, or -1 if it is not a registered stat type
+     */
+    public int getStatTypeIndex(StatType statType) {
+        return statTypeIndices.getInt(statType);
+    }
+
     public Optional<Integer> getIdForStatType(StatType statType) {
         return Optional.ofNullable(statTypeIdMap.get(statType));
     }
@@ -174,6 +189,11 @@ public final class StatModel extends Model {
         statTypeRegistry.addAll(damageStats);
         statTypeRegistry.addAll(spellStats);
 
+        statTypeIndices.defaultReturnValue(-1);
+        for (int i = 0; i < statTypeRegistry.size(); i++) {
+            statTypeIndices.put(statTypeRegistry.get(i), i);
+        }
+
         // Create a fast lookup map
         for (StatType statType : statTypeRegistry) {
             statTypeLookup.put(statType.getDisplayName(), statType.getUnit(), statType);
@@ -184,6 +204,7 @@ public final class StatModel extends Model {
                 statTypeLookup.put(alias, spellStatType.getUnit(), spellStatType);
             }
         }
+        statTypeLookup.compile();
     }
 
     private void handleIdentificationKeys(Reader reader) {
@@ -207,22 +228,25 @@ public final class StatModel extends Model {
 
     private static class StatLookupTable {
         private final Map<String, StatType> lookupTable = new HashMap<>();
-        private final Map<Pattern, StatType> regexLookupTable = new HashMap<>();
+        private final List<StatType> leveledStats = new ArrayList<>();
+
+        // All leveled stat names combined into a single pattern, with one group per stat
+        private Pattern leveledStatPattern = null;
 
         private StatType get(String displayName, String unit) {
             String lookupName = displayName + (unit == null ? "" : unit);
             StatType statType = lookupTable.get(lookupName);
 
-            if (statType != null) return statType;
+            if (statType != null || leveledStatPattern == null) return statType;
+
+            Matcher matcher = leveledStatPattern.matcher(displayName);
+            if (!matcher.matches()) return null;
 
-            for (Map.Entry<Pattern, StatType> entry : regexLookupTable.entrySet()) {
-                if (entry.getKey().matcher(displayName).matches()) {
-                    statType = entry.getValue();
-                    break;
-                }
+            for (int i = 0; i < leveledStats.size(); i++) {
+                if (matcher.start(i + 1) != -1) return leveledStats.get(i);
             }
 
-            return statType;
+            return null;
         }
 
         private void put(String displayName, StatUnit unit, StatType statType) {
@@ -232,16 +256,30 @@ public final class StatModel extends Model {
             if (statType.getSpecialStatType() == StatType.SpecialStatType.TOME_BASE_STAT) return;
 
             // If the stat is a charm leveled stat,
-            // we want to add it to the regex lookup table
+            // we want to add it to the leveled stat pattern
             // because the stat name will have a level range in it
             if (statType.getSpecialStatType() == StatType.SpecialStatType.CHARM_LEVELED_STAT) {
-                regexLookupTable.put(
-                        Pattern.compile(statType.getDisplayName().replace("${}", "(\\d+)-(\\d+)")), statType);
+                leveledStats.add(statType);
                 return;
             }
 
             String lookupName = displayName + unit.getDisplayName();
             lookupTable.put(lookupName, statType);
         }
+
+        private void compile() {
+            if (leveledStats.isEmpty()) return;
+
+            List<String> alternatives = new ArrayList<>();
+            for (StatType statType : leveledStats) {
+                // The level range is injected where the display name has a placeholder
+                String nameRegex = Arrays.stream(statType.getDisplayName().split("\\$\\{}", -1))
+                        .map(Pattern::quote)
+                        .collect(Collectors.joining("\\d+-\\d+"));
+                alternatives.add("(" + nameRegex + ")");
+            }
+
+            leveledStatPattern = Pattern.compile(String.join("|", alternatives));
+        }
     }
 }
@@ -0,0 +1,53 @@
+/*
+ * Copyright © Wynntils 2026.
+ * This file is released under LGPLv3. See LICENSE for full license details.
+ */
+package com.wynntils.models.stats;
+
+import com.wynntils.core.components.Models;
+import com.wynntils.models.stats.type.StatPossibleValues;
+import com.wynntils.models.stats.type.StatType;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * The possible values of the variable stats of an item, ordered by the registry index of their stat type.
+ *
+ * This is meant to be created once for all stats of an item, so looking up the possible values of
+ * each stat does not need to scan through the whole list.
+ */
+public final class StatPossibleValuesLookup {
+    private final int[] statTypeIndices;
+    private final StatPossibleValues[] possibleValues;
+
+    public StatPossibleValuesLookup(List<StatPossibleValues> possibleValuesList) {
+        // The sort is stable, so the first of any duplicated stat types is kept first
+        possibleValues = possibleValuesList.stream()
+                .sorted(Comparator.comparingInt(values -> Models.Stat.getStatTypeIndex(values.statType())))
+                .toArray(StatPossibleValues[]::new);
+
+        statTypeIndices = new int[possibleValues.length];
+        for (int i = 0; i < possibleValues.length; i++) {
+            statTypeIndices[i] = Models.Stat.getStatTypeIndex(possibleValues[i].statType());
+        }
+    }
+
+    public StatPossibleValues get(StatType statType) {
+        int statTypeIndex = Models.Stat.getStatTypeIndex(statType);
+        int position = statTypeIndex == -1 ? -1 : Arrays.binarySearch(statTypeIndices, statTypeIndex);
+
+        if (position >= 0) {
+            while (position > 0 && statTypeIndices[position - 1] == statTypeIndex) {
+                position--;
+            }
+            return possibleValues[position];
+        }
+
+        // Stat types that are not the registered instances can only be found by equality
+        for (StatPossibleValues values : possibleValues) {
+            if (values.statType().equals(statType)) return values;
+        }
+        return null;
+    }
+}
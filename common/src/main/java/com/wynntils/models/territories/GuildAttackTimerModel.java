@@ -1,5 +1,5 @@
 /*
- * Copyright © Wynntils 2022-2025.
+ * Copyright © Wynntils 2022-2026.
  * This file is released under LGPLv3. See LICENSE for full license details.
  */
 package com.wynntils.models.territories;
@@ -10,6 +10,7 @@ import com.wynntils.core.components.Model;
 import com.wynntils.core.components.Models;
 import com.wynntils.core.text.StyledText;
 import com.wynntils.handlers.chat.event.ChatMessageEvent;
+import com.wynntils.handlers.chat.type.ChatPattern;
 import com.wynntils.handlers.scoreboard.ScoreboardPart;
 import com.wynntils.handlers.scoreboard.ScoreboardSegment;
 import com.wynntils.mc.event.TickEvent;
@@ -19,7 +20,6 @@ import com.wynntils.models.territories.markers.GuildAttackMarkerProvider;
 import com.wynntils.models.territories.profile.TerritoryProfile;
 import com.wynntils.models.territories.type.GuildResourceValues;
 import com.wynntils.utils.mc.McUtils;
-import com.wynntils.utils.mc.StyledTextUtils;
 import com.wynntils.utils.type.TimedSet;
 import java.util.ArrayList;
 import java.util.HashMap;
@@ -30,6 +30,7 @@ import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.TimeUnit;
+import java.util.regex.MatchResult;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.stream.Stream;
@@ -56,6 +57,9 @@ public final class GuildAttackTimerModel extends Model {
     // Test in GuildAttackTimerModel_CAPTURED_PATTERN
     private static final Pattern CAPTURED_PATTERN = Pattern.compile(
             "§c(?:\uE006\uE002|\uE001) \\[(?<guild>.+)\\] (?:has )?captured the territory (?<territory>.+)\\.");
+    private static final ChatPattern GUILD_DEFENSE_CHAT = ChatPattern.ofUnwrapped(GUILD_DEFENSE_CHAT_PATTERN);
+    private static final ChatPattern WAR_MESSAGE = ChatPattern.ofUnwrapped(WAR_MESSAGE_PATTERN);
+    private static final ChatPattern CAPTURED = ChatPattern.ofUnwrapped(CAPTURED_PATTERN);
     private static final ScoreboardPart GUILD_ATTACK_SCOREBOARD_PART = new GuildAttackScoreboardPart();
 
     private static final GuildAttackMarkerProvider GUILD_ATTACK_MARKER_PROVIDER = new GuildAttackMarkerProvider();
@@ -76,9 +80,9 @@ public final class GuildAttackTimerModel extends Model {
     public void onMessage(ChatMessageEvent.Match event) {
         // TODO: Once RecipientType supports Wynncraft 2.1 messages, we can check for RecipientType.GUILD
 
-        StyledText cleanMessage = StyledTextUtils.unwrap(event.getMessage()).stripAlignment();
-        Matcher matcher = cleanMessage.getMatcher(WAR_MESSAGE_PATTERN);
-        if (matcher.matches()) {
+        Optional<MatchResult> warMatch = event.getMatch(WAR_MESSAGE);
+        if (warMatch.isPresent()) {
+            MatchResult matcher = warMatch.get();
             long timerEnd = System.currentTimeMillis();
 
             if (matcher.group("minutes") != null) {
@@ -102,11 +106,11 @@ public final class GuildAttackTimerModel extends Model {
             return;
         }
 
-        matcher = cleanMessage.getMatcher(CAPTURED_PATTERN);
-        if (matcher.matches()) {
+        Optional<MatchResult> capturedMatch = event.getMatch(CAPTURED);
+        if (capturedMatch.isPresent()) {
             // Remove the attack timer for the territory, if it exists
             // (the captured message appears for both owned and attacked territories)
-            String territory = matcher.group("territory");
+            String territory = capturedMatch.get().group("territory");
 
             chatAttackTimers.remove(territory);
             scoreboardAttackTimers.remove(territory);
@@ -114,8 +118,9 @@ public final class GuildAttackTimerModel extends Model {
             return;
         }
 
-        matcher = cleanMessage.getMatcher(GUILD_DEFENSE_CHAT_PATTERN);
-        if (matcher.matches()) {
+        Optional<MatchResult> defenseMatch = event.getMatch(GUILD_DEFENSE_CHAT);
+        if (defenseMatch.isPresent()) {
+            MatchResult matcher = defenseMatch.get();
             String territory = matcher.group(1);
             territoryDefenses.put(territory, GuildResourceValues.fromString(matcher.group(2)));
             return;
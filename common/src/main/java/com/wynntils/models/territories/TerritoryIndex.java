@@ -0,0 +1,191 @@
+/*
+ * Copyright © Wynntils 2026.
+ * This file is released under LGPLv3. See LICENSE for full license details.
+ */
+package com.wynntils.models.territories;
+
+import com.wynntils.models.territories.profile.TerritoryProfile;
+import com.wynntils.services.map.pois.TerritoryPoi;
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import it.unimi.dsi.fastutil.ints.IntLinkedOpenHashSet;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.Object2IntMap;
+import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * An immutable index of all territory profiles, rebuilt whenever the profiles or the trading routes change.
+ *
+ * Territories are numbered in name order. The index has a grid of cells over the territory areas for
+ * position lookups, the trading routes as an adjacency list of territory numbers, and the sorted names
+ * for looking up territories from cut off names.
+ */
+final class TerritoryIndex {
+    private static final int CELL_BITS = 7;
+    // Territories without a location are put far outside of the map, so they must not fill the grid
+    private static final int MAX_CELLS_PER_TERRITORY = 4096;
+    private static final int[] NO_TERRITORIES = new int[0];
+
+    static final TerritoryIndex EMPTY = build(List.of(), Map.of());
+
+    private final TerritoryProfile[] profiles;
+    private final String[] names;
+    private final Object2IntMap<String> nameIndices;
+    private final Long2ObjectMap<int[]> grid;
+    private final int[][] tradingRoutes;
+
+    private TerritoryIndex(
+            TerritoryProfile[] profiles,
+            String[] names,
+            Object2IntMap<String> nameIndices,
+            Long2ObjectMap<int[]> grid,
+            int[][] tradingRoutes) {
+        this.profiles = profiles;
+        this.names = names;
+        this.nameIndices = nameIndices;
+        this.grid = grid;
+        this.tradingRoutes = tradingRoutes;
+    }
+
+    static TerritoryIndex build(
+            Collection<TerritoryProfile> territoryProfiles, Map<String, TerritoryPoi> territoryPois) {
+        TerritoryProfile[] profiles = territoryProfiles.stream()
+                .sorted(Comparator.comparing(TerritoryProfile::getName))
+                .toArray(TerritoryProfile[]::new);
+
+        String[] names = new String[profiles.length];
+        Object2IntMap<String> nameIndices = new Object2IntOpenHashMap<>(profiles.length);
+        nameIndices.defaultReturnValue(-1);
+        for (int i = 0; i < profiles.length; i++) {
+            names[i] = profiles[i].getName();
+            nameIndices.put(names[i], i);
+        }
+
+        return new TerritoryIndex(
+                profiles, names, nameIndices, buildGrid(profiles), buildTradingRoutes(nameIndices, territoryPois));
+    }
+
+    int size() {
+        return profiles.length;
+    }
+
+    /**
+     * @return the number of the territory with the given name, or -1 if there is no such territory
+     */
+    int getIndex(String name) {
+        return nameIndices.getInt(name);
+    }
+
+    /**
+     * @return the numbers of all territories with a trading route to the given territory, in either direction
+     */
+    int[] getTradingRoutes(int index) {
+        return tradingRoutes[index];
+    }
+
+    TerritoryProfile getProfileForPosition(double x, double z) {
+        int[] cell = grid.get(getCellKey(getCell(x), getCell(z)));
+        if (cell == null) return null;
+
+        for (int index : cell) {
+            TerritoryProfile profile = profiles[index];
+            if (x >= profile.getStartX()
+                    && x <= profile.getEndX()
+                    && z >= profile.getStartZ()
+                    && z <= profile.getEndZ()) {
+                return profile;
+            }
+        }
+
+        return null;
+    }
+
+    TerritoryProfile getProfileFromShortName(String shortName, Collection<String> excludedTerritories) {
+        // All names starting with the short name follow directly after the position it would be inserted at
+        int index = Arrays.binarySearch(names, shortName);
+        if (index < 0) {
+            index = -index - 1;
+        }
+
+        for (; index < names.length && names[index].startsWith(shortName); index++) {
+            if (!excludedTerritories.contains(names[index])) return profiles[index];
+        }
+
+        return null;
+    }
+
+    private static Long2ObjectMap<int[]> buildGrid(TerritoryProfile[] profiles) {
+        Long2ObjectMap<IntArrayList> cells = new Long2ObjectOpenHashMap<>();
+
+        for (int i = 0; i < profiles.length; i++) {
+            TerritoryProfile profile = profiles[i];
+            int startCellX = getCell(profile.getStartX());
+            int startCellZ = getCell(profile.getStartZ());
+            int endCellX = getCell(profile.getEndX());
+            int endCellZ = getCell(profile.getEndZ());
+
+            long cellCount = (long) (endCellX - startCellX + 1) * (endCellZ - startCellZ + 1);
+            if (cellCount > MAX_CELLS_PER_TERRITORY) continue;
+
+            for (int cellX = startCellX; cellX <= endCellX; cellX++) {
+                for (int cellZ = startCellZ; cellZ <= endCellZ; cellZ++) {
+                    cells.computeIfAbsent(getCellKey(cellX, cellZ), key -> new IntArrayList()).add(i);
+                }
+            }
+        }
+
+        Long2ObjectMap<int[]> grid = new Long2ObjectOpenHashMap<>(cells.size());
+        for (Long2ObjectMap.Entry<IntArrayList> entry : cells.long2ObjectEntrySet()) {
+            grid.put(entry.getLongKey(), entry.getValue().toIntArray());
+        }
+        return grid;
+    }
+
+    private static int[][] buildTradingRoutes(
+            Object2IntMap<String> nameIndices, Map<String, TerritoryPoi> territoryPois) {
+        IntLinkedOpenHashSet[] routes = new IntLinkedOpenHashSet[nameIndices.size()];
+
+        for (Map.Entry<String, TerritoryPoi> entry : territoryPois.entrySet()) {
+            TerritoryInfo territoryInfo = entry.getValue().getTerritoryInfo();
+            if (territoryInfo == null) continue;
+
+            int index = nameIndices.getInt(entry.getKey());
+            if (index < 0) continue;
+
+            for (String tradingRoute : territoryInfo.getTradingRoutes()) {
+                int routeIndex = nameIndices.getInt(tradingRoute);
+                if (routeIndex < 0 || routeIndex == index) continue;
+
+                // Wynn is bugged, and sometimes forgets to add the bi-directional trading routes to both territories
+                addRoute(routes, index, routeIndex);
+                addRoute(routes, routeIndex, index);
+            }
+        }
+
+        int[][] tradingRoutes = new int[routes.length][];
+        for (int i = 0; i < routes.length; i++) {
+            tradingRoutes[i] = routes[i] == null ? NO_TERRITORIES : routes[i].toIntArray();
+        }
+        return tradingRoutes;
+    }
+
+    private static void addRoute(IntLinkedOpenHashSet[] routes, int from, int to) {
+        if (routes[from] == null) {
+            routes[from] = new IntLinkedOpenHashSet();
+        }
+        routes[from].add(to);
+    }
+
+    private static int getCell(double coordinate) {
+        return (int) Math.floor(coordinate) >> CELL_BITS;
+    }
+
+    private static long getCellKey(int cellX, int cellZ) {
+        return ((long) cellX << 32) | (cellZ & 0xFFFFFFFFL);
+    }
+}
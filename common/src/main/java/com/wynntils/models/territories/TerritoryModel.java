@@ -21,14 +21,14 @@ import com.wynntils.models.items.items.gui.TerritoryItem;
 import com.wynntils.models.territories.profile.TerritoryProfile;
 import com.wynntils.models.territories.type.TerritoryConnectionType;
 import com.wynntils.screens.territorymanagement.TerritoryManagementHolder;
+import com.wynntils.services.map.PoiGrid;
 import com.wynntils.services.map.pois.TerritoryPoi;
+import com.wynntils.utils.type.BoundingBox;
+import it.unimi.dsi.fastutil.ints.IntArrayFIFOQueue;
 import java.util.ArrayList;
 import java.util.Collection;
-import java.util.Comparator;
-import java.util.Deque;
 import java.util.HashMap;
 import java.util.HashSet;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -62,6 +62,11 @@ public final class TerritoryModel extends Model {
     // This is just a cache of TerritoryPois created for all territoryProfileMap values
     private Set<TerritoryPoi> allTerritoryPois = new HashSet<>();
 
+    // Lookup structures for the profiles and the trading routes of the advancement POIs
+    private volatile TerritoryIndex territoryIndex = TerritoryIndex.EMPTY;
+    // Spatial index of the advancement POIs for the guild map
+    private volatile PoiGrid<TerritoryPoi> territoryPoiGrid = PoiGrid.empty();
+
     private ScheduledFuture<?> scheduledFuture;
     private final ScheduledExecutorService timerExecutor = new ScheduledThreadPoolExecutor(1);
     private long lastGuildUpdate = 0;
@@ -99,11 +104,7 @@ public final class TerritoryModel extends Model {
      * @return The territory profile, or null if not found
      */
     public TerritoryProfile getTerritoryProfileFromShortName(String shortName, Collection<String> excludedTerritories) {
-        return territoryProfileMap.values().stream()
-                .filter(profile -> excludedTerritories.stream().noneMatch(ex -> ex.equals(profile.getName())))
-                .filter(profile -> profile.getName().startsWith(shortName))
-                .min(Comparator.comparing(TerritoryProfile::getName))
-                .orElse(null);
+        return territoryIndex.getProfileFromShortName(shortName, excludedTerritories);
     }
 
     public Stream<String> getTerritoryNames() {
@@ -118,15 +119,20 @@ public final class TerritoryModel extends Model {
         return new ArrayList<>(territoryPoiMap.values());
     }
 
+    /**
+     * Returns the territory POIs from the advancements which can be visible in the given box. This might include
+     * some territories outside the box, so callers still need to do their own exact check.
+     */
+    public List<TerritoryPoi> getTerritoryPoisFromAdvancement(BoundingBox box) {
+        return territoryPoiGrid.getPois(box);
+    }
+
     public TerritoryPoi getTerritoryPoiFromAdvancement(String name) {
         return territoryPoiMap.get(name);
     }
 
     public TerritoryProfile getTerritoryProfileForPosition(Position position) {
-        return territoryProfileMap.values().stream()
-                .filter(profile -> profile.insideArea(position))
-                .findFirst()
-                .orElse(null);
+        return territoryIndex.getProfileForPosition(position.x(), position.z());
     }
 
     @SubscribeEvent
@@ -171,6 +177,21 @@ public final class TerritoryModel extends Model {
             territoryPoiMap.put(
                     entry.getKey(), new TerritoryPoi(() -> getTerritoryProfile(entry.getKey()), entry.getValue()));
         }
+
+        // The trading routes might have changed
+        territoryIndex = TerritoryIndex.build(territoryProfileMap.values(), territoryPoiMap);
+        territoryPoiGrid = buildTerritoryPoiGrid(territoryPoiMap.values());
+    }
+
+    private static PoiGrid<TerritoryPoi> buildTerritoryPoiGrid(Collection<TerritoryPoi> territoryPois) {
+        // At a zoom of one pixel per block, the size of a territory is its size in blocks
+        float extent = 0;
+        for (TerritoryPoi territoryPoi : territoryPois) {
+            extent = Math.max(extent, territoryPoi.getWidth(1f, 1f) / 2f);
+            extent = Math.max(extent, territoryPoi.getHeight(1f, 1f) / 2f);
+        }
+
+        return new PoiGrid<>(territoryPois, extent);
     }
 
     public Map<TerritoryItem, TerritoryConnectionType> getTerritoryConnections(List<TerritoryItem> territoryItems) {
@@ -185,34 +206,41 @@ public final class TerritoryModel extends Model {
                     .collect(Collectors.toMap(item -> item, item -> TerritoryConnectionType.UNCONNECTED));
         }
 
+        TerritoryIndex index = territoryIndex;
+        TerritoryItem[] itemsByIndex = new TerritoryItem[index.size()];
+        for (TerritoryItem territoryItem : territoryItems) {
+            int itemIndex = index.getIndex(territoryItem.getName());
+            if (itemIndex >= 0) {
+                itemsByIndex[itemIndex] = territoryItem;
+            }
+        }
+
         // Start a BFS from the headquarters
         Set<TerritoryItem> hqConnectedTerritories = new HashSet<>();
         Set<TerritoryItem> connectedTerritories = new HashSet<>();
         connectedTerritories.add(hqTerritory);
 
-        Deque<TerritoryItem> queue = new LinkedList<>();
-        queue.add(hqTerritory);
+        int hqIndex = index.getIndex(hqTerritory.getName());
+        if (hqIndex >= 0) {
+            boolean[] visited = new boolean[index.size()];
+            visited[hqIndex] = true;
 
-        while (!queue.isEmpty()) {
-            TerritoryItem current = queue.poll();
+            IntArrayFIFOQueue queue = new IntArrayFIFOQueue();
+            queue.enqueue(hqIndex);
 
-            for (TerritoryItem territoryItem : territoryItems) {
-                if (connectedTerritories.contains(territoryItem)) continue;
+            while (!queue.isEmpty()) {
+                int current = queue.dequeueInt();
 
-                TerritoryInfo currentTerritoryInfo =
-                        getTerritoryPoiFromAdvancement(current.getName()).getTerritoryInfo();
-                TerritoryInfo territoryInfo =
-                        getTerritoryPoiFromAdvancement(territoryItem.getName()).getTerritoryInfo();
+                // Only territories owned by the guild are part of the connected network
+                for (int neighbor : index.getTradingRoutes(current)) {
+                    TerritoryItem territoryItem = itemsByIndex[neighbor];
+                    if (visited[neighbor] || territoryItem == null) continue;
 
-                // Note: Wynn is bugged, and sometimes forgets to add the bi-directional trading routes to both
-                // territories
-                if ((territoryInfo != null && territoryInfo.getTradingRoutes().contains(current.getName()))
-                        || (currentTerritoryInfo != null
-                                && currentTerritoryInfo.getTradingRoutes().contains(territoryItem.getName()))) {
+                    visited[neighbor] = true;
                     connectedTerritories.add(territoryItem);
-                    queue.add(territoryItem);
+                    queue.enqueue(neighbor);
 
-                    if (territoryItem.isHeadquarters() || current.isHeadquarters()) {
+                    if (current == hqIndex) {
                         hqConnectedTerritories.add(territoryItem);
                     }
                 }
@@ -252,6 +280,7 @@ public final class TerritoryModel extends Model {
                     }
 
                     territoryProfileMap = tempMap;
+                    territoryIndex = TerritoryIndex.build(tempMap.values(), territoryPoiMap);
                     allTerritoryPois = territoryProfileMap.values().stream()
                             .map(TerritoryPoi::new)
                             .collect(Collectors.toSet());
@@ -1,5 +1,5 @@
 /*
- * Copyright © Wynntils 2023-2025.
+ * Copyright © Wynntils 2023-2026.
  * This file is released under LGPLv3. See LICENSE for full license details.
  */
 package com.wynntils.models.trademarket;
@@ -12,6 +12,7 @@ import com.wynntils.core.persisted.Persisted;
 import com.wynntils.core.persisted.storage.Storage;
 import com.wynntils.core.text.StyledText;
 import com.wynntils.handlers.chat.event.ChatMessageEvent;
+import com.wynntils.handlers.chat.type.ChatPattern;
 import com.wynntils.mc.event.ChatSentEvent;
 import com.wynntils.mc.event.ContainerSetContentEvent;
 import com.wynntils.mc.event.ContainerSetSlotEvent;
@@ -72,6 +73,10 @@ public final class TradeMarketModel extends Model {
             "^§5(\uE00A\uE002|\uE001) Type the price in emeralds or formatted \\(e\\.g '10eb', '10stx 5eb'\\) or type 'cancel' to cancel:$");
     private static final Pattern CANCELLED_PATTERN =
             Pattern.compile("^§4(\uE008\uE002|\uE001) You moved and your chat input was canceled.$");
+    private static final ChatPattern SEARCH_INPUT = ChatPattern.ofUnwrapped(SEARCH_INPUT_PATTERN);
+    private static final ChatPattern AMOUNT_INPUT = ChatPattern.ofUnwrapped(AMOUNT_INPUT_PATTERN);
+    private static final ChatPattern PRICE_INPUT = ChatPattern.ofUnwrapped(PRICE_INPUT_PATTERN);
+    private static final ChatPattern CANCELLED = ChatPattern.ofUnwrapped(CANCELLED_PATTERN);
 
     // Price Parsing
     private static final int TRADE_MARKET_PRICE_LINE = 1;
@@ -173,17 +178,15 @@ public final class TradeMarketModel extends Model {
 
     @SubscribeEvent(priority = EventPriority.HIGH)
     public void onChatMessageReceive(ChatMessageEvent.Match event) {
-        StyledText styledText = StyledTextUtils.unwrap(event.getMessage()).stripAlignment();
-
         TradeMarketState newState;
 
-        if (styledText.matches(SEARCH_INPUT_PATTERN)) {
+        if (event.matches(SEARCH_INPUT)) {
             newState = TradeMarketState.SEARCH_CHAT_INPUT;
-        } else if (styledText.matches(AMOUNT_INPUT_PATTERN)) {
+        } else if (event.matches(AMOUNT_INPUT)) {
             newState = TradeMarketState.AMOUNT_CHAT_INPUT;
-        } else if (styledText.matches(PRICE_INPUT_PATTERN)) {
+        } else if (event.matches(PRICE_INPUT)) {
             newState = TradeMarketState.PRICE_CHAT_INPUT;
-        } else if (styledText.matches(CANCELLED_PATTERN)) {
+        } else if (event.matches(CANCELLED)) {
             newState = TradeMarketState.NOT_ACTIVE;
         } else {
             newState = null;
@@ -193,6 +196,7 @@ public final class TradeMarketModel extends Model {
             updateTradeMarketState(newState);
 
             if (inChatInput()) {
+                StyledText styledText = StyledTextUtils.unwrap(event.getMessage()).stripAlignment();
                 TradeMarketChatInputEvent inputEvent = new TradeMarketChatInputEvent(newState, styledText);
                 WynntilsMod.postEvent(inputEvent);
                 if (inputEvent.isCanceled()) {
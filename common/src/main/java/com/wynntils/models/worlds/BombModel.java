@@ -11,21 +11,22 @@ import com.wynntils.core.components.Models;
 import com.wynntils.core.text.StyledText;
 import com.wynntils.handlers.bossbar.TrackedBar;
 import com.wynntils.handlers.chat.event.ChatMessageEvent;
+import com.wynntils.handlers.chat.type.ChatPattern;
 import com.wynntils.models.worlds.bossbars.InfoBar;
 import com.wynntils.models.worlds.event.BombEvent;
 import com.wynntils.models.worlds.event.WorldStateEvent;
 import com.wynntils.models.worlds.type.BombInfo;
 import com.wynntils.models.worlds.type.BombSortOrder;
 import com.wynntils.models.worlds.type.BombType;
-import com.wynntils.utils.mc.StyledTextUtils;
 import java.util.Comparator;
 import java.util.EnumMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Predicate;
-import java.util.regex.Matcher;
+import java.util.regex.MatchResult;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -46,6 +47,10 @@ public final class BombModel extends Model {
     private static final Pattern BOMB_THROWN_PATTERN =
             Pattern.compile("^§#a0c84bff(?:\uE014\uE002|\uE001) §l(?<bomb>.+) Bomb$");
 
+    private static final ChatPattern BOMB_BELL = ChatPattern.ofUnwrapped(BOMB_BELL_PATTERN);
+    private static final ChatPattern BOMB_EXPIRED = ChatPattern.ofUnwrapped(BOMB_EXPIRED_PATTERN);
+    private static final ChatPattern BOMB_THROWN = ChatPattern.ofUnwrapped(BOMB_THROWN_PATTERN);
+
     private static final Map<BombType, BombInfo> CURRENT_SERVER_BOMBS = new EnumMap<>(BombType.class);
 
     private static final ActiveBombContainer BOMBS = new ActiveBombContainer();
@@ -59,10 +64,10 @@ public final class BombModel extends Model {
     @SubscribeEvent
     public void onChat(ChatMessageEvent.Match event) {
         StyledText message = event.getMessage();
-        StyledText unwrapped = StyledTextUtils.unwrap(event.getMessage()).stripAlignment();
 
-        Matcher bellMatcher = unwrapped.getMatcher(BOMB_BELL_PATTERN);
-        if (bellMatcher.matches()) {
+        Optional<MatchResult> bellMatch = event.getMatch(BOMB_BELL);
+        if (bellMatch.isPresent()) {
+            MatchResult bellMatcher = bellMatch.get();
             BombInfo bombInfo = addBombFromChat(
                     bellMatcher.group("user"),
                     bellMatcher.group("bomb"),
@@ -75,8 +80,9 @@ public final class BombModel extends Model {
             return;
         }
 
-        Matcher localMatcher = unwrapped.getMatcher(BOMB_THROWN_PATTERN);
-        if (localMatcher.matches()) {
+        Optional<MatchResult> localMatch = event.getMatch(BOMB_THROWN);
+        if (localMatch.isPresent()) {
+            MatchResult localMatcher = localMatch.get();
             // FIXME: User is sent on following chat line, we don't currently use the name anywhere but if we do in
             //  the future then this needs fixing
             BombInfo bombInfo =
@@ -88,9 +94,9 @@ public final class BombModel extends Model {
             return;
         }
 
-        Matcher expiredMatcher = unwrapped.getMatcher(BOMB_EXPIRED_PATTERN);
-        if (expiredMatcher.matches()) {
-            String bomb = expiredMatcher.group("bomb");
+        Optional<MatchResult> expiredMatch = event.getMatch(BOMB_EXPIRED);
+        if (expiredMatch.isPresent()) {
+            String bomb = expiredMatch.get().group("bomb");
 
             // Better to do a bit of processing and clean up the set than leaking memory
             removeOldTimers();
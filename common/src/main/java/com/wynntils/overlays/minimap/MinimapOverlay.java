@@ -147,7 +147,7 @@ public class MinimapOverlay extends Overlay {
 
         BoundingBox visibleWorldBox = BoundingBox.centered((float) playerX, (float) playerZ, worldWidth, worldHeight);
 
-        List<MapTexture> maps = Services.Map.getMapsForBoundingBox(visibleWorldBox);
+        List<MapTexture> maps = Services.Map.getMapsForBoundingBox(visibleWorldBox, zoomRenderScale);
 
         if (hideWhenUnmapped.get() != UnmappedOption.NEITHER && maps.isEmpty()) return;
 
@@ -234,11 +234,12 @@ public class MinimapOverlay extends Overlay {
             float zoomRenderScale,
             float zoomLevel,
             BoundingBox visibleWorldBox) {
-        Stream<? extends Poi> poisToRender = Services.Poi.getServicePois();
-        poisToRender = Stream.concat(poisToRender, Services.Poi.getCombatPois());
+        // Only look at the static POIs close to the visible part of the map
+        Stream<? extends Poi> poisToRender = Services.Poi.getServicePois(visibleWorldBox).stream();
+        poisToRender = Stream.concat(poisToRender, Services.Poi.getCombatPois(visibleWorldBox).stream());
         poisToRender = Stream.concat(
                 poisToRender, Managers.Feature.getFeatureInstance(MainMapFeature.class).customPois.get().stream());
-        poisToRender = Stream.concat(poisToRender, Services.Poi.getProvidedCustomPois().stream());
+        poisToRender = Stream.concat(poisToRender, Services.Poi.getProvidedCustomPois(visibleWorldBox).stream());
         poisToRender = Stream.concat(poisToRender, Models.Marker.getAllPois());
         poisToRender = Stream.concat(
                 poisToRender,
@@ -499,7 +499,7 @@ public abstract class AbstractMapScreen extends WynntilsScreen {
         BoundingBox view =
                 BoundingBox.centered(mapCenterX, mapCenterZ, mapWidth / zoomRenderScale, mapHeight / zoomRenderScale);
 
-        for (MapTexture map : Services.Map.getMapsForBoundingBox(view)) {
+        for (MapTexture map : Services.Map.getMapsForBoundingBox(view, zoomRenderScale)) {
             MapRenderer.renderMapTile(
                     guiGraphics, map, mapCenterX, mapCenterZ, centerX, centerZ, zoomRenderScale, view);
         }
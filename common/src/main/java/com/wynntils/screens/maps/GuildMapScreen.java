@@ -32,8 +32,9 @@ import com.wynntils.utils.render.type.VerticalAlignment;
 import com.wynntils.utils.type.BoundingBox;
 import com.wynntils.utils.type.CappedValue;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
-import java.util.Optional;
+import java.util.Map;
 import java.util.function.Function;
 import java.util.stream.Stream;
 import net.minecraft.ChatFormatting;
@@ -286,6 +287,11 @@ public final class GuildMapScreen extends AbstractMapScreen {
 
         // Render trading routes
         // We render them in both directions because optimizing it is not cheap either
+        Map<String, Poi> filteredPoisByName = new HashMap<>();
+        for (Poi poi : filteredPois) {
+            filteredPoisByName.putIfAbsent(poi.getName(), poi);
+        }
+
         for (Poi poi : filteredPois) {
             if (!(poi instanceof TerritoryPoi territoryPoi)) continue;
 
@@ -293,14 +299,12 @@ public final class GuildMapScreen extends AbstractMapScreen {
             float poiRenderZ = MapRenderer.getRenderZ(poi, mapCenterZ, centerZ, zoomRenderScale);
 
             for (String tradingRoute : territoryPoi.getTerritoryInfo().getTradingRoutes()) {
-                Optional<Poi> routePoi = filteredPois.stream()
-                        .filter(filteredPoi -> filteredPoi.getName().equals(tradingRoute))
-                        .findFirst();
+                Poi routePoi = filteredPoisByName.get(tradingRoute);
 
                 // Only render connection if the other poi is also in the filtered pois
-                if (routePoi.isPresent() && filteredPois.contains(routePoi.get())) {
-                    float x = MapRenderer.getRenderX(routePoi.get(), mapCenterX, centerX, zoomRenderScale);
-                    float z = MapRenderer.getRenderZ(routePoi.get(), mapCenterZ, centerZ, zoomRenderScale);
+                if (routePoi != null) {
+                    float x = MapRenderer.getRenderX(routePoi, mapCenterX, centerX, zoomRenderScale);
+                    float z = MapRenderer.getRenderZ(routePoi, mapCenterZ, centerZ, zoomRenderScale);
 
                     RenderUtils.drawLine(guiGraphics, CommonColors.DARK_GRAY, poiRenderX, poiRenderZ, x, z, 1);
                 }
@@ -362,7 +366,12 @@ public final class GuildMapScreen extends AbstractMapScreen {
     }
 
     private void renderPois(GuiGraphics guiGraphics, int mouseX, int mouseY) {
-        List<TerritoryPoi> advancementPois = Models.Territory.getTerritoryPoisFromAdvancement().stream()
+        BoundingBox textureBoundingBox =
+                BoundingBox.centered(mapCenterX, mapCenterZ, width / zoomRenderScale, height / zoomRenderScale);
+
+        // Only look at the territories close to the visible part of the map
+        List<TerritoryPoi> advancementPois = Models.Territory.getTerritoryPoisFromAdvancement(textureBoundingBox)
+                .stream()
                 .filter(this::filterDefense)
                 .filter(this::filterTreasury)
                 .toList();
@@ -394,7 +403,7 @@ public final class GuildMapScreen extends AbstractMapScreen {
         renderPois(
                 renderedPois,
                 guiGraphics,
-                BoundingBox.centered(mapCenterX, mapCenterZ, width / zoomRenderScale, height / zoomRenderScale),
+                textureBoundingBox,
                 1,
                 mouseX,
                 mouseY);
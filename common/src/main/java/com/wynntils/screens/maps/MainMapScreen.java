@@ -205,7 +205,7 @@ public final class MainMapScreen extends AbstractMapScreen {
             if (Managers.Feature.getFeatureInstance(MainMapFeature.class)
                             .centerWhenUnmapped
                             .get()
-                    && Services.Map.getMapsForBoundingBox(textureBoundingBox).isEmpty()) {
+                    && !Services.Map.hasMapsForBoundingBox(textureBoundingBox)) {
                 centerMapOnWorld();
             }
 
@@ -297,12 +297,16 @@ public final class MainMapScreen extends AbstractMapScreen {
     }
 
     private void renderPois(GuiGraphics guiGraphics, int mouseX, int mouseY) {
-        Stream<? extends Poi> pois = Services.Poi.getServicePois();
+        BoundingBox textureBoundingBox =
+                BoundingBox.centered(mapCenterX, mapCenterZ, width / zoomRenderScale, height / zoomRenderScale);
 
-        pois = Stream.concat(pois, Services.Poi.getCombatPois());
-        pois = Stream.concat(pois, Services.Poi.getLabelPois());
+        // Only look at the static POIs close to the visible part of the map
+        Stream<? extends Poi> pois = Services.Poi.getServicePois(textureBoundingBox).stream();
+
+        pois = Stream.concat(pois, Services.Poi.getCombatPois(textureBoundingBox).stream());
+        pois = Stream.concat(pois, Services.Poi.getLabelPois(textureBoundingBox).stream());
         pois = Stream.concat(pois, Managers.Feature.getFeatureInstance(MainMapFeature.class).customPois.get().stream());
-        pois = Stream.concat(pois, Services.Poi.getProvidedCustomPois().stream());
+        pois = Stream.concat(pois, Services.Poi.getProvidedCustomPois(textureBoundingBox).stream());
         pois = Stream.concat(pois, Models.Marker.getAllPois());
         pois = Stream.concat(
                 pois,
@@ -324,7 +328,7 @@ public final class MainMapScreen extends AbstractMapScreen {
         renderPois(
                 pois.collect(Collectors.toList()),
                 guiGraphics,
-                BoundingBox.centered(mapCenterX, mapCenterZ, width / zoomRenderScale, height / zoomRenderScale),
+                textureBoundingBox,
                 Managers.Feature.getFeatureInstance(MainMapFeature.class)
                         .poiScale
                         .get(),
@@ -53,8 +53,9 @@ import com.wynntils.utils.type.BoundingBox;
 import com.wynntils.utils.type.Pair;
 import com.wynntils.utils.wynn.ContainerUtils;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
-import java.util.Optional;
+import java.util.Map;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import net.minecraft.ChatFormatting;
@@ -658,6 +659,11 @@ public class TerritoryManagementScreen extends AbstractMapScreen implements Wrap
 
         // Render trading routes
         // We render them in both directions because optimizing it is not cheap either
+        Map<String, Poi> filteredPoisByName = new HashMap<>();
+        for (Poi poi : filteredPois) {
+            filteredPoisByName.putIfAbsent(poi.getName(), poi);
+        }
+
         for (Poi poi : filteredPois) {
             if (!(poi instanceof ManageTerritoryPoi territoryPoi)) continue;
 
@@ -665,14 +671,12 @@ public class TerritoryManagementScreen extends AbstractMapScreen implements Wrap
             float poiRenderZ = MapRenderer.getRenderZ(poi, mapCenterZ, centerZ, zoomRenderScale);
 
             for (String tradingRoute : territoryPoi.getTerritoryInfo().getTradingRoutes()) {
-                Optional<Poi> routePoi = filteredPois.stream()
-                        .filter(filteredPoi -> filteredPoi.getName().equals(tradingRoute))
-                        .findFirst();
+                Poi routePoi = filteredPoisByName.get(tradingRoute);
 
                 // Only render connection if the other poi is also in the filtered pois
-                if (routePoi.isPresent() && filteredPois.contains(routePoi.get())) {
-                    float x = MapRenderer.getRenderX(routePoi.get(), mapCenterX, centerX, zoomRenderScale);
-                    float z = MapRenderer.getRenderZ(routePoi.get(), mapCenterZ, centerZ, zoomRenderScale);
+                if (routePoi != null) {
+                    float x = MapRenderer.getRenderX(routePoi, mapCenterX, centerX, zoomRenderScale);
+                    float z = MapRenderer.getRenderZ(routePoi, mapCenterZ, centerZ, zoomRenderScale);
 
                     RenderUtils.drawLine(guiGraphics, CommonColors.DARK_GRAY, poiRenderX, poiRenderZ, x, z, 1);
                 }
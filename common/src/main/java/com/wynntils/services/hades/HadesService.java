@@ -64,7 +64,6 @@ import net.minecraft.world.effect.MobEffects;
 import net.neoforged.bus.api.SubscribeEvent;
 
 public final class HadesService extends Service {
-    private static final int TICKS_PER_UPDATE = 2;
     private static final int MS_PER_PING = 1000;
 
     private static final EncodingSettings HADES_ENCODING_SETTINGS = new EncodingSettings(false, false);
@@ -73,7 +72,7 @@ public final class HadesService extends Service {
 
     private CompletableFuture<Void> connectionFuture;
     private HadesConnection hadesConnection;
-    private int tickCountUntilUpdate = 0;
+    private int ticksSinceLastUpdate = 0;
     private PlayerStatus lastSentStatus;
     private ScheduledExecutorService pingScheduler;
 
@@ -127,7 +126,7 @@ public final class HadesService extends Service {
                     .setHandlerFactory(a -> new HadesClientHandler(a, userRegistry))
                     .buildClient();
 
-            tickCountUntilUpdate = 0;
+            ticksSinceLastUpdate = 0;
             lastSentStatus = null;
         } catch (IOException e) {
             WynntilsMod.error("Could not connect to Hades.", e);
@@ -304,69 +303,72 @@ public final class HadesService extends Service {
                         .shareWithFriends
                         .get()) return;
 
-        tickCountUntilUpdate--;
-
-        if (tickCountUntilUpdate <= 0) {
-            LocalPlayer player = McUtils.player();
-
-            float pX = (float) player.getX();
-            float pY = (float) player.getY();
-            float pZ = (float) player.getZ();
-
-            PlayerStatus newStatus;
-
-            if (getGearShareOptions().shouldShare()) {
-                newStatus = new PlayerStatus(
-                        pX,
-                        pY,
-                        pZ,
-                        Models.CharacterStats.getHealth().orElse(CappedValue.EMPTY),
-                        Models.CharacterStats.getMana().orElse(CappedValue.EMPTY),
-                        armor.getOrDefault(InventoryArmor.HELMET, ""),
-                        armor.getOrDefault(InventoryArmor.CHESTPLATE, ""),
-                        armor.getOrDefault(InventoryArmor.LEGGINGS, ""),
-                        armor.getOrDefault(InventoryArmor.BOOTS, ""),
-                        accessories.getOrDefault(InventoryAccessory.RING_1, ""),
-                        accessories.getOrDefault(InventoryAccessory.RING_2, ""),
-                        accessories.getOrDefault(InventoryAccessory.BRACELET, ""),
-                        accessories.getOrDefault(InventoryAccessory.NECKLACE, ""),
-                        heldItem);
-            } else {
-                newStatus = new PlayerStatus(
-                        pX,
-                        pY,
-                        pZ,
-                        Models.CharacterStats.getHealth().orElse(CappedValue.EMPTY),
-                        Models.CharacterStats.getMana().orElse(CappedValue.EMPTY));
-            }
+        ticksSinceLastUpdate++;
 
-            if (newStatus.equals(lastSentStatus)) {
-                tickCountUntilUpdate = 1;
-                return;
-            }
+        LocalPlayer player = McUtils.player();
+
+        // Moving less than the rounding of the position does not change the status
+        float pX = StatusUpdateRate.quantizePosition(player.getX());
+        float pY = StatusUpdateRate.quantizePosition(player.getY());
+        float pZ = StatusUpdateRate.quantizePosition(player.getZ());
 
-            tickCountUntilUpdate = TICKS_PER_UPDATE;
-
-            lastSentStatus = newStatus;
-
-            hadesConnection.sendPacketAndFlush(new HCPacketUpdateStatus(
-                    lastSentStatus.x(),
-                    lastSentStatus.y(),
-                    lastSentStatus.z(),
-                    lastSentStatus.health().current(),
-                    lastSentStatus.health().max(),
-                    lastSentStatus.mana().current(),
-                    lastSentStatus.mana().max(),
-                    lastSentStatus.helmet(),
-                    lastSentStatus.chestplate(),
-                    lastSentStatus.leggings(),
-                    lastSentStatus.boots(),
-                    lastSentStatus.ringOne(),
-                    lastSentStatus.ringTwo(),
-                    lastSentStatus.bracelet(),
-                    lastSentStatus.necklace(),
-                    lastSentStatus.heldItem()));
+        PlayerStatus newStatus;
+
+        if (getGearShareOptions().shouldShare()) {
+            newStatus = new PlayerStatus(
+                    pX,
+                    pY,
+                    pZ,
+                    Models.CharacterStats.getHealth().orElse(CappedValue.EMPTY),
+                    Models.CharacterStats.getMana().orElse(CappedValue.EMPTY),
+                    armor.getOrDefault(InventoryArmor.HELMET, ""),
+                    armor.getOrDefault(InventoryArmor.CHESTPLATE, ""),
+                    armor.getOrDefault(InventoryArmor.LEGGINGS, ""),
+                    armor.getOrDefault(InventoryArmor.BOOTS, ""),
+                    accessories.getOrDefault(InventoryAccessory.RING_1, ""),
+                    accessories.getOrDefault(InventoryAccessory.RING_2, ""),
+                    accessories.getOrDefault(InventoryAccessory.BRACELET, ""),
+                    accessories.getOrDefault(InventoryAccessory.NECKLACE, ""),
+                    heldItem);
+        } else {
+            newStatus = new PlayerStatus(
+                    pX,
+                    pY,
+                    pZ,
+                    Models.CharacterStats.getHealth().orElse(CappedValue.EMPTY),
+                    Models.CharacterStats.getMana().orElse(CappedValue.EMPTY));
         }
+
+        if (lastSentStatus != null) {
+            if (newStatus.equals(lastSentStatus)) return;
+
+            float distanceMoved = getDistance(lastSentStatus, newStatus);
+            int ticksBetweenUpdates = StatusUpdateRate.getTicksBetweenUpdates(
+                    distanceMoved, ticksSinceLastUpdate, userRegistry.getHadesUserMap().size());
+            if (ticksSinceLastUpdate < ticksBetweenUpdates) return;
+        }
+
+        ticksSinceLastUpdate = 0;
+
+        lastSentStatus = newStatus;
+
+        hadesConnection.sendPacketAndFlush(new HCPacketUpdateStatus(
+                lastSentStatus.x(),
+                lastSentStatus.y(),
+                lastSentStatus.z(),
+                lastSentStatus.health().current(),
+                lastSentStatus.health().max(),
+                lastSentStatus.mana().current(),
+                lastSentStatus.mana().max(),
+                lastSentStatus.helmet(),
+                lastSentStatus.chestplate(),
+                lastSentStatus.leggings(),
+                lastSentStatus.boots(),
+                lastSentStatus.ringOne(),
+                lastSentStatus.ringTwo(),
+                lastSentStatus.bracelet(),
+                lastSentStatus.necklace(),
+                lastSentStatus.heldItem()));
     }
 
     public void tryResendWorldData() {
@@ -433,6 +435,13 @@ public final class HadesService extends Service {
         }
     }
 
+    private static float getDistance(PlayerStatus status1, PlayerStatus status2) {
+        float dX = status1.x() - status2.x();
+        float dY = status1.y() - status2.y();
+        float dZ = status1.z() - status2.z();
+        return (float) Math.sqrt(dX * dX + dY * dY + dZ * dZ);
+    }
+
     private boolean isConnected() {
         return hadesConnection != null && hadesConnection.isOpen();
     }
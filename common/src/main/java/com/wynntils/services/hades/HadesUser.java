@@ -1,5 +1,5 @@
 /*
- * Copyright © Wynntils 2022-2025.
+ * Copyright © Wynntils 2022-2026.
  * This file is released under LGPLv3. See LICENSE for full license details.
  */
 package com.wynntils.services.hades;
@@ -27,11 +27,18 @@ import java.util.UUID;
 import java.util.regex.Matcher;
 
 public class HadesUser {
+    private static final long MIN_INTERPOLATION_MS = 50;
+    private static final long MAX_INTERPOLATION_MS = 2000;
+
     private final UUID uuid;
     private final String name;
 
     private PlayerRelation relation;
+    // The position is moved from the previous position to the received position during the time between updates
+    private float previousX, previousY, previousZ;
     private float x, y, z;
+    private long updateTime;
+    private long updateInterval = MAX_INTERPOLATION_MS;
     private PoiLocation poiLocation;
     private CappedValue health;
     private CappedValue mana;
@@ -59,6 +66,9 @@ public class HadesUser {
         this.x = 0;
         this.y = 0;
         this.z = 0;
+        this.previousX = 0;
+        this.previousY = 0;
+        this.previousZ = 0;
 
         this.poiLocation = new PoiLocation(0, 0, 0);
 
@@ -77,19 +87,21 @@ public class HadesUser {
     }
 
     public float getX() {
-        return x;
+        return interpolate(previousX, x);
     }
 
     public float getY() {
-        return y;
+        return interpolate(previousY, y);
     }
 
     public float getZ() {
-        return z;
+        return interpolate(previousZ, z);
     }
 
     public PoiLocation getMapLocation() {
-        return poiLocation;
+        if (getInterpolationProgress() >= 1f) return poiLocation;
+
+        return new PoiLocation((int) getX(), (int) getY(), (int) getZ());
     }
 
     public CappedValue getHealth() {
@@ -113,6 +125,22 @@ public class HadesUser {
     }
 
     public void updateFromPacket(HSPacketUpdateMutual packet) {
+        long now = System.currentTimeMillis();
+
+        // Continue from where the user is shown now, so the position does not jump
+        if (poiLocation == null) {
+            this.previousX = packet.getX();
+            this.previousY = packet.getY();
+            this.previousZ = packet.getZ();
+        } else {
+            this.previousX = getX();
+            this.previousY = getY();
+            this.previousZ = getZ();
+            // Users send updates more or less often, so take as long as the last update took to arrive
+            this.updateInterval = Math.clamp(now - updateTime, MIN_INTERPOLATION_MS, MAX_INTERPOLATION_MS);
+        }
+
+        this.updateTime = now;
         this.x = packet.getX();
         this.y = packet.getY();
         this.z = packet.getZ();
@@ -165,6 +193,14 @@ public class HadesUser {
         return relation;
     }
 
+    private float getInterpolationProgress() {
+        return Math.min((System.currentTimeMillis() - updateTime) / (float) updateInterval, 1f);
+    }
+
+    private float interpolate(float previous, float current) {
+        return previous + (current - previous) * getInterpolationProgress();
+    }
+
     private void handleArmorData(InventoryArmor armor, GearType expectedGearType, String armorData) {
         if (armorData.isEmpty()) {
             this.armor.remove(armor);
@@ -0,0 +1,63 @@
+/*
+ * Copyright © Wynntils 2026.
+ * This file is released under LGPLv3. See LICENSE for full license details.
+ */
+package com.wynntils.services.hades;
+
+/**
+ * Decides how often the status of the player is sent to Hades.
+ *
+ * Positions are rounded to a grid, so moving less than a grid cell does not change the status. A moving player is
+ * sent more often than a standing one, whose status only changes with its health, mana or gear. When many users
+ * receive the status, it is sent less often, as every update is sent on to each of them.
+ */
+public final class StatusUpdateRate {
+    // Positions are rounded to an eighth of a block, which is less than what is visible on the map
+    private static final float POSITION_STEPS_PER_BLOCK = 8f;
+
+    // Walking moves about 0.22 blocks per tick, and sprinting about 0.28 blocks per tick
+    private static final float FAST_MOVEMENT_PER_TICK = 0.25f;
+
+    private static final int FAST_MOVEMENT_TICKS = 2;
+    private static final int SLOW_MOVEMENT_TICKS = 4;
+    private static final int STANDING_TICKS = 10;
+    private static final int MAX_TICKS = 40;
+
+    private static final int MANY_VIEWERS = 16;
+    private static final int VERY_MANY_VIEWERS = 64;
+
+    private StatusUpdateRate() {}
+
+    public static float quantizePosition(double coordinate) {
+        return Math.round(coordinate * POSITION_STEPS_PER_BLOCK) / POSITION_STEPS_PER_BLOCK;
+    }
+
+    /**
+     * Returns the number of ticks which must pass after sending a status, before a changed status is sent.
+     *
+     * @param distanceMoved the distance between the changed status and the sent status, in blocks
+     * @param ticksSinceLastUpdate the number of ticks since the status was sent
+     * @param viewerCount the number of Hades users that receive the status
+     * @return the number of ticks between sending the status and sending the changed status
+     */
+    public static int getTicksBetweenUpdates(float distanceMoved, int ticksSinceLastUpdate, int viewerCount) {
+        float movementPerTick = distanceMoved / Math.max(ticksSinceLastUpdate, 1);
+
+        int ticks;
+        if (movementPerTick >= FAST_MOVEMENT_PER_TICK) {
+            ticks = FAST_MOVEMENT_TICKS;
+        } else if (movementPerTick > 0) {
+            ticks = SLOW_MOVEMENT_TICKS;
+        } else {
+            ticks = STANDING_TICKS;
+        }
+
+        if (viewerCount >= VERY_MANY_VIEWERS) {
+            ticks *= 4;
+        } else if (viewerCount >= MANY_VIEWERS) {
+            ticks *= 2;
+        }
+
+        return Math.min(ticks, MAX_TICKS);
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright © Wynntils 2023-2025.
+ * Copyright © Wynntils 2023-2026.
  * This file is released under LGPLv3. See LICENSE for full license details.
  */
 package com.wynntils.services.itemfilter;
@@ -8,7 +8,6 @@ import com.wynntils.core.components.Models;
 import com.wynntils.core.components.Service;
 import com.wynntils.core.persisted.Persisted;
 import com.wynntils.core.persisted.storage.Storage;
-import com.wynntils.core.text.StyledText;
 import com.wynntils.models.elements.type.Skill;
 import com.wynntils.models.ingredients.type.IngredientPosition;
 import com.wynntils.models.items.WynnItem;
@@ -77,10 +76,8 @@ import com.wynntils.utils.type.Pair;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
-import java.util.Locale;
 import java.util.Map;
 import java.util.Optional;
-import java.util.stream.Stream;
 import net.minecraft.ChatFormatting;
 import net.minecraft.client.resources.language.I18n;
 import net.minecraft.world.item.ItemStack;
@@ -96,6 +93,8 @@ public class ItemFilterService extends Service {
     private final List<ItemStatProvider<?>> itemStatProviders = new ArrayList<>();
     private final List<Pair<Class<?>, StatFilterFactory<? extends StatFilter<?>>>> statFilters = new ArrayList<>();
 
+    private ItemSearchPlan lastSearchPlan;
+
     public ItemFilterService() {
         super(List.of());
 
@@ -278,16 +277,20 @@ public class ItemFilterService extends Service {
      * @return true if the item matches the search query, false otherwise
      */
     public boolean matches(ItemSearchQuery searchQuery, ItemStack itemStack) {
-        if (searchQuery.isEmpty()) return true;
-        if (itemStack.isEmpty()) return false;
-
-        Optional<WynnItem> wynnItemOpt = Models.Item.getWynnItem(itemStack);
-        if (wynnItemOpt.isEmpty()) return false;
+        return getSearchPlan(searchQuery).matches(itemStack);
+    }
 
-        return filterMatches(searchQuery, wynnItemOpt.get())
-                && itemNameMatches(
-                        searchQuery,
-                        StyledText.fromComponent(itemStack.getHoverName()).getStringWithoutFormatting());
+    /**
+     * Checks if the given item, which is not in an item stack (e.g. a decoded item), matches the given search query.
+     * The plain text tokens are matched against the given name.
+     *
+     * @param searchQuery the search query
+     * @param wynnItem    the item to check, or null if the item is only known by its name
+     * @param itemName    the name of the item, without formatting
+     * @return true if the item matches the search query, false otherwise
+     */
+    public boolean matches(ItemSearchQuery searchQuery, WynnItem wynnItem, String itemName) {
+        return getSearchPlan(searchQuery).matches(wynnItem, itemName);
     }
 
     /**
@@ -298,51 +301,7 @@ public class ItemFilterService extends Service {
      * @return the filtered and sorted list of items
      */
     public <T extends ItemStack> List<T> filterAndSort(ItemSearchQuery searchQuery, List<T> originalList) {
-        Stream<T> filteredList = originalList.stream().filter(itemStack -> matches(searchQuery, itemStack));
-
-        // Sorted stat providers must be filtered as "any" filters
-        filteredList = filteredList.filter(itemStack -> {
-            Optional<WynnItem> wynnItemOpt = Models.Item.getWynnItem(itemStack);
-            if (wynnItemOpt.isEmpty()) return false;
-
-            WynnItem wynnItem = wynnItemOpt.get();
-
-            for (SortInfo sortInfo : searchQuery.sorts()) {
-                ItemStatProvider<?> statProvider = sortInfo.provider();
-                if (statProvider.getValue(wynnItem).isEmpty()) {
-                    return false;
-                }
-            }
-
-            return true;
-        });
-
-        filteredList = filteredList.sorted((itemStack1, itemStack2) -> {
-            Optional<WynnItem> wynnItem1Opt = Models.Item.getWynnItem(itemStack1);
-            Optional<WynnItem> wynnItem2Opt = Models.Item.getWynnItem(itemStack2);
-
-            if (wynnItem1Opt.isEmpty() || wynnItem2Opt.isEmpty()) {
-                return 0;
-            }
-
-            WynnItem wynnItem1 = wynnItem1Opt.get();
-            WynnItem wynnItem2 = wynnItem2Opt.get();
-
-            for (SortInfo sortInfo : searchQuery.sorts()) {
-                int compare = sortInfo.provider().compare(wynnItem1, wynnItem2);
-
-                if (compare != 0) {
-                    return switch (sortInfo.direction()) {
-                        case ASCENDING -> -compare;
-                        case DESCENDING -> compare;
-                    };
-                }
-            }
-
-            return 0;
-        });
-
-        return filteredList.toList();
+        return getSearchPlan(searchQuery).filterAndSort(originalList);
     }
 
     /**
@@ -434,29 +393,15 @@ public class ItemFilterService extends Service {
         }
     }
 
-    /**
-     * Checks if the given item matches all filters. Tokens that are not filters in the search query are ignored. If no
-     * filters are present, this method always returns true.
-     *
-     * @param wynnItem the wynnItem version of the item
-     * @return true if the item matches all filters, false otherwise
-     */
-    private boolean filterMatches(ItemSearchQuery searchQuery, WynnItem wynnItem) {
-        return searchQuery.filters().matches(wynnItem);
-    }
+    private ItemSearchPlan getSearchPlan(ItemSearchQuery searchQuery) {
+        // The same query is usually matched against every item of a container, one item at a time
+        ItemSearchPlan searchPlan = lastSearchPlan;
+        if (searchPlan == null || searchPlan.getQuery() != searchQuery) {
+            searchPlan = ItemSearchPlan.compile(searchQuery);
+            lastSearchPlan = searchPlan;
+        }
 
-    /**
-     * Checks if the given item name contains the concatenated plain text tokens of the search query. The filter tokens
-     * in the search query are ignored. If there are no plain text tokens, this method always returns true.
-     *
-     * @param itemName the name to check
-     * @return true if the name contains the concatenated plain text tokens, false otherwise
-     */
-    private boolean itemNameMatches(ItemSearchQuery searchQuery, String itemName) {
-        return searchQuery.plainTextTokens().isEmpty()
-                || itemName.toLowerCase(Locale.ROOT)
-                        .contains(
-                                String.join(" ", searchQuery.plainTextTokens()).toLowerCase(Locale.ROOT));
+        return searchPlan;
     }
 
     private ErrorOr<List<SortInfo>> getStatSortOrder(
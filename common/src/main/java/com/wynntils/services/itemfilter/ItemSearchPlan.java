@@ -0,0 +1,213 @@
+/*
+ * Copyright © Wynntils 2026.
+ * This file is released under LGPLv3. See LICENSE for full license details.
+ */
+package com.wynntils.services.itemfilter;
+
+import com.wynntils.core.components.Models;
+import com.wynntils.core.text.StyledText;
+import com.wynntils.models.items.WynnItem;
+import com.wynntils.services.itemfilter.type.ItemSearchQuery;
+import com.wynntils.services.itemfilter.type.ItemStatProvider;
+import com.wynntils.services.itemfilter.type.SortDirection;
+import com.wynntils.services.itemfilter.type.SortInfo;
+import com.wynntils.services.itemfilter.type.StatFilter;
+import com.wynntils.services.itemfilter.type.StatProviderAndFilterPair;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import net.minecraft.world.item.ItemStack;
+
+/**
+ * A search query compiled for evaluating it against many items.
+ *
+ * The plain text tokens are joined and lowercased once. The item name is checked before the filters, as it is the
+ * cheapest check. The filters are grouped by stat provider, so each stat value is only computed once per item, and
+ * the groups which reject the most items are evaluated first. The sort keys of an item are computed once, before
+ * sorting, instead of on every comparison.
+ */
+final class ItemSearchPlan {
+    // The number of items to measure the selectivity of the filters on
+    private static final int SELECTIVITY_SAMPLE_SIZE = 64;
+
+    private final ItemSearchQuery query;
+    private final String nameQuery;
+    private final List<FilterGroup> filterGroups = new ArrayList<>();
+    private final ItemStatProvider<?>[] sortProviders;
+    private final boolean[] ascending;
+
+    private ItemSearchPlan(ItemSearchQuery query) {
+        this.query = query;
+        this.nameQuery = query.plainTextTokens().isEmpty()
+                ? null
+                : String.join(" ", query.plainTextTokens()).toLowerCase(Locale.ROOT);
+
+        query.filters().entries().forEach((statProvider, filters) -> filterGroups.add(new FilterGroup(
+                statProvider,
+                filters.stream().map(StatProviderAndFilterPair::statFilter).toList())));
+
+        List<SortInfo> sorts = query.sorts();
+        this.sortProviders = new ItemStatProvider<?>[sorts.size()];
+        this.ascending = new boolean[sorts.size()];
+        for (int i = 0; i < sorts.size(); i++) {
+            sortProviders[i] = sorts.get(i).provider();
+            ascending[i] = sorts.get(i).direction() == SortDirection.ASCENDING;
+        }
+    }
+
+    static ItemSearchPlan compile(ItemSearchQuery query) {
+        return new ItemSearchPlan(query);
+    }
+
+    ItemSearchQuery getQuery() {
+        return query;
+    }
+
+    boolean matches(ItemStack itemStack) {
+        if (query.isEmpty()) return true;
+        if (itemStack.isEmpty()) return false;
+
+        Optional<WynnItem> wynnItemOpt = Models.Item.getWynnItem(itemStack);
+        if (wynnItemOpt.isEmpty()) return false;
+
+        return nameMatches(itemStack) && filtersMatch(wynnItemOpt.get());
+    }
+
+    boolean matches(WynnItem wynnItem, String itemName) {
+        if (query.isEmpty()) return true;
+
+        if (nameQuery != null && !itemName.toLowerCase(Locale.ROOT).contains(nameQuery)) return false;
+
+        // Items only known by their name have no stats to filter
+        if (wynnItem == null) return filterGroups.isEmpty();
+
+        return filtersMatch(wynnItem);
+    }
+
+    <T extends ItemStack> List<T> filterAndSort(List<T> items) {
+        List<Candidate<T>> candidates = new ArrayList<>();
+        for (T itemStack : items) {
+            if (!query.isEmpty() && itemStack.isEmpty()) continue;
+
+            Optional<WynnItem> wynnItemOpt = Models.Item.getWynnItem(itemStack);
+            if (wynnItemOpt.isEmpty()) continue;
+            if (!nameMatches(itemStack)) continue;
+
+            candidates.add(new Candidate<>(itemStack, wynnItemOpt.get()));
+        }
+
+        orderFilterGroups(candidates);
+
+        // Stat providers cache their values on the items, and items can share their annotation,
+        // so the items must be evaluated on the calling thread
+        List<SortEntry<T>> entries = new ArrayList<>(candidates.size());
+        for (Candidate<T> candidate : candidates) {
+            SortEntry<T> entry = createSortEntry(candidate);
+            if (entry == null) continue;
+
+            entries.add(entry);
+        }
+
+        if (sortProviders.length > 0) {
+            entries.sort(this::compareSortKeys);
+        }
+
+        List<T> result = new ArrayList<>(entries.size());
+        for (SortEntry<T> entry : entries) {
+            result.add(entry.itemStack());
+        }
+        return result;
+    }
+
+    private <T extends ItemStack> SortEntry<T> createSortEntry(Candidate<T> candidate) {
+        if (!filtersMatch(candidate.wynnItem())) return null;
+
+        Comparable[] sortKeys = new Comparable[sortProviders.length];
+        for (int i = 0; i < sortProviders.length; i++) {
+            // Sorted stat providers must be filtered as "any" filters
+            Optional<? extends Comparable<?>> sortKey = sortProviders[i].getSortKey(candidate.wynnItem());
+            if (sortKey.isEmpty()) return null;
+
+            sortKeys[i] = sortKey.get();
+        }
+
+        return new SortEntry<>(candidate.itemStack(), sortKeys);
+    }
+
+    private int compareSortKeys(SortEntry<?> entry1, SortEntry<?> entry2) {
+        for (int i = 0; i < sortProviders.length; i++) {
+            int compare = entry1.sortKeys()[i].compareTo(entry2.sortKeys()[i]);
+
+            if (compare != 0) {
+                return ascending[i] ? compare : -compare;
+            }
+        }
+
+        return 0;
+    }
+
+    private boolean nameMatches(ItemStack itemStack) {
+        if (nameQuery == null) return true;
+
+        return StyledText.fromComponent(itemStack.getHoverName())
+                .getStringWithoutFormatting()
+                .toLowerCase(Locale.ROOT)
+                .contains(nameQuery);
+    }
+
+    private boolean filtersMatch(WynnItem wynnItem) {
+        for (FilterGroup filterGroup : filterGroups) {
+            if (!filterGroup.matches(wynnItem)) return false;
+        }
+
+        return true;
+    }
+
+    private void orderFilterGroups(List<? extends Candidate<?>> candidates) {
+        if (filterGroups.size() < 2) return;
+
+        int sampleSize = Math.min(candidates.size(), SELECTIVITY_SAMPLE_SIZE);
+        for (FilterGroup filterGroup : filterGroups) {
+            filterGroup.rejected = 0;
+            for (int i = 0; i < sampleSize; i++) {
+                if (!filterGroup.matches(candidates.get(i).wynnItem())) {
+                    filterGroup.rejected++;
+                }
+            }
+        }
+
+        filterGroups.sort(Comparator.comparingInt((FilterGroup filterGroup) -> filterGroup.rejected).reversed());
+    }
+
+    /**
+     * The filters of one stat provider, of which at least one must match.
+     */
+    private static final class FilterGroup {
+        private final ItemStatProvider<?> statProvider;
+        private final List<StatFilter> statFilters;
+
+        private int rejected;
+
+        private FilterGroup(ItemStatProvider<?> statProvider, List<StatFilter> statFilters) {
+            this.statProvider = statProvider;
+            this.statFilters = statFilters;
+        }
+
+        private boolean matches(WynnItem wynnItem) {
+            Optional<?> value = statProvider.getValue(wynnItem);
+            if (value.isEmpty()) return false;
+
+            for (StatFilter statFilter : statFilters) {
+                if (statFilter.matches(value.get())) return true;
+            }
+
+            return false;
+        }
+    }
+
+    private record Candidate<T extends ItemStack>(T itemStack, WynnItem wynnItem) {}
+
+    private record SortEntry<T extends ItemStack>(T itemStack, Comparable[] sortKeys) {}
+}
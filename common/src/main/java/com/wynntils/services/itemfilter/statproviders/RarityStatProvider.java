@@ -1,5 +1,5 @@
 /*
- * Copyright © Wynntils 2023-2024.
+ * Copyright © Wynntils 2023-2026.
  * This file is released under LGPLv3. See LICENSE for full license details.
  */
 package com.wynntils.services.itemfilter.statproviders;
@@ -33,6 +33,11 @@ public class RarityStatProvider extends ItemStatProvider<String> {
         return List.of(ItemProviderType.GEAR);
     }
 
+    @Override
+    public Optional<GearTier> getSortKey(WynnItem wynnItem) {
+        return getValue(wynnItem).map(value -> GearTier.valueOf(value.toUpperCase(Locale.ROOT)));
+    }
+
     @Override
     public int compare(WynnItem wynnItem1, WynnItem wynnItem2) {
         Optional<String> itemValue1 = this.getValue(wynnItem1);
@@ -1,5 +1,5 @@
 /*
- * Copyright © Wynntils 2024.
+ * Copyright © Wynntils 2024-2026.
  * This file is released under LGPLv3. See LICENSE for full license details.
  */
 package com.wynntils.services.itemfilter.statproviders.territory;
@@ -27,6 +27,13 @@ public class TerritoryDefenseStatProvider extends TerritoryStatProvider<String>
                 .toList();
     }
 
+    @Override
+    public Optional<GuildResourceValues> getSortKey(WynnItem wynnItem) {
+        return getValue(wynnItem)
+                .map(value -> GuildResourceValues.valueOf(
+                        CaseFormat.UPPER_CAMEL.to(CaseFormat.UPPER_UNDERSCORE, value).toUpperCase(Locale.ROOT)));
+    }
+
     @Override
     public int compare(WynnItem wynnItem1, WynnItem wynnItem2) {
         Optional<String> itemValue1 = this.getValue((TerritoryItem) wynnItem1);
@@ -1,5 +1,5 @@
 /*
- * Copyright © Wynntils 2023-2025.
+ * Copyright © Wynntils 2023-2026.
  * This file is released under LGPLv3. See LICENSE for full license details.
  */
 package com.wynntils.services.itemfilter.type;
@@ -29,6 +29,17 @@ public abstract class ItemStatProvider<T extends Comparable<T>> implements Trans
      */
     public abstract Optional<T> getValue(WynnItem wynnItem);
 
+    /**
+     * Returns the key to sort the given item by. Items are sorted the same way as by {@link #compare}, by comparing
+     * their keys in reverse, so providers which override {@link #compare} must override this method too.
+     *
+     * @param wynnItem The item to get the sort key for
+     * @return The sort key for the given item, or an empty optional if the item has no value for this stat
+     */
+    public Optional<? extends Comparable<?>> getSortKey(WynnItem wynnItem) {
+        return getValue(wynnItem);
+    }
+
     public List<String> getValidInputs() {
         return List.of();
     }
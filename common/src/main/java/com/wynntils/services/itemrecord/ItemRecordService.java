@@ -1,5 +1,5 @@
 /*
- * Copyright © Wynntils 2024-2025.
+ * Copyright © Wynntils 2024-2026.
  * This file is released under LGPLv3. See LICENSE for full license details.
  */
 package com.wynntils.services.itemrecord;
@@ -14,6 +14,7 @@ import com.wynntils.models.items.WynnItem;
 import com.wynntils.services.itemrecord.type.SavedItem;
 import com.wynntils.utils.mc.KeyboardUtils;
 import com.wynntils.utils.mc.McUtils;
+import com.wynntils.utils.type.ErrorOr;
 import com.wynntils.utils.type.Pair;
 import java.util.ArrayList;
 import java.util.List;
@@ -165,10 +166,9 @@ public class ItemRecordService extends Service {
         // Try to remove all invalid items
         List<SavedItem> itemsToRemove = new ArrayList<>();
         for (SavedItem savedItem : savedItems.get()) {
-            try {
-                savedItem.wynnItem();
-            } catch (Exception e) {
-                WynntilsMod.warn("Removing invalid item from item record: " + savedItem.base64(), e);
+            String error = getDecodingError(savedItem);
+            if (error != null) {
+                WynntilsMod.warn("Removing invalid item from item record: " + savedItem.base64() + " (" + error + ")");
                 itemsToRemove.add(savedItem);
                 faultyItems.get().add(savedItem);
             }
@@ -177,11 +177,8 @@ public class ItemRecordService extends Service {
         // Check if the mod can decode faulty items
         List<SavedItem> itemsToReadd = new ArrayList<>();
         for (SavedItem faultyItem : faultyItems.get()) {
-            try {
-                faultyItem.wynnItem();
+            if (getDecodingError(faultyItem) == null) {
                 itemsToReadd.add(faultyItem);
-            } catch (Exception e) {
-                // continue, we still can't decode this item
             }
         }
 
@@ -207,6 +204,16 @@ public class ItemRecordService extends Service {
                 .withStyle(ChatFormatting.YELLOW));
     }
 
+    private static String getDecodingError(SavedItem savedItem) {
+        // Decoding errors are returned rather than thrown, so only unexpected failures need to be caught
+        try {
+            ErrorOr<WynnItem> errorOrWynnItem = savedItem.decodeWynnItem();
+            return errorOrWynnItem.hasError() ? errorOrWynnItem.getError() : null;
+        } catch (Exception e) {
+            return e.toString();
+        }
+    }
+
     private SavedItem getItem(String base64) {
         for (SavedItem savedItem : savedItems.get()) {
             if (savedItem.base64().equals(base64)) {
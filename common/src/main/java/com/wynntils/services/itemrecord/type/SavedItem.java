@@ -51,8 +51,7 @@ public record SavedItem(String base64, Set<String> categories, ItemStack itemSta
      * Note that this can't be done during deserialization because the models might not have finished loading yet
      */
     public WynnItem wynnItem() {
-        ErrorOr<WynnItem> errorOrWynnItem =
-                Models.ItemEncoding.decodeItem(EncodedByteBuffer.fromBase64String(base64), null);
+        ErrorOr<WynnItem> errorOrWynnItem = decodeWynnItem();
 
         if (errorOrWynnItem.hasError()) {
             throw new IllegalStateException(
@@ -62,6 +61,20 @@ public record SavedItem(String base64, Set<String> categories, ItemStack itemSta
         return errorOrWynnItem.getValue();
     }
 
+    /**
+     * Decodes the wynnItem represented by this SavedItem, without throwing if it can't be decoded
+     */
+    public ErrorOr<WynnItem> decodeWynnItem() {
+        EncodedByteBuffer encodedByteBuffer;
+        try {
+            encodedByteBuffer = EncodedByteBuffer.fromBase64String(base64);
+        } catch (IllegalArgumentException e) {
+            return ErrorOr.error("Invalid base64: " + e.getMessage());
+        }
+
+        return Models.ItemEncoding.decodeItem(encodedByteBuffer, null);
+    }
+
     @Override
     public int compareTo(SavedItem other) {
         return this.base64.compareTo(other.base64);
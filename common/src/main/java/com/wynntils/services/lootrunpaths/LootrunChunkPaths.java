@@ -0,0 +1,125 @@
+/*
+ * Copyright © Wynntils 2026.
+ * This file is released under LGPLv3. See LICENSE for full license details.
+ */
+package com.wynntils.services.lootrunpaths;
+
+import com.wynntils.services.lootrunpaths.type.ColoredPath;
+import com.wynntils.services.lootrunpaths.type.ColoredPosition;
+import com.wynntils.utils.MathUtils;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import net.minecraft.world.level.ChunkPos;
+import net.minecraft.world.phys.Vec3;
+
+/**
+ * Splits the positions of a lootrun path into the paths in each chunk, as used by {@link LootrunPathInstance#points()}.
+ *
+ * Positions are appended to the end of the path. The positions appended after {@link #mark()} can be removed again
+ * with {@link #rollback()}, so a recorded lootrun can append the samples at the end of its path which still change,
+ * and replace them on its next compilation instead of splitting the whole path again.
+ */
+final class LootrunChunkPaths {
+    // Positions in different chunks are only connected when they are closer than this
+    private static final double MAX_CONNECT_DISTANCE = 32;
+
+    private final Long2ObjectMap<List<ColoredPath>> pathsByChunk = new Long2ObjectOpenHashMap<>();
+    // Undoes the changes made after the mark, most recent first
+    private final Deque<Runnable> undoLog = new ArrayDeque<>();
+
+    private ColoredPath lastPath;
+    private long lastChunk;
+    private Vec3 lastPosition;
+    private int positionCount;
+
+    private boolean marked;
+    private ColoredPath markedPath;
+    private long markedChunk;
+    private Vec3 markedPosition;
+    private int markedPositionCount;
+
+    void add(ColoredPosition coloredPosition) {
+        Vec3 position = coloredPosition.position();
+        long chunk = ChunkPos.asLong(MathUtils.floor(position.x()) >> 4, MathUtils.floor(position.z()) >> 4);
+
+        if (lastPath == null || chunk != lastChunk) {
+            if (lastPath != null && position.distanceTo(lastPosition) < MAX_CONNECT_DISTANCE) {
+                addToPath(lastPath, coloredPosition);
+            }
+
+            List<ColoredPath> chunkPaths = pathsByChunk.get(chunk);
+            if (chunkPaths == null) {
+                chunkPaths = new ArrayList<>();
+                pathsByChunk.put(chunk, chunkPaths);
+                logUndo(() -> pathsByChunk.remove(chunk));
+            }
+
+            ColoredPath path = new ColoredPath(new ArrayList<>());
+            chunkPaths.add(path);
+            List<ColoredPath> addedTo = chunkPaths;
+            logUndo(addedTo::removeLast);
+
+            lastPath = path;
+            lastChunk = chunk;
+        }
+
+        addToPath(lastPath, coloredPosition);
+        lastPosition = position;
+        positionCount++;
+    }
+
+    /**
+     * Remembers the current end of the path, so the positions added after it can be removed with {@link #rollback()}.
+     */
+    void mark() {
+        undoLog.clear();
+        marked = true;
+        markedPath = lastPath;
+        markedChunk = lastChunk;
+        markedPosition = lastPosition;
+        markedPositionCount = positionCount;
+    }
+
+    /**
+     * Removes the positions added since the last {@link #mark()}, if any.
+     */
+    void rollback() {
+        if (!marked) return;
+
+        while (!undoLog.isEmpty()) {
+            undoLog.pop().run();
+        }
+
+        marked = false;
+        lastPath = markedPath;
+        lastChunk = markedChunk;
+        lastPosition = markedPosition;
+        positionCount = markedPositionCount;
+    }
+
+    /**
+     * @return the number of positions which were added, and not rolled back
+     */
+    int getPositionCount() {
+        return positionCount;
+    }
+
+    Long2ObjectMap<List<ColoredPath>> getPathsByChunk() {
+        return pathsByChunk;
+    }
+
+    private void addToPath(ColoredPath path, ColoredPosition position) {
+        path.points().add(position);
+        logUndo(path.points()::removeLast);
+    }
+
+    private void logUndo(Runnable undo) {
+        if (marked) {
+            undoLog.push(undo);
+        }
+    }
+}
@@ -10,7 +10,6 @@ import com.wynntils.services.lootrunpaths.type.ColoredPath;
 import com.wynntils.services.lootrunpaths.type.ColoredPosition;
 import com.wynntils.services.lootrunpaths.type.LootrunNote;
 import com.wynntils.services.lootrunpaths.type.LootrunPath;
-import com.wynntils.utils.MathUtils;
 import com.wynntils.utils.mc.PosUtils;
 import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
 import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
@@ -22,8 +21,6 @@ import java.util.Set;
 import net.minecraft.ChatFormatting;
 import net.minecraft.core.BlockPos;
 import net.minecraft.util.ARGB;
-import net.minecraft.util.BoundedFloatFunction;
-import net.minecraft.util.CubicSpline;
 import net.minecraft.world.level.ChunkPos;
 import net.minecraft.world.phys.Vec3;
 import org.joml.Vector2d;
@@ -39,7 +36,41 @@ public final class LootrunCompiler {
             ChatFormatting.DARK_PURPLE.getColor());
 
     public static LootrunPathInstance compile(UncompiledLootrunPath uncompiled, boolean recording) {
-        Long2ObjectMap<List<ColoredPath>> points = generatePointsByChunk(uncompiled.path(), recording);
+        // Only lootruns from files are loaded again later, so only their samples are worth caching
+        List<float[]> samples = recording || uncompiled.file() == null
+                ? LootrunSampler.sample(uncompiled.path().points())
+                : LootrunSampleCache.getSamples(uncompiled.path().points());
+        return compile(uncompiled, recording, generatePointsByChunk(samples, recording));
+    }
+
+    /**
+     * Compiles a lootrun while it is being recorded, only sampling the points added since the last compilation and
+     * only appending the new samples to the paths by chunk.
+     */
+    static LootrunPathInstance compileRecording(UncompiledLootrunPath uncompiled, RecordingInformation information) {
+        LootrunSampler sampler = information.getSampler();
+        LootrunChunkPaths chunkPaths = information.getChunkPaths();
+        sampler.addPoints(uncompiled.path().points());
+
+        // The samples after the stable ones change when points are added, so they are replaced every time
+        chunkPaths.rollback();
+        int stableCount = sampler.getStableSampleCount();
+        int pathColor = Managers.Feature.getFeatureInstance(LootrunFeature.class)
+                .recordingPathColor
+                .get()
+                .asInt();
+        sampler.forEachSample(chunkPaths.getPositionCount(), (index, x, y, z) -> {
+            if (index == stableCount) {
+                chunkPaths.mark();
+            }
+            chunkPaths.add(new ColoredPosition(new Vec3(x, y, z), pathColor));
+        });
+
+        return compile(uncompiled, true, chunkPaths.getPathsByChunk());
+    }
+
+    private static LootrunPathInstance compile(
+            UncompiledLootrunPath uncompiled, boolean recording, Long2ObjectMap<List<ColoredPath>> points) {
         Long2ObjectMap<Set<BlockPos>> chests = getChests(uncompiled.chests());
         Long2ObjectMap<List<LootrunNote>> notes = getNotes(uncompiled.notes());
 
@@ -60,68 +91,15 @@ public final class LootrunCompiler {
         return uncompiled.file().getName().replace(".json", "");
     }
 
-    private static List<LootrunPath> sample(LootrunPath raw, float sampleRate) {
-        List<LootrunPath> positions = new ArrayList<>();
-        LootrunPath currentPositions = new LootrunPath(new ArrayList<>());
-        positions.add(currentPositions);
-        for (Vec3 element : raw.points()) {
-            if (!currentPositions.points().isEmpty()
-                    && currentPositions.points().getLast().distanceTo(element) >= 32) {
-                currentPositions = new LootrunPath(new ArrayList<>());
-                positions.add(currentPositions);
-            }
-            currentPositions.points().add(element);
-        }
-
-        List<LootrunPath> result = new ArrayList<>();
-        for (LootrunPath current : positions) {
-            float distance = 0f;
-            CubicSpline.Builder<Float, BoundedFloatFunction<Float>> builderX =
-                    CubicSpline.builder(BoundedFloatFunction.IDENTITY);
-            CubicSpline.Builder<Float, BoundedFloatFunction<Float>> builderY =
-                    CubicSpline.builder(BoundedFloatFunction.IDENTITY);
-            CubicSpline.Builder<Float, BoundedFloatFunction<Float>> builderZ =
-                    CubicSpline.builder(BoundedFloatFunction.IDENTITY);
-            for (int i = 0; i < current.points().size(); i++) {
-                Vec3 position = current.points().get(i);
-                if (i > 0) {
-                    distance += current.points().get(i - 1).distanceTo(position);
-                }
-
-                float slopeX = 0f;
-                float slopeY = 0f;
-                float slopeZ = 0f;
-                if (i < current.points().size() - 1) {
-                    Vec3 next = current.points().get(i + 1);
-                    slopeX = (float) ((next.x - position.x) / position.distanceTo(next));
-                    slopeY = (float) ((next.y - position.y) / position.distanceTo(next));
-                    slopeZ = (float) ((next.z - position.z) / position.distanceTo(next));
-                }
-                builderX.addPoint(distance, (float) position.x, slopeX);
-                builderY.addPoint(distance, (float) position.y, slopeY);
-                builderZ.addPoint(distance, (float) position.z, slopeZ);
-            }
-            CubicSpline<Float, BoundedFloatFunction<Float>> splineX = builderX.build();
-            CubicSpline<Float, BoundedFloatFunction<Float>> splineY = builderY.build();
-            CubicSpline<Float, BoundedFloatFunction<Float>> splineZ = builderZ.build();
-
-            LootrunPath newResult = new LootrunPath(new ArrayList<>());
-            for (float i = 0f; i < distance; i += (1f / sampleRate)) {
-                newResult.points().add(new Vec3(splineX.apply(i), splineY.apply(i), splineZ.apply(i)));
-            }
-            result.add(newResult);
-        }
-        return result;
-    }
-
-    private static Long2ObjectMap<List<ColoredPath>> generatePointsByChunk(LootrunPath raw, boolean recording) {
-        float sampleRate = 10f;
-
-        List<List<Vec3>> sampled =
-                sample(raw, sampleRate).stream().map(LootrunPath::points).toList();
-        List<Vec3> positions = sampled.stream().flatMap(List::stream).toList();
+    private static Long2ObjectMap<List<ColoredPath>> generatePointsByChunk(List<float[]> samples, boolean recording) {
+        LootrunFeature lootrunFeature = Managers.Feature.getFeatureInstance(LootrunFeature.class);
+        boolean rainbow = lootrunFeature.rainbowLootRun.get() && !recording;
+        int cycle = 10 * lootrunFeature.cycleDistance.get();
+        int pathColor = recording
+                ? lootrunFeature.recordingPathColor.get().asInt()
+                : lootrunFeature.activePathColor.get().asInt();
 
-        ColoredPath locationsList = new ColoredPath(new ArrayList<>());
+        LootrunChunkPaths chunkPaths = new LootrunChunkPaths();
 
         Iterator<Integer> colorIterator = COLORS.iterator();
         Integer nextColor = colorIterator.next();
@@ -131,79 +109,41 @@ public final class LootrunCompiler {
         float differenceGreen = 0;
         float differenceBlue = 0;
 
-        for (int i = 0; i < positions.size(); i++) {
-            Vec3 position = positions.get(i);
-
-            if (Managers.Feature.getFeatureInstance(LootrunFeature.class)
-                            .rainbowLootRun
-                            .get()
-                    && !recording) {
-                int cycleDistance = Managers.Feature.getFeatureInstance(LootrunFeature.class)
-                        .cycleDistance
-                        .get();
-                int cycle = 10 * cycleDistance;
-                int parts = i % cycle;
-                float done = (float) parts / (float) cycle;
-
-                int usedColor;
-                if (parts == 0) {
-                    currentColor = nextColor;
-                    if (!colorIterator.hasNext()) {
-                        colorIterator = COLORS.iterator();
+        int i = 0;
+        for (float[] segment : samples) {
+            for (int offset = 0; offset < segment.length; offset += 3, i++) {
+                Vec3 position = new Vec3(segment[offset], segment[offset + 1], segment[offset + 2]);
+
+                if (rainbow) {
+                    int parts = i % cycle;
+                    float done = (float) parts / (float) cycle;
+
+                    int usedColor;
+                    if (parts == 0) {
+                        currentColor = nextColor;
+                        if (!colorIterator.hasNext()) {
+                            colorIterator = COLORS.iterator();
+                        }
+                        nextColor = colorIterator.next();
+                        differenceRed = (float) (ARGB.red(nextColor) - ARGB.red(currentColor));
+                        differenceGreen = (float) (ARGB.green(nextColor) - ARGB.green(currentColor));
+                        differenceBlue = (float) (ARGB.blue(nextColor) - ARGB.blue(currentColor));
+                        usedColor = currentColor;
+                    } else {
+                        usedColor = currentColor;
+                        usedColor += (0x010000) * (int) (differenceRed * done);
+                        usedColor += (0x000100) * (int) (differenceGreen * done);
+                        usedColor += (int) (differenceBlue * done);
                     }
-                    nextColor = colorIterator.next();
-                    differenceRed = (float) (ARGB.red(nextColor) - ARGB.red(currentColor));
-                    differenceGreen = (float) (ARGB.green(nextColor) - ARGB.green(currentColor));
-                    differenceBlue = (float) (ARGB.blue(nextColor) - ARGB.blue(currentColor));
-                    usedColor = currentColor;
+
+                    chunkPaths.add(new ColoredPosition(position, usedColor | 0xff000000));
                 } else {
-                    usedColor = currentColor;
-                    usedColor += (0x010000) * (int) (differenceRed * done);
-                    usedColor += (0x000100) * (int) (differenceGreen * done);
-                    usedColor += (int) (differenceBlue * done);
+                    chunkPaths.add(new ColoredPosition(position, pathColor));
                 }
-
-                locationsList.points().add(new ColoredPosition(position, usedColor | 0xff000000));
-            } else {
-                locationsList
-                        .points()
-                        .add(new ColoredPosition(
-                                position,
-                                recording
-                                        ? Managers.Feature.getFeatureInstance(LootrunFeature.class)
-                                                .recordingPathColor
-                                                .get()
-                                                .asInt()
-                                        : Managers.Feature.getFeatureInstance(LootrunFeature.class)
-                                                .activePathColor
-                                                .get()
-                                                .asInt()));
             }
         }
 
-        ColoredPath lastLocationList = null;
-        Long2ObjectMap<List<ColoredPath>> sampleByChunk = new Long2ObjectOpenHashMap<>();
-        ChunkPos lastChunkPos = null;
-        for (int i = 0; i < locationsList.points().size(); i++) {
-            Vec3 position = locationsList.points().get(i).position();
-            ChunkPos currentChunkPos =
-                    new ChunkPos(MathUtils.floor(position.x()) >> 4, MathUtils.floor(position.z()) >> 4);
-            if (!currentChunkPos.equals(lastChunkPos)) {
-                if (lastChunkPos != null
-                        && position.distanceTo(locationsList.points().get(i - 1).position()) < 32) {
-                    lastLocationList.points().add(locationsList.points().get(i));
-                }
-
-                lastChunkPos = currentChunkPos;
-                sampleByChunk.putIfAbsent(ChunkPos.asLong(currentChunkPos.x, currentChunkPos.z), new ArrayList<>());
-                lastLocationList = new ColoredPath(new ArrayList<>());
-                sampleByChunk
-                        .get(ChunkPos.asLong(currentChunkPos.x, currentChunkPos.z))
-                        .add(lastLocationList);
-            }
-            lastLocationList.points().add(locationsList.points().get(i));
-        }
-        return sampleByChunk;
+        return chunkPaths.getPathsByChunk();
     }
 
     private static List<Vector2d> generateSimplifiedPoints(LootrunPath raw, double tolerance) {
@@ -214,11 +154,18 @@ public final class LootrunCompiler {
             points.add(new Vector2d(point.x, point.z));
         }
 
-        return simplify(points, tolerance);
+        return simplify(points, tolerance, LootrunCompiler::pointLineDistance);
+    }
+
+    /**
+     * Simplifies a path for rendering it at a distance. Unlike the map path, the height of the points is kept.
+     */
+    static ColoredPath simplifyPath(ColoredPath path, double tolerance) {
+        return new ColoredPath(simplify(path.points(), tolerance, LootrunCompiler::positionLineDistance));
     }
 
     // Douglas-Peucker implementation for shape simplification
-    private static List<Vector2d> simplify(List<Vector2d> points, double epsilon) {
+    private static <T> List<T> simplify(List<T> points, double epsilon, LineDistanceFunction<T> lineDistance) {
         // can't simplify the shape when having too few points, so return it as it is
         if (points.size() < 3) {
             return points;
@@ -230,19 +177,19 @@ public final class LootrunCompiler {
 
         // find the farthest point for splitting
         for (int i = 1; i < end; i++) {
-            double d = pointLineDistance(points.get(i), points.getFirst(), points.get(end));
+            double d = lineDistance.distance(points.get(i), points.getFirst(), points.get(end));
             if (d > dist) {
                 dist = d;
                 index = i;
             }
         }
 
-        List<Vector2d> simplified = new ArrayList<>();
+        List<T> simplified = new ArrayList<>();
 
         // split list with the farthest point and simplify both sublist recursively if distance is greater than epsilon
         if (dist > epsilon) {
-            List<Vector2d> left = simplify(points.subList(0, index + 1), epsilon);
-            List<Vector2d> right = simplify(points.subList(index, end + 1), epsilon);
+            List<T> left = simplify(points.subList(0, index + 1), epsilon, lineDistance);
+            List<T> right = simplify(points.subList(index, end + 1), epsilon, lineDistance);
             simplified.addAll(left.subList(0, left.size() - 1));
             simplified.addAll(right);
         } else {
@@ -272,6 +219,18 @@ public final class LootrunCompiler {
         return closestPoint.distance(point);
     }
 
+    private static double positionLineDistance(
+            ColoredPosition point, ColoredPosition lineStart, ColoredPosition lineEnd) {
+        Vec3 delta = point.position().subtract(lineStart.position());
+        Vec3 lineDelta = lineEnd.position().subtract(lineStart.position());
+
+        double lengthSquared = lineDelta.lengthSqr();
+        double param = lengthSquared == 0 ? 0 : delta.dot(lineDelta) / lengthSquared;
+
+        Vec3 closestPoint = lineStart.position().add(lineDelta.scale(Math.clamp(param, 0, 1)));
+        return closestPoint.distanceTo(point.position());
+    }
+
     private static Long2ObjectMap<Set<BlockPos>> getChests(Set<BlockPos> chests) {
         Long2ObjectMap<Set<BlockPos>> result = new Long2ObjectOpenHashMap<>();
         for (BlockPos pos : chests) {
@@ -290,4 +249,9 @@ public final class LootrunCompiler {
         }
         return result;
     }
+
+    @FunctionalInterface
+    private interface LineDistanceFunction<T> {
+        double distance(T point, T lineStart, T lineEnd);
+    }
 }
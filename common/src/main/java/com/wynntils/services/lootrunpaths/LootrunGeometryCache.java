@@ -0,0 +1,393 @@
+/*
+ * Copyright © Wynntils 2026.
+ * This file is released under LGPLv3. See LICENSE for full license details.
+ */
+package com.wynntils.services.lootrunpaths;
+
+import com.mojang.blaze3d.vertex.VertexConsumer;
+import com.wynntils.features.LootrunFeature;
+import com.wynntils.services.lootrunpaths.type.BlockValidness;
+import com.wynntils.services.lootrunpaths.type.ColoredPath;
+import com.wynntils.services.lootrunpaths.type.ColoredPosition;
+import com.wynntils.services.lootrunpaths.type.LootrunNote;
+import com.wynntils.utils.mc.PosUtils;
+import com.wynntils.utils.type.Pair;
+import it.unimi.dsi.fastutil.floats.FloatArrayList;
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import it.unimi.dsi.fastutil.longs.LongSet;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.Position;
+import net.minecraft.world.level.ChunkPos;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.phys.Vec3;
+import org.joml.Matrix4f;
+import org.joml.Quaternionf;
+import org.joml.Vector3f;
+
+/**
+ * The path geometry of a lootrun, built once per loaded chunk instead of every frame.
+ *
+ * Building the geometry checks the blocks below every point, which is by far the most expensive part of
+ * rendering a lootrun. The vertices are kept in world space, so drawing them only needs the camera transform.
+ * A chunk is rebuilt when it is loaded again, or when the server changes blocks in it, since the blocks below the
+ * path may have changed.
+ *
+ * Chunks far away from the camera use coarse geometry, built from the simplified path of each chunk.
+ */
+final class LootrunGeometryCache {
+    // The distance between the points of textured paths which are drawn, as drawing every point would overlap
+    private static final int TEXTURED_POINT_STEP = 10;
+    // Notes are drawn above and around their position, so chunk bounds are widened by this much
+    private static final float BOUNDS_PADDING = 4f;
+    // How far coarse paths may be from the actual path, in blocks
+    private static final double COARSE_PATH_TOLERANCE = 0.25;
+    // The distance between the points of coarse textured paths, which puts twice as much space between the quads
+    private static final double COARSE_TEXTURED_POINT_SPACING = 0.2;
+
+    private final LootrunPathInstance lootrun;
+    private final LongSet chunks;
+    private final Long2ObjectMap<ChunkGeometry> geometries = new Long2ObjectOpenHashMap<>();
+    private final Long2ObjectMap<ChunkGeometry> coarseGeometries = new Long2ObjectOpenHashMap<>();
+
+    private Level level;
+    private LootrunFeature.PathType pathType;
+
+    LootrunGeometryCache(LootrunPathInstance lootrun) {
+        this.lootrun = lootrun;
+
+        chunks = new LongOpenHashSet(lootrun.points().keySet());
+        chunks.addAll(lootrun.chests().keySet());
+        chunks.addAll(lootrun.notes().keySet());
+    }
+
+    /**
+     * Drops all geometry if it was built for another level or path type.
+     */
+    void prepare(Level level, LootrunFeature.PathType pathType) {
+        if (this.level != level || this.pathType != pathType) {
+            geometries.clear();
+            coarseGeometries.clear();
+            this.level = level;
+            this.pathType = pathType;
+        }
+    }
+
+    /**
+     * @return the chunks with any path points, chests or notes of the lootrun
+     */
+    LongSet getChunks() {
+        return chunks;
+    }
+
+    ChunkGeometry get(long chunkLong, boolean detailed) {
+        Long2ObjectMap<ChunkGeometry> cache = detailed ? geometries : coarseGeometries;
+
+        ChunkGeometry geometry = cache.get(chunkLong);
+        if (geometry == null) {
+            geometry = build(chunkLong, detailed);
+            cache.put(chunkLong, geometry);
+        }
+        return geometry;
+    }
+
+    void invalidate(long chunkLong) {
+        geometries.remove(chunkLong);
+        coarseGeometries.remove(chunkLong);
+    }
+
+    private ChunkGeometry build(long chunkLong, boolean detailed) {
+        GeometryBuilder builder = new GeometryBuilder(pathType == LootrunFeature.PathType.TEXTURED);
+
+        List<ColoredPath> paths = lootrun.points().get(chunkLong);
+        if (paths != null) {
+            for (ColoredPath path : paths) {
+                ColoredPath pathToBuild = detailed ? path : getCoarsePath(path, builder.textured);
+
+                if (builder.textured) {
+                    buildTexturedPath(builder, pathToBuild);
+                } else {
+                    buildLinePath(builder, pathToBuild);
+                }
+            }
+        }
+
+        Set<BlockPos> chests = lootrun.chests().get(chunkLong);
+        if (chests != null) {
+            for (BlockPos chest : chests) {
+                builder.includeHeight(chest.getY());
+                builder.includeHeight(chest.getY() + 1);
+            }
+        }
+
+        List<LootrunNote> notes = lootrun.notes().get(chunkLong);
+        if (notes != null) {
+            for (LootrunNote note : notes) {
+                builder.includeHeight((float) note.position().y() + 2);
+            }
+        }
+
+        return builder.build(ChunkPos.getX(chunkLong), ChunkPos.getZ(chunkLong));
+    }
+
+    private static ColoredPath getCoarsePath(ColoredPath path, boolean textured) {
+        List<ColoredPosition> points = LootrunCompiler.simplifyPath(path, COARSE_PATH_TOLERANCE).points();
+        List<ColoredPosition> coarsePoints = new ArrayList<>();
+
+        for (int i = 0; i < points.size() - 1; i++) {
+            ColoredPosition start = points.get(i);
+            ColoredPosition end = points.get(i + 1);
+
+            if (textured) {
+                // Textured paths only use some of their points, so the simplified lines are filled with points again
+                Vec3 delta = end.position().subtract(start.position());
+                double length = delta.length();
+                for (double distance = 0; distance < length; distance += COARSE_TEXTURED_POINT_SPACING) {
+                    Vec3 position = start.position().add(delta.scale(distance / length));
+                    coarsePoints.add(new ColoredPosition(position, start.color()));
+                }
+            } else {
+                // Line vertices are paired into segments, so every simplified line needs both of its points
+                coarsePoints.add(start);
+                coarsePoints.add(end);
+            }
+        }
+
+        if (textured && !points.isEmpty()) {
+            coarsePoints.add(points.getLast());
+        }
+
+        return new ColoredPath(coarsePoints);
+    }
+
+    private void buildLinePath(GeometryBuilder builder, ColoredPath path) {
+        List<ColoredPosition> toRender = new ArrayList<>();
+        boolean pauseDraw = false;
+        boolean batchEnded = false;
+        BlockPos lastBlockPos = null;
+
+        for (ColoredPosition point : path.points()) {
+            BlockPos blockPos = PosUtils.newBlockPos(point.position());
+
+            if (blockPos.equals(lastBlockPos)) { // Do not recalculate block validness
+                if (!toRender.isEmpty()) {
+                    toRender.add(point);
+                }
+            } else {
+                BlockValidness blockValidness = BlockValidness.checkBlockValidness(level, point);
+
+                if (blockValidness == BlockValidness.VALID) {
+                    pauseDraw = false;
+                    batchEnded = false;
+                    toRender.forEach(builder::addLineVertex);
+                    toRender.clear();
+                } else if (blockValidness == BlockValidness.HAS_BARRIER) {
+                    pauseDraw = true;
+                    toRender.clear();
+                } else {
+                    pauseDraw = false;
+                    toRender.add(point);
+                    continue;
+                }
+            }
+
+            lastBlockPos = blockPos;
+
+            if (!pauseDraw) {
+                builder.addLineVertex(point);
+            } else if (!batchEnded) {
+                builder.endLines();
+                batchEnded = true;
+            }
+        }
+
+        if (!batchEnded) {
+            toRender.forEach(builder::addLineVertex);
+        }
+        builder.endLines();
+    }
+
+    private void buildTexturedPath(GeometryBuilder builder, ColoredPath path) {
+        List<ColoredPosition> points = path.points();
+        List<Pair<ColoredPosition, ColoredPosition>> toRender = new ArrayList<>();
+        boolean pauseDraw = false;
+        boolean batchEnded = false;
+        BlockPos lastBlockPos = null;
+
+        for (int i = 0; i < points.size() - 1; i += TEXTURED_POINT_STEP) {
+            ColoredPosition point = points.get(i);
+            BlockPos blockPos = PosUtils.newBlockPos(point.position());
+
+            ColoredPosition end = points.get(Math.min(points.size() - 1, i + 1));
+            Pair<ColoredPosition, ColoredPosition> pointPair = new Pair<>(point, end);
+
+            if (blockPos.equals(lastBlockPos)) { // Do not recalculate block validness
+                if (!toRender.isEmpty()) {
+                    toRender.add(pointPair);
+                }
+            } else {
+                BlockValidness blockValidness = BlockValidness.checkBlockValidness(level, point);
+
+                if (blockValidness == BlockValidness.VALID) {
+                    pauseDraw = false;
+                    batchEnded = false;
+                    toRender.forEach(builder::addQuad);
+                    toRender.clear();
+                } else if (blockValidness == BlockValidness.HAS_BARRIER) {
+                    pauseDraw = true;
+                    toRender.clear();
+                } else {
+                    pauseDraw = false;
+                    toRender.add(pointPair);
+                    continue;
+                }
+            }
+
+            lastBlockPos = blockPos;
+
+            if (!pauseDraw) {
+                builder.addQuad(pointPair);
+            } else {
+                batchEnded = true;
+            }
+        }
+
+        if (!batchEnded) {
+            toRender.forEach(builder::addQuad);
+        }
+    }
+
+    /**
+     * The vertices of the path in a chunk, and the bounds of everything in the chunk for culling.
+     *
+     * Line paths have one vertex per point, in pairs forming the line segments. Textured paths have four
+     * vertices per quad, with the texture coordinates being the same for every quad.
+     */
+    record ChunkGeometry(
+            boolean textured,
+            float[] positions,
+            int[] colors,
+            float minX,
+            float minY,
+            float minZ,
+            float maxX,
+            float maxY,
+            float maxZ) {
+        private static final float[] QUAD_U = {0, 0, 1, 1};
+        private static final float[] QUAD_V = {1, 0, 0, 1};
+
+        boolean isEmpty() {
+            return colors.length == 0;
+        }
+
+        void render(VertexConsumer consumer, Matrix4f pose) {
+            for (int i = 0; i < colors.length; i++) {
+                float x = positions[i * 3];
+                float y = positions[i * 3 + 1];
+                float z = positions[i * 3 + 2];
+
+                if (textured) {
+                    consumer.addVertex(pose, x, y, z).setUv(QUAD_U[i & 3], QUAD_V[i & 3]).setColor(colors[i]);
+                } else {
+                    consumer.addVertex(pose, x, y, z)
+                            .setColor(colors[i])
+                            .setNormal(0, 0, 1)
+                            .setLineWidth(3);
+                }
+            }
+        }
+    }
+
+    private static final class GeometryBuilder {
+        private final boolean textured;
+        private final FloatArrayList positions = new FloatArrayList();
+        private final IntArrayList colors = new IntArrayList();
+        // Line vertices are paired into segments, so each run of lines must have an even number of vertices
+        private int lineRunStart = 0;
+        private float minY = Float.POSITIVE_INFINITY;
+        private float maxY = Float.NEGATIVE_INFINITY;
+
+        private GeometryBuilder(boolean textured) {
+            this.textured = textured;
+        }
+
+        private void addLineVertex(ColoredPosition coloredPosition) {
+            Position position = coloredPosition.position();
+            addVertex((float) position.x(), (float) position.y(), (float) position.z(), coloredPosition.color());
+        }
+
+        private void endLines() {
+            if ((colors.size() - lineRunStart) % 2 != 0) {
+                colors.removeInt(colors.size() - 1);
+                positions.size(positions.size() - 3);
+            }
+            lineRunStart = colors.size();
+        }
+
+        private void addQuad(Pair<ColoredPosition, ColoredPosition> pointPair) {
+            Vector3f startVec = pointPair.a().position().toVector3f();
+            Vector3f endVec = pointPair.b().position().toVector3f();
+            int color = pointPair.a().color();
+
+            // vertex position delta to starting point
+            Vector3f pos1 = new Vector3f(-0.5f, 0.24f, -0.5f);
+            Vector3f pos2 = new Vector3f(0.5f, 0.24f, -0.5f);
+            Vector3f pos3 = new Vector3f(0.5f, 0.24f, 0.5f);
+            Vector3f pos4 = new Vector3f(-0.5f, 0.24f, 0.5f);
+
+            Vector3f direction =
+                    new Vector3f(endVec.x, endVec.y, endVec.z).sub(startVec).normalize();
+
+            // rotation angle to point surface normal to end position
+            // rotate the angle so the arrow point to the end position instead of surface normal
+            float xAngle = (float) ((float) Math.acos(direction.y / direction.length()) - Math.PI / 2);
+            float yAngle = (float) Math.atan2(direction.x, direction.z);
+
+            Quaternionf yRot = new Quaternionf().rotateY(yAngle);
+            Vector3f xRotAxis = new Vector3f(1, 0, 0).rotate(yRot);
+            Quaternionf xRot = new Quaternionf().rotateAxis(xAngle, xRotAxis);
+
+            // apply vertex rotation, and transform position back to world space
+            for (Vector3f pos : new Vector3f[] {pos1, pos2, pos3, pos4}) {
+                pos.rotate(yRot).rotate(xRot).add(startVec);
+                addVertex(pos.x, pos.y, pos.z, color);
+            }
+        }
+
+        private void addVertex(float x, float y, float z, int color) {
+            positions.add(x);
+            positions.add(y);
+            positions.add(z);
+            colors.add(color);
+            includeHeight(y);
+        }
+
+        private void includeHeight(float y) {
+            minY = Math.min(minY, y);
+            maxY = Math.max(maxY, y);
+        }
+
+        private ChunkGeometry build(int chunkX, int chunkZ) {
+            if (minY > maxY) {
+                minY = 0;
+                maxY = 0;
+            }
+
+            return new ChunkGeometry(
+                    textured,
+                    positions.toFloatArray(),
+                    colors.toIntArray(),
+                    (chunkX << 4) - BOUNDS_PADDING,
+                    minY - BOUNDS_PADDING,
+                    (chunkZ << 4) - BOUNDS_PADDING,
+                    (chunkX << 4) + 16 + BOUNDS_PADDING,
+                    maxY + BOUNDS_PADDING,
+                    (chunkZ << 4) + 16 + BOUNDS_PADDING);
+        }
+    }
+}
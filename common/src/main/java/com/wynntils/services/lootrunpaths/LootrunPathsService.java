@@ -13,6 +13,7 @@ import com.wynntils.core.components.Models;
 import com.wynntils.core.components.Service;
 import com.wynntils.core.components.Services;
 import com.wynntils.features.LootrunFeature;
+import com.wynntils.mc.event.ChunkBlocksUpdatedEvent;
 import com.wynntils.mc.event.PlayerInteractEvent;
 import com.wynntils.mc.event.RenderLevelEvent;
 import com.wynntils.mc.event.ScreenOpenedEvent;
@@ -219,6 +220,7 @@ public final class LootrunPathsService extends Service {
         }
 
         points.points().removeAll(removed.points());
+        recordingInformation.resetSamples();
         recordingInformation.setDirty(true);
         return LootrunUndoResult.SUCCESSFUL;
     }
@@ -298,6 +300,11 @@ public final class LootrunPathsService extends Service {
                         .asInt());
     }
 
+    @SubscribeEvent
+    public void onChunkBlocksUpdated(ChunkBlocksUpdatedEvent event) {
+        LootrunRenderer.invalidateChunk(event.getChunkX(), event.getChunkZ());
+    }
+
     @SubscribeEvent
     public void onRightClick(PlayerInteractEvent.InteractAt event) {
         if (state != LootrunState.RECORDING) return;
@@ -337,7 +344,7 @@ public final class LootrunPathsService extends Service {
         }
 
         if (recordingInformation.isDirty()) {
-            recordingCompiled = LootrunCompiler.compile(recording, true);
+            recordingCompiled = LootrunCompiler.compileRecording(recording, recordingInformation);
             recordingInformation.setDirty(false);
         }
     }
@@ -0,0 +1,128 @@
+/*
+ * Copyright © Wynntils 2026.
+ * This file is released under LGPLv3. See LICENSE for full license details.
+ */
+package com.wynntils.services.lootrunpaths;
+
+import com.wynntils.core.WynntilsMod;
+import com.wynntils.utils.FileUtils;
+import com.wynntils.utils.MD5Verification;
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import net.minecraft.world.phys.Vec3;
+
+/**
+ * Keeps the samples of lootrun paths on disk, so loading a large lootrun does not need to sample it again.
+ *
+ * Samples are stored by the hash of the points of the path, which stays the same when only the chests or notes
+ * of a lootrun are changed. Files which were not used for a while are deleted, and so are the least recently
+ * used files when the cache grows too large.
+ */
+final class LootrunSampleCache {
+    private static final File CACHE_DIR = WynntilsMod.getModStorageDir("lootruncache");
+    // Change this whenever the sampling or the file format changes, so old samples are not used
+    private static final int FORMAT_VERSION = 1;
+    private static final long MAX_CACHE_AGE_MS = TimeUnit.DAYS.toMillis(30);
+    private static final long MAX_CACHE_SIZE_BYTES = 64L * 1024 * 1024;
+
+    private LootrunSampleCache() {}
+
+    static List<float[]> getSamples(List<Vec3> points) {
+        File cacheFile = new File(CACHE_DIR, getHash(points) + ".bin");
+
+        if (cacheFile.exists()) {
+            try {
+                List<float[]> samples = readSamples(cacheFile);
+                if (samples != null) {
+                    // The modification time tracks when the samples were last used, for eviction
+                    cacheFile.setLastModified(System.currentTimeMillis());
+                    return samples;
+                }
+            } catch (IOException | RuntimeException e) {
+                WynntilsMod.warn("Could not read cached lootrun samples, sampling the path again.", e);
+            }
+        }
+
+        List<float[]> samples = LootrunSampler.sample(points);
+
+        try {
+            FileUtils.mkdir(CACHE_DIR);
+            writeSamples(cacheFile, samples);
+        } catch (IOException e) {
+            WynntilsMod.warn("Could not cache lootrun samples.", e);
+        }
+
+        evictFiles();
+        return samples;
+    }
+
+    private static void evictFiles() {
+        File[] files = CACHE_DIR.listFiles((dir, name) -> name.endsWith(".bin"));
+        if (files == null) return;
+
+        // Most recently used first, so the files kept are the ones which were used last
+        Arrays.sort(files, Comparator.comparingLong(File::lastModified).reversed());
+
+        long oldestKept = System.currentTimeMillis() - MAX_CACHE_AGE_MS;
+        long totalSize = 0;
+        for (File file : files) {
+            totalSize += file.length();
+            if (file.lastModified() >= oldestKept && totalSize <= MAX_CACHE_SIZE_BYTES) continue;
+
+            FileUtils.deleteFile(file);
+        }
+    }
+
+    private static String getHash(List<Vec3> points) {
+        ByteBuffer buffer = ByteBuffer.allocate(points.size() * 3 * Double.BYTES);
+        for (Vec3 point : points) {
+            buffer.putDouble(point.x);
+            buffer.putDouble(point.y);
+            buffer.putDouble(point.z);
+        }
+
+        return new MD5Verification(buffer.array()).getMd5();
+    }
+
+    private static List<float[]> readSamples(File file) throws IOException {
+        ByteBuffer buffer = ByteBuffer.wrap(Files.readAllBytes(file.toPath()));
+        if (buffer.getInt() != FORMAT_VERSION || buffer.getFloat() != LootrunSampler.SAMPLE_RATE) return null;
+
+        int segmentCount = buffer.getInt();
+        List<float[]> segments = new ArrayList<>(segmentCount);
+        for (int i = 0; i < segmentCount; i++) {
+            float[] segment = new float[buffer.getInt()];
+            buffer.asFloatBuffer().get(segment);
+            buffer.position(buffer.position() + segment.length * Float.BYTES);
+            segments.add(segment);
+        }
+
+        return segments;
+    }
+
+    private static void writeSamples(File file, List<float[]> segments) throws IOException {
+        int size = Integer.BYTES + Float.BYTES + Integer.BYTES;
+        for (float[] segment : segments) {
+            size += Integer.BYTES + segment.length * Float.BYTES;
+        }
+
+        ByteBuffer buffer = ByteBuffer.allocate(size);
+        buffer.putInt(FORMAT_VERSION);
+        buffer.putFloat(LootrunSampler.SAMPLE_RATE);
+        buffer.putInt(segments.size());
+        for (float[] segment : segments) {
+            buffer.putInt(segment.length);
+            buffer.asFloatBuffer().put(segment);
+            buffer.position(buffer.position() + segment.length * Float.BYTES);
+        }
+
+        Files.write(file.toPath(), buffer.array());
+    }
+}
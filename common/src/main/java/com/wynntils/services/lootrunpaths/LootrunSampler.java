@@ -0,0 +1,263 @@
+/*
+ * Copyright © Wynntils 2026.
+ * This file is released under LGPLv3. See LICENSE for full license details.
+ */
+package com.wynntils.services.lootrunpaths;
+
+import it.unimi.dsi.fastutil.floats.FloatArrayList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.IntStream;
+import net.minecraft.world.phys.Vec3;
+
+/**
+ * Samples lootrun paths along cubic splines through their points, into flat arrays of x, y and z coordinates.
+ *
+ * A path is split into segments wherever two points are too far apart. The samples between two points only depend
+ * on the points next to them, so when points are added to the end of a path, only the samples at the end of the
+ * last segment are sampled again. Long segments are sampled in parallel.
+ */
+final class LootrunSampler {
+    static final float SAMPLE_RATE = 10f;
+
+    private static final double SEGMENT_BREAK_DISTANCE = 32;
+    private static final int PARALLEL_SAMPLE_THRESHOLD = 4096;
+
+    private final List<float[]> finishedSegments = new ArrayList<>();
+    private int finishedSampleCount;
+
+    // The distances along the last segment, and the coordinates, of the points of the last segment
+    private final FloatArrayList knotDistances = new FloatArrayList();
+    private final FloatArrayList knotPositions = new FloatArrayList();
+    // The samples of the last segment which do not change anymore when points are added
+    private final FloatArrayList stableSamples = new FloatArrayList();
+
+    private Vec3 lastPoint;
+    private int addedPoints;
+
+    /**
+     * Samples all points of a path at once.
+     */
+    static List<float[]> sample(List<Vec3> points) {
+        LootrunSampler sampler = new LootrunSampler();
+        sampler.addPoints(points);
+        return sampler.getSegments();
+    }
+
+    /**
+     * Adds the points of the path which were not added before.
+     *
+     * @param points all points of the path, of which the previously added points must not have changed
+     */
+    void addPoints(List<Vec3> points) {
+        for (int i = addedPoints; i < points.size(); i++) {
+            Vec3 point = points.get(i);
+
+            if (lastPoint == null) {
+                addKnot(point, 0f);
+            } else {
+                double distance = lastPoint.distanceTo(point);
+                if (distance >= SEGMENT_BREAK_DISTANCE) {
+                    finishSegment();
+                    addKnot(point, 0f);
+                } else if (distance > 0) {
+                    addKnot(point, (float) (knotDistances.getFloat(knotDistances.size() - 1) + distance));
+                } else {
+                    // Splines need strictly increasing distances, and a repeated point adds nothing to the path
+                    continue;
+                }
+            }
+
+            lastPoint = point;
+        }
+
+        addedPoints = points.size();
+        stabilizeSamples();
+    }
+
+    /**
+     * Drops all points and samples, for when points were removed from the path.
+     */
+    void reset() {
+        finishedSegments.clear();
+        finishedSampleCount = 0;
+        knotDistances.clear();
+        knotPositions.clear();
+        stableSamples.clear();
+        lastPoint = null;
+        addedPoints = 0;
+    }
+
+    /**
+     * @return the samples of every segment, as x, y and z coordinates after each other
+     */
+    List<float[]> getSegments() {
+        List<float[]> segments = new ArrayList<>(finishedSegments);
+        if (knotDistances.isEmpty()) return segments;
+
+        int stableCount = stableSamples.size() / 3;
+        float[] unstable = sampleRange(stableCount, getSampleCount(getLastDistance()));
+
+        float[] lastSegment = Arrays.copyOf(stableSamples.elements(), stableSamples.size() + unstable.length);
+        System.arraycopy(unstable, 0, lastSegment, stableSamples.size(), unstable.length);
+        segments.add(lastSegment);
+
+        return segments;
+    }
+
+    /**
+     * @return the number of samples, over all segments, which do not change anymore when points are added
+     */
+    int getStableSampleCount() {
+        return finishedSampleCount + stableSamples.size() / 3;
+    }
+
+    /**
+     * Passes the samples of every segment to the consumer in order, starting at the given index over all segments.
+     * Unlike {@link #getSegments()}, this does not copy the samples which were passed before.
+     */
+    void forEachSample(int from, SampleConsumer consumer) {
+        int index = 0;
+        for (float[] segment : finishedSegments) {
+            index = forEachSample(segment, 0, segment.length / 3, index, from, consumer);
+        }
+        if (knotDistances.isEmpty()) return;
+
+        int stableCount = stableSamples.size() / 3;
+        forEachSample(stableSamples.elements(), 0, stableCount, index, from, consumer);
+
+        int unstableFrom = Math.max(stableCount, from - index);
+        float[] unstable = sampleRange(unstableFrom, getSampleCount(getLastDistance()));
+        forEachSample(unstable, unstableFrom, unstableFrom + unstable.length / 3, index, from, consumer);
+    }
+
+    /**
+     * Passes the samples with the indices in the segment from start to end, which are at or after the given index
+     * over all segments, to the consumer.
+     *
+     * @return the index over all segments after the samples
+     */
+    private static int forEachSample(
+            float[] samples, int start, int end, int segmentIndex, int from, SampleConsumer consumer) {
+        for (int i = Math.max(start, from - segmentIndex); i < end; i++) {
+            int offset = (i - start) * 3;
+            consumer.accept(segmentIndex + i, samples[offset], samples[offset + 1], samples[offset + 2]);
+        }
+
+        return segmentIndex + end;
+    }
+
+    private void addKnot(Vec3 point, float distance) {
+        knotDistances.add(distance);
+        knotPositions.add((float) point.x);
+        knotPositions.add((float) point.y);
+        knotPositions.add((float) point.z);
+    }
+
+    private void finishSegment() {
+        // Without a next point, the slope at the last point is final
+        float[] unstable = sampleRange(stableSamples.size() / 3, getSampleCount(getLastDistance()));
+        stableSamples.addElements(stableSamples.size(), unstable);
+        finishedSegments.add(stableSamples.toFloatArray());
+        finishedSampleCount += stableSamples.size() / 3;
+
+        knotDistances.clear();
+        knotPositions.clear();
+        stableSamples.clear();
+    }
+
+    private void stabilizeSamples() {
+        int knotCount = knotDistances.size();
+        if (knotCount < 2) return;
+
+        // The samples between the last two points depend on the slope at the last point, which depends on the
+        // next point that is added
+        int stableCount = getSampleCount(knotDistances.getFloat(knotCount - 2));
+        int currentCount = stableSamples.size() / 3;
+        if (stableCount <= currentCount) return;
+
+        float[] newSamples = sampleRange(currentCount, stableCount);
+        stableSamples.addElements(stableSamples.size(), newSamples);
+    }
+
+    private float getLastDistance() {
+        return knotDistances.getFloat(knotDistances.size() - 1);
+    }
+
+    private static int getSampleCount(float distance) {
+        return (int) Math.ceil(distance * SAMPLE_RATE);
+    }
+
+    private float[] sampleRange(int from, int to) {
+        if (to <= from) return new float[0];
+
+        float[] distances = knotDistances.elements();
+        float[] positions = knotPositions.elements();
+        int knotCount = knotDistances.size();
+        float[] samples = new float[(to - from) * 3];
+
+        IntStream indices = IntStream.range(from, to);
+        if (to - from >= PARALLEL_SAMPLE_THRESHOLD) {
+            indices = indices.parallel();
+        }
+        indices.forEach(index -> {
+            float distance = index / SAMPLE_RATE;
+            int offset = (index - from) * 3;
+            for (int axis = 0; axis < 3; axis++) {
+                samples[offset + axis] = evaluate(distances, positions, knotCount, axis, distance);
+            }
+        });
+
+        return samples;
+    }
+
+    /**
+     * Evaluates the spline of one axis the same way as {@link net.minecraft.util.CubicSpline}, with the slope at
+     * each point pointing towards the next point.
+     */
+    private static float evaluate(float[] distances, float[] positions, int knotCount, int axis, float distance) {
+        int knot = Arrays.binarySearch(distances, 0, knotCount, distance);
+        if (knot < 0) {
+            knot = -knot - 2;
+        }
+
+        if (knot < 0) {
+            return positions[axis] + getSlope(distances, positions, knotCount, 0, axis) * (distance - distances[0]);
+        }
+        if (knot == knotCount - 1) {
+            return positions[knot * 3 + axis]
+                    + getSlope(distances, positions, knotCount, knot, axis) * (distance - distances[knot]);
+        }
+
+        float startDistance = distances[knot];
+        float endDistance = distances[knot + 1];
+        float startValue = positions[knot * 3 + axis];
+        float endValue = positions[(knot + 1) * 3 + axis];
+        float startSlope = getSlope(distances, positions, knotCount, knot, axis);
+        float endSlope = getSlope(distances, positions, knotCount, knot + 1, axis);
+
+        float length = endDistance - startDistance;
+        float t = (distance - startDistance) / length;
+        float a = startSlope * length - (endValue - startValue);
+        float b = -endSlope * length + (endValue - startValue);
+
+        return lerp(t, startValue, endValue) + t * (1f - t) * lerp(t, a, b);
+    }
+
+    private static float getSlope(float[] distances, float[] positions, int knotCount, int knot, int axis) {
+        if (knot >= knotCount - 1) return 0f;
+
+        return (positions[(knot + 1) * 3 + axis] - positions[knot * 3 + axis])
+                / (distances[knot + 1] - distances[knot]);
+    }
+
+    private static float lerp(float t, float start, float end) {
+        return start + t * (end - start);
+    }
+
+    @FunctionalInterface
+    interface SampleConsumer {
+        void accept(int index, float x, float y, float z);
+    }
+}
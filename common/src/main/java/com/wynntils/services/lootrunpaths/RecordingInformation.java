@@ -1,5 +1,5 @@
 /*
- * Copyright © Wynntils 2023.
+ * Copyright © Wynntils 2023-2026.
  * This file is released under LGPLv3. See LICENSE for full license details.
  */
 package com.wynntils.services.lootrunpaths;
@@ -8,6 +8,9 @@ import net.minecraft.core.BlockPos;
 import net.minecraft.world.phys.Vec3;
 
 class RecordingInformation {
+    private final LootrunSampler sampler = new LootrunSampler();
+    private LootrunChunkPaths chunkPaths = new LootrunChunkPaths();
+
     private Vec3 lastLocation;
     private BlockPos lastChest;
     private boolean dirty;
@@ -35,4 +38,21 @@ class RecordingInformation {
     protected void setDirty(boolean dirty) {
         this.dirty = dirty;
     }
+
+    protected LootrunSampler getSampler() {
+        return sampler;
+    }
+
+    protected LootrunChunkPaths getChunkPaths() {
+        return chunkPaths;
+    }
+
+    /**
+     * Drops all samples, for when points were removed from the recorded path.
+     */
+    protected void resetSamples() {
+        sampler.reset();
+        // The paths of the last compilation may still be rendered, so they are replaced instead of cleared
+        chunkPaths = new LootrunChunkPaths();
+    }
 }
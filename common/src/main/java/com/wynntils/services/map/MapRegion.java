@@ -0,0 +1,199 @@
+/*
+ * Copyright © Wynntils 2026.
+ * This file is released under LGPLv3. See LICENSE for full license details.
+ */
+package com.wynntils.services.map;
+
+import com.mojang.blaze3d.platform.NativeImage;
+import com.wynntils.utils.FileUtils;
+import com.wynntils.utils.type.BoundingBox;
+import com.wynntils.utils.type.BoundingShape;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A downloaded part of the world map, split into fixed size tiles at several detail levels.
+ *
+ * Level 0 has one texel per block, and every following level halves the resolution. The tiles are
+ * generated once from the downloaded image and stored in the cache directory, so the full image
+ * never has to stay in memory.
+ */
+public final class MapRegion {
+    public static final int LEVELS = 5;
+
+    private static final int TILE_SIZE = 256;
+    // Written after all tiles have been generated; bump the version if the tile layout changes
+    private static final String COMPLETE_MARKER = "complete-v1";
+
+    private final String name;
+    private final int x1;
+    private final int z1;
+    private final int x2;
+    private final int z2;
+    private final List<List<MapTexture>> levelTiles = new ArrayList<>();
+
+    private MapRegion(String name, File tileDir, int x1, int z1, int x2, int z2) {
+        this.name = name;
+        this.x1 = x1;
+        this.z1 = z1;
+        this.x2 = x2;
+        this.z2 = z2;
+
+        for (int level = 0; level < LEVELS; level++) {
+            levelTiles.add(createTiles(tileDir, level));
+        }
+    }
+
+    /**
+     * Creates the region, generating the tiles from the image in the input stream if they are not cached already.
+     */
+    public static MapRegion load(String name, InputStream inputStream, File tileDir, int x1, int z1, int x2, int z2)
+            throws IOException {
+        File marker = new File(tileDir, COMPLETE_MARKER);
+        if (!marker.exists()) {
+            // Tiles of an older layout version, or of an interrupted split, must not be mixed with the new tiles
+            FileUtils.deleteFolder(tileDir);
+            Files.createDirectories(tileDir.toPath());
+
+            try (NativeImage image = NativeImage.read(inputStream)) {
+                assert (x2 - x1 + 1 == image.getWidth());
+                assert (z2 - z1 + 1 == image.getHeight());
+
+                writeTiles(image, tileDir);
+            }
+
+            Files.createFile(marker.toPath());
+        }
+
+        return new MapRegion(name, tileDir, x1, z1, x2, z2);
+    }
+
+    public List<MapTexture> getTiles(int level, BoundingBox box) {
+        List<MapTexture> tiles = new ArrayList<>();
+        for (MapTexture tile : levelTiles.get(level)) {
+            if (BoundingShape.intersects(box, tile.getBox())) {
+                tiles.add(tile);
+            }
+        }
+        return tiles;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public BoundingBox getBox() {
+        return new BoundingBox(x1, z1, x2, z2);
+    }
+
+    private List<MapTexture> createTiles(File tileDir, int level) {
+        int levelWidth = getLevelSize(x2 - x1 + 1, level);
+        int levelHeight = getLevelSize(z2 - z1 + 1, level);
+
+        List<MapTexture> tiles = new ArrayList<>();
+        for (int tileX = 0; tileX * TILE_SIZE < levelWidth; tileX++) {
+            for (int tileZ = 0; tileZ * TILE_SIZE < levelHeight; tileZ++) {
+                int textureWidth = Math.min(TILE_SIZE, levelWidth - tileX * TILE_SIZE);
+                int textureHeight = Math.min(TILE_SIZE, levelHeight - tileZ * TILE_SIZE);
+
+                // The last texel of a level can cover less than a full block square
+                int tileX1 = x1 + (tileX * TILE_SIZE << level);
+                int tileZ1 = z1 + (tileZ * TILE_SIZE << level);
+                int tileX2 = Math.min(x2, tileX1 + (textureWidth << level) - 1);
+                int tileZ2 = Math.min(z2, tileZ1 + (textureHeight << level) - 1);
+
+                String tileName = getTileName(level, tileX, tileZ);
+                tiles.add(new MapTexture(
+                        name + "/" + tileName,
+                        new File(tileDir, tileName + ".png"),
+                        level,
+                        tileX1,
+                        tileZ1,
+                        tileX2,
+                        tileZ2,
+                        textureWidth,
+                        textureHeight));
+            }
+        }
+
+        return tiles;
+    }
+
+    private static void writeTiles(NativeImage image, File tileDir) throws IOException {
+        NativeImage levelImage = image;
+
+        try {
+            for (int level = 0; level < LEVELS; level++) {
+                if (level > 0) {
+                    NativeImage downscaled = downscale(levelImage);
+                    if (levelImage != image) {
+                        levelImage.close();
+                    }
+                    levelImage = downscaled;
+                }
+
+                for (int tileX = 0; tileX * TILE_SIZE < levelImage.getWidth(); tileX++) {
+                    for (int tileZ = 0; tileZ * TILE_SIZE < levelImage.getHeight(); tileZ++) {
+                        int width = Math.min(TILE_SIZE, levelImage.getWidth() - tileX * TILE_SIZE);
+                        int height = Math.min(TILE_SIZE, levelImage.getHeight() - tileZ * TILE_SIZE);
+
+                        try (NativeImage tile = new NativeImage(width, height, false)) {
+                            levelImage.copyRect(
+                                    tile, tileX * TILE_SIZE, tileZ * TILE_SIZE, 0, 0, width, height, false, false);
+                            tile.writeToFile(new File(tileDir, getTileName(level, tileX, tileZ) + ".png"));
+                        }
+                    }
+                }
+            }
+        } finally {
+            if (levelImage != image) {
+                levelImage.close();
+            }
+        }
+    }
+
+    // Halves the resolution, averaging every 2x2 block of pixels
+    private static NativeImage downscale(NativeImage source) {
+        int width = (source.getWidth() + 1) / 2;
+        int height = (source.getHeight() + 1) / 2;
+        NativeImage target = new NativeImage(width, height, false);
+
+        for (int x = 0; x < width; x++) {
+            for (int y = 0; y < height; y++) {
+                int a = 0;
+                int r = 0;
+                int g = 0;
+                int b = 0;
+                int count = 0;
+
+                for (int sourceX = x * 2; sourceX < Math.min(x * 2 + 2, source.getWidth()); sourceX++) {
+                    for (int sourceY = y * 2; sourceY < Math.min(y * 2 + 2, source.getHeight()); sourceY++) {
+                        int pixel = source.getPixel(sourceX, sourceY);
+                        a += (pixel >>> 24) & 0xFF;
+                        r += (pixel >>> 16) & 0xFF;
+                        g += (pixel >>> 8) & 0xFF;
+                        b += pixel & 0xFF;
+                        count++;
+                    }
+                }
+
+                target.setPixel(x, y, (a / count) << 24 | (r / count) << 16 | (g / count) << 8 | (b / count));
+            }
+        }
+
+        return target;
+    }
+
+    private static int getLevelSize(int size, int level) {
+        // Every level rounds up when halving, so this is the same as repeatedly halving
+        return (size + (1 << level) - 1) >> level;
+    }
+
+    private static String getTileName(int level, int tileX, int tileZ) {
+        return level + "_" + tileX + "_" + tileZ;
+    }
+}
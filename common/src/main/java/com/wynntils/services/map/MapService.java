@@ -5,26 +5,37 @@
 package com.wynntils.services.map;
 
 import com.google.common.reflect.TypeToken;
-import com.mojang.blaze3d.platform.NativeImage;
 import com.wynntils.core.WynntilsMod;
 import com.wynntils.core.components.Managers;
 import com.wynntils.core.components.Service;
 import com.wynntils.core.net.Download;
 import com.wynntils.core.net.DownloadRegistry;
 import com.wynntils.core.net.UrlId;
+import com.wynntils.features.map.MainMapFeature;
+import com.wynntils.utils.FileUtils;
 import com.wynntils.utils.mc.McUtils;
 import com.wynntils.utils.type.BoundingBox;
 import com.wynntils.utils.type.BoundingCircle;
 import com.wynntils.utils.type.BoundingShape;
+import java.io.File;
 import java.io.IOException;
 import java.io.Reader;
 import java.lang.reflect.Type;
 import java.net.URI;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Collectors;
+import net.minecraft.resources.Identifier;
 
 public final class MapService extends Service {
-    private final List<MapTexture> maps = new CopyOnWriteArrayList<>();
+    private static final long BYTES_PER_MEGABYTE = 1024 * 1024;
+    private static final String TILES_DIR = "maps/tiles/";
+
+    private final List<MapRegion> regions = new CopyOnWriteArrayList<>();
+    private final MapTileCache tileCache = new MapTileCache();
 
     public MapService() {
         super(List.of());
@@ -35,29 +46,74 @@ public final class MapService extends Service {
         registry.registerDownload(UrlId.DATA_STATIC_MAPS).handleReader(this::handleMaps);
     }
 
-    public List<MapTexture> getMapsForBoundingBox(BoundingBox box) {
-        return maps.stream()
-                .filter(map -> BoundingShape.intersects(box, map.getBox()))
-                .toList();
+    /**
+     * Returns the map tiles needed to render the given box, at the detail level needed for the zoom.
+     *
+     * @param zoomRenderScale the number of gui pixels per block
+     */
+    public List<MapTexture> getMapsForBoundingBox(BoundingBox box, float zoomRenderScale) {
+        int level = getLevelForZoom(zoomRenderScale);
+
+        List<MapTexture> tiles = new ArrayList<>();
+        for (MapRegion region : regions) {
+            if (BoundingShape.intersects(box, region.getBox())) {
+                tiles.addAll(region.getTiles(level, box));
+            }
+        }
+        return tiles;
     }
 
-    public List<MapTexture> getMapsForBoundingCircle(BoundingCircle circle) {
-        return maps.stream()
-                .filter(map -> BoundingShape.intersects(map.getBox(), circle))
-                .toList();
+    public boolean hasMapsForBoundingBox(BoundingBox box) {
+        for (MapRegion region : regions) {
+            if (BoundingShape.intersects(box, region.getBox())) return true;
+        }
+        return false;
     }
 
     public boolean isPlayerInMappedArea(float width, float height, float scale) {
         BoundingCircle textureBoundingCircle = BoundingCircle.enclosingCircle(BoundingBox.centered(
                 (float) McUtils.player().getX(), (float) McUtils.player().getZ(), width * scale, height * scale));
 
-        return !getMapsForBoundingCircle(textureBoundingCircle).isEmpty();
+        for (MapRegion region : regions) {
+            if (BoundingShape.intersects(region.getBox(), textureBoundingCircle)) return true;
+        }
+        return false;
+    }
+
+    /**
+     * Loads the texture of the tile if needed, unloading the least recently used tiles if this
+     * exceeds the memory budget. This must be called on the render thread.
+     */
+    public Optional<Identifier> getTileTexture(MapTexture tile) {
+        int memoryBudgetMegabytes = Managers.Feature.getFeatureInstance(MainMapFeature.class)
+                .mapTextureMemoryBudget
+                .get();
+        long memoryBudget = Math.clamp(
+                        memoryBudgetMegabytes,
+                        MainMapFeature.MIN_MAP_TEXTURE_MEMORY_BUDGET,
+                        MainMapFeature.MAX_MAP_TEXTURE_MEMORY_BUDGET)
+                * BYTES_PER_MEGABYTE;
+
+        return tileCache.use(tile, memoryBudget) ? Optional.of(tile.identifier()) : Optional.empty();
+    }
+
+    private int getLevelForZoom(float zoomRenderScale) {
+        // Use the coarsest level where every texel still covers at least one pixel on the screen
+        double pixelsPerBlock = zoomRenderScale * McUtils.guiScale();
+
+        int level = 0;
+        while (level < MapRegion.LEVELS - 1 && pixelsPerBlock * (1 << (level + 1)) <= 1) {
+            level++;
+        }
+        return level;
     }
 
     private void handleMaps(Reader reader) {
         Type type = new TypeToken<List<MapPartProfile>>() {}.getType();
 
         List<MapPartProfile> mapPartList = WynntilsMod.GSON.fromJson(reader, type);
+        deleteStaleTileDirs(mapPartList);
+
         for (MapPartProfile mapPart : mapPartList) {
             String fileName = mapPart.md5 + ".png";
 
@@ -65,16 +121,30 @@ public final class MapService extends Service {
         }
     }
 
+    private void deleteStaleTileDirs(List<MapPartProfile> mapPartList) {
+        // The tiles of map parts are stored by their hash, so a new version of a part leaves its old tiles behind
+        Set<String> currentParts = mapPartList.stream().map(MapPartProfile::md5).collect(Collectors.toSet());
+
+        File[] tileDirs = Managers.Net.getCacheFile(TILES_DIR).listFiles(File::isDirectory);
+        if (tileDirs == null) return;
+
+        for (File tileDir : tileDirs) {
+            if (!currentParts.contains(tileDir.getName())) {
+                FileUtils.deleteFolder(tileDir);
+            }
+        }
+    }
+
     private void loadMapPart(MapPartProfile mapPart, String fileName) {
         Download dl = Managers.Net.download(
                 URI.create(Managers.Url.getDownloadSourceUrl() + mapPart.path), "maps/" + fileName, mapPart.md5);
+        File tileDir = Managers.Net.getCacheFile(TILES_DIR + mapPart.md5);
         dl.handleInputStream(
                 inputStream -> {
                     try {
-                        NativeImage nativeImage = NativeImage.read(inputStream);
-                        MapTexture mapPartImage =
-                                new MapTexture(fileName, nativeImage, mapPart.x1, mapPart.z1, mapPart.x2, mapPart.z2);
-                        maps.add(mapPartImage);
+                        MapRegion region = MapRegion.load(
+                                mapPart.md5, inputStream, tileDir, mapPart.x1, mapPart.z1, mapPart.x2, mapPart.z2);
+                        regions.add(region);
                     } catch (IOException e) {
                         WynntilsMod.warn("IOException occurred while loading map image of " + mapPart.name, e);
                     }
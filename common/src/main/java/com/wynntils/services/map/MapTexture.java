@@ -8,18 +8,27 @@ import com.mojang.blaze3d.platform.NativeImage;
 import com.mojang.blaze3d.systems.RenderSystem;
 import com.mojang.blaze3d.textures.AddressMode;
 import com.mojang.blaze3d.textures.FilterMode;
+import com.wynntils.core.WynntilsMod;
 import com.wynntils.utils.mc.McUtils;
 import com.wynntils.utils.type.BoundingBox;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
 import net.minecraft.client.renderer.texture.DynamicTexture;
 import net.minecraft.resources.Identifier;
 
+/**
+ * A single tile of a {@link MapRegion}, at one of its detail levels.
+ *
+ * The image of the tile is kept on disk, and is only uploaded as a texture while the
+ * {@link MapTileCache} keeps it loaded.
+ */
 public class MapTexture {
-    private final NativeImage texture;
-    private final Identifier mapIdentifier;
-
-    private boolean registered = false;
-
     private final String name;
+    private final File file;
+    private final Identifier mapIdentifier;
+    private final int level;
 
     private final int x1;
     private final int z1;
@@ -29,26 +38,34 @@ public class MapTexture {
     private final int textureWidth;
     private final int textureHeight;
 
-    public MapTexture(String name, NativeImage texture, int x1, int z1, int x2, int z2) {
+    private boolean loaded = false;
+    private boolean loadFailed = false;
+
+    MapTexture(String name, File file, int level, int x1, int z1, int x2, int z2, int textureWidth, int textureHeight) {
         this.name = name;
-        this.texture = texture;
+        this.file = file;
+        this.level = level;
         this.x1 = x1;
         this.z1 = z1;
         this.x2 = x2;
         this.z2 = z2;
-        this.textureWidth = texture.getWidth();
-        this.textureHeight = texture.getHeight();
-
-        this.mapIdentifier = Identifier.fromNamespaceAndPath("wynntils", "/maps/" + name);
+        this.textureWidth = textureWidth;
+        this.textureHeight = textureHeight;
 
-        assert (x2 - x1 + 1 == textureWidth);
-        assert (z2 - z1 + 1 == textureHeight);
+        this.mapIdentifier = Identifier.fromNamespaceAndPath("wynntils", "maps/" + name);
     }
 
     public Identifier identifier() {
-        if (!registered) {
-            registered = true;
-            DynamicTexture tex = new DynamicTexture(() -> name, texture);
+        return mapIdentifier;
+    }
+
+    boolean load() {
+        if (loaded) return true;
+        if (loadFailed) return false;
+
+        try (InputStream inputStream = Files.newInputStream(file.toPath())) {
+            NativeImage image = NativeImage.read(inputStream);
+            DynamicTexture tex = new DynamicTexture(() -> name, image);
             tex.sampler = RenderSystem.getSamplerCache()
                     .getSampler(
                             AddressMode.CLAMP_TO_EDGE,
@@ -57,25 +74,45 @@ public class MapTexture {
                             FilterMode.NEAREST,
                             false);
             McUtils.mc().getTextureManager().register(mapIdentifier, tex);
+            loaded = true;
+        } catch (IOException e) {
+            WynntilsMod.warn("IOException occurred while loading map tile " + name, e);
+            loadFailed = true;
         }
 
-        return mapIdentifier;
+        return loaded;
+    }
+
+    void unload() {
+        if (!loaded) return;
+
+        McUtils.mc().getTextureManager().release(mapIdentifier);
+        loaded = false;
+    }
+
+    long getMemorySize() {
+        return (long) textureWidth * textureHeight * 4;
+    }
+
+    public int getLevel() {
+        return level;
     }
 
+    // Every texel of the tile covers a square of 2^level blocks
     public float getTextureXPosition(double posX) {
-        return (float) (posX - x1);
+        return (float) ((posX - x1) / (1 << level));
     }
 
     public float getTextureZPosition(double posZ) {
-        return (float) (posZ - z1);
+        return (float) ((posZ - z1) / (1 << level));
     }
 
     public int getWorldXPosition(double textureX) {
-        return (int) Math.round(textureX + x1);
+        return (int) Math.round(textureX * (1 << level) + x1);
     }
 
     public int getWorldZPosition(double textureY) {
-        return (int) Math.round(textureY + z1);
+        return (int) Math.round(textureY * (1 << level) + z1);
     }
 
     public int getX1() {
@@ -0,0 +1,60 @@
+/*
+ * Copyright © Wynntils 2026.
+ * This file is released under LGPLv3. See LICENSE for full license details.
+ */
+package com.wynntils.services.map;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Keeps the most recently rendered map tiles loaded as textures, and unloads the least recently
+ * rendered tiles when the loaded tiles use more memory than the budget.
+ *
+ * This must only be used from the render thread.
+ */
+final class MapTileCache {
+    // GUI rendering is deferred to the end of the frame, so a tile that has been used recently
+    // might still be drawn, and must not be unloaded even if we are over budget
+    private static final long MIN_UNUSED_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+    // Access ordered, so the first tile is the least recently used
+    private final Map<MapTexture, Long> lastUsedTimes = new LinkedHashMap<>(64, 0.75f, true);
+    private long loadedBytes = 0;
+
+    /**
+     * Makes sure the tile is loaded, and marks it as recently used.
+     *
+     * @return true if the tile could be loaded
+     */
+    boolean use(MapTexture tile, long memoryBudget) {
+        long now = System.nanoTime();
+
+        if (lastUsedTimes.put(tile, now) != null) return true;
+
+        if (!tile.load()) {
+            lastUsedTimes.remove(tile);
+            return false;
+        }
+
+        loadedBytes += tile.getMemorySize();
+        evict(memoryBudget, now);
+        return true;
+    }
+
+    private void evict(long memoryBudget, long now) {
+        Iterator<Map.Entry<MapTexture, Long>> iterator = lastUsedTimes.entrySet().iterator();
+        while (loadedBytes > memoryBudget && iterator.hasNext()) {
+            Map.Entry<MapTexture, Long> entry = iterator.next();
+            // All following tiles have been used even more recently
+            if (now - entry.getValue() < MIN_UNUSED_NANOS) return;
+
+            MapTexture tile = entry.getKey();
+            tile.unload();
+            loadedBytes -= tile.getMemorySize();
+            iterator.remove();
+        }
+    }
+}
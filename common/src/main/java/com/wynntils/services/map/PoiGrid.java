@@ -0,0 +1,109 @@
+/*
+ * Copyright © Wynntils 2026.
+ * This file is released under LGPLv3. See LICENSE for full license details.
+ */
+package com.wynntils.services.map;
+
+import com.wynntils.services.map.pois.Poi;
+import com.wynntils.utils.mc.type.PoiLocation;
+import com.wynntils.utils.type.BoundingBox;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * An immutable spatial index of POIs, which buckets the POIs into a grid of fixed size cells.
+ *
+ * This allows the map screens to only look at the POIs near the visible area of the map,
+ * instead of every POI in the world.
+ */
+public final class PoiGrid<T extends Poi> {
+    private static final int CELL_SIZE = 256;
+
+    // POIs are rendered with a size, so they can be visible even if their location is just outside
+    // the queried box. Querying one extra cell in every direction covers even the largest labels.
+    private static final int CELL_MARGIN = 1;
+
+    private final Long2ObjectMap<List<T>> cells = new Long2ObjectOpenHashMap<>();
+    private final int size;
+    private final float extent;
+
+    public PoiGrid(Collection<? extends T> pois) {
+        this(pois, 0);
+    }
+
+    /**
+     * @param extent how far the POIs reach from their location in blocks, for POIs covering an area
+     */
+    public PoiGrid(Collection<? extends T> pois, float extent) {
+        this.extent = extent;
+
+        int count = 0;
+        for (T poi : pois) {
+            PoiLocation location = poi.getLocation();
+            if (location == null) continue;
+
+            long key = cellKey(cellOf(location.getX()), cellOf(location.getZ()));
+            cells.computeIfAbsent(key, k -> new ArrayList<>()).add(poi);
+            count++;
+        }
+        this.size = count;
+    }
+
+    public static <T extends Poi> PoiGrid<T> empty() {
+        return new PoiGrid<>(List.of());
+    }
+
+    /**
+     * Returns the POIs that can be visible in the given box. This might include some POIs
+     * that are outside the box, so callers still need to do their own exact check.
+     */
+    public List<T> getPois(BoundingBox box) {
+        if (size == 0) return List.of();
+
+        int minCellX = cellOf(box.x1() - extent) - CELL_MARGIN;
+        int maxCellX = cellOf(box.x2() + extent) + CELL_MARGIN;
+        int minCellZ = cellOf(box.z1() - extent) - CELL_MARGIN;
+        int maxCellZ = cellOf(box.z2() + extent) + CELL_MARGIN;
+
+        List<T> result = new ArrayList<>();
+
+        // When zoomed far out, it is cheaper to check the filled cells than every cell in the box
+        long cellsInBox = (long) (maxCellX - minCellX + 1) * (maxCellZ - minCellZ + 1);
+        if (cellsInBox > cells.size()) {
+            for (Long2ObjectMap.Entry<List<T>> entry : cells.long2ObjectEntrySet()) {
+                int cellX = (int) (entry.getLongKey() >> 32);
+                int cellZ = (int) entry.getLongKey();
+                if (cellX >= minCellX && cellX <= maxCellX && cellZ >= minCellZ && cellZ <= maxCellZ) {
+                    result.addAll(entry.getValue());
+                }
+            }
+            return result;
+        }
+
+        for (int cellX = minCellX; cellX <= maxCellX; cellX++) {
+            for (int cellZ = minCellZ; cellZ <= maxCellZ; cellZ++) {
+                List<T> cell = cells.get(cellKey(cellX, cellZ));
+                if (cell != null) {
+                    result.addAll(cell);
+                }
+            }
+        }
+
+        return result;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    private static int cellOf(float coordinate) {
+        return (int) Math.floor(coordinate / CELL_SIZE);
+    }
+
+    private static long cellKey(int cellX, int cellZ) {
+        return ((long) cellX << 32) | (cellZ & 0xFFFFFFFFL);
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright © Wynntils 2023-2025.
+ * Copyright © Wynntils 2023-2026.
  * This file is released under LGPLv3. See LICENSE for full license details.
  */
 package com.wynntils.services.map;
@@ -30,6 +30,7 @@ import com.wynntils.services.mapdata.providers.builtin.ServiceListProvider;
 import com.wynntils.utils.mc.type.Location;
 import com.wynntils.utils.mc.type.PoiLocation;
 import com.wynntils.utils.render.Texture;
+import com.wynntils.utils.type.BoundingBox;
 import java.io.Reader;
 import java.lang.reflect.Type;
 import java.util.ArrayList;
@@ -70,6 +71,12 @@ public class PoiService extends Service {
     private final Set<CombatPoi> cavePois = new HashSet<>();
     private final Map<CustomPoiProvider, List<CustomPoi>> providedCustomPois = new ConcurrentHashMap<>();
 
+    // Spatial indexes for the map screens, rebuilt for a kind of POI whenever its source changes
+    private volatile PoiGrid<LabelPoi> labelPoiGrid = PoiGrid.empty();
+    private volatile PoiGrid<ServicePoi> servicePoiGrid = PoiGrid.empty();
+    private volatile PoiGrid<CombatPoi> combatPoiGrid = PoiGrid.empty();
+    private final Map<CustomPoiProvider, PoiGrid<CustomPoi>> providedCustomPoiGrids = new ConcurrentHashMap<>();
+
     @Persisted
     private final Storage<List<CustomPoiProvider>> customPoiProviders = new Storage<>(new ArrayList<>());
 
@@ -102,6 +109,31 @@ public class PoiService extends Service {
         return Stream.concat(combatPois.stream(), cavePois.stream());
     }
 
+    public List<LabelPoi> getLabelPois(BoundingBox box) {
+        return labelPoiGrid.getPois(box);
+    }
+
+    public List<ServicePoi> getServicePois(BoundingBox box) {
+        return servicePoiGrid.getPois(box);
+    }
+
+    public List<CombatPoi> getCombatPois(BoundingBox box) {
+        return combatPoiGrid.getPois(box);
+    }
+
+    public List<CustomPoi> getProvidedCustomPois(BoundingBox box) {
+        List<CustomPoi> pois = new ArrayList<>();
+        for (CustomPoiProvider provider : customPoiProviders.get()) {
+            if (!provider.isEnabled()) continue;
+
+            PoiGrid<CustomPoi> grid = providedCustomPoiGrids.get(provider);
+            if (grid != null) {
+                pois.addAll(grid.getPois(box));
+            }
+        }
+        return pois;
+    }
+
     public List<CustomPoi> getProvidedCustomPois() {
         return customPoiProviders.get().stream()
                 .filter(CustomPoiProvider::isEnabled)
@@ -128,7 +160,9 @@ public class PoiService extends Service {
         if (provider.isEmpty()) return false;
 
         customPoiProviders.get().remove(provider.get());
+        customPoiProviders.touched();
         providedCustomPois.remove(provider.get());
+        providedCustomPoiGrids.remove(provider.get());
 
         return true;
     }
@@ -143,6 +177,8 @@ public class PoiService extends Service {
             labelPois.add(new LabelPoi(label));
             PlaceListProvider.registerFeature(label);
         }
+
+        labelPoiGrid = new PoiGrid<>(labelPois);
     }
 
     private void handleServices(Reader reader) {
@@ -160,6 +196,8 @@ public class PoiService extends Service {
                 WynntilsMod.warn("Unknown service type in services.json: " + service.type);
             }
         }
+
+        servicePoiGrid = new PoiGrid<>(servicePois);
     }
 
     private void handleCombat(Reader reader) {
@@ -178,6 +216,8 @@ public class PoiService extends Service {
                 WynntilsMod.warn("Unknown combat type in combat.json: " + combatList.type);
             }
         }
+
+        combatPoiGrid = new PoiGrid<>(getCombatPois().toList());
     }
 
     private void handleCaves(Reader reader) {
@@ -191,6 +231,8 @@ public class PoiService extends Service {
                     return new CombatPoi(PoiLocation.fromLocation(profile.location), profile.name, CombatKind.CAVES);
                 })
                 .collect(Collectors.toUnmodifiableSet()));
+
+        combatPoiGrid = new PoiGrid<>(getCombatPois().toList());
     }
 
     public void loadCustomPoiProviders() {
@@ -206,6 +248,7 @@ public class PoiService extends Service {
                             }
 
                             providedCustomPois.put(poiProvider, ImmutableList.copyOf(pois));
+                            providedCustomPoiGrids.put(poiProvider, new PoiGrid<>(pois));
                         });
             } catch (IllegalArgumentException exception) {
                 WynntilsMod.warn(
@@ -1,11 +1,12 @@
 /*
- * Copyright © Wynntils 2023-2024.
+ * Copyright © Wynntils 2023-2026.
  * This file is released under LGPLv3. See LICENSE for full license details.
  */
 package com.wynntils.services.mapdata;
 
 import com.wynntils.core.WynntilsMod;
 import com.wynntils.core.components.Service;
+import com.wynntils.services.map.PoiGrid;
 import com.wynntils.services.map.pois.Poi;
 import com.wynntils.services.mapdata.attributes.type.MapIcon;
 import com.wynntils.services.mapdata.attributes.type.ResolvedMapAttributes;
@@ -22,7 +23,9 @@ import com.wynntils.services.mapdata.providers.builtin.WaypointsProvider;
 import com.wynntils.services.mapdata.providers.json.JsonProvider;
 import com.wynntils.services.mapdata.type.MapCategory;
 import com.wynntils.services.mapdata.type.MapFeature;
+import com.wynntils.utils.type.BoundingBox;
 import java.io.File;
+import java.util.ArrayList;
 import java.util.Deque;
 import java.util.HashMap;
 import java.util.LinkedList;
@@ -41,6 +44,8 @@ public class MapDataService extends Service {
     private final Map<String, MapDataProvider> allProviders = new HashMap<>();
     private final Map<MapFeature, ResolvedMapAttributes> resolvedAttributesCache = new HashMap<>();
     private final Map<String, Optional<MapIcon>> iconCache = new HashMap<>();
+    // Spatial indexes of the features of each provider, rebuilt when the features of the provider change
+    private final Map<MapDataProvider, FeatureGrid> featureGrids = new HashMap<>();
 
     public MapDataService() {
         super(List.of());
@@ -53,7 +58,40 @@ public class MapDataService extends Service {
     }
 
     public Stream<Poi> getFeaturesAsPois() {
-        return getFeatures().map(feature -> new MapFeaturePoiWrapper(feature, resolveMapAttributes(feature)));
+        return getFeatures().map(this::wrapFeature);
+    }
+
+    /**
+     * Returns the features which can be visible in the given box as POIs. This might include some features
+     * outside the box, so callers still need to do their own exact check.
+     */
+    public List<Poi> getFeaturesAsPois(BoundingBox box) {
+        List<Poi> pois = new ArrayList<>();
+        getProviders().forEach(provider -> {
+            if (provider.hasStaticFeatureLocations()) {
+                pois.addAll(getFeatureGrid(provider).getPois(box));
+            } else {
+                provider.getFeatures().map(this::wrapFeature).forEach(pois::add);
+            }
+        });
+        return pois;
+    }
+
+    private PoiGrid<Poi> getFeatureGrid(MapDataProvider provider) {
+        int revision = provider.getFeatureRevision();
+
+        FeatureGrid featureGrid = featureGrids.get(provider);
+        if (featureGrid == null || featureGrid.revision() != revision) {
+            List<Poi> pois = provider.getFeatures().map(this::wrapFeature).toList();
+            featureGrid = new FeatureGrid(revision, new PoiGrid<>(pois));
+            featureGrids.put(provider, featureGrid);
+        }
+
+        return featureGrid.grid();
+    }
+
+    private Poi wrapFeature(MapFeature feature) {
+        return new MapFeaturePoiWrapper(feature, resolveMapAttributes(feature));
     }
 
     // region Lookup features and resolve attributes
@@ -151,6 +189,7 @@ public class MapDataService extends Service {
         // Invalidate caches
         resolvedAttributesCache.clear();
         iconCache.clear();
+        featureGrids.clear();
     }
 
     private Stream<MapDataProvider> getProviders() {
@@ -208,6 +247,8 @@ public class MapDataService extends Service {
         return 0;
     }
 
+    private record FeatureGrid(int revision, PoiGrid<Poi> grid) {}
+
     private static final class PlaceholderProvider implements MapDataProvider {
         @Override
         public Stream<MapFeature> getFeatures() {
@@ -1,5 +1,5 @@
 /*
- * Copyright © Wynntils 2023-2024.
+ * Copyright © Wynntils 2023-2026.
  * This file is released under LGPLv3. See LICENSE for full license details.
  */
 package com.wynntils.services.mapdata.providers;
@@ -15,4 +15,18 @@ public interface MapDataProvider {
     Stream<MapCategory> getCategories();
 
     Stream<MapIcon> getIcons();
+
+    /**
+     * @return a number which changes whenever the features change, so indexes of the features can be rebuilt
+     */
+    default int getFeatureRevision() {
+        return 0;
+    }
+
+    /**
+     * @return false if the locations of the features can change without the feature revision changing
+     */
+    default boolean hasStaticFeatureLocations() {
+        return true;
+    }
 }
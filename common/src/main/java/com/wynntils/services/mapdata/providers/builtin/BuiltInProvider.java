@@ -1,5 +1,5 @@
 /*
- * Copyright © Wynntils 2023-2024.
+ * Copyright © Wynntils 2023-2026.
  * This file is released under LGPLv3. See LICENSE for full license details.
  */
 package com.wynntils.services.mapdata.providers.builtin;
@@ -8,11 +8,24 @@ import com.wynntils.services.mapdata.attributes.type.MapIcon;
 import com.wynntils.services.mapdata.providers.MapDataProvider;
 import com.wynntils.services.mapdata.type.MapCategory;
 import com.wynntils.services.mapdata.type.MapFeature;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Stream;
 
 public abstract class BuiltInProvider implements MapDataProvider {
+    // Built-in features are registered through static methods, so all built-in providers share one revision
+    private static final AtomicInteger FEATURE_REVISION = new AtomicInteger();
+
     public abstract String getProviderId();
 
+    @Override
+    public int getFeatureRevision() {
+        return FEATURE_REVISION.get();
+    }
+
+    protected static void featuresChanged() {
+        FEATURE_REVISION.incrementAndGet();
+    }
+
     @Override
     public Stream<MapFeature> getFeatures() {
         return Stream.empty();
@@ -1,5 +1,5 @@
 /*
- * Copyright © Wynntils 2023-2024.
+ * Copyright © Wynntils 2023-2026.
  * This file is released under LGPLv3. See LICENSE for full license details.
  */
 package com.wynntils.services.mapdata.providers.builtin;
@@ -36,6 +36,12 @@ public class CharacterProvider extends BuiltInProvider {
         return PROVIDED_CATEGORIES.stream();
     }
 
+    @Override
+    public boolean hasStaticFeatureLocations() {
+        // The location follows the player
+        return false;
+    }
+
     private static final class PlayersCategory implements MapCategory {
         @Override
         public String getCategoryId() {
@@ -1,5 +1,5 @@
 /*
- * Copyright © Wynntils 2023-2025.
+ * Copyright © Wynntils 2023-2026.
  * This file is released under LGPLv3. See LICENSE for full license details.
  */
 package com.wynntils.services.mapdata.providers.builtin;
@@ -31,6 +31,7 @@ public class CombatListProvider extends BuiltInProvider {
 
     public static void registerFeature(Location location, CombatKind kind, String name) {
         PROVIDED_FEATURES.add(new CombatLocation(location, kind, name));
+        featuresChanged();
     }
 
     private static final class CombatLocation implements MapLocation {
@@ -1,5 +1,5 @@
 /*
- * Copyright © Wynntils 2023-2024.
+ * Copyright © Wynntils 2023-2026.
  * This file is released under LGPLv3. See LICENSE for full license details.
  */
 package com.wynntils.services.mapdata.providers.builtin;
@@ -31,6 +31,7 @@ public class PlaceListProvider extends BuiltInProvider {
 
     public static void registerFeature(Label label) {
         PROVIDED_FEATURES.add(new PlaceLocation(label));
+        featuresChanged();
     }
 
     private static final class PlaceLocation implements MapLocation {
@@ -1,5 +1,5 @@
 /*
- * Copyright © Wynntils 2023-2025.
+ * Copyright © Wynntils 2023-2026.
  * This file is released under LGPLv3. See LICENSE for full license details.
  */
 package com.wynntils.services.mapdata.providers.builtin;
@@ -30,6 +30,7 @@ public class ServiceListProvider extends BuiltInProvider {
 
     public static void registerFeature(Location location, ServiceKind kind) {
         PROVIDED_FEATURES.add(new ServiceLocation(location, kind));
+        featuresChanged();
     }
 
     private static final class ServiceLocation implements MapLocation {
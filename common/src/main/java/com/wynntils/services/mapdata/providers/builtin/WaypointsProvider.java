@@ -1,5 +1,5 @@
 /*
- * Copyright © Wynntils 2024-2025.
+ * Copyright © Wynntils 2024-2026.
  * This file is released under LGPLv3. See LICENSE for full license details.
  */
 package com.wynntils.services.mapdata.providers.builtin;
@@ -34,6 +34,7 @@ public class WaypointsProvider extends BuiltInProvider {
 
     public static void resetFeatures() {
         PROVIDED_FEATURES.clear();
+        featuresChanged();
     }
 
     public static void registerFeature(CustomPoi customPoi) {
@@ -56,6 +57,7 @@ public class WaypointsProvider extends BuiltInProvider {
         } else {
             PROVIDED_FEATURES.add(new FoundChestLocation(customPoi.getLocation().asLocation(), tier));
         }
+        featuresChanged();
     }
 
     private static final class WaypointLocation implements MapLocation {
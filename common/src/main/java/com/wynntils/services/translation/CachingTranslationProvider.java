@@ -12,31 +12,50 @@ import com.wynntils.utils.TaskUtils;
 import java.io.File;
 import java.io.IOException;
 import java.lang.reflect.Type;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Consumer;
 import org.apache.commons.io.FileUtils;
 
 public abstract class CachingTranslationProvider implements TranslationProvider {
     private static final File TRANSLATION_CACHE_ROOT = WynntilsMod.getModStorageDir("translationcache");
+    // The single file all translations were kept in, before they were kept in shards per language
+    private static final File LEGACY_TRANSLATION_CACHE = new File(TRANSLATION_CACHE_ROOT, "translations.json");
 
-    // Map language code (String) to a translation map (String -> String)
-    private static Map<String, ConcurrentHashMap<String, List<String>>> translationCaches = new HashMap<>();
-    private static int counter = 0;
+    // How long to wait for more messages to translate together with the first one, in milliseconds
+    private static final int BATCH_WINDOW_MS = 150;
+    private static final int MAX_BATCH_LINES = 32;
+
+    // Map language cache key (namespace and language code) to the translations to that language
+    private static final Map<String, TranslationCache> translationCaches = new ConcurrentHashMap<>();
+    private static final AtomicInteger counter = new AtomicInteger();
+
+    // Map language code to the messages waiting to be translated together, guarded by itself
+    private final Map<String, List<PendingTranslation>> pendingBatches = new HashMap<>();
 
     protected abstract void translateNew(
             List<String> message, String toLanguage, Consumer<List<String>> handleTranslation);
 
     protected abstract String getCacheNamespace();
 
-    protected void saveTranslation(String toLanguage, List<String> message, List<String> translatedMessage) {
-        Map<String, List<String>> translationCache = translationCaches.get(createLanguageCacheKey(toLanguage));
-        translationCache.put(createKey(message), translatedMessage);
-        counter++;
-        if (counter % 16 == 0) {
+    /**
+     * Whether messages can be translated together in one {@link #translateNew} call. The provider must then
+     * return the translated lines in the same order as the lines it was given.
+     */
+    protected boolean supportsBatching() {
+        return false;
+    }
+
+    private void saveTranslation(String toLanguage, List<String> message, List<String> translatedMessage) {
+        getTranslationCache(toLanguage).put(message, translatedMessage);
+
+        if (counter.incrementAndGet() % 16 == 0) {
             // Persist translation cache in background
             TaskUtils.runAsync(CachingTranslationProvider::saveTranslationCache);
         }
@@ -49,64 +68,160 @@ public abstract class CachingTranslationProvider implements TranslationProvider
             return;
         }
 
-        Map<String, List<String>> translationCache =
-                translationCaches.computeIfAbsent(createLanguageCacheKey(toLanguage), k -> new ConcurrentHashMap<>());
-        List<String> cachedTranslation = translationCache.get(createKey(message));
+        List<String> cachedTranslation = getTranslationCache(toLanguage).get(message);
         if (cachedTranslation != null) {
             TaskUtils.runAsync(() -> handleTranslation.accept(cachedTranslation));
             return;
         }
 
-        translateNew(message, toLanguage, handleTranslation);
+        if (!supportsBatching() || message.size() >= MAX_BATCH_LINES) {
+            translateNew(message, toLanguage, translatedMessage -> {
+                if (!translatedMessage.isEmpty()) {
+                    saveTranslation(toLanguage, message, translatedMessage);
+                }
+                handleTranslation.accept(translatedMessage);
+            });
+            return;
+        }
+
+        addToBatch(toLanguage, new PendingTranslation(List.copyOf(message), handleTranslation));
     }
 
-    public static synchronized void saveTranslationCache() {
-        try {
-            if (translationCaches == null) return;
+    private void addToBatch(String toLanguage, PendingTranslation pendingTranslation) {
+        List<PendingTranslation> batchToSend = null;
 
-            File f = new File(TRANSLATION_CACHE_ROOT, "translations.json");
-            String json = WynntilsMod.GSON.toJson(translationCaches);
-            FileUtils.writeStringToFile(f, json, "UTF-8");
-        } catch (IOException e) {
-            WynntilsMod.error("Error when trying to save translation cache.", e);
+        synchronized (pendingBatches) {
+            List<PendingTranslation> batch = pendingBatches.get(toLanguage);
+            if (batch != null && getLineCount(batch) + pendingTranslation.message().size() > MAX_BATCH_LINES) {
+                // The message does not fit, so send the batch right away and start a new one
+                batchToSend = pendingBatches.remove(toLanguage);
+                batch = null;
+            }
+
+            if (batch == null) {
+                batch = new ArrayList<>();
+                pendingBatches.put(toLanguage, batch);
+
+                List<PendingTranslation> newBatch = batch;
+                TaskUtils.schedule(() -> flushBatch(toLanguage, newBatch), BATCH_WINDOW_MS, TimeUnit.MILLISECONDS);
+            }
+
+            batch.add(pendingTranslation);
+        }
+
+        if (batchToSend != null) {
+            translateBatch(toLanguage, batchToSend);
         }
     }
 
+    private void flushBatch(String toLanguage, List<PendingTranslation> batch) {
+        synchronized (pendingBatches) {
+            // The batch may already have been sent because it was full
+            if (pendingBatches.get(toLanguage) != batch) return;
+
+            pendingBatches.remove(toLanguage);
+        }
+
+        translateBatch(toLanguage, batch);
+    }
+
+    private void translateBatch(String toLanguage, List<PendingTranslation> batch) {
+        List<String> lines = new ArrayList<>();
+        for (PendingTranslation pendingTranslation : batch) {
+            lines.addAll(pendingTranslation.message());
+        }
+
+        translateNew(lines, toLanguage, translatedLines -> {
+            if (translatedLines.size() != lines.size()) {
+                // Without a translation for every line, the lines can not be matched to their messages
+                for (PendingTranslation pendingTranslation : batch) {
+                    pendingTranslation.handleTranslation().accept(List.of());
+                }
+                return;
+            }
+
+            int start = 0;
+            for (PendingTranslation pendingTranslation : batch) {
+                int end = start + pendingTranslation.message().size();
+                List<String> translatedMessage = List.copyOf(translatedLines.subList(start, end));
+                start = end;
+
+                saveTranslation(toLanguage, pendingTranslation.message(), translatedMessage);
+                pendingTranslation.handleTranslation().accept(translatedMessage);
+            }
+        });
+    }
+
+    private static int getLineCount(List<PendingTranslation> batch) {
+        int lineCount = 0;
+        for (PendingTranslation pendingTranslation : batch) {
+            lineCount += pendingTranslation.message().size();
+        }
+        return lineCount;
+    }
+
+    private TranslationCache getTranslationCache(String toLanguage) {
+        return translationCaches.computeIfAbsent(
+                createLanguageCacheKey(toLanguage), CachingTranslationProvider::createTranslationCache);
+    }
+
+    private static TranslationCache createTranslationCache(String languageCacheKey) {
+        File directory = new File(TRANSLATION_CACHE_ROOT, TranslationCache.getDirectoryName(languageCacheKey));
+        TranslationCache translationCache = new TranslationCache(directory);
+        translationCache.load();
+        return translationCache;
+    }
+
+    public static synchronized void saveTranslationCache() {
+        translationCaches.values().forEach(TranslationCache::save);
+    }
+
     public static synchronized void loadTranslationCache() {
-        File f = new File(TRANSLATION_CACHE_ROOT, "translations.json");
+        // Caches are loaded again when they are used
+        translationCaches.clear();
 
-        if (!f.exists()) {
-            translationCaches = new HashMap<>();
-            return;
+        if (LEGACY_TRANSLATION_CACHE.exists()) {
+            migrateLegacyTranslationCache();
         }
+    }
 
+    private static void migrateLegacyTranslationCache() {
         try {
-            String json = FileUtils.readFileToString(f, "UTF-8");
-
-            Type type = new TypeToken<HashMap<String, ConcurrentHashMap<String, List<String>>>>() {}.getType();
-            translationCaches = WynntilsMod.GSON.fromJson(json, type);
+            String json = FileUtils.readFileToString(LEGACY_TRANSLATION_CACHE, "UTF-8");
+
+            Type type = new TypeToken<HashMap<String, HashMap<String, List<String>>>>() {}.getType();
+            Map<String, Map<String, List<String>>> legacyCaches = WynntilsMod.GSON.fromJson(json, type);
+
+            if (legacyCaches != null) {
+                for (Map.Entry<String, Map<String, List<String>>> legacyCache : legacyCaches.entrySet()) {
+                    TranslationCache translationCache = createTranslationCache(legacyCache.getKey());
+
+                    // The legacy keys were the lines of the message joined together, which matches the key of a
+                    // message with a single line, like all chat messages
+                    legacyCache
+                            .getValue()
+                            .forEach((message, translation) ->
+                                    translationCache.put(TranslationCache.createKey(List.of(message)), translation));
+                    translationCache.save();
+                }
+            }
         } catch (IOException e) {
             WynntilsMod.error("Error when trying to load translation cache.", e);
+            return;
         } catch (IllegalStateException | JsonSyntaxException e) {
             WynntilsMod.error("Translation cache was corrupt when parsing it. Trying to delete it.", e);
-
-            try {
-                FileUtils.delete(f);
-            } catch (IOException ioException) {
-                WynntilsMod.error("Error when trying to delete translation cache.", ioException);
-            }
-        } finally {
-            if (translationCaches == null) {
-                translationCaches = new HashMap<>();
-            }
         }
-    }
 
-    private String createKey(List<String> message) {
-        return String.join("", message);
+        try {
+            FileUtils.delete(LEGACY_TRANSLATION_CACHE);
+        } catch (IOException ioException) {
+            WynntilsMod.error("Error when trying to delete translation cache.", ioException);
+        }
     }
 
     private String createLanguageCacheKey(String toLanguage) {
         return getCacheNamespace() + ":" + toLanguage.toLowerCase(Locale.ROOT);
     }
+
+    private record PendingTranslation(List<String> message, Consumer<List<String>> handleTranslation) {}
 }
@@ -38,6 +38,11 @@ public class DeepLTranslationProvider extends CachingTranslationProvider {
         return "deepl";
     }
 
+    @Override
+    protected boolean supportsBatching() {
+        return true;
+    }
+
     @Override
     protected void translateNew(List<String> messageList, String toLanguage, Consumer<List<String>> handleTranslation) {
         if (apiKey == null || apiKey.isBlank()) {
@@ -88,7 +93,6 @@ public class DeepLTranslationProvider extends CachingTranslationProvider {
                             result.add(elem.getAsJsonObject().get("text").getAsString());
                         }
 
-                        saveTranslation(toLanguage, messageList, result);
                         handleTranslation.accept(result);
                     } catch (Exception e) {
                         WynntilsMod.error("Failed to parse DeepL API response.", e);
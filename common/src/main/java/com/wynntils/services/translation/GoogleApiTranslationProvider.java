@@ -50,7 +50,6 @@ public class GoogleApiTranslationProvider extends CachingTranslationProvider {
                     String translatedMessage = builder.toString();
                     List<String> result =
                             Arrays.stream(translatedMessage.split("\\{NL\\}")).toList();
-                    saveTranslation(toLanguage, messageList, result);
                     handleTranslation.accept(result);
                 },
                 onError -> {
@@ -4,6 +4,8 @@
  */
 package com.wynntils.services.translation;
 
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
 import com.wynntils.core.WynntilsMod;
 import com.wynntils.utils.TaskUtils;
@@ -44,6 +46,11 @@ public class LibreTranslateProvider extends CachingTranslationProvider {
         return "libretranslate";
     }
 
+    @Override
+    protected boolean supportsBatching() {
+        return true;
+    }
+
     @Override
     protected void translateNew(List<String> messageList, String toLanguage, Consumer<List<String>> handleTranslation) {
         if (toLanguage == null || toLanguage.isBlank()) {
@@ -52,26 +59,19 @@ public class LibreTranslateProvider extends CachingTranslationProvider {
         }
 
         TaskUtils.runAsync(() -> {
-            List<String> results = new ArrayList<>();
-
-            for (String message : messageList) {
-                String translated = translateSingle(message, toLanguage);
-                if (translated == null) {
-                    handleTranslation.accept(List.of());
-                    return;
-                }
-                results.add(translated);
-            }
-
-            saveTranslation(toLanguage, messageList, results);
-            handleTranslation.accept(results);
+            List<String> results = translateAll(messageList, toLanguage);
+            handleTranslation.accept(results == null ? List.of() : results);
         });
     }
 
-    private String translateSingle(String message, String toLanguage) {
+    private List<String> translateAll(List<String> messageList, String toLanguage) {
         try {
+            // LibreTranslate translates all lines of an array in one request
+            JsonArray lines = new JsonArray();
+            messageList.forEach(lines::add);
+
             JsonObject body = new JsonObject();
-            body.addProperty("q", message);
+            body.add("q", lines);
             body.addProperty("source", "en");
             body.addProperty("target", toLanguage);
             body.addProperty("format", "text");
@@ -95,12 +95,23 @@ public class LibreTranslateProvider extends CachingTranslationProvider {
             }
 
             JsonObject json = WynntilsMod.GSON.fromJson(response.body(), JsonObject.class);
-            if (json == null || !json.has("translatedText")) {
+            if (json == null || !json.has("translatedText") || !json.get("translatedText").isJsonArray()) {
                 WynntilsMod.warn("LibreTranslate API returned no translatedText field.");
                 return null;
             }
 
-            return json.get("translatedText").getAsString();
+            List<String> results = new ArrayList<>();
+            for (JsonElement translated : json.getAsJsonArray("translatedText")) {
+                results.add(translated.getAsString());
+            }
+
+            if (results.size() != messageList.size()) {
+                WynntilsMod.warn("LibreTranslate API returned " + results.size() + " translations for "
+                        + messageList.size() + " lines.");
+                return null;
+            }
+
+            return results;
         } catch (Exception e) {
             WynntilsMod.error("LibreTranslate API request failed.", e);
             return null;
@@ -5,7 +5,10 @@
 package com.wynntils.services.translation;
 
 import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
+import com.google.gson.JsonParseException;
+import com.google.gson.JsonParser;
 import com.wynntils.core.WynntilsMod;
 import com.wynntils.utils.TaskUtils;
 import java.net.URI;
@@ -44,6 +47,11 @@ public class OllamaTranslationProvider extends CachingTranslationProvider {
         return "ollama:" + model;
     }
 
+    @Override
+    protected boolean supportsBatching() {
+        return true;
+    }
+
     @Override
     protected void translateNew(List<String> messageList, String toLanguage, Consumer<List<String>> handleTranslation) {
         if (toLanguage == null || toLanguage.isBlank()) {
@@ -52,6 +60,14 @@ public class OllamaTranslationProvider extends CachingTranslationProvider {
         }
 
         TaskUtils.runAsync(() -> {
+            if (messageList.size() > 1) {
+                List<String> translatedMessages = translateAll(messageList, toLanguage);
+                if (translatedMessages != null) {
+                    handleTranslation.accept(translatedMessages);
+                    return;
+                }
+            }
+
             List<String> translatedMessages = new ArrayList<>();
 
             for (String message : messageList) {
@@ -63,12 +79,50 @@ public class OllamaTranslationProvider extends CachingTranslationProvider {
                 translatedMessages.add(translatedMessage);
             }
 
-            saveTranslation(toLanguage, messageList, translatedMessages);
             handleTranslation.accept(translatedMessages);
         });
     }
 
+    private List<String> translateAll(List<String> messageList, String toLanguage) {
+        JsonArray lines = new JsonArray();
+        messageList.forEach(lines::add);
+
+        String content = chat(
+                "You are a translation engine. Translate each string of the user's JSON array of English text into "
+                        + "the requested target language. Preserve placeholders like {§a}, [§1], and <§2> exactly. "
+                        + "Return only a JSON array of strings with the translations, in the same order.",
+                "Target language code: " + toLanguage + "\nText:\n" + lines);
+        if (content == null) return null;
+
+        try {
+            // Models often wrap their answer in a code block, so only parse the array itself
+            int start = content.indexOf('[');
+            int end = content.lastIndexOf(']');
+            if (start < 0 || end < start) return null;
+
+            JsonArray translatedLines = JsonParser.parseString(content.substring(start, end + 1)).getAsJsonArray();
+            if (translatedLines.size() != messageList.size()) return null;
+
+            List<String> translatedMessages = new ArrayList<>();
+            for (JsonElement translatedLine : translatedLines) {
+                translatedMessages.add(translatedLine.getAsString().trim());
+            }
+            return translatedMessages;
+        } catch (JsonParseException | IllegalStateException | UnsupportedOperationException e) {
+            // Translate line by line instead
+            return null;
+        }
+    }
+
     private String translateSingle(String message, String toLanguage) {
+        return chat(
+                "You are a translation engine. Translate the user's English text into the requested target language. "
+                        + "Preserve placeholders like {§a}, [§1], and <§2> exactly. "
+                        + "Return only the translated text.",
+                "Target language code: " + toLanguage + "\nText:\n" + message);
+    }
+
+    private String chat(String systemPrompt, String userContent) {
         try {
             JsonObject requestBody = new JsonObject();
             requestBody.addProperty("model", model);
@@ -78,15 +132,12 @@ public class OllamaTranslationProvider extends CachingTranslationProvider {
 
             JsonObject systemMessage = new JsonObject();
             systemMessage.addProperty("role", "system");
-            systemMessage.addProperty(
-                    "content",
-                    "You are a translation engine. Translate the user's English text into the requested target language. "
-                            + "Preserve placeholders like {§a}, [§1], and <§2> exactly. Return only the translated text.");
+            systemMessage.addProperty("content", systemPrompt);
             messages.add(systemMessage);
 
             JsonObject userMessage = new JsonObject();
             userMessage.addProperty("role", "user");
-            userMessage.addProperty("content", "Target language code: " + toLanguage + "\nText:\n" + message);
+            userMessage.addProperty("content", userContent);
             messages.add(userMessage);
 
             requestBody.add("messages", messages);
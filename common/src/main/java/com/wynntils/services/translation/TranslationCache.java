@@ -0,0 +1,195 @@
+/*
+ * Copyright © Wynntils 2026.
+ * This file is released under LGPLv3. See LICENSE for full license details.
+ */
+package com.wynntils.services.translation;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParseException;
+import com.google.gson.JsonParser;
+import com.wynntils.core.WynntilsMod;
+import com.wynntils.utils.FileUtils;
+import com.wynntils.utils.MD5Verification;
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * A size-bounded cache of the translations to one language, persisted as append-only shards.
+ *
+ * Translations are keyed by a hash of the message lines, and the least recently used translations are dropped
+ * when the cache is full. Saving only appends the new translations to the newest shard, instead of writing the
+ * whole cache again. Once the shards hold a lot of dropped translations, they are replaced by shards with only the
+ * cached translations.
+ */
+final class TranslationCache {
+    private static final int MAX_ENTRIES = 4096;
+    private static final int MAX_SHARD_ENTRIES = 1024;
+    private static final Pattern SHARD_FILE_PATTERN = Pattern.compile("^shard-(\\d+)\\.jsonl$");
+    // Separates the lines of a message when hashing it, as it can not be part of a chat message
+    private static final String LINE_SEPARATOR = "\u0000";
+
+    private final File directory;
+    private final Map<String, List<String>> entries = new LinkedHashMap<>(256, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, List<String>> eldest) {
+            return size() > MAX_ENTRIES;
+        }
+    };
+    private final Map<String, List<String>> unsavedEntries = new LinkedHashMap<>();
+
+    private int shardIndex = 0;
+    private int shardEntries = 0;
+    private int persistedEntries = 0;
+
+    TranslationCache(File directory) {
+        this.directory = directory;
+    }
+
+    static String createKey(List<String> message) {
+        return new MD5Verification(String.join(LINE_SEPARATOR, message).getBytes(StandardCharsets.UTF_8)).getMd5();
+    }
+
+    synchronized List<String> get(List<String> message) {
+        return entries.get(createKey(message));
+    }
+
+    synchronized void put(List<String> message, List<String> translation) {
+        put(createKey(message), translation);
+    }
+
+    synchronized void put(String key, List<String> translation) {
+        List<String> copy = List.copyOf(translation);
+        entries.put(key, copy);
+        unsavedEntries.put(key, copy);
+    }
+
+    synchronized void load() {
+        entries.clear();
+        unsavedEntries.clear();
+        shardIndex = 0;
+        shardEntries = 0;
+        persistedEntries = 0;
+
+        for (File shard : getShards()) {
+            shardIndex = getShardIndex(shard);
+            shardEntries = 0;
+
+            try (BufferedReader reader = Files.newBufferedReader(shard.toPath(), StandardCharsets.UTF_8)) {
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    if (line.isBlank()) continue;
+
+                    JsonObject json = JsonParser.parseString(line).getAsJsonObject();
+                    List<String> translation = new ArrayList<>();
+                    for (JsonElement element : json.getAsJsonArray("translation")) {
+                        translation.add(element.getAsString());
+                    }
+
+                    entries.put(json.get("key").getAsString(), List.copyOf(translation));
+                    shardEntries++;
+                    persistedEntries++;
+                }
+            } catch (IOException | JsonParseException | IllegalStateException | NullPointerException e) {
+                // A shard that was cut off while writing only loses the translations after the broken line
+                WynntilsMod.warn("Translation cache shard " + shard.getName() + " is corrupt, skipping the rest.");
+            }
+        }
+    }
+
+    synchronized void save() {
+        if (unsavedEntries.isEmpty()) return;
+
+        try {
+            FileUtils.mkdir(directory);
+
+            if (persistedEntries + unsavedEntries.size() > MAX_ENTRIES * 2) {
+                compact();
+            } else {
+                appendToShards(new ArrayList<>(unsavedEntries.entrySet()));
+            }
+
+            unsavedEntries.clear();
+        } catch (IOException e) {
+            WynntilsMod.error("Error when trying to save translation cache.", e);
+        }
+    }
+
+    private void compact() throws IOException {
+        List<File> oldShards = getShards();
+
+        // Write the new shards after the old ones, so nothing is lost if the game stops in between
+        shardIndex++;
+        shardEntries = 0;
+        persistedEntries = 0;
+        appendToShards(new ArrayList<>(entries.entrySet()));
+
+        for (File shard : oldShards) {
+            Files.deleteIfExists(shard.toPath());
+        }
+    }
+
+    private void appendToShards(List<Map.Entry<String, List<String>>> toAppend) throws IOException {
+        int written = 0;
+        while (written < toAppend.size()) {
+            if (shardEntries >= MAX_SHARD_ENTRIES) {
+                shardIndex++;
+                shardEntries = 0;
+            }
+
+            int count = Math.min(MAX_SHARD_ENTRIES - shardEntries, toAppend.size() - written);
+            File shard = new File(directory, "shard-" + shardIndex + ".jsonl");
+
+            try (BufferedWriter writer = Files.newBufferedWriter(
+                    shard.toPath(), StandardCharsets.UTF_8, StandardOpenOption.CREATE, StandardOpenOption.APPEND)) {
+                for (Map.Entry<String, List<String>> entry : toAppend.subList(written, written + count)) {
+                    JsonObject json = new JsonObject();
+                    json.addProperty("key", entry.getKey());
+                    JsonArray translation = new JsonArray();
+                    entry.getValue().forEach(translation::add);
+                    json.add("translation", translation);
+
+                    writer.write(json.toString());
+                    writer.newLine();
+                }
+            }
+
+            written += count;
+            shardEntries += count;
+            persistedEntries += count;
+        }
+    }
+
+    private List<File> getShards() {
+        File[] files = directory.listFiles((dir, name) -> SHARD_FILE_PATTERN.matcher(name).matches());
+        if (files == null) return List.of();
+
+        return Arrays.stream(files)
+                .sorted(Comparator.comparingInt(TranslationCache::getShardIndex))
+                .toList();
+    }
+
+    private static int getShardIndex(File shard) {
+        Matcher matcher = SHARD_FILE_PATTERN.matcher(shard.getName());
+        return matcher.matches() ? Integer.parseInt(matcher.group(1)) : -1;
+    }
+
+    static String getDirectoryName(String languageCacheKey) {
+        return languageCacheKey.toLowerCase(Locale.ROOT).replaceAll("[^a-z0-9._-]", "_");
+    }
+}
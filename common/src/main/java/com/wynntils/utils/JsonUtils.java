@@ -1,14 +1,19 @@
 /*
- * Copyright © Wynntils 2023-2025.
+ * Copyright © Wynntils 2023-2026.
  * This file is released under LGPLv3. See LICENSE for full license details.
  */
 package com.wynntils.utils;
 
 import com.google.gson.JsonArray;
 import com.google.gson.JsonElement;
+import com.google.gson.JsonIOException;
 import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import com.google.gson.stream.JsonReader;
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.function.BiConsumer;
 
 public final class JsonUtils {
     public static String getNullableJsonString(JsonObject json, String key) {
@@ -72,4 +77,20 @@ public final class JsonUtils {
 
         return result;
     }
+
+    /**
+     * Reads a JSON object of objects one entry at a time, so the complete object never has to be kept in memory.
+     */
+    public static void forEachObjectEntry(JsonReader reader, BiConsumer<String, JsonObject> entryConsumer) {
+        try {
+            reader.beginObject();
+            while (reader.hasNext()) {
+                String key = reader.nextName();
+                entryConsumer.accept(key, JsonParser.parseReader(reader).getAsJsonObject());
+            }
+            reader.endObject();
+        } catch (IOException e) {
+            throw new JsonIOException(e);
+        }
+    }
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright © Wynntils 2021-2024.
+ * Copyright © Wynntils 2021-2026.
  * This file is released under LGPLv3. See LICENSE for full license details.
  */
 package com.wynntils.utils.mc;
@@ -33,7 +33,7 @@ public final class LoreUtils {
         List<Component> lines =
                 itemStack.getOrDefault(DataComponents.LORE, ItemLore.EMPTY).lines();
         return lines.stream()
-                .map(StyledText::fromComponent)
+                .map(StyledText::fromComponentInterned)
                 .collect(LinkedList::new, LinkedList::add, LinkedList::addAll);
     }
 
@@ -4,6 +4,7 @@
  */
 package com.wynntils.utils.render;
 
+import com.wynntils.core.components.Services;
 import com.wynntils.services.lootrunpaths.LootrunPathInstance;
 import com.wynntils.services.map.MapTexture;
 import com.wynntils.services.map.pois.Poi;
@@ -18,11 +19,13 @@ import com.wynntils.utils.render.type.PointerType;
 import com.wynntils.utils.type.BoundingBox;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
 import java.util.Set;
 import net.minecraft.client.gui.GuiGraphics;
 import net.minecraft.client.gui.navigation.ScreenRectangle;
 import net.minecraft.client.gui.render.TextureSetup;
 import net.minecraft.core.BlockPos;
+import net.minecraft.resources.Identifier;
 import net.minecraft.world.level.ChunkPos;
 import org.joml.Matrix3x2f;
 import org.joml.Vector2d;
@@ -97,14 +100,17 @@ public final class MapRenderer {
         float sx2 = centerX + (vx2 - mapCenterX) * zoomRenderScale;
         float sy2 = centerZ + (vz2 - mapCenterZ) * zoomRenderScale;
 
-        float u1 = (vx1 - x1);
-        float v1 = (vz1 - z1);
-        float u2 = (vx2 - x1);
-        float v2 = (vz2 - z1);
+        Optional<Identifier> identifier = Services.Map.getTileTexture(map);
+        if (identifier.isEmpty()) return;
+
+        float u1 = map.getTextureXPosition(vx1);
+        float v1 = map.getTextureZPosition(vz1);
+        float u2 = map.getTextureXPosition(vx2);
+        float v2 = map.getTextureZPosition(vz2);
 
         RenderUtils.drawTexturedRect(
                 guiGraphics,
-                map.identifier(),
+                identifier.get(),
                 CommonColors.WHITE,
                 sx1,
                 sy1,
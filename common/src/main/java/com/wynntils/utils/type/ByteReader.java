@@ -0,0 +1,120 @@
+/*
+ * Copyright © Wynntils 2026.
+ * This file is released under LGPLv3. See LICENSE for full license details.
+ */
+package com.wynntils.utils.type;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Reads unsigned bytes from a byte array, without copying or boxing them.
+ *
+ * The array is shared with the reader, so it must not be modified while reading.
+ */
+public final class ByteReader {
+    private final byte[] bytes;
+    private final int end;
+    private int position;
+
+    public ByteReader(byte[] bytes) {
+        this(bytes, 0, bytes.length);
+    }
+
+    public ByteReader(byte[] bytes, int offset, int length) {
+        if (offset < 0 || length < 0 || offset + length > bytes.length) {
+            throw new IndexOutOfBoundsException(
+                    "Invalid range " + offset + "+" + length + " for an array of length " + bytes.length);
+        }
+
+        this.bytes = bytes;
+        this.position = offset;
+        this.end = offset + length;
+    }
+
+    /**
+     * Returns the next byte as an unsigned value, from 0 to 255, without advancing.
+     */
+    public int peek() {
+        return peek(0);
+    }
+
+    /**
+     * Returns the byte at the given offset from the current position as an unsigned value, without advancing.
+     */
+    public int peek(int offset) {
+        checkRemaining(offset + 1);
+        return bytes[position + offset] & 0xFF;
+    }
+
+    /**
+     * Reads the next byte as an unsigned value, from 0 to 255.
+     */
+    public int read() {
+        checkRemaining(1);
+        return bytes[position++] & 0xFF;
+    }
+
+    /**
+     * Reads the next byte as a signed value.
+     */
+    public byte readByte() {
+        checkRemaining(1);
+        return bytes[position++];
+    }
+
+    public byte[] read(int length) {
+        checkRemaining(length);
+        byte[] result = Arrays.copyOfRange(bytes, position, position + length);
+        position += length;
+        return result;
+    }
+
+    public byte[] readRemaining() {
+        return read(remaining());
+    }
+
+    /**
+     * Reads an integer written by {@link ByteWriter#writeVariableSizedInteger(long)}.
+     */
+    public long readVariableSizedInteger() {
+        long value = 0;
+
+        // If the highest bit is set, the value continues in the next byte
+        int numBytes = 0;
+        int nextByte;
+        do {
+            nextByte = read();
+            value |= (long) (nextByte & 0x7F) << (7 * numBytes);
+            numBytes++;
+        } while ((nextByte & 0x80) != 0);
+
+        // Use zig-zag encoding to decode negative numbers
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    /**
+     * Reads the given number of bytes as an ASCII string.
+     */
+    public String readString(int length) {
+        checkRemaining(length);
+        String result = new String(bytes, position, length, StandardCharsets.US_ASCII);
+        position += length;
+        return result;
+    }
+
+    public int remaining() {
+        return end - position;
+    }
+
+    public boolean hasRemaining() {
+        return position < end;
+    }
+
+    private void checkRemaining(int length) {
+        // Throw an exception if we try to read past the end of the array
+        if (length < 0 || length > end - position) {
+            throw new ArrayIndexOutOfBoundsException("Tried to read past the end of the array");
+        }
+    }
+}
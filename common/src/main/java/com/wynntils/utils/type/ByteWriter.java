@@ -0,0 +1,93 @@
+/*
+ * Copyright © Wynntils 2026.
+ * This file is released under LGPLv3. See LICENSE for full license details.
+ */
+package com.wynntils.utils.type;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Writes bytes into a growing byte array, without boxing them.
+ */
+public final class ByteWriter {
+    private static final int DEFAULT_CAPACITY = 64;
+
+    private byte[] bytes;
+    private int size = 0;
+
+    public ByteWriter() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public ByteWriter(int initialCapacity) {
+        this.bytes = new byte[Math.max(initialCapacity, 1)];
+    }
+
+    /**
+     * Writes the lowest 8 bits of the value as a single byte.
+     */
+    public void write(int value) {
+        ensureCapacity(size + 1);
+        bytes[size++] = (byte) value;
+    }
+
+    public void write(byte[] values) {
+        ensureCapacity(size + values.length);
+        System.arraycopy(values, 0, bytes, size, values.length);
+        size += values.length;
+    }
+
+    /**
+     * Writes an integer using as few bytes as needed. Small values, both positive and negative, use a single byte.
+     */
+    public void writeVariableSizedInteger(long value) {
+        // Use zig-zag encoding to encode negative numbers
+        // (this gets rid of the sign bit, so we only work with positive numbers)
+        value = (value << 1) ^ (value >> 63);
+
+        // Store 7 bits of the source data in the target byte. Use the highest bit to mark if we're done.
+        // If it is 0, then we're done, and the byte is exactly the value we wanted.
+        // If it is 1, use the 7 bits we have, and grab the next 7 bits from the next byte.
+        while ((value & ~0x7FL) != 0) {
+            write((int) (value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+
+        write((int) value);
+    }
+
+    /**
+     * Writes an ASCII string, terminated by a 0 byte.
+     *
+     * @throws IllegalArgumentException if the string contains non-ASCII characters
+     */
+    public void writeString(String string) {
+        // Check if the string only contains ASCII characters
+        for (int i = 0; i < string.length(); i++) {
+            if (string.charAt(i) > 127) {
+                throw new IllegalArgumentException("String contains non-ASCII characters");
+            }
+        }
+
+        // Strings are encoded by encoding the char's ASCII value
+        write(string.getBytes(StandardCharsets.US_ASCII));
+
+        // NULL terminate the string
+        write(0);
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public byte[] toByteArray() {
+        return Arrays.copyOf(bytes, size);
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity <= bytes.length) return;
+
+        bytes = Arrays.copyOf(bytes, Math.max(capacity, bytes.length * 2));
+    }
+}
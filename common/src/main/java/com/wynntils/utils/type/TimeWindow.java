@@ -0,0 +1,162 @@
+/*
+ * Copyright © Wynntils 2026.
+ * This file is released under LGPLv3. See LICENSE for full license details.
+ */
+package com.wynntils.utils.type;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Keeps the values added in a sliding time window, summed into fixed time buckets.
+ *
+ * Adding a value is O(1), and querying the last N seconds is O(buckets), no matter how many values were added. The
+ * values are not kept, so queries are only as precise as the bucket length. Values older than the duration of the
+ * window are dropped.
+ */
+public final class TimeWindow {
+    private final long bucketMillis;
+    private final int bucketCount;
+
+    // The bucket number (time / bucket length) each slot currently holds
+    private final long[] bucketNumbers;
+    private final double[] sums;
+    private final double[] maxes;
+    private final int[] counts;
+
+    private long lastAddedTimestamp = 0;
+
+    public TimeWindow(long duration, TimeUnit unit, long bucketDuration, TimeUnit bucketUnit) {
+        this.bucketMillis = bucketUnit.toMillis(bucketDuration);
+        this.bucketCount = (int) Math.ceilDiv(unit.toMillis(duration), bucketMillis);
+
+        this.bucketNumbers = new long[bucketCount];
+        this.sums = new double[bucketCount];
+        this.maxes = new double[bucketCount];
+        this.counts = new int[bucketCount];
+
+        clear();
+    }
+
+    public void add(double value) {
+        add(value, System.currentTimeMillis());
+    }
+
+    public void add(double value, long timestamp) {
+        long bucketNumber = timestamp / bucketMillis;
+        int slot = (int) Math.floorMod(bucketNumber, bucketCount);
+
+        // The value is older than the window
+        if (bucketNumbers[slot] > bucketNumber) return;
+
+        if (bucketNumbers[slot] != bucketNumber) {
+            // The slot holds an expired bucket, reuse it
+            bucketNumbers[slot] = bucketNumber;
+            sums[slot] = 0;
+            maxes[slot] = Double.NEGATIVE_INFINITY;
+            counts[slot] = 0;
+        }
+
+        sums[slot] += value;
+        maxes[slot] = Math.max(maxes[slot], value);
+        counts[slot]++;
+
+        lastAddedTimestamp = Math.max(lastAddedTimestamp, timestamp);
+    }
+
+    public void clear() {
+        Arrays.fill(bucketNumbers, Long.MIN_VALUE);
+        Arrays.fill(sums, 0);
+        Arrays.fill(maxes, Double.NEGATIVE_INFINITY);
+        Arrays.fill(counts, 0);
+        lastAddedTimestamp = 0;
+    }
+
+    /**
+     * @return the timestamp of the last added value, or 0 if no value was added since the window was cleared
+     */
+    public long getLastAddedTimestamp() {
+        return lastAddedTimestamp;
+    }
+
+    public double getSum(long duration, TimeUnit unit) {
+        return getSum(unit.toMillis(duration), System.currentTimeMillis());
+    }
+
+    public double getSum(long durationMillis, long now) {
+        double sum = 0;
+        for (long bucket = getOldestBucket(durationMillis, now); bucket <= now / bucketMillis; bucket++) {
+            int slot = getSlot(bucket);
+            if (slot != -1) {
+                sum += sums[slot];
+            }
+        }
+        return sum;
+    }
+
+    public int getCount(long duration, TimeUnit unit) {
+        return getCount(unit.toMillis(duration), System.currentTimeMillis());
+    }
+
+    public int getCount(long durationMillis, long now) {
+        int count = 0;
+        for (long bucket = getOldestBucket(durationMillis, now); bucket <= now / bucketMillis; bucket++) {
+            int slot = getSlot(bucket);
+            if (slot != -1) {
+                count += counts[slot];
+            }
+        }
+        return count;
+    }
+
+    /**
+     * @return the largest value added in the duration, or 0 if no value was added
+     */
+    public double getMax(long duration, TimeUnit unit) {
+        return getMax(unit.toMillis(duration), System.currentTimeMillis());
+    }
+
+    public double getMax(long durationMillis, long now) {
+        double max = Double.NEGATIVE_INFINITY;
+        for (long bucket = getOldestBucket(durationMillis, now); bucket <= now / bucketMillis; bucket++) {
+            int slot = getSlot(bucket);
+            if (slot != -1) {
+                max = Math.max(max, maxes[slot]);
+            }
+        }
+        return max == Double.NEGATIVE_INFINITY ? 0 : max;
+    }
+
+    /**
+     * @return the average of the values added in the duration, or 0 if no value was added
+     */
+    public double getAverage(long duration, TimeUnit unit) {
+        long now = System.currentTimeMillis();
+        long durationMillis = unit.toMillis(duration);
+
+        int count = getCount(durationMillis, now);
+        return count == 0 ? 0 : getSum(durationMillis, now) / count;
+    }
+
+    /**
+     * @return the sum of the values added in the duration, per second
+     */
+    public double getRatePerSecond(long duration, TimeUnit unit) {
+        long durationMillis = unit.toMillis(duration);
+        return getSum(durationMillis, System.currentTimeMillis()) / (durationMillis / 1000d);
+    }
+
+    private long getOldestBucket(long durationMillis, long now) {
+        // The current bucket is only partly in the window, so it counts as one of the buckets of the duration
+        long windowBuckets = Math.min(Math.max(durationMillis / bucketMillis, 1), bucketCount);
+        return now / bucketMillis - windowBuckets + 1;
+    }
+
+    /**
+     * @return the slot holding the bucket, or -1 if the bucket has no values
+     */
+    private int getSlot(long bucket) {
+        int slot = (int) Math.floorMod(bucket, bucketCount);
+        return bucketNumbers[slot] == bucket ? slot : -1;
+    }
+}
@@ -0,0 +1,104 @@
+/*
+ * Copyright © Wynntils 2026.
+ * This file is released under LGPLv3. See LICENSE for full license details.
+ */
+package com.wynntils.benchmarks;
+
+import com.google.gson.stream.JsonReader;
+import com.wynntils.core.WynntilsMod;
+import com.wynntils.core.components.Managers;
+import com.wynntils.core.components.Models;
+import com.wynntils.core.net.QueuedDownload;
+import com.wynntils.core.net.UrlId;
+import com.wynntils.models.gear.type.GearInfo;
+import com.wynntils.models.gear.type.GearInstance;
+import com.wynntils.models.items.items.game.GearItem;
+import com.wynntils.models.stats.type.StatActualValue;
+import com.wynntils.models.stats.type.StatPossibleValues;
+import com.wynntils.utils.type.RangedValue;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Sets up the mod for benchmarks, and creates items from gear data recorded in the benchmark resources.
+ */
+final class BenchmarkData {
+    // A recorded subset of the static gear data, so benchmarks neither need the network nor a ticking client
+    private static final String GEAR_DATA_RESOURCE = "/benchmarks/gear.json";
+
+    private static boolean gearDataLoaded = false;
+
+    private BenchmarkData() {}
+
+    static void setup() {
+        WynntilsMod.setupTestEnv();
+    }
+
+    /**
+     * Loads the recorded gear data, and returns the given number of gear infos,
+     * repeating them if there are not as many.
+     */
+    static List<GearInfo> getGearInfos(int count) {
+        setup();
+        loadGearData();
+
+        // Sort them, so every run uses the same items
+        List<GearInfo> allGearInfos = Models.Gear.getAllGearInfos()
+                .sorted(Comparator.comparing(GearInfo::name))
+                .toList();
+        if (allGearInfos.isEmpty()) {
+            throw new IllegalStateException("No gear data is available for the benchmarks");
+        }
+
+        List<GearInfo> gearInfos = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            gearInfos.add(allGearInfos.get(i % allGearInfos.size()));
+        }
+        return gearInfos;
+    }
+
+    /**
+     * Creates an identified gear item, with all its stats at the highest possible roll.
+     */
+    static GearItem createGearItem(GearInfo gearInfo) {
+        List<StatActualValue> identifications = new ArrayList<>();
+        for (StatPossibleValues possibleValues : gearInfo.getPossibleValueList()) {
+            identifications.add(new StatActualValue(
+                    possibleValues.statType(), possibleValues.range().high(), 0, RangedValue.NONE));
+        }
+
+        GearInstance gearInstance = GearInstance.create(
+                gearInfo, identifications, List.of(), 0, Optional.empty(), true, Optional.empty());
+        return new GearItem(gearInfo, gearInstance);
+    }
+
+    private static synchronized void loadGearData() {
+        if (gearDataLoaded) return;
+
+        // Feed the recorded data to the handler the gear model registered for the static gear download
+        QueuedDownload gearDownload = Managers.Download.registeredDownloads().stream()
+                .filter(download -> download.urlId() == UrlId.DATA_STATIC_GEAR)
+                .findFirst()
+                .orElseThrow(() -> new IllegalStateException("The static gear download is not registered"));
+
+        InputStream inputStream = BenchmarkData.class.getResourceAsStream(GEAR_DATA_RESOURCE);
+        if (inputStream == null) {
+            throw new IllegalStateException("Missing benchmark resource " + GEAR_DATA_RESOURCE);
+        }
+
+        try (JsonReader reader = new JsonReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8))) {
+            gearDownload.onCompletionJsonReader().accept(reader);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read " + GEAR_DATA_RESOURCE, e);
+        }
+
+        gearDataLoaded = true;
+    }
+}
@@ -0,0 +1,61 @@
+/*
+ * Copyright © Wynntils 2026.
+ * This file is released under LGPLv3. See LICENSE for full license details.
+ */
+package com.wynntils.benchmarks;
+
+import com.wynntils.core.components.Managers;
+import com.wynntils.core.text.StyledText;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@State(Scope.Benchmark)
+public class FunctionBenchmark {
+    // The template of the stopwatch overlay
+    private static final String STOPWATCH_TEMPLATE =
+            "{if_str(stopwatch_zero;\"\";concat(if_str(stopwatch_running;\"\";\"&e\");leading_zeros(stopwatch_hours;2);\":\";leading_zeros(stopwatch_minutes;2);\":\";leading_zeros(stopwatch_seconds;2);\".\";leading_zeros(stopwatch_milliseconds;3)))}";
+
+    // A custom info box, using functions which do not need to be connected to the server
+    private static final String INFO_BOX_TEMPLATE =
+            "&6Total: &e{int(add(mul(5;6);div(100;4)))}\\n&bPercent: {format(div(1234;5678))}%\\n&7{repeat(\"=\";10)}";
+
+    @Setup
+    public void setup() {
+        BenchmarkData.setup();
+    }
+
+    // Invalidate before formatting, so every invocation calculates the template instead of reusing the last lines
+    @Benchmark
+    public StyledText[] stopwatchTemplate() {
+        Managers.Function.invalidateAllTemplates();
+        return Managers.Function.doFormatLines(STOPWATCH_TEMPLATE);
+    }
+
+    @Benchmark
+    public StyledText[] infoBoxTemplate() {
+        Managers.Function.invalidateAllTemplates();
+        return Managers.Function.doFormatLines(INFO_BOX_TEMPLATE);
+    }
+
+    @Benchmark
+    public StyledText[] stopwatchTemplateCached() {
+        return Managers.Function.doFormatLines(STOPWATCH_TEMPLATE);
+    }
+
+    @Benchmark
+    public StyledText[] infoBoxTemplateCached() {
+        return Managers.Function.doFormatLines(INFO_BOX_TEMPLATE);
+    }
+}
@@ -0,0 +1,79 @@
+/*
+ * Copyright © Wynntils 2026.
+ * This file is released under LGPLv3. See LICENSE for full license details.
+ */
+package com.wynntils.benchmarks;
+
+import com.wynntils.core.components.Models;
+import com.wynntils.models.gear.type.GearInfo;
+import com.wynntils.models.items.WynnItem;
+import com.wynntils.models.items.encoding.type.EncodingSettings;
+import com.wynntils.utils.EncodedByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@State(Scope.Benchmark)
+public class ItemEncodingBenchmark {
+    private static final int ITEM_COUNT = 100;
+    private static final EncodingSettings ENCODING_SETTINGS = new EncodingSettings(false, true);
+
+    private final List<WynnItem> items = new ArrayList<>();
+    private final List<String> itemNames = new ArrayList<>();
+    private final List<EncodedByteBuffer> encodedItems = new ArrayList<>();
+    private final List<String> encodedStrings = new ArrayList<>();
+
+    @Setup
+    public void setup() {
+        for (GearInfo gearInfo : BenchmarkData.getGearInfos(ITEM_COUNT)) {
+            WynnItem item = BenchmarkData.createGearItem(gearInfo);
+            EncodedByteBuffer encodedItem = Models.ItemEncoding.encodeItem(item, ENCODING_SETTINGS).getValue();
+
+            items.add(item);
+            itemNames.add(gearInfo.name());
+            encodedItems.add(encodedItem);
+            encodedStrings.add(encodedItem.toUtf16String());
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ITEM_COUNT)
+    public void encode(Blackhole blackhole) {
+        for (WynnItem item : items) {
+            blackhole.consume(Models.ItemEncoding.encodeItem(item, ENCODING_SETTINGS));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ITEM_COUNT)
+    public void decode(Blackhole blackhole) {
+        for (int i = 0; i < ITEM_COUNT; i++) {
+            blackhole.consume(Models.ItemEncoding.decodeItem(encodedItems.get(i), itemNames.get(i)));
+        }
+    }
+
+    // This is what happens for every shared item in chat
+    @Benchmark
+    @OperationsPerInvocation(ITEM_COUNT)
+    public void decodeFromChatString(Blackhole blackhole) {
+        for (int i = 0; i < ITEM_COUNT; i++) {
+            EncodedByteBuffer encodedItem = EncodedByteBuffer.fromUtf16String(encodedStrings.get(i));
+            blackhole.consume(Models.ItemEncoding.decodeItem(encodedItem, itemNames.get(i)));
+        }
+    }
+}
@@ -0,0 +1,53 @@
+/*
+ * Copyright © Wynntils 2026.
+ * This file is released under LGPLv3. See LICENSE for full license details.
+ */
+package com.wynntils.benchmarks;
+
+import com.wynntils.core.components.Services;
+import com.wynntils.screens.guides.gear.GuideGearItemStack;
+import com.wynntils.services.itemfilter.type.ItemProviderType;
+import com.wynntils.services.itemfilter.type.ItemSearchQuery;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@State(Scope.Benchmark)
+public class ItemFilterBenchmark {
+    private static final int ITEM_COUNT = 1000;
+
+    @Param({"", "sort:level", "helmet lvl:>=60 sort:^level,rarity", "rarity:Mythic,Fabled lvl:80-106"})
+    private String query;
+
+    private List<GuideGearItemStack> items;
+    private ItemSearchQuery searchQuery;
+
+    @Setup
+    public void setup() {
+        items = BenchmarkData.getGearInfos(ITEM_COUNT).stream().map(GuideGearItemStack::new).toList();
+        searchQuery = Services.ItemFilter.createSearchQuery(query, true, List.of(ItemProviderType.values()));
+    }
+
+    @Benchmark
+    public ItemSearchQuery createSearchQuery() {
+        return Services.ItemFilter.createSearchQuery(query, true, List.of(ItemProviderType.values()));
+    }
+
+    @Benchmark
+    public List<GuideGearItemStack> filterAndSort() {
+        return Services.ItemFilter.filterAndSort(searchQuery, items);
+    }
+}
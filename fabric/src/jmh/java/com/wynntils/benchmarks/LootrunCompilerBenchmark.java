@@ -0,0 +1,75 @@
+/*
+ * Copyright © Wynntils 2026.
+ * This file is released under LGPLv3. See LICENSE for full license details.
+ */
+package com.wynntils.benchmarks;
+
+import com.wynntils.services.lootrunpaths.LootrunCompiler;
+import com.wynntils.services.lootrunpaths.LootrunPathInstance;
+import com.wynntils.services.lootrunpaths.UncompiledLootrunPath;
+import com.wynntils.services.lootrunpaths.type.LootrunNote;
+import com.wynntils.services.lootrunpaths.type.LootrunPath;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import net.minecraft.core.BlockPos;
+import net.minecraft.network.chat.Component;
+import net.minecraft.world.phys.Vec3;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@State(Scope.Benchmark)
+public class LootrunCompilerBenchmark {
+    // Recorded lootruns have a point for every tick the player moved, so long runs have tens of thousands
+    @Param({"10000", "50000"})
+    private int pointCount;
+
+    private UncompiledLootrunPath uncompiledPath;
+
+    @Setup
+    public void setup() {
+        BenchmarkData.setup();
+
+        // A fixed seed, so every run compiles the same path
+        Random random = new Random(42);
+
+        // A random walk at roughly walking speed, which makes for many direction changes like a real run
+        List<Vec3> points = new ArrayList<>(pointCount);
+        Vec3 position = new Vec3(-1500, 70, -1500);
+        double angle = 0;
+        for (int i = 0; i < pointCount; i++) {
+            angle += (random.nextDouble() - 0.5) * 0.4;
+            position = position.add(Math.cos(angle) * 0.25, (random.nextDouble() - 0.5) * 0.1, Math.sin(angle) * 0.25);
+            points.add(position);
+        }
+
+        Set<BlockPos> chests = new HashSet<>();
+        List<LootrunNote> notes = new ArrayList<>();
+        for (int i = 0; i < pointCount; i += 500) {
+            chests.add(BlockPos.containing(points.get(i)).offset(2, 0, 2));
+            notes.add(new LootrunNote(points.get(i).add(0, 2, 0), Component.literal("Note " + i)));
+        }
+
+        uncompiledPath = new UncompiledLootrunPath(new LootrunPath(points), chests, notes, null);
+    }
+
+    @Benchmark
+    public LootrunPathInstance compile() {
+        return LootrunCompiler.compile(uncompiledPath, false);
+    }
+}
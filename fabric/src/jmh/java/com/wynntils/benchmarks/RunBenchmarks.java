@@ -0,0 +1,36 @@
+/*
+ * Copyright © Wynntils 2026.
+ * This file is released under LGPLv3. See LICENSE for full license details.
+ */
+package com.wynntils.benchmarks;
+
+import java.io.File;
+import org.junit.jupiter.api.Test;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Runs the benchmarks from the jmh Gradle task.
+ *
+ * The benchmarks are run in this JVM instead of forked ones, as only this JVM has been set up
+ * by the Fabric loader with the game and our mixins.
+ */
+public class RunBenchmarks {
+    @Test
+    public void runBenchmarks() throws RunnerException {
+        File resultFile = new File(System.getProperty("wynntils.jmh.results", "build/reports/jmh/results.json"));
+        resultFile.getParentFile().mkdirs();
+
+        Options options = new OptionsBuilder()
+                .include(System.getProperty("wynntils.jmh.include", ".*"))
+                .forks(0)
+                .resultFormat(ResultFormatType.JSON)
+                .result(resultFile.getPath())
+                .build();
+
+        new Runner(options).run();
+    }
+}
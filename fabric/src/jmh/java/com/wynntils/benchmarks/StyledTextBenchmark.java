@@ -0,0 +1,74 @@
+/*
+ * Copyright © Wynntils 2026.
+ * This file is released under LGPLv3. See LICENSE for full license details.
+ */
+package com.wynntils.benchmarks;
+
+import com.wynntils.core.text.StyledText;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+import net.minecraft.ChatFormatting;
+import net.minecraft.network.chat.Component;
+import net.minecraft.network.chat.HoverEvent;
+import net.minecraft.network.chat.Style;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@State(Scope.Benchmark)
+public class StyledTextBenchmark {
+    private static final Pattern REPLACE_PATTERN = Pattern.compile("\\d+");
+
+    private Component component;
+    private StyledText styledText;
+
+    @Setup
+    public void setup() {
+        BenchmarkData.setup();
+
+        // Similar to a guild chat message, with a hover event on the sender
+        component = Component.empty()
+                .append(Component.literal("[").withStyle(ChatFormatting.DARK_AQUA))
+                .append(Component.literal("★★").withStyle(ChatFormatting.AQUA))
+                .append(Component.literal("Wynntils").withStyle(Style.EMPTY
+                        .withColor(ChatFormatting.AQUA)
+                        .withHoverEvent(new HoverEvent.ShowText(
+                                Component.literal("Rank: Strategist, joined 42 days ago")))))
+                .append(Component.literal("]").withStyle(ChatFormatting.DARK_AQUA))
+                .append(Component.literal(" Meet at Cinfras at 20:30, bring 3 stacks of potions and 64 scrolls")
+                        .withStyle(ChatFormatting.AQUA)
+                        .append(Component.literal(" (bold for 5 minutes)")
+                                .withStyle(Style.EMPTY.withBold(true).withItalic(true))));
+        styledText = StyledText.fromComponent(component);
+    }
+
+    @Benchmark
+    public StyledText fromComponent() {
+        return StyledText.fromComponent(component);
+    }
+
+    @Benchmark
+    public String getString() {
+        return styledText.getString();
+    }
+
+    @Benchmark
+    public StyledText replaceAll() {
+        return styledText.replaceAll(REPLACE_PATTERN, "#");
+    }
+
+    @Benchmark
+    public StyledText[] split() {
+        return styledText.split(" ");
+    }
+}
@@ -0,0 +1,67 @@
+/*
+ * Copyright © Wynntils 2026.
+ * This file is released under LGPLv3. See LICENSE for full license details.
+ */
+package com.wynntils.benchmarks;
+
+import com.wynntils.core.components.Handlers;
+import com.wynntils.models.character.type.ClassType;
+import com.wynntils.models.gear.type.GearInfo;
+import com.wynntils.models.stats.type.StatPossibleValues;
+import com.wynntils.models.stats.type.StatType;
+import com.wynntils.models.wynnitem.parsing.WynnItemParser;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import net.minecraft.core.component.DataComponents;
+import net.minecraft.network.chat.Component;
+import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.item.component.ItemLore;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@State(Scope.Benchmark)
+public class WynnItemParserBenchmark {
+    private static final int ITEM_COUNT = 100;
+
+    private final List<ItemStack> itemStacks = new ArrayList<>();
+    private final List<Map<StatType, StatPossibleValues>> possibleValues = new ArrayList<>();
+
+    @Setup
+    public void setup() {
+        for (GearInfo gearInfo : BenchmarkData.getGearInfos(ITEM_COUNT)) {
+            // Our own tooltips closely follow the lore Wynncraft sends for identified gear
+            List<Component> tooltip = Handlers.Tooltip.buildNew(BenchmarkData.createGearItem(gearInfo), false, false)
+                    .getTooltipLines(ClassType.NONE);
+
+            ItemStack itemStack = gearInfo.metaInfo().material().itemStack().copy();
+            itemStack.set(DataComponents.CUSTOM_NAME, tooltip.getFirst());
+            itemStack.set(DataComponents.LORE, new ItemLore(tooltip.subList(1, tooltip.size())));
+
+            itemStacks.add(itemStack);
+            possibleValues.add(gearInfo.getVariableStatsMap());
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ITEM_COUNT)
+    public void parseItemStack(Blackhole blackhole) {
+        for (int i = 0; i < ITEM_COUNT; i++) {
+            blackhole.consume(WynnItemParser.parseItemStack(itemStacks.get(i), possibleValues.get(i)));
+        }
+    }
+}
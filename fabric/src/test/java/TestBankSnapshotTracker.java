@@ -0,0 +1,74 @@
+/*
+ * Copyright © Wynntils 2026.
+ * This file is released under LGPLv3. See LICENSE for full license details.
+ */
+import com.wynntils.core.WynntilsMod;
+import com.wynntils.models.containers.BankSnapshotTracker;
+import java.util.OptionalInt;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+public class TestBankSnapshotTracker {
+    @BeforeAll
+    public static void setup() {
+        WynntilsMod.setupTestEnv();
+    }
+
+    @Test
+    public void tick_slotsChanged_snapshotAfterQuietTick() {
+        BankSnapshotTracker tracker = new BankSnapshotTracker();
+        tracker.setPage(1);
+        tracker.tick();
+        tracker.tick();
+
+        // A deposit changes a single slot of the page
+        tracker.markChanged();
+
+        Assertions.assertEquals(OptionalInt.empty(), tracker.tick(), "Snapshot taken while slots were changing");
+        Assertions.assertEquals(OptionalInt.of(1), tracker.tick(), "Changed page was not snapshotted");
+        Assertions.assertEquals(OptionalInt.empty(), tracker.tick(), "Unchanged page was snapshotted again");
+    }
+
+    @Test
+    public void tick_pagedWithSlotUpdates_snapshotOnlyNewPage() {
+        BankSnapshotTracker tracker = new BankSnapshotTracker();
+        tracker.setPage(1);
+        tracker.tick();
+        tracker.tick();
+
+        // Paging with set slot packets sends the items of the new page before the navigation items
+        tracker.markChanged();
+        tracker.markChanged();
+        tracker.setPage(2);
+
+        Assertions.assertEquals(OptionalInt.empty(), tracker.tick());
+        Assertions.assertEquals(OptionalInt.of(2), tracker.tick(), "Items were not attributed to the new page");
+        Assertions.assertEquals(OptionalInt.empty(), tracker.tick(), "Previous page was overwritten");
+    }
+
+    @Test
+    public void tick_pageUnknown_noSnapshot() {
+        BankSnapshotTracker tracker = new BankSnapshotTracker();
+        tracker.markChanged();
+        tracker.tick();
+
+        Assertions.assertEquals(OptionalInt.empty(), tracker.tick(), "Snapshot taken for an unknown page");
+
+        tracker.setPage(3);
+        tracker.tick();
+
+        Assertions.assertEquals(OptionalInt.of(3), tracker.tick(), "Items were not snapshotted once the page was set");
+    }
+
+    @Test
+    public void tick_afterReset_noSnapshot() {
+        BankSnapshotTracker tracker = new BankSnapshotTracker();
+        tracker.setPage(1);
+        tracker.markChanged();
+        tracker.reset();
+        tracker.tick();
+
+        Assertions.assertEquals(OptionalInt.empty(), tracker.tick(), "Snapshot taken after the bank was closed");
+    }
+}
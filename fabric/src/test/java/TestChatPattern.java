@@ -0,0 +1,126 @@
+/*
+ * Copyright © Wynntils 2026.
+ * This file is released under LGPLv3. See LICENSE for full license details.
+ */
+import com.wynntils.core.WynntilsMod;
+import com.wynntils.handlers.chat.type.ChatPattern;
+import java.util.regex.Pattern;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+public class TestChatPattern {
+    @BeforeAll
+    public static void setup() {
+        WynntilsMod.setupTestEnv();
+    }
+
+    private static String prefix(String regex) {
+        return prefix(regex, 0);
+    }
+
+    private static String prefix(String regex, int flags) {
+        return ChatPattern.of(Pattern.compile(regex, flags)).getLiteralPrefix();
+    }
+
+    private static String keyword(String regex) {
+        return ChatPattern.of(Pattern.compile(regex)).getKeyword();
+    }
+
+    @Test
+    public void literalPrefix_plainText_wholeLiteral() {
+        Assertions.assertEquals("§cYou died", prefix("§cYou died"));
+        Assertions.assertEquals("§cYou died", prefix("^§cYou died"));
+        Assertions.assertEquals("§e[Party] ", prefix("§e\\[Party\\] (?<name>.+) joined"));
+    }
+
+    @Test
+    public void literalPrefix_escapes_literalOrStop() {
+        // Escaped punctuation is literal
+        Assertions.assertEquals("1.5 + 2", prefix("1\\.5 \\+ 2"));
+        // Escaped letters and digits are character classes, anchors or references
+        Assertions.assertEquals("Level ", prefix("Level \\d+"));
+        Assertions.assertEquals("a", prefix("a\\bb"));
+        Assertions.assertEquals("x", prefix("x\\x41"));
+        Assertions.assertEquals("x", prefix("x\\p{Lu}"));
+    }
+
+    @Test
+    public void literalPrefix_alternation_noCommonPrefix() {
+        Assertions.assertEquals("", prefix("§aJoined|§cLeft"));
+        Assertions.assertEquals("", prefix("^You|^They"));
+        // Alternation inside a group or a character class does not remove the prefix
+        Assertions.assertEquals("§7You ", prefix("§7You (joined|left) the party"));
+        Assertions.assertEquals("§7Hi ", prefix("§7Hi [|a]"));
+        // An escaped pipe is a literal
+        Assertions.assertEquals("a|b", prefix("a\\|b"));
+    }
+
+    @Test
+    public void literalPrefix_optionalParts_excluded() {
+        Assertions.assertEquals("§aGuild", prefix("§aGuilds?"));
+        Assertions.assertEquals("ab", prefix("abc*d"));
+        Assertions.assertEquals("ab", prefix("abc{0,2}"));
+        Assertions.assertEquals("§7You ", prefix("§7You (?:have )?joined"));
+        // A repeated character is required once, but nothing after it is known
+        Assertions.assertEquals("aab", prefix("aab+c"));
+        Assertions.assertEquals("a", prefix("a\\.?b"));
+    }
+
+    @Test
+    public void literalPrefix_surrogatePairs_keptWhole() {
+        Assertions.assertEquals("a󟿿", prefix("a󟿿b?"));
+        Assertions.assertEquals("a", prefix("a󟿿?"));
+    }
+
+    @Test
+    public void literalPrefix_unsupportedFlags_empty() {
+        Assertions.assertEquals("", prefix("abc", Pattern.CASE_INSENSITIVE));
+        Assertions.assertEquals("", prefix("abc", Pattern.CANON_EQ));
+        Assertions.assertEquals("", prefix("(?i)abc"));
+        Assertions.assertEquals("", prefix("\\Qa.b\\E"));
+    }
+
+    @Test
+    public void keyword_longestRequiredLiteral() {
+        Assertions.assertEquals(" has been slain by ", keyword(".+ has been slain by .+"));
+        Assertions.assertEquals(" joined", keyword("(?<name>.+) joined"));
+        // Too short to be useful
+        Assertions.assertEquals("", keyword(".+ab.+"));
+    }
+
+    @Test
+    public void keyword_escapes_notLiterals() {
+        // Escaped punctuation is literal
+        Assertions.assertEquals(". and ", keyword(".+\\. and .+"));
+        Assertions.assertEquals("", keyword(".+\\p{Alpha}.+"));
+        Assertions.assertEquals("", keyword(".+\\x{1F600}.+"));
+        Assertions.assertEquals("", keyword(".+\\u00A7abc?.+"));
+        Assertions.assertEquals("", keyword("(?<name>.+)\\k<name>.+"));
+        Assertions.assertEquals("", keyword(".+\\0101.+"));
+        Assertions.assertEquals("", keyword("(.)(.)(.)(.)(.)(.)(.)(.)(.)(.)\\10.+"));
+    }
+
+    @Test
+    public void keyword_alternation_empty() {
+        Assertions.assertEquals("", keyword(".+ joined|.+ left"));
+        // Literals inside a group might be in an alternation, so they are not used
+        Assertions.assertEquals(" the party", keyword(".+ (joined|left) the party"));
+        Assertions.assertEquals("", keyword(".+(joined|left).+"));
+    }
+
+    @Test
+    public void keyword_optionalParts_excluded() {
+        Assertions.assertEquals(" rewards", keyword(".+(?: bonus)? rewards"));
+        Assertions.assertEquals(" trades", keyword(".+ trade{0,1}s?.+ trades"));
+        // The bounds of a quantifier are not literals
+        Assertions.assertEquals("", keyword(".+a{2,5}.+"));
+    }
+
+    @Test
+    public void keyword_characterClasses_skipped() {
+        Assertions.assertEquals("", keyword(".+[a-z&&[^e]]xyz?.+"));
+        Assertions.assertEquals(" do", keyword(".+[a[bc]defghi] do"));
+        Assertions.assertEquals(" done", keyword(".+[\\]abc] done"));
+    }
+}
@@ -0,0 +1,42 @@
+/*
+ * Copyright © Wynntils 2026.
+ * This file is released under LGPLv3. See LICENSE for full license details.
+ */
+import com.wynntils.core.WynntilsMod;
+import com.wynntils.services.hades.StatusUpdateRate;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+public class TestStatusUpdateRate {
+    @BeforeAll
+    public static void setup() {
+        WynntilsMod.setupTestEnv();
+    }
+
+    @Test
+    public void quantizePosition_smallMovement_unchanged() {
+        Assertions.assertEquals(
+                StatusUpdateRate.quantizePosition(-1234.5), StatusUpdateRate.quantizePosition(-1234.53));
+        Assertions.assertEquals(512.125f, StatusUpdateRate.quantizePosition(512.13));
+    }
+
+    @Test
+    public void getTicksBetweenUpdates_fasterMovement_moreUpdates() {
+        int sprinting = StatusUpdateRate.getTicksBetweenUpdates(0.56f, 2, 0);
+        int walking = StatusUpdateRate.getTicksBetweenUpdates(0.1f, 2, 0);
+        int standing = StatusUpdateRate.getTicksBetweenUpdates(0f, 2, 0);
+
+        Assertions.assertTrue(sprinting < walking, "Sprinting should be sent more often than walking");
+        Assertions.assertTrue(walking < standing, "Walking should be sent more often than standing");
+    }
+
+    @Test
+    public void getTicksBetweenUpdates_manyViewers_fewerUpdates() {
+        int fewViewers = StatusUpdateRate.getTicksBetweenUpdates(0.56f, 2, 3);
+        int manyViewers = StatusUpdateRate.getTicksBetweenUpdates(0.56f, 2, 100);
+
+        Assertions.assertTrue(fewViewers < manyViewers, "Many viewers should lower the update rate");
+        Assertions.assertTrue(StatusUpdateRate.getTicksBetweenUpdates(0f, 1, 1000) <= 40);
+    }
+}
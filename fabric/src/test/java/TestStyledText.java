@@ -970,4 +970,33 @@ public class TestStyledText {
         Assertions.assertEquals(
                 result, mappedText.getString(StyleType.DEFAULT), "StyledText.map() returned an unexpected value.");
     }
+
+    @Test
+    public void styledText_builderShouldMatchFromComponent() {
+        final Component component = Component.literal("§cred ")
+                .append(Component.literal("bold").withStyle(ChatFormatting.BOLD))
+                .append(Component.literal(" §aand green"));
+
+        StyledText built = StyledText.builder()
+                .appendComponent(component)
+                .appendCodedString("§e!")
+                .build();
+
+        Assertions.assertEquals(
+                StyledText.concat(StyledText.fromComponent(component), StyledText.fromString("§e!")),
+                built,
+                "StyledText.Builder produced a different text than fromComponent() and fromString().");
+    }
+
+    @Test
+    public void styledText_internedComponentsShouldBeReused() {
+        StyledText first = StyledText.fromComponentInterned(Component.literal("§6Legendary Item"));
+        StyledText second = StyledText.fromComponentInterned(Component.literal("§6Legendary Item"));
+
+        Assertions.assertSame(first, second, "StyledText.fromComponentInterned() did not reuse an equal component.");
+        Assertions.assertEquals(
+                StyledText.fromComponent(Component.literal("§6Legendary Item")),
+                first,
+                "StyledText.fromComponentInterned() returned an unexpected value.");
+    }
 }
@@ -0,0 +1,83 @@
+/*
+ * Copyright © Wynntils 2026.
+ * This file is released under LGPLv3. See LICENSE for full license details.
+ */
+import com.wynntils.core.WynntilsMod;
+import com.wynntils.core.mod.TickSchedulerManager;
+import com.wynntils.mc.event.TickAlwaysEvent;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+public class TestTickScheduler {
+    @BeforeAll
+    public static void setup() {
+        WynntilsMod.setupTestEnv();
+    }
+
+    @Test
+    public void scheduledTasks_runAfterTheirDelay() {
+        TickSchedulerManager scheduler = new TickSchedulerManager();
+        List<Integer> delays = List.of(0, 1, 62, 63, 64, 65, 200, 4095, 4096, 4097, 70000);
+        List<Integer> ranAtTicks = new ArrayList<>();
+        int[] currentTick = {0};
+
+        // Start at an uneven tick, so the delays do not line up with the slot boundaries
+        tick(scheduler, currentTick, 37);
+
+        int scheduledAt = currentTick[0];
+        for (int delay : delays) {
+            scheduler.scheduleLater(() -> ranAtTicks.add(currentTick[0] - scheduledAt), delay);
+        }
+
+        tick(scheduler, currentTick, 70002);
+
+        // A task with a delay of 0 runs in the next tick
+        List<Integer> expected = delays.stream().map(delay -> delay + 1).toList();
+        Assertions.assertEquals(expected, ranAtTicks, "Scheduled tasks did not run at the expected ticks");
+        Assertions.assertEquals(0, scheduler.getPendingTaskCount(), "Tasks are still pending after running");
+    }
+
+    @Test
+    public void cancelledTask_doesNotRun() {
+        TickSchedulerManager scheduler = new TickSchedulerManager();
+        List<String> ran = new ArrayList<>();
+        int[] currentTick = {0};
+
+        TickSchedulerManager.ScheduledTask cancelled = scheduler.scheduleLater(() -> ran.add("cancelled"), 100);
+        scheduler.scheduleLater(() -> ran.add("kept"), 100);
+        Assertions.assertEquals(2, scheduler.getPendingTaskCount());
+
+        tick(scheduler, currentTick, 50);
+        scheduler.cancel(cancelled);
+        Assertions.assertEquals(1, scheduler.getPendingTaskCount());
+
+        tick(scheduler, currentTick, 100);
+        Assertions.assertEquals(List.of("kept"), ran, "Cancelled task was run");
+        Assertions.assertEquals(0, scheduler.getPendingTaskCount());
+    }
+
+    @Test
+    public void taskScheduledByTask_runsInLaterTick() {
+        TickSchedulerManager scheduler = new TickSchedulerManager();
+        List<Integer> ranAtTicks = new ArrayList<>();
+        int[] currentTick = {0};
+
+        scheduler.scheduleNextTick(() -> {
+            ranAtTicks.add(currentTick[0]);
+            scheduler.scheduleNextTick(() -> ranAtTicks.add(currentTick[0]));
+        });
+
+        tick(scheduler, currentTick, 3);
+        Assertions.assertEquals(List.of(1, 2), ranAtTicks, "Task scheduled by a task ran in the same tick");
+    }
+
+    private static void tick(TickSchedulerManager scheduler, int[] currentTick, int ticks) {
+        for (int i = 0; i < ticks; i++) {
+            currentTick[0]++;
+            scheduler.onTick(new TickAlwaysEvent());
+        }
+    }
+}
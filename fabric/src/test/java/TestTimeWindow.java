@@ -0,0 +1,53 @@
+/*
+ * Copyright © Wynntils 2026.
+ * This file is released under LGPLv3. See LICENSE for full license details.
+ */
+import com.wynntils.core.WynntilsMod;
+import com.wynntils.utils.type.TimeWindow;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+public class TestTimeWindow {
+    private static final long START = 1_000_000L;
+
+    @BeforeAll
+    public static void setup() {
+        WynntilsMod.setupTestEnv();
+    }
+
+    @Test
+    public void getSum_valuesInWindow_summed() {
+        TimeWindow window = new TimeWindow(60, TimeUnit.SECONDS, 100, TimeUnit.MILLISECONDS);
+        window.add(10, START);
+        window.add(20, START + 500);
+        window.add(5, START + 5_000);
+
+        Assertions.assertEquals(5, window.getSum(1_000, START + 5_000));
+        Assertions.assertEquals(35, window.getSum(10_000, START + 5_000));
+        Assertions.assertEquals(3, window.getCount(10_000, START + 5_000));
+        Assertions.assertEquals(20, window.getMax(10_000, START + 5_000));
+    }
+
+    @Test
+    public void getSum_expiredValues_notCounted() {
+        TimeWindow window = new TimeWindow(60, TimeUnit.SECONDS, 1, TimeUnit.SECONDS);
+        window.add(10, START);
+        window.add(20, START + 61_000);
+
+        Assertions.assertEquals(20, window.getSum(60_000, START + 61_000));
+        Assertions.assertEquals(0, window.getSum(60_000, START + 200_000));
+        Assertions.assertEquals(0, window.getMax(60_000, START + 200_000));
+    }
+
+    @Test
+    public void add_olderThanWindow_ignored() {
+        TimeWindow window = new TimeWindow(10, TimeUnit.SECONDS, 1, TimeUnit.SECONDS);
+        window.add(10, START + 10_000);
+        window.add(99, START);
+
+        Assertions.assertEquals(10, window.getSum(10_000, START + 10_000));
+        Assertions.assertEquals(START + 10_000, window.getLastAddedTimestamp());
+    }
+}
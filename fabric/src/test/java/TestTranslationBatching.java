@@ -0,0 +1,104 @@
+/*
+ * Copyright © Wynntils 2026.
+ * This file is released under LGPLv3. See LICENSE for full license details.
+ */
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import com.sun.net.httpserver.HttpServer;
+import com.wynntils.core.WynntilsMod;
+import com.wynntils.services.translation.LibreTranslateProvider;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Locale;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class TestTranslationBatching {
+    private final AtomicInteger requestCount = new AtomicInteger();
+
+    private HttpServer server;
+
+    @BeforeAll
+    public static void setup() {
+        WynntilsMod.setupTestEnv();
+    }
+
+    @BeforeEach
+    public void startServer() throws IOException {
+        // A local stand-in for a LibreTranslate instance, which "translates" every line to upper case
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/translate", exchange -> {
+            requestCount.incrementAndGet();
+
+            String body = new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8);
+            JsonArray translated = new JsonArray();
+            for (JsonElement line : JsonParser.parseString(body).getAsJsonObject().getAsJsonArray("q")) {
+                translated.add(line.getAsString().toUpperCase(Locale.ROOT));
+            }
+
+            JsonObject response = new JsonObject();
+            response.add("translatedText", translated);
+            byte[] bytes = response.toString().getBytes(StandardCharsets.UTF_8);
+
+            exchange.sendResponseHeaders(200, bytes.length);
+            try (OutputStream output = exchange.getResponseBody()) {
+                output.write(bytes);
+            }
+        });
+        server.start();
+
+        LibreTranslateProvider.setBaseUrl("http://127.0.0.1:" + server.getAddress().getPort());
+    }
+
+    @AfterEach
+    public void stopServer() {
+        server.stop(0);
+    }
+
+    @Test
+    public void translate_messagesInWindow_sentInOneRequest() throws Exception {
+        LibreTranslateProvider provider = new LibreTranslateProvider();
+        List<String> first = List.of("first " + UUID.randomUUID());
+        List<String> second = List.of("second " + UUID.randomUUID(), "line " + UUID.randomUUID());
+
+        CompletableFuture<List<String>> firstResult = new CompletableFuture<>();
+        CompletableFuture<List<String>> secondResult = new CompletableFuture<>();
+        provider.translate(first, "xx", firstResult::complete);
+        provider.translate(second, "xx", secondResult::complete);
+
+        Assertions.assertEquals(List.of(first.get(0).toUpperCase(Locale.ROOT)), firstResult.get(5, TimeUnit.SECONDS));
+        Assertions.assertEquals(
+                List.of(second.get(0).toUpperCase(Locale.ROOT), second.get(1).toUpperCase(Locale.ROOT)),
+                secondResult.get(5, TimeUnit.SECONDS));
+        Assertions.assertEquals(1, requestCount.get(), "Both messages should be translated in one request");
+    }
+
+    @Test
+    public void translate_cachedMessage_noRequest() throws Exception {
+        LibreTranslateProvider provider = new LibreTranslateProvider();
+        List<String> message = List.of("cached " + UUID.randomUUID());
+
+        CompletableFuture<List<String>> firstResult = new CompletableFuture<>();
+        provider.translate(message, "xx", firstResult::complete);
+        firstResult.get(5, TimeUnit.SECONDS);
+
+        CompletableFuture<List<String>> secondResult = new CompletableFuture<>();
+        provider.translate(message, "xx", secondResult::complete);
+
+        Assertions.assertEquals(
+                List.of(message.get(0).toUpperCase(Locale.ROOT)), secondResult.get(5, TimeUnit.SECONDS));
+        Assertions.assertEquals(1, requestCount.get(), "A cached translation should not be requested again");
+    }
+}
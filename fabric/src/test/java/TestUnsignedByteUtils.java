@@ -1,10 +1,12 @@
 /*
- * Copyright © Wynntils 2023-2025.
+ * Copyright © Wynntils 2023-2026.
  * This file is released under LGPLv3. See LICENSE for full license details.
  */
 import com.wynntils.core.WynntilsMod;
 import com.wynntils.utils.UnsignedByteUtils;
 import com.wynntils.utils.type.ArrayReader;
+import com.wynntils.utils.type.ByteReader;
+import com.wynntils.utils.type.ByteWriter;
 import com.wynntils.utils.type.UnsignedByte;
 import java.util.Arrays;
 import java.util.List;
@@ -140,4 +142,27 @@ public class TestUnsignedByteUtils {
         Assertions.assertEquals(
                 expectedOutput, actualOutput, "decodeVariableSizedInteger did not return the expected value");
     }
+
+    @ParameterizedTest
+    @MethodSource("provideEncodeDecodeTestData")
+    public void testByteReaderVariableSizedInteger(long expectedOutput, UnsignedByte[] input) {
+        ByteReader byteReader = new ByteReader(UnsignedByte.toPrimitive(input));
+        long actualOutput = byteReader.readVariableSizedInteger();
+        Assertions.assertEquals(
+                expectedOutput, actualOutput, "readVariableSizedInteger did not return the expected value");
+        Assertions.assertFalse(byteReader.hasRemaining(), "readVariableSizedInteger did not read all bytes");
+    }
+
+    @Test
+    public void byteWriterString_readsBack() {
+        ByteWriter byteWriter = new ByteWriter(1);
+        byteWriter.writeString("Test");
+        byteWriter.writeVariableSizedInteger(-300);
+
+        ByteReader byteReader = new ByteReader(byteWriter.toByteArray());
+        Assertions.assertEquals("Test", byteReader.readString(4), "readString did not return the expected value");
+        Assertions.assertEquals(0, byteReader.read(), "String was not null terminated");
+        Assertions.assertEquals(-300, byteReader.readVariableSizedInteger(), "Integer after string was not read");
+        Assertions.assertThrows(ArrayIndexOutOfBoundsException.class, byteReader::read);
+    }
 }
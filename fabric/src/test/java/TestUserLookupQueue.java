@@ -0,0 +1,117 @@
+/*
+ * Copyright © Wynntils 2026.
+ * This file is released under LGPLv3. See LICENSE for full license details.
+ */
+import com.wynntils.core.WynntilsMod;
+import com.wynntils.models.players.UserLookupQueue;
+import com.wynntils.models.players.WynntilsUser;
+import com.wynntils.models.players.type.AccountType;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class TestUserLookupQueue {
+    private static final WynntilsUser USER = new WynntilsUser(AccountType.NORMAL, null);
+
+    // A local stand-in for the Athena endpoint, which answers every batch right away
+    private final List<List<UUID>> batches = new ArrayList<>();
+    private final UserLookupQueue.Backend mockBackend = uuids -> {
+        batches.add(uuids);
+        // Users with an even hash have an account, the others do not
+        return CompletableFuture.completedFuture(uuids.stream()
+                .collect(Collectors.toMap(
+                        uuid -> uuid, uuid -> uuid.hashCode() % 2 == 0 ? Optional.of(USER) : Optional.empty())));
+    };
+
+    private ScheduledExecutorService executor;
+
+    @BeforeAll
+    public static void setup() {
+        WynntilsMod.setupTestEnv();
+    }
+
+    @BeforeEach
+    public void createExecutor() {
+        executor = Executors.newSingleThreadScheduledExecutor();
+    }
+
+    @AfterEach
+    public void shutdownExecutor() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void lookupsInWindow_areBatched() {
+        // The window is long enough to never pass during the test, so only the explicit flush sends the batch
+        UserLookupQueue queue = new UserLookupQueue(mockBackend, executor, 60000);
+        List<UUID> uuids = List.of(UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID());
+
+        List<CompletableFuture<Optional<WynntilsUser>>> futures = uuids.stream().map(queue::lookup).toList();
+        Assertions.assertTrue(batches.isEmpty(), "Lookups were sent before the batch window ended");
+
+        queue.flush();
+
+        Assertions.assertEquals(List.of(uuids), batches, "Lookups were not sent as a single batch");
+        for (int i = 0; i < uuids.size(); i++) {
+            Optional<WynntilsUser> expected = uuids.get(i).hashCode() % 2 == 0 ? Optional.of(USER) : Optional.empty();
+            Assertions.assertEquals(expected, futures.get(i).join(), "Lookup got the wrong result");
+        }
+    }
+
+    @Test
+    public void duplicateLookups_areCoalesced() {
+        UserLookupQueue queue = new UserLookupQueue(mockBackend, executor, 60000);
+        UUID uuid = UUID.randomUUID();
+
+        CompletableFuture<Optional<WynntilsUser>> first = queue.lookup(uuid);
+        CompletableFuture<Optional<WynntilsUser>> second = queue.lookup(uuid);
+        Assertions.assertSame(first, second, "Lookup in flight was not shared");
+        Assertions.assertTrue(queue.isInFlight(uuid));
+
+        queue.flush();
+
+        Assertions.assertEquals(List.of(List.of(uuid)), batches, "User was looked up more than once");
+        Assertions.assertFalse(queue.isInFlight(uuid), "Finished lookup is still in flight");
+    }
+
+    @Test
+    public void lookupAfterClear_notCompletedByOldBatch() {
+        // The backend only answers when the test says so, so the batch is still running during clear()
+        CompletableFuture<Map<UUID, Optional<WynntilsUser>>> response = new CompletableFuture<>();
+        UserLookupQueue queue = new UserLookupQueue(uuids -> response, executor, 60000);
+        UUID uuid = UUID.randomUUID();
+
+        CompletableFuture<Optional<WynntilsUser>> oldLookup = queue.lookup(uuid);
+        queue.flush();
+        queue.clear();
+        CompletableFuture<Optional<WynntilsUser>> newLookup = queue.lookup(uuid);
+
+        response.complete(Map.of(uuid, Optional.of(USER)));
+
+        Assertions.assertTrue(oldLookup.isCancelled(), "Cleared lookup was not cancelled");
+        Assertions.assertFalse(newLookup.isDone(), "New lookup was completed by the old batch");
+        Assertions.assertTrue(queue.isInFlight(uuid), "New lookup was removed by the old batch");
+    }
+
+    @Test
+    public void missingResult_failsLookup() {
+        UserLookupQueue queue =
+                new UserLookupQueue(uuids -> CompletableFuture.completedFuture(Map.of()), executor, 60000);
+
+        CompletableFuture<Optional<WynntilsUser>> future = queue.lookup(UUID.randomUUID());
+        queue.flush();
+
+        Assertions.assertTrue(future.isCompletedExceptionally(), "Lookup without a result did not fail");
+    }
+}